@@ -0,0 +1,211 @@
+package org.mskcc.smile.commons.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.mskcc.smile.commons.JsonComparator;
+import org.mskcc.smile.commons.impl.JsonComparatorImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the JsonComparator request, IGO and generic comparisons. Each corpus is
+ * either one of the test fixture directories or a synthetic request scaled to the
+ * given number of samples. Matching pairs compare each json against a separately
+ * parsed copy of itself. Request mismatching pairs compare it against a copy with
+ * its request level identifiers and bait set updated, sample mismatching pairs
+ * against a copy with only the bait set of the last sample updated (or the top
+ * level bait set of jsons without samples) so that the sample comparison is
+ * measured with every sample still matched by primary id.
+ *
+ * <p>Run with: mvn -P benchmark test-compile exec:exec
+ * (the gc profiler is enabled by default to report allocation rates).
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonComparatorBenchmark {
+    private static final String DATA_DIR_PROPERTY = "smile.benchmark.dataDir";
+    private static final String DEFAULT_DATA_DIR = "src/test/resources/data";
+    private static final String SYNTHETIC_TEMPLATE =
+            "incoming_requests/mocked_request1_complete_tumor_normal.json";
+    private static final String SYNTHETIC_CORPUS_PREFIX = "synthetic-";
+    private static final String UPDATED_VALUE_SUFFIX = "_UPDATED";
+    private static final String[] UPDATED_REQUEST_PROPERTIES =
+            new String[]{"requestId", "igoRequestId", "primaryId", "cohortId", "baitSet"};
+    private static final String UPDATED_SAMPLE_PROPERTY = "baitSet";
+
+    @Param({"incoming_requests", "published_requests", "lims_update_handling", "tempo",
+        "synthetic-10", "synthetic-100", "synthetic-1000"})
+    private String corpus;
+
+    @Param({"matching", "request-mismatch", "sample-mismatch"})
+    private String pairType;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final JsonComparator jsonComparator = new JsonComparatorImpl();
+    private final List<String[]> requestPairs = new ArrayList<>();
+    private final List<String[]> genericPairs = new ArrayList<>();
+    private final List<byte[][]> requestPayloadPairs = new ArrayList<>();
+
+    /**
+     * Loads the reference jsons of the corpus and builds the comparison pairs.
+     * @throws IOException
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Path dataDir = Paths.get(System.getProperty(DATA_DIR_PROPERTY, DEFAULT_DATA_DIR));
+        List<JsonNode> referenceNodes = new ArrayList<>();
+        if (corpus.startsWith(SYNTHETIC_CORPUS_PREFIX)) {
+            int sampleCount = Integer.parseInt(corpus.substring(SYNTHETIC_CORPUS_PREFIX.length()));
+            SyntheticRequestGenerator generator = new SyntheticRequestGenerator(
+                    mapper.readTree(dataDir.resolve(SYNTHETIC_TEMPLATE).toFile()))
+                    .setSamplesPerRequest(sampleCount);
+            referenceNodes.add(mapper.readTree(generator.generateRequestPair(0)[0]));
+        } else {
+            try (Stream<Path> paths = Files.list(dataDir.resolve(corpus))) {
+                for (Path path : paths.filter(p -> p.toString().endsWith(".json")).sorted().toList()) {
+                    referenceNodes.add(mapper.readTree(path.toFile()));
+                }
+            }
+        }
+        for (JsonNode referenceNode : referenceNodes) {
+            JsonNode targetNode = referenceNode.deepCopy();
+            if (pairType.equals("request-mismatch")) {
+                updateRequestProperties((ObjectNode) targetNode);
+            } else if (pairType.equals("sample-mismatch")) {
+                updateLastSample((ObjectNode) targetNode);
+            }
+            String[] pair = new String[]{mapper.writeValueAsString(referenceNode),
+                mapper.writeValueAsString(targetNode)};
+            if (isComparableRequestPair(pair)) {
+                requestPairs.add(pair);
+                requestPayloadPairs.add(new byte[][]{pair[0].getBytes(StandardCharsets.UTF_8),
+                    pair[1].getBytes(StandardCharsets.UTF_8)});
+            }
+            if (isComparableGenericPair(pair)) {
+                genericPairs.add(pair);
+            }
+        }
+    }
+
+    /**
+     * Fixtures the comparator rejects with an exception (i.e., the tempo jsons that
+     * are only compared generically) are left out of the request comparison benchmarks.
+     */
+    private Boolean isComparableRequestPair(String[] pair) {
+        try {
+            jsonComparator.isConsistent(pair[0], pair[1]);
+            jsonComparator.isConsistentByIgoProperties(pair[0], pair[1]);
+            return Boolean.TRUE;
+        } catch (Exception e) {
+            return Boolean.FALSE;
+        }
+    }
+
+    private Boolean isComparableGenericPair(String[] pair) {
+        try {
+            jsonComparator.isConsistentGenericComparison(pair[0], pair[1]);
+            return Boolean.TRUE;
+        } catch (Exception e) {
+            return Boolean.FALSE;
+        }
+    }
+
+    @Benchmark
+    public void isConsistent(Blackhole blackhole) throws Exception {
+        for (String[] pair : requestPairs) {
+            blackhole.consume(jsonComparator.isConsistent(pair[0], pair[1]));
+        }
+    }
+
+    @Benchmark
+    public void isConsistentByIgoProperties(Blackhole blackhole) throws Exception {
+        for (String[] pair : requestPairs) {
+            blackhole.consume(jsonComparator.isConsistentByIgoProperties(pair[0], pair[1]));
+        }
+    }
+
+    /**
+     * Compares the jsons as received in message payloads, decoding them to strings
+     * first as consumers had to before the byte[] overloads.
+     * @param blackhole
+     * @throws Exception
+     */
+    @Benchmark
+    public void isConsistentDecodedPayload(Blackhole blackhole) throws Exception {
+        for (byte[][] pair : requestPayloadPairs) {
+            blackhole.consume(jsonComparator.isConsistent(new String(pair[0], StandardCharsets.UTF_8),
+                    new String(pair[1], StandardCharsets.UTF_8)));
+        }
+    }
+
+    @Benchmark
+    public void isConsistentPayload(Blackhole blackhole) throws Exception {
+        for (byte[][] pair : requestPayloadPairs) {
+            blackhole.consume(jsonComparator.isConsistent(pair[0], pair[1]));
+        }
+    }
+
+    @Benchmark
+    public void isConsistentGenericComparison(Blackhole blackhole) throws Exception {
+        for (String[] pair : genericPairs) {
+            blackhole.consume(jsonComparator.isConsistentGenericComparison(pair[0], pair[1]));
+        }
+    }
+
+    /**
+     * Updates the identifiers and bait set of the json so that every comparison
+     * type reports the pair as inconsistent at the request level.
+     * @param targetNode
+     */
+    private void updateRequestProperties(ObjectNode targetNode) {
+        for (String property : UPDATED_REQUEST_PROPERTIES) {
+            updateProperty(targetNode, property);
+        }
+    }
+
+    /**
+     * Updates only the bait set of the last sample of the json, or the bait set of
+     * the json itself if it has no samples.
+     * @param targetNode
+     */
+    private void updateLastSample(ObjectNode targetNode) {
+        JsonNode samples = targetNode.get("samples");
+        if (samples != null && samples.isArray() && !samples.isEmpty()
+                && samples.get(samples.size() - 1).isObject()) {
+            updateProperty((ObjectNode) samples.get(samples.size() - 1), UPDATED_SAMPLE_PROPERTY);
+        } else {
+            updateProperty(targetNode, UPDATED_SAMPLE_PROPERTY);
+        }
+    }
+
+    private void updateProperty(ObjectNode node, String property) {
+        if (node.hasNonNull(property)) {
+            node.put(property, node.get(property).asText() + UPDATED_VALUE_SUFFIX);
+        }
+    }
+}
@@ -0,0 +1,333 @@
+package org.mskcc.smile.commons.benchmark;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Generates synthetic IGO request jsons from a template request along with the
+ * matching published request jsons. Each request has the configured number of
+ * samples, libraries per sample, runs per library and fastqs per run, and samples of
+ * the incoming request are updated at the configured rates with IGO accepted or
+ * non-IGO property changes relative to the published request.
+ *
+ * <p>Requests are written sample by sample to newline delimited json files so
+ * corpora much larger than the available memory can be generated:
+ * mvn -P benchmark test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=org.mskcc.smile.commons.benchmark.SyntheticRequestGenerator
+ *     -Dexec.args="--requests=100 --samples=2000 --output-dir=target/synthetic"
+ */
+public class SyntheticRequestGenerator {
+    private static final String DEFAULT_TEMPLATE =
+            "src/test/resources/data/incoming_requests/mocked_request1_complete_tumor_normal.json";
+    private static final String INCOMING_REQUESTS_FILENAME = "incoming_requests.ndjson";
+    private static final String PUBLISHED_REQUESTS_FILENAME = "published_requests.ndjson";
+    private static final String[] IGO_SAMPLE_UPDATES = new String[]{"baitSet", "libraryVolume", "runId"};
+    private static final String[] NON_IGO_SAMPLE_UPDATES =
+            new String[]{"investigatorSampleId", "tissueLocation", "sampleName"};
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final ObjectNode templateRequest;
+    private final ArrayNode templateSamples;
+    private final Map<String, String> publishedRequestPropsMap = initPublishedRequestPropsMap();
+    private final Map<String, String> publishedSamplePropsMap = initPublishedSamplePropsMap();
+    private int samplesPerRequest = 10;
+    private int librariesPerSample = 1;
+    private int runsPerLibrary = 1;
+    private int fastqsPerRun = 2;
+    private double igoUpdateRate = 0.0;
+    private double nonIgoUpdateRate = 0.0;
+    private Random random = new Random(0);
+
+    /**
+     * SyntheticRequestGenerator constructor.
+     * @param templateRequest an incoming request json with at least one sample
+     */
+    public SyntheticRequestGenerator(JsonNode templateRequest) {
+        this.templateRequest = templateRequest.deepCopy();
+        this.templateSamples = (ArrayNode) this.templateRequest.remove("samples");
+        if (templateSamples == null || templateSamples.isEmpty()) {
+            throw new IllegalArgumentException("Template request must have at least one sample");
+        }
+    }
+
+    private Map<String, String> initPublishedRequestPropsMap() {
+        Map<String, String> map = new HashMap<>();
+        map.put("projectId", "igoProjectId");
+        map.put("requestId", "igoRequestId");
+        map.put("recipe", "genePanel");
+        return map;
+    }
+
+    private Map<String, String> initPublishedSamplePropsMap() {
+        Map<String, String> map = new HashMap<>();
+        map.put("cmoSampleClass", "sampleType");
+        map.put("specimenType", "sampleClass");
+        map.put("oncoTreeCode", "oncotreeCode");
+        map.put("igoId", "primaryId");
+        return map;
+    }
+
+    public SyntheticRequestGenerator setSamplesPerRequest(int samplesPerRequest) {
+        this.samplesPerRequest = samplesPerRequest;
+        return this;
+    }
+
+    public SyntheticRequestGenerator setLibrariesPerSample(int librariesPerSample) {
+        this.librariesPerSample = librariesPerSample;
+        return this;
+    }
+
+    public SyntheticRequestGenerator setRunsPerLibrary(int runsPerLibrary) {
+        this.runsPerLibrary = runsPerLibrary;
+        return this;
+    }
+
+    public SyntheticRequestGenerator setFastqsPerRun(int fastqsPerRun) {
+        this.fastqsPerRun = fastqsPerRun;
+        return this;
+    }
+
+    /**
+     * Sets the rate at which incoming samples get an IGO accepted property update
+     * (bait set, library volume or run id).
+     * @param igoUpdateRate
+     * @return SyntheticRequestGenerator
+     */
+    public SyntheticRequestGenerator setIgoUpdateRate(double igoUpdateRate) {
+        this.igoUpdateRate = igoUpdateRate;
+        return this;
+    }
+
+    /**
+     * Sets the rate at which incoming samples get a property update that is not
+     * accepted from IGO (investigator sample id, tissue location or sample name).
+     * @param nonIgoUpdateRate
+     * @return SyntheticRequestGenerator
+     */
+    public SyntheticRequestGenerator setNonIgoUpdateRate(double nonIgoUpdateRate) {
+        this.nonIgoUpdateRate = nonIgoUpdateRate;
+        return this;
+    }
+
+    public SyntheticRequestGenerator setSeed(long seed) {
+        this.random = new Random(seed);
+        return this;
+    }
+
+    /**
+     * Returns the incoming and published jsons of the request with the given index.
+     * @param requestIndex
+     * @return String[] the incoming request json followed by the published request json
+     * @throws IOException
+     */
+    public String[] generateRequestPair(int requestIndex) throws IOException {
+        StringWriter incomingWriter = new StringWriter();
+        StringWriter publishedWriter = new StringWriter();
+        try (JsonGenerator incomingGenerator = mapper.createGenerator(incomingWriter);
+                JsonGenerator publishedGenerator = mapper.createGenerator(publishedWriter)) {
+            writeRequestPair(requestIndex, incomingGenerator, publishedGenerator);
+        }
+        return new String[]{incomingWriter.toString(), publishedWriter.toString()};
+    }
+
+    /**
+     * Writes the given number of requests to incoming_requests.ndjson and their
+     * published counterparts to published_requests.ndjson in the output directory.
+     * Line n of both files holds the same request.
+     * @param outputDir
+     * @param requestCount
+     * @throws IOException
+     */
+    public void writeRequests(File outputDir, int requestCount) throws IOException {
+        if (!outputDir.isDirectory() && !outputDir.mkdirs()) {
+            throw new IOException("Unable to create output directory: " + outputDir);
+        }
+        // requests are separated by new lines only
+        try (JsonGenerator incomingGenerator = mapper.getFactory().createGenerator(
+                    new File(outputDir, INCOMING_REQUESTS_FILENAME), JsonEncoding.UTF8)
+                    .setRootValueSeparator(null);
+                JsonGenerator publishedGenerator = mapper.getFactory().createGenerator(
+                    new File(outputDir, PUBLISHED_REQUESTS_FILENAME), JsonEncoding.UTF8)
+                    .setRootValueSeparator(null)) {
+            for (int i = 0; i < requestCount; i++) {
+                writeRequestPair(i, incomingGenerator, publishedGenerator);
+                incomingGenerator.writeRaw('\n');
+                publishedGenerator.writeRaw('\n');
+            }
+        }
+    }
+
+    /**
+     * Writes the incoming and published jsons of a request. Only one sample is held in
+     * memory at a time.
+     */
+    private void writeRequestPair(int requestIndex, JsonGenerator incomingGenerator,
+            JsonGenerator publishedGenerator) throws IOException {
+        String requestId = String.format("SYNTH%06d_B", requestIndex);
+        ObjectNode incomingRequest = templateRequest.deepCopy();
+        incomingRequest.put("requestId", requestId);
+        incomingRequest.put("projectId", requestId.substring(0, requestId.indexOf('_')));
+        ObjectNode publishedRequest = toPublishedJson(incomingRequest, publishedRequestPropsMap);
+        publishedRequest.put("smileRequestId", randomUuid());
+
+        writeRequestProperties(incomingGenerator, incomingRequest);
+        writeRequestProperties(publishedGenerator, publishedRequest);
+        for (int i = 0; i < samplesPerRequest; i++) {
+            ObjectNode sample = generateSample(requestId, i);
+            ObjectNode publishedSample = toPublishedJson(sample, publishedSamplePropsMap);
+            publishedSample.put("smileSampleId", randomUuid());
+            publishedSample.put("smilePatientId", randomUuid());
+            publishedSample.put("datasource", "igo");
+            updateSample(sample);
+            incomingGenerator.writeTree(sample);
+            publishedGenerator.writeTree(publishedSample);
+        }
+        incomingGenerator.writeEndArray();
+        incomingGenerator.writeEndObject();
+        publishedGenerator.writeEndArray();
+        publishedGenerator.writeEndObject();
+    }
+
+    /**
+     * Smile ids are drawn from the seeded random so that corpora are reproducible.
+     */
+    private String randomUuid() {
+        return new UUID(random.nextLong(), random.nextLong()).toString();
+    }
+
+    private void writeRequestProperties(JsonGenerator generator, ObjectNode request) throws IOException {
+        generator.writeStartObject();
+        Iterator<Map.Entry<String, JsonNode>> itr = request.fields();
+        while (itr.hasNext()) {
+            Map.Entry<String, JsonNode> field = itr.next();
+            generator.writeFieldName(field.getKey());
+            generator.writeTree(field.getValue());
+        }
+        generator.writeArrayFieldStart("samples");
+    }
+
+    private ObjectNode generateSample(String requestId, int sampleIndex) {
+        ObjectNode sample = templateSamples.get(sampleIndex % templateSamples.size()).deepCopy();
+        String igoId = requestId + "_" + (sampleIndex + 1);
+        sample.put("igoId", igoId);
+        sample.put("investigatorSampleId", "INV_" + igoId);
+
+        JsonNode templateLibrary = sample.path("libraries").path(0);
+        JsonNode templateRun = templateLibrary.path("runs").path(0);
+        if (!templateLibrary.isObject() || !templateRun.isObject()) {
+            return sample;
+        }
+        ArrayNode libraries = sample.putArray("libraries");
+        for (int l = 0; l < librariesPerSample; l++) {
+            ObjectNode library = (ObjectNode) templateLibrary.deepCopy();
+            String libraryIgoId = igoId + "_1_1_" + (l + 1);
+            library.put("libraryIgoId", libraryIgoId);
+            ArrayNode runs = library.putArray("runs");
+            for (int r = 0; r < runsPerLibrary; r++) {
+                ObjectNode run = (ObjectNode) templateRun.deepCopy();
+                String runId = String.format("RUNID_%04d", r + 1);
+                run.put("runId", runId);
+                run.put("flowCellId", String.format("FC%07X", random.nextInt(0x10000000)));
+                ArrayNode fastqs = run.putArray("fastqs");
+                for (int f = 0; f < fastqsPerRun; f++) {
+                    fastqs.add(String.format("/FASTQ/%s/Project_%s/Sample_%s/%s_S%d_R%d_001.fastq.gz",
+                            runId, requestId, libraryIgoId, libraryIgoId, l + 1, f + 1));
+                }
+                runs.add(run);
+            }
+            libraries.add(library);
+        }
+        return sample;
+    }
+
+    /**
+     * Applies the IGO accepted and non-IGO property updates to the incoming sample
+     * at the configured rates.
+     */
+    private void updateSample(ObjectNode sample) {
+        if (random.nextDouble() < igoUpdateRate) {
+            String property = IGO_SAMPLE_UPDATES[random.nextInt(IGO_SAMPLE_UPDATES.length)];
+            JsonNode library = sample.path("libraries").path(0);
+            switch (property) {
+                case "libraryVolume":
+                    if (library.isObject()) {
+                        double libraryVolume = library.path("libraryVolume").asDouble();
+                        ((ObjectNode) library).put("libraryVolume", libraryVolume + 1);
+                    }
+                    break;
+                case "runId":
+                    JsonNode run = library.path("runs").path(0);
+                    if (run.isObject()) {
+                        ((ObjectNode) run).put("runId", run.path("runId").asText() + "_UPDATED");
+                    }
+                    break;
+                default:
+                    sample.put(property, sample.path(property).asText() + "_UPDATED");
+            }
+        }
+        if (random.nextDouble() < nonIgoUpdateRate) {
+            String property = NON_IGO_SAMPLE_UPDATES[random.nextInt(NON_IGO_SAMPLE_UPDATES.length)];
+            sample.put(property, sample.path(property).asText() + "_UPDATED");
+        }
+    }
+
+    /**
+     * Returns a copy of the incoming json with its properties renamed the way they are
+     * when the request is published.
+     */
+    private ObjectNode toPublishedJson(ObjectNode node, Map<String, String> publishedPropsMap) {
+        ObjectNode publishedNode = mapper.createObjectNode();
+        Iterator<Map.Entry<String, JsonNode>> itr = node.fields();
+        while (itr.hasNext()) {
+            Map.Entry<String, JsonNode> field = itr.next();
+            publishedNode.set(publishedPropsMap.getOrDefault(field.getKey(), field.getKey()),
+                    field.getValue().deepCopy());
+        }
+        return publishedNode;
+    }
+
+    /**
+     * Generates a synthetic request corpus. Arguments are given as --name=value with
+     * output-dir, template, requests, samples, libraries, runs, fastqs,
+     * igo-update-rate, non-igo-update-rate and seed.
+     * @param args
+     * @throws IOException
+     */
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int index = arg.indexOf('=');
+            if (!arg.startsWith("--") || index < 0) {
+                throw new IllegalArgumentException("Expected argument of the form --name=value: " + arg);
+            }
+            options.put(arg.substring(2, index), arg.substring(index + 1));
+        }
+        ObjectMapper mapper = new ObjectMapper();
+        SyntheticRequestGenerator generator = new SyntheticRequestGenerator(
+                mapper.readTree(new File(options.getOrDefault("template", DEFAULT_TEMPLATE))))
+                .setSamplesPerRequest(Integer.parseInt(options.getOrDefault("samples", "10")))
+                .setLibrariesPerSample(Integer.parseInt(options.getOrDefault("libraries", "1")))
+                .setRunsPerLibrary(Integer.parseInt(options.getOrDefault("runs", "1")))
+                .setFastqsPerRun(Integer.parseInt(options.getOrDefault("fastqs", "2")))
+                .setIgoUpdateRate(Double.parseDouble(options.getOrDefault("igo-update-rate", "0")))
+                .setNonIgoUpdateRate(
+                        Double.parseDouble(options.getOrDefault("non-igo-update-rate", "0")))
+                .setSeed(Long.parseLong(options.getOrDefault("seed", "0")));
+        File outputDir = new File(options.getOrDefault("output-dir", "target/synthetic-requests"));
+        int requestCount = Integer.parseInt(options.getOrDefault("requests", "1"));
+        generator.writeRequests(outputDir, requestCount);
+        System.out.println("Wrote " + requestCount + " synthetic requests to " + outputDir);
+    }
+}
@@ -0,0 +1,112 @@
+package org.mskcc.smile.commons;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import org.mskcc.smile.commons.ComparisonResult.Difference;
+
+/**
+ * Differences between a reference and target json split into the changes of IGO
+ * accepted properties (i.e., changes owned by the LIMS) and the changes of any
+ * other property. A difference is IGO accepted when every property along its path,
+ * other than the samples and their primary ids, is an IGO accepted field. Samples
+ * that were added to or removed from the request are IGO accepted changes, since
+ * the samples of a request are owned by the LIMS, and are reported by their primary
+ * id instead of as a changed field.
+ */
+public class ChangeClassification {
+    private final List<Difference> igoDifferences;
+    private final List<Difference> nonIgoDifferences;
+    private final Set<String> igoChangedFields;
+    private final Set<String> nonIgoChangedFields;
+    private final Set<String> addedSampleIds;
+    private final Set<String> removedSampleIds;
+
+    /**
+     * ChangeClassification constructor.
+     * @param igoDifferences
+     * @param nonIgoDifferences
+     * @param igoChangedFields
+     * @param nonIgoChangedFields
+     * @param addedSampleIds
+     * @param removedSampleIds
+     */
+    public ChangeClassification(List<Difference> igoDifferences, List<Difference> nonIgoDifferences,
+            Set<String> igoChangedFields, Set<String> nonIgoChangedFields, Set<String> addedSampleIds,
+            Set<String> removedSampleIds) {
+        this.igoDifferences = Collections.unmodifiableList(igoDifferences);
+        this.nonIgoDifferences = Collections.unmodifiableList(nonIgoDifferences);
+        this.igoChangedFields = Collections.unmodifiableSet(igoChangedFields);
+        this.nonIgoChangedFields = Collections.unmodifiableSet(nonIgoChangedFields);
+        this.addedSampleIds = Collections.unmodifiableSet(addedSampleIds);
+        this.removedSampleIds = Collections.unmodifiableSet(removedSampleIds);
+    }
+
+    /**
+     * Returns whether the jsons are consistent, which is the same verdict as isConsistent.
+     * @return Boolean
+     */
+    public Boolean isConsistent() {
+        return igoDifferences.isEmpty() && nonIgoDifferences.isEmpty();
+    }
+
+    /**
+     * Returns whether any IGO accepted property changed, which is the opposite verdict
+     * of isConsistentByIgoProperties.
+     * @return Boolean
+     */
+    public Boolean hasIgoChanges() {
+        return !igoDifferences.isEmpty();
+    }
+
+    public Boolean hasNonIgoChanges() {
+        return !nonIgoDifferences.isEmpty();
+    }
+
+    public List<Difference> getIgoDifferences() {
+        return igoDifferences;
+    }
+
+    public List<Difference> getNonIgoDifferences() {
+        return nonIgoDifferences;
+    }
+
+    /**
+     * Returns the names of the changed IGO accepted properties, in sorted order.
+     * @return Set
+     */
+    public Set<String> getIgoChangedFields() {
+        return igoChangedFields;
+    }
+
+    /**
+     * Returns the names of the changed properties that are not IGO accepted, in sorted order.
+     * @return Set
+     */
+    public Set<String> getNonIgoChangedFields() {
+        return nonIgoChangedFields;
+    }
+
+    /**
+     * Returns the primary ids of the samples only found in the target request, in sorted order.
+     * @return Set
+     */
+    public Set<String> getAddedSampleIds() {
+        return addedSampleIds;
+    }
+
+    /**
+     * Returns the primary ids of the samples only found in the reference request, in sorted order.
+     * @return Set
+     */
+    public Set<String> getRemovedSampleIds() {
+        return removedSampleIds;
+    }
+
+    @Override
+    public String toString() {
+        return "ChangeClassification{igoChangedFields=" + igoChangedFields
+                + ", nonIgoChangedFields=" + nonIgoChangedFields + ", addedSampleIds=" + addedSampleIds
+                + ", removedSampleIds=" + removedSampleIds + "}";
+    }
+}
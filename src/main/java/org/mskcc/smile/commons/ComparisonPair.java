@@ -0,0 +1,27 @@
+package org.mskcc.smile.commons;
+
+/**
+ * A reference json and the target json to compare it against.
+ */
+public class ComparisonPair {
+    private final String referenceJson;
+    private final String targetJson;
+
+    /**
+     * ComparisonPair constructor.
+     * @param referenceJson
+     * @param targetJson
+     */
+    public ComparisonPair(String referenceJson, String targetJson) {
+        this.referenceJson = referenceJson;
+        this.targetJson = targetJson;
+    }
+
+    public String getReferenceJson() {
+        return referenceJson;
+    }
+
+    public String getTargetJson() {
+        return targetJson;
+    }
+}
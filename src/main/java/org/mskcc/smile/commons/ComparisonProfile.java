@@ -0,0 +1,74 @@
+package org.mskcc.smile.commons;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import org.mskcc.smile.commons.enums.ComparisonType;
+
+/**
+ * Describes how jsons are compared: the comparison type and the fields to ignore.
+ * The ignored fields are resolved into a set once when the profile is built so a
+ * profile can be reused across comparisons without rebuilding any field lookups.
+ */
+public class ComparisonProfile {
+    private final ComparisonType comparisonType;
+    private final Set<String> ignoredFields;
+
+    /**
+     * ComparisonProfile constructor.
+     * @param comparisonType
+     * @param ignoredFields
+     */
+    public ComparisonProfile(ComparisonType comparisonType, String[] ignoredFields) {
+        this.comparisonType = comparisonType;
+        this.ignoredFields = (ignoredFields == null) ? Collections.emptySet()
+                : Collections.unmodifiableSet(new HashSet<>(Arrays.asList(ignoredFields)));
+    }
+
+    /**
+     * ComparisonProfile constructor. Accepted values of String comparisonType are
+     * new, igo, dashboard and generic, any other value is rejected with a
+     * RuntimeException. Unlike this constructor, the JsonComparator comparisons that
+     * take a String comparisonType compare unsupported values as new.
+     * @param comparisonType
+     * @param ignoredFields
+     */
+    public ComparisonProfile(String comparisonType, String[] ignoredFields) {
+        this(ComparisonType.fromString(comparisonType), ignoredFields);
+    }
+
+    public ComparisonType getComparisonType() {
+        return comparisonType;
+    }
+
+    public Set<String> getIgnoredFields() {
+        return ignoredFields;
+    }
+
+    public Boolean isIgoComparison() {
+        return comparisonType == ComparisonType.IGO;
+    }
+
+    public Boolean isGenericComparison() {
+        return comparisonType == ComparisonType.GENERIC;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ComparisonProfile)) {
+            return false;
+        }
+        ComparisonProfile other = (ComparisonProfile) obj;
+        return comparisonType == other.comparisonType && ignoredFields.equals(other.ignoredFields);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(comparisonType, ignoredFields);
+    }
+}
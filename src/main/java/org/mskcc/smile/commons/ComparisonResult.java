@@ -0,0 +1,119 @@
+package org.mskcc.smile.commons;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Outcome of a json comparison. The list of differences is only resolved the first
+ * time it is requested so callers that only check consistency do not pay for it.
+ */
+public class ComparisonResult {
+    private final Boolean consistent;
+    private final Exception error;
+    private Supplier<List<Difference>> differencesSupplier;
+    private List<Difference> differences;
+
+    /**
+     * ComparisonResult constructor.
+     * @param consistent
+     * @param differencesSupplier
+     */
+    public ComparisonResult(Boolean consistent, Supplier<List<Difference>> differencesSupplier) {
+        this.consistent = consistent;
+        this.error = null;
+        this.differencesSupplier = differencesSupplier;
+    }
+
+    private ComparisonResult(Exception error) {
+        this.consistent = Boolean.FALSE;
+        this.error = error;
+    }
+
+    /**
+     * Returns the result of a comparison that could not be completed, i.e. because
+     * one of the jsons could not be parsed. Such a result is not consistent.
+     * @param error
+     * @return ComparisonResult
+     */
+    public static ComparisonResult failed(Exception error) {
+        return new ComparisonResult(error);
+    }
+
+    public Boolean isConsistent() {
+        return consistent;
+    }
+
+    public Boolean hasError() {
+        return error != null;
+    }
+
+    public Exception getError() {
+        return error;
+    }
+
+    /**
+     * Returns the differences found between the reference and target jsons. Each
+     * difference is reported at the JSON Pointer of the standardized property, where
+     * request samples are addressed by their primary id instead of their array index
+     * (i.e., /samples/MOCKREQUEST1_B_1/libraries/0/runs/0/flowCellLanes). Samples
+     * without a primaryId or igoId are addressed by their array index (i.e., /samples/0).
+     * @return List
+     */
+    public synchronized List<Difference> getDifferences() {
+        if (differences == null) {
+            differences = (differencesSupplier == null) ? Collections.emptyList()
+                    : Collections.unmodifiableList(differencesSupplier.get());
+            differencesSupplier = null;
+        }
+        return differences;
+    }
+
+    @Override
+    public String toString() {
+        if (hasError()) {
+            return "ComparisonResult{error=" + error + "}";
+        }
+        return "ComparisonResult{consistent=" + consistent + ", differences=" + getDifferences() + "}";
+    }
+
+    /**
+     * A single difference between the reference and target jsons. A null value means
+     * the property is missing from that side of the comparison.
+     */
+    public static class Difference {
+        private final String path;
+        private final JsonNode referenceValue;
+        private final JsonNode targetValue;
+
+        /**
+         * Difference constructor.
+         * @param path
+         * @param referenceValue
+         * @param targetValue
+         */
+        public Difference(String path, JsonNode referenceValue, JsonNode targetValue) {
+            this.path = path;
+            this.referenceValue = referenceValue;
+            this.targetValue = targetValue;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public JsonNode getReferenceValue() {
+            return referenceValue;
+        }
+
+        public JsonNode getTargetValue() {
+            return targetValue;
+        }
+
+        @Override
+        public String toString() {
+            return path + ": " + referenceValue + " -> " + targetValue;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package org.mskcc.smile.commons;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The consistency verdict of the request properties and of each sample, keyed by
+ * primary id, of a reference and target request. Snapshots are built by
+ * {@link JsonComparator#createSnapshot} along with the normalized requests the
+ * comparator needs to update them, and are never modified: updating one with changed
+ * target samples returns a new snapshot.
+ */
+public abstract class ComparisonSnapshot {
+    private final ComparisonProfile profile;
+    private final Boolean requestConsistent;
+    private final Map<String, Boolean> sampleConsistency;
+    private final int inconsistentSampleCount;
+
+    /**
+     * ComparisonSnapshot constructor.
+     * @param profile
+     * @param requestConsistent
+     * @param sampleConsistency
+     */
+    protected ComparisonSnapshot(ComparisonProfile profile, Boolean requestConsistent,
+            Map<String, Boolean> sampleConsistency) {
+        this.profile = profile;
+        this.requestConsistent = requestConsistent;
+        this.sampleConsistency = sampleConsistency;
+        int count = 0;
+        for (Boolean consistent : sampleConsistency.values()) {
+            if (!consistent) {
+                count++;
+            }
+        }
+        this.inconsistentSampleCount = count;
+    }
+
+    /**
+     * Returns whether the request properties and all of the samples are consistent,
+     * which is the same verdict as a full comparison of the target request.
+     * @return Boolean
+     */
+    public Boolean isConsistent() {
+        return requestConsistent && inconsistentSampleCount == 0;
+    }
+
+    /**
+     * Returns whether the request properties (i.e., everything but the samples) are consistent.
+     * @return Boolean
+     */
+    public Boolean isRequestConsistent() {
+        return requestConsistent;
+    }
+
+    /**
+     * Returns the consistency verdict of every sample found in either request by primary id.
+     * @return Map
+     */
+    public Map<String, Boolean> getSampleConsistency() {
+        return Collections.unmodifiableMap(sampleConsistency);
+    }
+
+    /**
+     * Returns the primary ids of the inconsistent samples in sorted order.
+     * @return List
+     */
+    public List<String> getInconsistentSampleIds() {
+        List<String> sampleIds = new ArrayList<>(inconsistentSampleCount);
+        for (Map.Entry<String, Boolean> entry : sampleConsistency.entrySet()) {
+            if (!entry.getValue()) {
+                sampleIds.add(entry.getKey());
+            }
+        }
+        Collections.sort(sampleIds);
+        return sampleIds;
+    }
+
+    /**
+     * Returns the comparison profile the snapshot verdicts were computed with.
+     * @return ComparisonProfile
+     */
+    public ComparisonProfile getProfile() {
+        return profile;
+    }
+}
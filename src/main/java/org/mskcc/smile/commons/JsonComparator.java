@@ -1,13 +1,86 @@
 package org.mskcc.smile.commons;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import org.mskcc.smile.commons.enums.ComparisonType;
+
 /**
  *
  * @author ochoaa
  */
 public interface JsonComparator {
     Boolean isConsistentByIgoProperties(String referenceJson, String targetJson) throws Exception;
+    Boolean isConsistentByIgoProperties(JsonNode referenceNode, JsonNode targetNode) throws Exception;
+    Boolean isConsistentByIgoProperties(JsonParser referenceParser, JsonParser targetParser)
+            throws Exception;
+    Boolean isConsistentByIgoProperties(byte[] referenceJson, byte[] targetJson) throws Exception;
     Boolean isConsistent(String referenceJson, String targetJson) throws Exception;
+    Boolean isConsistent(JsonNode referenceNode, JsonNode targetNode) throws Exception;
+    Boolean isConsistent(JsonParser referenceParser, JsonParser targetParser) throws Exception;
     Boolean isConsistent(String referenceJson, String targetJson, String[] ignoredFields,
             String comparisonType) throws Exception;
+    Boolean isConsistent(JsonNode referenceNode, JsonNode targetNode, String[] ignoredFields,
+            String comparisonType) throws Exception;
+    Boolean isConsistent(JsonParser referenceParser, JsonParser targetParser, String[] ignoredFields,
+            String comparisonType) throws Exception;
+    Boolean isConsistent(String referenceJson, String targetJson, ComparisonProfile profile)
+            throws Exception;
+    Boolean isConsistent(JsonNode referenceNode, JsonNode targetNode, ComparisonProfile profile)
+            throws Exception;
+    Boolean isConsistent(JsonParser referenceParser, JsonParser targetParser, ComparisonProfile profile)
+            throws Exception;
+    Boolean isConsistent(byte[] referenceJson, byte[] targetJson) throws Exception;
+    Boolean isConsistent(byte[] referenceJson, byte[] targetJson, ComparisonProfile profile)
+            throws Exception;
+    Boolean isConsistent(ByteBuffer referenceJson, ByteBuffer targetJson, ComparisonProfile profile)
+            throws Exception;
+    Boolean isConsistent(InputStream referenceJson, InputStream targetJson, ComparisonProfile profile)
+            throws Exception;
     Boolean isConsistentGenericComparison(String referenceJson, String targetJson) throws Exception;
+    Boolean isConsistentGenericComparison(JsonNode referenceNode, JsonNode targetNode) throws Exception;
+    Boolean isConsistentGenericComparison(byte[] referenceJson, byte[] targetJson) throws Exception;
+    ComparisonResult compareByIgoProperties(String referenceJson, String targetJson) throws Exception;
+    ComparisonResult compare(String referenceJson, String targetJson) throws Exception;
+    ComparisonResult compare(JsonNode referenceNode, JsonNode targetNode) throws Exception;
+    ComparisonResult compare(String referenceJson, String targetJson, String[] ignoredFields,
+            String comparisonType) throws Exception;
+    ComparisonResult compare(JsonNode referenceNode, JsonNode targetNode, String[] ignoredFields,
+            String comparisonType) throws Exception;
+    ComparisonResult compare(String referenceJson, String targetJson, ComparisonProfile profile)
+            throws Exception;
+    ComparisonResult compare(JsonNode referenceNode, JsonNode targetNode, ComparisonProfile profile)
+            throws Exception;
+    ComparisonResult compare(byte[] referenceJson, byte[] targetJson, ComparisonProfile profile)
+            throws Exception;
+    ComparisonResult compare(ByteBuffer referenceJson, ByteBuffer targetJson, ComparisonProfile profile)
+            throws Exception;
+    ComparisonResult compare(InputStream referenceJson, InputStream targetJson, ComparisonProfile profile)
+            throws Exception;
+    ComparisonResult compareGeneric(String referenceJson, String targetJson) throws Exception;
+    ComparisonResult compareGeneric(JsonNode referenceNode, JsonNode targetNode) throws Exception;
+    ComparisonProfile getComparisonProfile(ComparisonType comparisonType);
+    ChangeClassification classifyChanges(String referenceJson, String targetJson) throws Exception;
+    ChangeClassification classifyChanges(JsonNode referenceNode, JsonNode targetNode) throws Exception;
+    String fingerprint(String json, ComparisonProfile profile) throws Exception;
+    String fingerprint(JsonNode node, ComparisonProfile profile) throws Exception;
+    List<ComparisonResult> compareAll(List<ComparisonPair> pairs, ComparisonProfile profile);
+    List<ComparisonResult> compareAll(List<ComparisonPair> pairs, ComparisonProfile profile,
+            Executor executor);
+    ComparisonSnapshot createSnapshot(String referenceJson, String targetJson, ComparisonProfile profile)
+            throws Exception;
+    ComparisonSnapshot createSnapshot(JsonNode referenceNode, JsonNode targetNode, ComparisonProfile profile)
+            throws Exception;
+    ComparisonSnapshot updateSnapshot(ComparisonSnapshot snapshot, Collection<JsonNode> changedTargetSamples)
+            throws Exception;
+    ComparisonSnapshot updateSnapshot(ComparisonSnapshot snapshot, Collection<JsonNode> changedTargetSamples,
+            Collection<String> removedSampleIds) throws Exception;
+    ComparisonSnapshot updateSnapshot(ComparisonSnapshot snapshot,
+            Map<String, JsonNode> changedTargetSamples, Collection<String> removedSampleIds)
+            throws Exception;
 }
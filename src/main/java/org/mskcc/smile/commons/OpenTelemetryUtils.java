@@ -3,11 +3,30 @@ package org.mskcc.smile.commons;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.Tracer;
 import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.TextMapGetter;
+import io.opentelemetry.context.propagation.TextMapSetter;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
 
 public interface OpenTelemetryUtils {
 
     Map<String, String> getTraceMetadata(Context context);
+    <C> void injectTraceMetadata(Context context, C carrier, TextMapSetter<C> setter);
     Span getSpanFromTraceMetadata(String spanName, Tracer tracer, Map<String, String> traceMetadata);
+    <C> Span getSpanFromTraceMetadata(String spanName, Tracer tracer, C carrier, TextMapGetter<C> getter);
+    Span getBatchSpanFromTraceMetadata(String spanName, Tracer tracer,
+            List<Map<String, String>> traceMetadataList);
+    <C> Span getBatchSpanFromTraceMetadata(String spanName, Tracer tracer, List<C> carriers,
+            TextMapGetter<C> getter);
+    Executor wrapExecutor(Executor executor);
+    ExecutorService wrapExecutorService(ExecutorService executorService);
+    ExecutorService newVirtualThreadPerTaskExecutor();
+    <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier);
+    <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier, Executor executor);
+    CompletableFuture<Void> runAsync(Runnable runnable);
+    CompletableFuture<Void> runAsync(Runnable runnable, Executor executor);
 }
-
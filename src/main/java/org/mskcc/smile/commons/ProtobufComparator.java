@@ -0,0 +1,20 @@
+package org.mskcc.smile.commons;
+
+import com.google.protobuf.Message;
+import org.mskcc.smile.commons.generated.Igo.RequestWithManifests;
+import org.mskcc.smile.commons.generated.Igo.SampleManifest;
+
+/**
+ * Checks the consistency of IGO protobuf messages (i.e., RequestWithManifests and
+ * SampleManifest from types/igo/v1/igo.proto) without converting them to json.
+ */
+public interface ProtobufComparator {
+    Boolean isConsistentByIgoProperties(RequestWithManifests referenceRequest,
+            RequestWithManifests targetRequest);
+    Boolean isConsistentByIgoProperties(SampleManifest referenceSample, SampleManifest targetSample);
+    Boolean isConsistentByIgoProperties(Message referenceMessage, Message targetMessage);
+    Boolean isConsistent(RequestWithManifests referenceRequest, RequestWithManifests targetRequest);
+    Boolean isConsistent(SampleManifest referenceSample, SampleManifest targetSample);
+    Boolean isConsistent(Message referenceMessage, Message targetMessage);
+    Boolean isConsistent(Message referenceMessage, Message targetMessage, ComparisonProfile profile);
+}
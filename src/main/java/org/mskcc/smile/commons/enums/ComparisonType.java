@@ -0,0 +1,60 @@
+package org.mskcc.smile.commons.enums;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Modes of json comparison supported by the JsonComparator.
+ */
+public enum ComparisonType {
+    NEW("new"),
+    IGO("igo"),
+    DASHBOARD("dashboard"),
+    GENERIC("generic");
+
+    private static final Map<String, ComparisonType> nameToEnum = new HashMap<>();
+
+    static {
+        for (ComparisonType comparisonType : values()) {
+            nameToEnum.put(comparisonType.value, comparisonType);
+        }
+    }
+
+    private final String value;
+
+    ComparisonType(String value) {
+        this.value = value;
+    }
+
+    /**
+     * ComparisonType enum constructor.
+     * @param value
+     * @return
+     */
+    public static ComparisonType fromString(String value) {
+        if (!nameToEnum.containsKey(value)) {
+            throw new RuntimeException(String.format("Unsupported Comparison Type: %s", value));
+        }
+        return nameToEnum.get(value);
+    }
+
+    /**
+     * Returns the comparison type with the given value, or the default comparison
+     * type if the value is not supported.
+     * @param value
+     * @param defaultComparisonType
+     * @return ComparisonType
+     */
+    public static ComparisonType fromString(String value, ComparisonType defaultComparisonType) {
+        return nameToEnum.getOrDefault(value, defaultComparisonType);
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
@@ -0,0 +1,49 @@
+package org.mskcc.smile.commons.enums;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Trace context propagation formats supported by the OpenTelemetryUtils, named as
+ * in the OpenTelemetry otel.propagators setting.
+ */
+public enum PropagationFormat {
+    TRACECONTEXT("tracecontext"),
+    B3("b3"),
+    B3_MULTI("b3multi");
+
+    private static final Map<String, PropagationFormat> nameToEnum = new HashMap<>();
+
+    static {
+        for (PropagationFormat propagationFormat : values()) {
+            nameToEnum.put(propagationFormat.value, propagationFormat);
+        }
+    }
+
+    private final String value;
+
+    PropagationFormat(String value) {
+        this.value = value;
+    }
+
+    /**
+     * PropagationFormat enum constructor.
+     * @param value
+     * @return
+     */
+    public static PropagationFormat fromString(String value) {
+        if (!nameToEnum.containsKey(value)) {
+            throw new RuntimeException(String.format("Unsupported Propagation Format: %s", value));
+        }
+        return nameToEnum.get(value);
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
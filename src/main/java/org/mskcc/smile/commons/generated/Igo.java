@@ -0,0 +1,17950 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: types/igo/v1/igo.proto
+// Protobuf Java Version: 4.29.3
+
+package org.mskcc.smile.commons.generated;
+
+public final class Igo {
+  private Igo() {}
+  static {
+    com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+      com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+      /* major= */ 4,
+      /* minor= */ 29,
+      /* patch= */ 3,
+      /* suffix= */ "",
+      Igo.class.getName());
+  }
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  public interface DeliveryOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Delivery)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string request = 1;</code>
+     * @return The request.
+     */
+    java.lang.String getRequest();
+    /**
+     * <code>string request = 1;</code>
+     * @return The bytes for request.
+     */
+    com.google.protobuf.ByteString
+        getRequestBytes();
+
+    /**
+     * <pre>
+     * unix time in milliseconds
+     * </pre>
+     *
+     * <code>int64 deliveryDate = 2;</code>
+     * @return The deliveryDate.
+     */
+    long getDeliveryDate();
+  }
+  /**
+   * Protobuf type {@code Delivery}
+   */
+  public static final class Delivery extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:Delivery)
+      DeliveryOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 29,
+        /* patch= */ 3,
+        /* suffix= */ "",
+        Delivery.class.getName());
+    }
+    // Use Delivery.newBuilder() to construct.
+    private Delivery(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private Delivery() {
+      request_ = "";
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.mskcc.smile.commons.generated.Igo.internal_static_Delivery_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.mskcc.smile.commons.generated.Igo.internal_static_Delivery_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.mskcc.smile.commons.generated.Igo.Delivery.class, org.mskcc.smile.commons.generated.Igo.Delivery.Builder.class);
+    }
+
+    public static final int REQUEST_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object request_ = "";
+    /**
+     * <code>string request = 1;</code>
+     * @return The request.
+     */
+    @java.lang.Override
+    public java.lang.String getRequest() {
+      java.lang.Object ref = request_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        request_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string request = 1;</code>
+     * @return The bytes for request.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getRequestBytes() {
+      java.lang.Object ref = request_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        request_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DELIVERYDATE_FIELD_NUMBER = 2;
+    private long deliveryDate_ = 0L;
+    /**
+     * <pre>
+     * unix time in milliseconds
+     * </pre>
+     *
+     * <code>int64 deliveryDate = 2;</code>
+     * @return The deliveryDate.
+     */
+    @java.lang.Override
+    public long getDeliveryDate() {
+      return deliveryDate_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(request_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, request_);
+      }
+      if (deliveryDate_ != 0L) {
+        output.writeInt64(2, deliveryDate_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(request_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, request_);
+      }
+      if (deliveryDate_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, deliveryDate_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.mskcc.smile.commons.generated.Igo.Delivery)) {
+        return super.equals(obj);
+      }
+      org.mskcc.smile.commons.generated.Igo.Delivery other = (org.mskcc.smile.commons.generated.Igo.Delivery) obj;
+
+      if (!getRequest()
+          .equals(other.getRequest())) return false;
+      if (getDeliveryDate()
+          != other.getDeliveryDate()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + REQUEST_FIELD_NUMBER;
+      hash = (53 * hash) + getRequest().hashCode();
+      hash = (37 * hash) + DELIVERYDATE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getDeliveryDate());
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.mskcc.smile.commons.generated.Igo.Delivery parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.mskcc.smile.commons.generated.Igo.Delivery parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.mskcc.smile.commons.generated.Igo.Delivery parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.mskcc.smile.commons.generated.Igo.Delivery parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.mskcc.smile.commons.generated.Igo.Delivery parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.mskcc.smile.commons.generated.Igo.Delivery parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.mskcc.smile.commons.generated.Igo.Delivery parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.mskcc.smile.commons.generated.Igo.Delivery parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.mskcc.smile.commons.generated.Igo.Delivery parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.mskcc.smile.commons.generated.Igo.Delivery parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.mskcc.smile.commons.generated.Igo.Delivery parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.mskcc.smile.commons.generated.Igo.Delivery parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.mskcc.smile.commons.generated.Igo.Delivery prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code Delivery}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:Delivery)
+        org.mskcc.smile.commons.generated.Igo.DeliveryOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.mskcc.smile.commons.generated.Igo.internal_static_Delivery_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.mskcc.smile.commons.generated.Igo.internal_static_Delivery_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.mskcc.smile.commons.generated.Igo.Delivery.class, org.mskcc.smile.commons.generated.Igo.Delivery.Builder.class);
+      }
+
+      // Construct using org.mskcc.smile.commons.generated.Igo.Delivery.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        request_ = "";
+        deliveryDate_ = 0L;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.mskcc.smile.commons.generated.Igo.internal_static_Delivery_descriptor;
+      }
+
+      @java.lang.Override
+      public org.mskcc.smile.commons.generated.Igo.Delivery getDefaultInstanceForType() {
+        return org.mskcc.smile.commons.generated.Igo.Delivery.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.mskcc.smile.commons.generated.Igo.Delivery build() {
+        org.mskcc.smile.commons.generated.Igo.Delivery result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.mskcc.smile.commons.generated.Igo.Delivery buildPartial() {
+        org.mskcc.smile.commons.generated.Igo.Delivery result = new org.mskcc.smile.commons.generated.Igo.Delivery(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.mskcc.smile.commons.generated.Igo.Delivery result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.request_ = request_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.deliveryDate_ = deliveryDate_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.mskcc.smile.commons.generated.Igo.Delivery) {
+          return mergeFrom((org.mskcc.smile.commons.generated.Igo.Delivery)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.mskcc.smile.commons.generated.Igo.Delivery other) {
+        if (other == org.mskcc.smile.commons.generated.Igo.Delivery.getDefaultInstance()) return this;
+        if (!other.getRequest().isEmpty()) {
+          request_ = other.request_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.getDeliveryDate() != 0L) {
+          setDeliveryDate(other.getDeliveryDate());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                request_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                deliveryDate_ = input.readInt64();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object request_ = "";
+      /**
+       * <code>string request = 1;</code>
+       * @return The request.
+       */
+      public java.lang.String getRequest() {
+        java.lang.Object ref = request_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          request_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string request = 1;</code>
+       * @return The bytes for request.
+       */
+      public com.google.protobuf.ByteString
+          getRequestBytes() {
+        java.lang.Object ref = request_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          request_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string request = 1;</code>
+       * @param value The request to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRequest(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        request_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string request = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRequest() {
+        request_ = getDefaultInstance().getRequest();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string request = 1;</code>
+       * @param value The bytes for request to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRequestBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        request_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private long deliveryDate_ ;
+      /**
+       * <pre>
+       * unix time in milliseconds
+       * </pre>
+       *
+       * <code>int64 deliveryDate = 2;</code>
+       * @return The deliveryDate.
+       */
+      @java.lang.Override
+      public long getDeliveryDate() {
+        return deliveryDate_;
+      }
+      /**
+       * <pre>
+       * unix time in milliseconds
+       * </pre>
+       *
+       * <code>int64 deliveryDate = 2;</code>
+       * @param value The deliveryDate to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDeliveryDate(long value) {
+
+        deliveryDate_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * unix time in milliseconds
+       * </pre>
+       *
+       * <code>int64 deliveryDate = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDeliveryDate() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        deliveryDate_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:Delivery)
+    }
+
+    // @@protoc_insertion_point(class_scope:Delivery)
+    private static final org.mskcc.smile.commons.generated.Igo.Delivery DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.mskcc.smile.commons.generated.Igo.Delivery();
+    }
+
+    public static org.mskcc.smile.commons.generated.Igo.Delivery getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Delivery>
+        PARSER = new com.google.protobuf.AbstractParser<Delivery>() {
+      @java.lang.Override
+      public Delivery parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<Delivery> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Delivery> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.mskcc.smile.commons.generated.Igo.Delivery getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface RequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Request)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>bool bicAnalysis = 1;</code>
+     * @return The bicAnalysis.
+     */
+    boolean getBicAnalysis();
+
+    /**
+     * <code>string dataAccessEmails = 2;</code>
+     * @return The dataAccessEmails.
+     */
+    java.lang.String getDataAccessEmails();
+    /**
+     * <code>string dataAccessEmails = 2;</code>
+     * @return The bytes for dataAccessEmails.
+     */
+    com.google.protobuf.ByteString
+        getDataAccessEmailsBytes();
+
+    /**
+     * <code>string dataAnalystEmail = 3;</code>
+     * @return The dataAnalystEmail.
+     */
+    java.lang.String getDataAnalystEmail();
+    /**
+     * <code>string dataAnalystEmail = 3;</code>
+     * @return The bytes for dataAnalystEmail.
+     */
+    com.google.protobuf.ByteString
+        getDataAnalystEmailBytes();
+
+    /**
+     * <code>string dataAnalystName = 4;</code>
+     * @return The dataAnalystName.
+     */
+    java.lang.String getDataAnalystName();
+    /**
+     * <code>string dataAnalystName = 4;</code>
+     * @return The bytes for dataAnalystName.
+     */
+    com.google.protobuf.ByteString
+        getDataAnalystNameBytes();
+
+    /**
+     * <code>int64 deliveryDate = 5;</code>
+     * @return The deliveryDate.
+     */
+    long getDeliveryDate();
+
+    /**
+     * <code>string investigatorEmail = 6;</code>
+     * @return The investigatorEmail.
+     */
+    java.lang.String getInvestigatorEmail();
+    /**
+     * <code>string investigatorEmail = 6;</code>
+     * @return The bytes for investigatorEmail.
+     */
+    com.google.protobuf.ByteString
+        getInvestigatorEmailBytes();
+
+    /**
+     * <code>string investigatorName = 7;</code>
+     * @return The investigatorName.
+     */
+    java.lang.String getInvestigatorName();
+    /**
+     * <code>string investigatorName = 7;</code>
+     * @return The bytes for investigatorName.
+     */
+    com.google.protobuf.ByteString
+        getInvestigatorNameBytes();
+
+    /**
+     * <code>bool isCmoRequest = 8;</code>
+     * @return The isCmoRequest.
+     */
+    boolean getIsCmoRequest();
+
+    /**
+     * <code>string labHeadEmail = 9;</code>
+     * @return The labHeadEmail.
+     */
+    java.lang.String getLabHeadEmail();
+    /**
+     * <code>string labHeadEmail = 9;</code>
+     * @return The bytes for labHeadEmail.
+     */
+    com.google.protobuf.ByteString
+        getLabHeadEmailBytes();
+
+    /**
+     * <code>string labHeadName = 10;</code>
+     * @return The labHeadName.
+     */
+    java.lang.String getLabHeadName();
+    /**
+     * <code>string labHeadName = 10;</code>
+     * @return The bytes for labHeadName.
+     */
+    com.google.protobuf.ByteString
+        getLabHeadNameBytes();
+
+    /**
+     * <code>string libraryType = 11;</code>
+     * @return The libraryType.
+     */
+    java.lang.String getLibraryType();
+    /**
+     * <code>string libraryType = 11;</code>
+     * @return The bytes for libraryType.
+     */
+    com.google.protobuf.ByteString
+        getLibraryTypeBytes();
+
+    /**
+     * <code>string otherContactEmails = 12;</code>
+     * @return The otherContactEmails.
+     */
+    java.lang.String getOtherContactEmails();
+    /**
+     * <code>string otherContactEmails = 12;</code>
+     * @return The bytes for otherContactEmails.
+     */
+    com.google.protobuf.ByteString
+        getOtherContactEmailsBytes();
+
+    /**
+     * <code>string piEmail = 13;</code>
+     * @return The piEmail.
+     */
+    java.lang.String getPiEmail();
+    /**
+     * <code>string piEmail = 13;</code>
+     * @return The bytes for piEmail.
+     */
+    com.google.protobuf.ByteString
+        getPiEmailBytes();
+
+    /**
+     * <code>repeated string pooledNormals = 14;</code>
+     * @return A list containing the pooledNormals.
+     */
+    java.util.List<java.lang.String>
+        getPooledNormalsList();
+    /**
+     * <code>repeated string pooledNormals = 14;</code>
+     * @return The count of pooledNormals.
+     */
+    int getPooledNormalsCount();
+    /**
+     * <code>repeated string pooledNormals = 14;</code>
+     * @param index The index of the element to return.
+     * @return The pooledNormals at the given index.
+     */
+    java.lang.String getPooledNormals(int index);
+    /**
+     * <code>repeated string pooledNormals = 14;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the pooledNormals at the given index.
+     */
+    com.google.protobuf.ByteString
+        getPooledNormalsBytes(int index);
+
+    /**
+     * <code>string projectManagerName = 15;</code>
+     * @return The projectManagerName.
+     */
+    java.lang.String getProjectManagerName();
+    /**
+     * <code>string projectManagerName = 15;</code>
+     * @return The bytes for projectManagerName.
+     */
+    com.google.protobuf.ByteString
+        getProjectManagerNameBytes();
+
+    /**
+     * <code>string qcAccessEmails = 16;</code>
+     * @return The qcAccessEmails.
+     */
+    java.lang.String getQcAccessEmails();
+    /**
+     * <code>string qcAccessEmails = 16;</code>
+     * @return The bytes for qcAccessEmails.
+     */
+    com.google.protobuf.ByteString
+        getQcAccessEmailsBytes();
+
+    /**
+     * <code>string recipe = 17;</code>
+     * @return The recipe.
+     */
+    java.lang.String getRecipe();
+    /**
+     * <code>string recipe = 17;</code>
+     * @return The bytes for recipe.
+     */
+    com.google.protobuf.ByteString
+        getRecipeBytes();
+
+    /**
+     * <code>string requestId = 18;</code>
+     * @return The requestId.
+     */
+    java.lang.String getRequestId();
+    /**
+     * <code>string requestId = 18;</code>
+     * @return The bytes for requestId.
+     */
+    com.google.protobuf.ByteString
+        getRequestIdBytes();
+
+    /**
+     * <code>repeated .Request.Samples samples = 19;</code>
+     */
+    java.util.List<org.mskcc.smile.commons.generated.Igo.Request.Samples> 
+        getSamplesList();
+    /**
+     * <code>repeated .Request.Samples samples = 19;</code>
+     */
+    org.mskcc.smile.commons.generated.Igo.Request.Samples getSamples(int index);
+    /**
+     * <code>repeated .Request.Samples samples = 19;</code>
+     */
+    int getSamplesCount();
+    /**
+     * <code>repeated .Request.Samples samples = 19;</code>
+     */
+    java.util.List<? extends org.mskcc.smile.commons.generated.Igo.Request.SamplesOrBuilder> 
+        getSamplesOrBuilderList();
+    /**
+     * <code>repeated .Request.Samples samples = 19;</code>
+     */
+    org.mskcc.smile.commons.generated.Igo.Request.SamplesOrBuilder getSamplesOrBuilder(
+        int index);
+
+    /**
+     * <code>string strand = 20;</code>
+     * @return The strand.
+     */
+    java.lang.String getStrand();
+    /**
+     * <code>string strand = 20;</code>
+     * @return The bytes for strand.
+     */
+    com.google.protobuf.ByteString
+        getStrandBytes();
+  }
+  /**
+   * Protobuf type {@code Request}
+   */
+  public static final class Request extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:Request)
+      RequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 29,
+        /* patch= */ 3,
+        /* suffix= */ "",
+        Request.class.getName());
+    }
+    // Use Request.newBuilder() to construct.
+    private Request(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private Request() {
+      dataAccessEmails_ = "";
+      dataAnalystEmail_ = "";
+      dataAnalystName_ = "";
+      investigatorEmail_ = "";
+      investigatorName_ = "";
+      labHeadEmail_ = "";
+      labHeadName_ = "";
+      libraryType_ = "";
+      otherContactEmails_ = "";
+      piEmail_ = "";
+      pooledNormals_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      projectManagerName_ = "";
+      qcAccessEmails_ = "";
+      recipe_ = "";
+      requestId_ = "";
+      samples_ = java.util.Collections.emptyList();
+      strand_ = "";
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.mskcc.smile.commons.generated.Igo.internal_static_Request_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.mskcc.smile.commons.generated.Igo.internal_static_Request_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.mskcc.smile.commons.generated.Igo.Request.class, org.mskcc.smile.commons.generated.Igo.Request.Builder.class);
+    }
+
+    public interface SamplesOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:Request.Samples)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>bool igoComplete = 1;</code>
+       * @return The igoComplete.
+       */
+      boolean getIgoComplete();
+
+      /**
+       * <code>string igoSampleId = 2;</code>
+       * @return The igoSampleId.
+       */
+      java.lang.String getIgoSampleId();
+      /**
+       * <code>string igoSampleId = 2;</code>
+       * @return The bytes for igoSampleId.
+       */
+      com.google.protobuf.ByteString
+          getIgoSampleIdBytes();
+
+      /**
+       * <code>string investigatorSampleId = 3;</code>
+       * @return The investigatorSampleId.
+       */
+      java.lang.String getInvestigatorSampleId();
+      /**
+       * <code>string investigatorSampleId = 3;</code>
+       * @return The bytes for investigatorSampleId.
+       */
+      com.google.protobuf.ByteString
+          getInvestigatorSampleIdBytes();
+    }
+    /**
+     * Protobuf type {@code Request.Samples}
+     */
+    public static final class Samples extends
+        com.google.protobuf.GeneratedMessage implements
+        // @@protoc_insertion_point(message_implements:Request.Samples)
+        SamplesOrBuilder {
+    private static final long serialVersionUID = 0L;
+      static {
+        com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+          /* major= */ 4,
+          /* minor= */ 29,
+          /* patch= */ 3,
+          /* suffix= */ "",
+          Samples.class.getName());
+      }
+      // Use Samples.newBuilder() to construct.
+      private Samples(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+      }
+      private Samples() {
+        igoSampleId_ = "";
+        investigatorSampleId_ = "";
+      }
+
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.mskcc.smile.commons.generated.Igo.internal_static_Request_Samples_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.mskcc.smile.commons.generated.Igo.internal_static_Request_Samples_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.mskcc.smile.commons.generated.Igo.Request.Samples.class, org.mskcc.smile.commons.generated.Igo.Request.Samples.Builder.class);
+      }
+
+      public static final int IGOCOMPLETE_FIELD_NUMBER = 1;
+      private boolean igoComplete_ = false;
+      /**
+       * <code>bool igoComplete = 1;</code>
+       * @return The igoComplete.
+       */
+      @java.lang.Override
+      public boolean getIgoComplete() {
+        return igoComplete_;
+      }
+
+      public static final int IGOSAMPLEID_FIELD_NUMBER = 2;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object igoSampleId_ = "";
+      /**
+       * <code>string igoSampleId = 2;</code>
+       * @return The igoSampleId.
+       */
+      @java.lang.Override
+      public java.lang.String getIgoSampleId() {
+        java.lang.Object ref = igoSampleId_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          igoSampleId_ = s;
+          return s;
+        }
+      }
+      /**
+       * <code>string igoSampleId = 2;</code>
+       * @return The bytes for igoSampleId.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getIgoSampleIdBytes() {
+        java.lang.Object ref = igoSampleId_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          igoSampleId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int INVESTIGATORSAMPLEID_FIELD_NUMBER = 3;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object investigatorSampleId_ = "";
+      /**
+       * <code>string investigatorSampleId = 3;</code>
+       * @return The investigatorSampleId.
+       */
+      @java.lang.Override
+      public java.lang.String getInvestigatorSampleId() {
+        java.lang.Object ref = investigatorSampleId_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          investigatorSampleId_ = s;
+          return s;
+        }
+      }
+      /**
+       * <code>string investigatorSampleId = 3;</code>
+       * @return The bytes for investigatorSampleId.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getInvestigatorSampleIdBytes() {
+        java.lang.Object ref = investigatorSampleId_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          investigatorSampleId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      private byte memoizedIsInitialized = -1;
+      @java.lang.Override
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      @java.lang.Override
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        if (igoComplete_ != false) {
+          output.writeBool(1, igoComplete_);
+        }
+        if (!com.google.protobuf.GeneratedMessage.isStringEmpty(igoSampleId_)) {
+          com.google.protobuf.GeneratedMessage.writeString(output, 2, igoSampleId_);
+        }
+        if (!com.google.protobuf.GeneratedMessage.isStringEmpty(investigatorSampleId_)) {
+          com.google.protobuf.GeneratedMessage.writeString(output, 3, investigatorSampleId_);
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      @java.lang.Override
+      public int getSerializedSize() {
+        int size = memoizedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (igoComplete_ != false) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBoolSize(1, igoComplete_);
+        }
+        if (!com.google.protobuf.GeneratedMessage.isStringEmpty(igoSampleId_)) {
+          size += com.google.protobuf.GeneratedMessage.computeStringSize(2, igoSampleId_);
+        }
+        if (!com.google.protobuf.GeneratedMessage.isStringEmpty(investigatorSampleId_)) {
+          size += com.google.protobuf.GeneratedMessage.computeStringSize(3, investigatorSampleId_);
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSize = size;
+        return size;
+      }
+
+      @java.lang.Override
+      public boolean equals(final java.lang.Object obj) {
+        if (obj == this) {
+         return true;
+        }
+        if (!(obj instanceof org.mskcc.smile.commons.generated.Igo.Request.Samples)) {
+          return super.equals(obj);
+        }
+        org.mskcc.smile.commons.generated.Igo.Request.Samples other = (org.mskcc.smile.commons.generated.Igo.Request.Samples) obj;
+
+        if (getIgoComplete()
+            != other.getIgoComplete()) return false;
+        if (!getIgoSampleId()
+            .equals(other.getIgoSampleId())) return false;
+        if (!getInvestigatorSampleId()
+            .equals(other.getInvestigatorSampleId())) return false;
+        if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+        return true;
+      }
+
+      @java.lang.Override
+      public int hashCode() {
+        if (memoizedHashCode != 0) {
+          return memoizedHashCode;
+        }
+        int hash = 41;
+        hash = (19 * hash) + getDescriptor().hashCode();
+        hash = (37 * hash) + IGOCOMPLETE_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getIgoComplete());
+        hash = (37 * hash) + IGOSAMPLEID_FIELD_NUMBER;
+        hash = (53 * hash) + getIgoSampleId().hashCode();
+        hash = (37 * hash) + INVESTIGATORSAMPLEID_FIELD_NUMBER;
+        hash = (53 * hash) + getInvestigatorSampleId().hashCode();
+        hash = (29 * hash) + getUnknownFields().hashCode();
+        memoizedHashCode = hash;
+        return hash;
+      }
+
+      public static org.mskcc.smile.commons.generated.Igo.Request.Samples parseFrom(
+          java.nio.ByteBuffer data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.mskcc.smile.commons.generated.Igo.Request.Samples parseFrom(
+          java.nio.ByteBuffer data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.mskcc.smile.commons.generated.Igo.Request.Samples parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.mskcc.smile.commons.generated.Igo.Request.Samples parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.mskcc.smile.commons.generated.Igo.Request.Samples parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.mskcc.smile.commons.generated.Igo.Request.Samples parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.mskcc.smile.commons.generated.Igo.Request.Samples parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.mskcc.smile.commons.generated.Igo.Request.Samples parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      public static org.mskcc.smile.commons.generated.Igo.Request.Samples parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseDelimitedWithIOException(PARSER, input);
+      }
+
+      public static org.mskcc.smile.commons.generated.Igo.Request.Samples parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static org.mskcc.smile.commons.generated.Igo.Request.Samples parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.mskcc.smile.commons.generated.Igo.Request.Samples parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      @java.lang.Override
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder() {
+        return DEFAULT_INSTANCE.toBuilder();
+      }
+      public static Builder newBuilder(org.mskcc.smile.commons.generated.Igo.Request.Samples prototype) {
+        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+      }
+      @java.lang.Override
+      public Builder toBuilder() {
+        return this == DEFAULT_INSTANCE
+            ? new Builder() : new Builder().mergeFrom(this);
+      }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code Request.Samples}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:Request.Samples)
+          org.mskcc.smile.commons.generated.Igo.Request.SamplesOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.mskcc.smile.commons.generated.Igo.internal_static_Request_Samples_descriptor;
+        }
+
+        @java.lang.Override
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.mskcc.smile.commons.generated.Igo.internal_static_Request_Samples_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.mskcc.smile.commons.generated.Igo.Request.Samples.class, org.mskcc.smile.commons.generated.Igo.Request.Samples.Builder.class);
+        }
+
+        // Construct using org.mskcc.smile.commons.generated.Igo.Request.Samples.newBuilder()
+        private Builder() {
+
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+
+        }
+        @java.lang.Override
+        public Builder clear() {
+          super.clear();
+          bitField0_ = 0;
+          igoComplete_ = false;
+          igoSampleId_ = "";
+          investigatorSampleId_ = "";
+          return this;
+        }
+
+        @java.lang.Override
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.mskcc.smile.commons.generated.Igo.internal_static_Request_Samples_descriptor;
+        }
+
+        @java.lang.Override
+        public org.mskcc.smile.commons.generated.Igo.Request.Samples getDefaultInstanceForType() {
+          return org.mskcc.smile.commons.generated.Igo.Request.Samples.getDefaultInstance();
+        }
+
+        @java.lang.Override
+        public org.mskcc.smile.commons.generated.Igo.Request.Samples build() {
+          org.mskcc.smile.commons.generated.Igo.Request.Samples result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        @java.lang.Override
+        public org.mskcc.smile.commons.generated.Igo.Request.Samples buildPartial() {
+          org.mskcc.smile.commons.generated.Igo.Request.Samples result = new org.mskcc.smile.commons.generated.Igo.Request.Samples(this);
+          if (bitField0_ != 0) { buildPartial0(result); }
+          onBuilt();
+          return result;
+        }
+
+        private void buildPartial0(org.mskcc.smile.commons.generated.Igo.Request.Samples result) {
+          int from_bitField0_ = bitField0_;
+          if (((from_bitField0_ & 0x00000001) != 0)) {
+            result.igoComplete_ = igoComplete_;
+          }
+          if (((from_bitField0_ & 0x00000002) != 0)) {
+            result.igoSampleId_ = igoSampleId_;
+          }
+          if (((from_bitField0_ & 0x00000004) != 0)) {
+            result.investigatorSampleId_ = investigatorSampleId_;
+          }
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.mskcc.smile.commons.generated.Igo.Request.Samples) {
+            return mergeFrom((org.mskcc.smile.commons.generated.Igo.Request.Samples)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.mskcc.smile.commons.generated.Igo.Request.Samples other) {
+          if (other == org.mskcc.smile.commons.generated.Igo.Request.Samples.getDefaultInstance()) return this;
+          if (other.getIgoComplete() != false) {
+            setIgoComplete(other.getIgoComplete());
+          }
+          if (!other.getIgoSampleId().isEmpty()) {
+            igoSampleId_ = other.igoSampleId_;
+            bitField0_ |= 0x00000002;
+            onChanged();
+          }
+          if (!other.getInvestigatorSampleId().isEmpty()) {
+            investigatorSampleId_ = other.investigatorSampleId_;
+            bitField0_ |= 0x00000004;
+            onChanged();
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          onChanged();
+          return this;
+        }
+
+        @java.lang.Override
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          if (extensionRegistry == null) {
+            throw new java.lang.NullPointerException();
+          }
+          try {
+            boolean done = false;
+            while (!done) {
+              int tag = input.readTag();
+              switch (tag) {
+                case 0:
+                  done = true;
+                  break;
+                case 8: {
+                  igoComplete_ = input.readBool();
+                  bitField0_ |= 0x00000001;
+                  break;
+                } // case 8
+                case 18: {
+                  igoSampleId_ = input.readStringRequireUtf8();
+                  bitField0_ |= 0x00000002;
+                  break;
+                } // case 18
+                case 26: {
+                  investigatorSampleId_ = input.readStringRequireUtf8();
+                  bitField0_ |= 0x00000004;
+                  break;
+                } // case 26
+                default: {
+                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                    done = true; // was an endgroup tag
+                  }
+                  break;
+                } // default:
+              } // switch (tag)
+            } // while (!done)
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.unwrapIOException();
+          } finally {
+            onChanged();
+          } // finally
+          return this;
+        }
+        private int bitField0_;
+
+        private boolean igoComplete_ ;
+        /**
+         * <code>bool igoComplete = 1;</code>
+         * @return The igoComplete.
+         */
+        @java.lang.Override
+        public boolean getIgoComplete() {
+          return igoComplete_;
+        }
+        /**
+         * <code>bool igoComplete = 1;</code>
+         * @param value The igoComplete to set.
+         * @return This builder for chaining.
+         */
+        public Builder setIgoComplete(boolean value) {
+
+          igoComplete_ = value;
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>bool igoComplete = 1;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearIgoComplete() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          igoComplete_ = false;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object igoSampleId_ = "";
+        /**
+         * <code>string igoSampleId = 2;</code>
+         * @return The igoSampleId.
+         */
+        public java.lang.String getIgoSampleId() {
+          java.lang.Object ref = igoSampleId_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            igoSampleId_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>string igoSampleId = 2;</code>
+         * @return The bytes for igoSampleId.
+         */
+        public com.google.protobuf.ByteString
+            getIgoSampleIdBytes() {
+          java.lang.Object ref = igoSampleId_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            igoSampleId_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>string igoSampleId = 2;</code>
+         * @param value The igoSampleId to set.
+         * @return This builder for chaining.
+         */
+        public Builder setIgoSampleId(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          igoSampleId_ = value;
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string igoSampleId = 2;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearIgoSampleId() {
+          igoSampleId_ = getDefaultInstance().getIgoSampleId();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string igoSampleId = 2;</code>
+         * @param value The bytes for igoSampleId to set.
+         * @return This builder for chaining.
+         */
+        public Builder setIgoSampleIdBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          igoSampleId_ = value;
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object investigatorSampleId_ = "";
+        /**
+         * <code>string investigatorSampleId = 3;</code>
+         * @return The investigatorSampleId.
+         */
+        public java.lang.String getInvestigatorSampleId() {
+          java.lang.Object ref = investigatorSampleId_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            investigatorSampleId_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>string investigatorSampleId = 3;</code>
+         * @return The bytes for investigatorSampleId.
+         */
+        public com.google.protobuf.ByteString
+            getInvestigatorSampleIdBytes() {
+          java.lang.Object ref = investigatorSampleId_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            investigatorSampleId_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>string investigatorSampleId = 3;</code>
+         * @param value The investigatorSampleId to set.
+         * @return This builder for chaining.
+         */
+        public Builder setInvestigatorSampleId(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          investigatorSampleId_ = value;
+          bitField0_ |= 0x00000004;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string investigatorSampleId = 3;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearInvestigatorSampleId() {
+          investigatorSampleId_ = getDefaultInstance().getInvestigatorSampleId();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string investigatorSampleId = 3;</code>
+         * @param value The bytes for investigatorSampleId to set.
+         * @return This builder for chaining.
+         */
+        public Builder setInvestigatorSampleIdBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          investigatorSampleId_ = value;
+          bitField0_ |= 0x00000004;
+          onChanged();
+          return this;
+        }
+
+        // @@protoc_insertion_point(builder_scope:Request.Samples)
+      }
+
+      // @@protoc_insertion_point(class_scope:Request.Samples)
+      private static final org.mskcc.smile.commons.generated.Igo.Request.Samples DEFAULT_INSTANCE;
+      static {
+        DEFAULT_INSTANCE = new org.mskcc.smile.commons.generated.Igo.Request.Samples();
+      }
+
+      public static org.mskcc.smile.commons.generated.Igo.Request.Samples getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+      }
+
+      private static final com.google.protobuf.Parser<Samples>
+          PARSER = new com.google.protobuf.AbstractParser<Samples>() {
+        @java.lang.Override
+        public Samples parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          Builder builder = newBuilder();
+          try {
+            builder.mergeFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.setUnfinishedMessage(builder.buildPartial());
+          } catch (com.google.protobuf.UninitializedMessageException e) {
+            throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+          } catch (java.io.IOException e) {
+            throw new com.google.protobuf.InvalidProtocolBufferException(e)
+                .setUnfinishedMessage(builder.buildPartial());
+          }
+          return builder.buildPartial();
+        }
+      };
+
+      public static com.google.protobuf.Parser<Samples> parser() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<Samples> getParserForType() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public org.mskcc.smile.commons.generated.Igo.Request.Samples getDefaultInstanceForType() {
+        return DEFAULT_INSTANCE;
+      }
+
+    }
+
+    public static final int BICANALYSIS_FIELD_NUMBER = 1;
+    private boolean bicAnalysis_ = false;
+    /**
+     * <code>bool bicAnalysis = 1;</code>
+     * @return The bicAnalysis.
+     */
+    @java.lang.Override
+    public boolean getBicAnalysis() {
+      return bicAnalysis_;
+    }
+
+    public static final int DATAACCESSEMAILS_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object dataAccessEmails_ = "";
+    /**
+     * <code>string dataAccessEmails = 2;</code>
+     * @return The dataAccessEmails.
+     */
+    @java.lang.Override
+    public java.lang.String getDataAccessEmails() {
+      java.lang.Object ref = dataAccessEmails_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        dataAccessEmails_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string dataAccessEmails = 2;</code>
+     * @return The bytes for dataAccessEmails.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDataAccessEmailsBytes() {
+      java.lang.Object ref = dataAccessEmails_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        dataAccessEmails_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DATAANALYSTEMAIL_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object dataAnalystEmail_ = "";
+    /**
+     * <code>string dataAnalystEmail = 3;</code>
+     * @return The dataAnalystEmail.
+     */
+    @java.lang.Override
+    public java.lang.String getDataAnalystEmail() {
+      java.lang.Object ref = dataAnalystEmail_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        dataAnalystEmail_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string dataAnalystEmail = 3;</code>
+     * @return The bytes for dataAnalystEmail.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDataAnalystEmailBytes() {
+      java.lang.Object ref = dataAnalystEmail_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        dataAnalystEmail_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DATAANALYSTNAME_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object dataAnalystName_ = "";
+    /**
+     * <code>string dataAnalystName = 4;</code>
+     * @return The dataAnalystName.
+     */
+    @java.lang.Override
+    public java.lang.String getDataAnalystName() {
+      java.lang.Object ref = dataAnalystName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        dataAnalystName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string dataAnalystName = 4;</code>
+     * @return The bytes for dataAnalystName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDataAnalystNameBytes() {
+      java.lang.Object ref = dataAnalystName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        dataAnalystName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DELIVERYDATE_FIELD_NUMBER = 5;
+    private long deliveryDate_ = 0L;
+    /**
+     * <code>int64 deliveryDate = 5;</code>
+     * @return The deliveryDate.
+     */
+    @java.lang.Override
+    public long getDeliveryDate() {
+      return deliveryDate_;
+    }
+
+    public static final int INVESTIGATOREMAIL_FIELD_NUMBER = 6;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object investigatorEmail_ = "";
+    /**
+     * <code>string investigatorEmail = 6;</code>
+     * @return The investigatorEmail.
+     */
+    @java.lang.Override
+    public java.lang.String getInvestigatorEmail() {
+      java.lang.Object ref = investigatorEmail_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        investigatorEmail_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string investigatorEmail = 6;</code>
+     * @return The bytes for investigatorEmail.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getInvestigatorEmailBytes() {
+      java.lang.Object ref = investigatorEmail_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        investigatorEmail_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int INVESTIGATORNAME_FIELD_NUMBER = 7;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object investigatorName_ = "";
+    /**
+     * <code>string investigatorName = 7;</code>
+     * @return The investigatorName.
+     */
+    @java.lang.Override
+    public java.lang.String getInvestigatorName() {
+      java.lang.Object ref = investigatorName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        investigatorName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string investigatorName = 7;</code>
+     * @return The bytes for investigatorName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getInvestigatorNameBytes() {
+      java.lang.Object ref = investigatorName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        investigatorName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ISCMOREQUEST_FIELD_NUMBER = 8;
+    private boolean isCmoRequest_ = false;
+    /**
+     * <code>bool isCmoRequest = 8;</code>
+     * @return The isCmoRequest.
+     */
+    @java.lang.Override
+    public boolean getIsCmoRequest() {
+      return isCmoRequest_;
+    }
+
+    public static final int LABHEADEMAIL_FIELD_NUMBER = 9;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object labHeadEmail_ = "";
+    /**
+     * <code>string labHeadEmail = 9;</code>
+     * @return The labHeadEmail.
+     */
+    @java.lang.Override
+    public java.lang.String getLabHeadEmail() {
+      java.lang.Object ref = labHeadEmail_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        labHeadEmail_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string labHeadEmail = 9;</code>
+     * @return The bytes for labHeadEmail.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getLabHeadEmailBytes() {
+      java.lang.Object ref = labHeadEmail_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        labHeadEmail_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int LABHEADNAME_FIELD_NUMBER = 10;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object labHeadName_ = "";
+    /**
+     * <code>string labHeadName = 10;</code>
+     * @return The labHeadName.
+     */
+    @java.lang.Override
+    public java.lang.String getLabHeadName() {
+      java.lang.Object ref = labHeadName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        labHeadName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string labHeadName = 10;</code>
+     * @return The bytes for labHeadName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getLabHeadNameBytes() {
+      java.lang.Object ref = labHeadName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        labHeadName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int LIBRARYTYPE_FIELD_NUMBER = 11;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object libraryType_ = "";
+    /**
+     * <code>string libraryType = 11;</code>
+     * @return The libraryType.
+     */
+    @java.lang.Override
+    public java.lang.String getLibraryType() {
+      java.lang.Object ref = libraryType_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        libraryType_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string libraryType = 11;</code>
+     * @return The bytes for libraryType.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getLibraryTypeBytes() {
+      java.lang.Object ref = libraryType_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        libraryType_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int OTHERCONTACTEMAILS_FIELD_NUMBER = 12;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object otherContactEmails_ = "";
+    /**
+     * <code>string otherContactEmails = 12;</code>
+     * @return The otherContactEmails.
+     */
+    @java.lang.Override
+    public java.lang.String getOtherContactEmails() {
+      java.lang.Object ref = otherContactEmails_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        otherContactEmails_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string otherContactEmails = 12;</code>
+     * @return The bytes for otherContactEmails.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getOtherContactEmailsBytes() {
+      java.lang.Object ref = otherContactEmails_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        otherContactEmails_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PIEMAIL_FIELD_NUMBER = 13;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object piEmail_ = "";
+    /**
+     * <code>string piEmail = 13;</code>
+     * @return The piEmail.
+     */
+    @java.lang.Override
+    public java.lang.String getPiEmail() {
+      java.lang.Object ref = piEmail_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        piEmail_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string piEmail = 13;</code>
+     * @return The bytes for piEmail.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getPiEmailBytes() {
+      java.lang.Object ref = piEmail_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        piEmail_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int POOLEDNORMALS_FIELD_NUMBER = 14;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList pooledNormals_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <code>repeated string pooledNormals = 14;</code>
+     * @return A list containing the pooledNormals.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getPooledNormalsList() {
+      return pooledNormals_;
+    }
+    /**
+     * <code>repeated string pooledNormals = 14;</code>
+     * @return The count of pooledNormals.
+     */
+    public int getPooledNormalsCount() {
+      return pooledNormals_.size();
+    }
+    /**
+     * <code>repeated string pooledNormals = 14;</code>
+     * @param index The index of the element to return.
+     * @return The pooledNormals at the given index.
+     */
+    public java.lang.String getPooledNormals(int index) {
+      return pooledNormals_.get(index);
+    }
+    /**
+     * <code>repeated string pooledNormals = 14;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the pooledNormals at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getPooledNormalsBytes(int index) {
+      return pooledNormals_.getByteString(index);
+    }
+
+    public static final int PROJECTMANAGERNAME_FIELD_NUMBER = 15;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object projectManagerName_ = "";
+    /**
+     * <code>string projectManagerName = 15;</code>
+     * @return The projectManagerName.
+     */
+    @java.lang.Override
+    public java.lang.String getProjectManagerName() {
+      java.lang.Object ref = projectManagerName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        projectManagerName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string projectManagerName = 15;</code>
+     * @return The bytes for projectManagerName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getProjectManagerNameBytes() {
+      java.lang.Object ref = projectManagerName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        projectManagerName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int QCACCESSEMAILS_FIELD_NUMBER = 16;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object qcAccessEmails_ = "";
+    /**
+     * <code>string qcAccessEmails = 16;</code>
+     * @return The qcAccessEmails.
+     */
+    @java.lang.Override
+    public java.lang.String getQcAccessEmails() {
+      java.lang.Object ref = qcAccessEmails_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        qcAccessEmails_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string qcAccessEmails = 16;</code>
+     * @return The bytes for qcAccessEmails.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getQcAccessEmailsBytes() {
+      java.lang.Object ref = qcAccessEmails_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        qcAccessEmails_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int RECIPE_FIELD_NUMBER = 17;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object recipe_ = "";
+    /**
+     * <code>string recipe = 17;</code>
+     * @return The recipe.
+     */
+    @java.lang.Override
+    public java.lang.String getRecipe() {
+      java.lang.Object ref = recipe_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        recipe_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string recipe = 17;</code>
+     * @return The bytes for recipe.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getRecipeBytes() {
+      java.lang.Object ref = recipe_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        recipe_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int REQUESTID_FIELD_NUMBER = 18;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object requestId_ = "";
+    /**
+     * <code>string requestId = 18;</code>
+     * @return The requestId.
+     */
+    @java.lang.Override
+    public java.lang.String getRequestId() {
+      java.lang.Object ref = requestId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        requestId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string requestId = 18;</code>
+     * @return The bytes for requestId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getRequestIdBytes() {
+      java.lang.Object ref = requestId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        requestId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SAMPLES_FIELD_NUMBER = 19;
+    @SuppressWarnings("serial")
+    private java.util.List<org.mskcc.smile.commons.generated.Igo.Request.Samples> samples_;
+    /**
+     * <code>repeated .Request.Samples samples = 19;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.mskcc.smile.commons.generated.Igo.Request.Samples> getSamplesList() {
+      return samples_;
+    }
+    /**
+     * <code>repeated .Request.Samples samples = 19;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.mskcc.smile.commons.generated.Igo.Request.SamplesOrBuilder> 
+        getSamplesOrBuilderList() {
+      return samples_;
+    }
+    /**
+     * <code>repeated .Request.Samples samples = 19;</code>
+     */
+    @java.lang.Override
+    public int getSamplesCount() {
+      return samples_.size();
+    }
+    /**
+     * <code>repeated .Request.Samples samples = 19;</code>
+     */
+    @java.lang.Override
+    public org.mskcc.smile.commons.generated.Igo.Request.Samples getSamples(int index) {
+      return samples_.get(index);
+    }
+    /**
+     * <code>repeated .Request.Samples samples = 19;</code>
+     */
+    @java.lang.Override
+    public org.mskcc.smile.commons.generated.Igo.Request.SamplesOrBuilder getSamplesOrBuilder(
+        int index) {
+      return samples_.get(index);
+    }
+
+    public static final int STRAND_FIELD_NUMBER = 20;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object strand_ = "";
+    /**
+     * <code>string strand = 20;</code>
+     * @return The strand.
+     */
+    @java.lang.Override
+    public java.lang.String getStrand() {
+      java.lang.Object ref = strand_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        strand_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string strand = 20;</code>
+     * @return The bytes for strand.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getStrandBytes() {
+      java.lang.Object ref = strand_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        strand_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (bicAnalysis_ != false) {
+        output.writeBool(1, bicAnalysis_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(dataAccessEmails_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 2, dataAccessEmails_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(dataAnalystEmail_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 3, dataAnalystEmail_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(dataAnalystName_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 4, dataAnalystName_);
+      }
+      if (deliveryDate_ != 0L) {
+        output.writeInt64(5, deliveryDate_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(investigatorEmail_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 6, investigatorEmail_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(investigatorName_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 7, investigatorName_);
+      }
+      if (isCmoRequest_ != false) {
+        output.writeBool(8, isCmoRequest_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(labHeadEmail_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 9, labHeadEmail_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(labHeadName_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 10, labHeadName_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(libraryType_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 11, libraryType_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(otherContactEmails_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 12, otherContactEmails_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(piEmail_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 13, piEmail_);
+      }
+      for (int i = 0; i < pooledNormals_.size(); i++) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 14, pooledNormals_.getRaw(i));
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(projectManagerName_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 15, projectManagerName_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(qcAccessEmails_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 16, qcAccessEmails_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(recipe_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 17, recipe_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(requestId_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 18, requestId_);
+      }
+      for (int i = 0; i < samples_.size(); i++) {
+        output.writeMessage(19, samples_.get(i));
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(strand_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 20, strand_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (bicAnalysis_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(1, bicAnalysis_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(dataAccessEmails_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(2, dataAccessEmails_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(dataAnalystEmail_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(3, dataAnalystEmail_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(dataAnalystName_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(4, dataAnalystName_);
+      }
+      if (deliveryDate_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(5, deliveryDate_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(investigatorEmail_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(6, investigatorEmail_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(investigatorName_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(7, investigatorName_);
+      }
+      if (isCmoRequest_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(8, isCmoRequest_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(labHeadEmail_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(9, labHeadEmail_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(labHeadName_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(10, labHeadName_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(libraryType_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(11, libraryType_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(otherContactEmails_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(12, otherContactEmails_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(piEmail_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(13, piEmail_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < pooledNormals_.size(); i++) {
+          dataSize += computeStringSizeNoTag(pooledNormals_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getPooledNormalsList().size();
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(projectManagerName_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(15, projectManagerName_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(qcAccessEmails_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(16, qcAccessEmails_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(recipe_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(17, recipe_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(requestId_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(18, requestId_);
+      }
+      for (int i = 0; i < samples_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(19, samples_.get(i));
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(strand_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(20, strand_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.mskcc.smile.commons.generated.Igo.Request)) {
+        return super.equals(obj);
+      }
+      org.mskcc.smile.commons.generated.Igo.Request other = (org.mskcc.smile.commons.generated.Igo.Request) obj;
+
+      if (getBicAnalysis()
+          != other.getBicAnalysis()) return false;
+      if (!getDataAccessEmails()
+          .equals(other.getDataAccessEmails())) return false;
+      if (!getDataAnalystEmail()
+          .equals(other.getDataAnalystEmail())) return false;
+      if (!getDataAnalystName()
+          .equals(other.getDataAnalystName())) return false;
+      if (getDeliveryDate()
+          != other.getDeliveryDate()) return false;
+      if (!getInvestigatorEmail()
+          .equals(other.getInvestigatorEmail())) return false;
+      if (!getInvestigatorName()
+          .equals(other.getInvestigatorName())) return false;
+      if (getIsCmoRequest()
+          != other.getIsCmoRequest()) return false;
+      if (!getLabHeadEmail()
+          .equals(other.getLabHeadEmail())) return false;
+      if (!getLabHeadName()
+          .equals(other.getLabHeadName())) return false;
+      if (!getLibraryType()
+          .equals(other.getLibraryType())) return false;
+      if (!getOtherContactEmails()
+          .equals(other.getOtherContactEmails())) return false;
+      if (!getPiEmail()
+          .equals(other.getPiEmail())) return false;
+      if (!getPooledNormalsList()
+          .equals(other.getPooledNormalsList())) return false;
+      if (!getProjectManagerName()
+          .equals(other.getProjectManagerName())) return false;
+      if (!getQcAccessEmails()
+          .equals(other.getQcAccessEmails())) return false;
+      if (!getRecipe()
+          .equals(other.getRecipe())) return false;
+      if (!getRequestId()
+          .equals(other.getRequestId())) return false;
+      if (!getSamplesList()
+          .equals(other.getSamplesList())) return false;
+      if (!getStrand()
+          .equals(other.getStrand())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + BICANALYSIS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getBicAnalysis());
+      hash = (37 * hash) + DATAACCESSEMAILS_FIELD_NUMBER;
+      hash = (53 * hash) + getDataAccessEmails().hashCode();
+      hash = (37 * hash) + DATAANALYSTEMAIL_FIELD_NUMBER;
+      hash = (53 * hash) + getDataAnalystEmail().hashCode();
+      hash = (37 * hash) + DATAANALYSTNAME_FIELD_NUMBER;
+      hash = (53 * hash) + getDataAnalystName().hashCode();
+      hash = (37 * hash) + DELIVERYDATE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getDeliveryDate());
+      hash = (37 * hash) + INVESTIGATOREMAIL_FIELD_NUMBER;
+      hash = (53 * hash) + getInvestigatorEmail().hashCode();
+      hash = (37 * hash) + INVESTIGATORNAME_FIELD_NUMBER;
+      hash = (53 * hash) + getInvestigatorName().hashCode();
+      hash = (37 * hash) + ISCMOREQUEST_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getIsCmoRequest());
+      hash = (37 * hash) + LABHEADEMAIL_FIELD_NUMBER;
+      hash = (53 * hash) + getLabHeadEmail().hashCode();
+      hash = (37 * hash) + LABHEADNAME_FIELD_NUMBER;
+      hash = (53 * hash) + getLabHeadName().hashCode();
+      hash = (37 * hash) + LIBRARYTYPE_FIELD_NUMBER;
+      hash = (53 * hash) + getLibraryType().hashCode();
+      hash = (37 * hash) + OTHERCONTACTEMAILS_FIELD_NUMBER;
+      hash = (53 * hash) + getOtherContactEmails().hashCode();
+      hash = (37 * hash) + PIEMAIL_FIELD_NUMBER;
+      hash = (53 * hash) + getPiEmail().hashCode();
+      if (getPooledNormalsCount() > 0) {
+        hash = (37 * hash) + POOLEDNORMALS_FIELD_NUMBER;
+        hash = (53 * hash) + getPooledNormalsList().hashCode();
+      }
+      hash = (37 * hash) + PROJECTMANAGERNAME_FIELD_NUMBER;
+      hash = (53 * hash) + getProjectManagerName().hashCode();
+      hash = (37 * hash) + QCACCESSEMAILS_FIELD_NUMBER;
+      hash = (53 * hash) + getQcAccessEmails().hashCode();
+      hash = (37 * hash) + RECIPE_FIELD_NUMBER;
+      hash = (53 * hash) + getRecipe().hashCode();
+      hash = (37 * hash) + REQUESTID_FIELD_NUMBER;
+      hash = (53 * hash) + getRequestId().hashCode();
+      if (getSamplesCount() > 0) {
+        hash = (37 * hash) + SAMPLES_FIELD_NUMBER;
+        hash = (53 * hash) + getSamplesList().hashCode();
+      }
+      hash = (37 * hash) + STRAND_FIELD_NUMBER;
+      hash = (53 * hash) + getStrand().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.mskcc.smile.commons.generated.Igo.Request parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.mskcc.smile.commons.generated.Igo.Request parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.mskcc.smile.commons.generated.Igo.Request parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.mskcc.smile.commons.generated.Igo.Request parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.mskcc.smile.commons.generated.Igo.Request parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.mskcc.smile.commons.generated.Igo.Request parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.mskcc.smile.commons.generated.Igo.Request parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.mskcc.smile.commons.generated.Igo.Request parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.mskcc.smile.commons.generated.Igo.Request parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.mskcc.smile.commons.generated.Igo.Request parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.mskcc.smile.commons.generated.Igo.Request parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.mskcc.smile.commons.generated.Igo.Request parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.mskcc.smile.commons.generated.Igo.Request prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code Request}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:Request)
+        org.mskcc.smile.commons.generated.Igo.RequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.mskcc.smile.commons.generated.Igo.internal_static_Request_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.mskcc.smile.commons.generated.Igo.internal_static_Request_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.mskcc.smile.commons.generated.Igo.Request.class, org.mskcc.smile.commons.generated.Igo.Request.Builder.class);
+      }
+
+      // Construct using org.mskcc.smile.commons.generated.Igo.Request.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        bicAnalysis_ = false;
+        dataAccessEmails_ = "";
+        dataAnalystEmail_ = "";
+        dataAnalystName_ = "";
+        deliveryDate_ = 0L;
+        investigatorEmail_ = "";
+        investigatorName_ = "";
+        isCmoRequest_ = false;
+        labHeadEmail_ = "";
+        labHeadName_ = "";
+        libraryType_ = "";
+        otherContactEmails_ = "";
+        piEmail_ = "";
+        pooledNormals_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        projectManagerName_ = "";
+        qcAccessEmails_ = "";
+        recipe_ = "";
+        requestId_ = "";
+        if (samplesBuilder_ == null) {
+          samples_ = java.util.Collections.emptyList();
+        } else {
+          samples_ = null;
+          samplesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00040000);
+        strand_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.mskcc.smile.commons.generated.Igo.internal_static_Request_descriptor;
+      }
+
+      @java.lang.Override
+      public org.mskcc.smile.commons.generated.Igo.Request getDefaultInstanceForType() {
+        return org.mskcc.smile.commons.generated.Igo.Request.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.mskcc.smile.commons.generated.Igo.Request build() {
+        org.mskcc.smile.commons.generated.Igo.Request result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.mskcc.smile.commons.generated.Igo.Request buildPartial() {
+        org.mskcc.smile.commons.generated.Igo.Request result = new org.mskcc.smile.commons.generated.Igo.Request(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.mskcc.smile.commons.generated.Igo.Request result) {
+        if (samplesBuilder_ == null) {
+          if (((bitField0_ & 0x00040000) != 0)) {
+            samples_ = java.util.Collections.unmodifiableList(samples_);
+            bitField0_ = (bitField0_ & ~0x00040000);
+          }
+          result.samples_ = samples_;
+        } else {
+          result.samples_ = samplesBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.mskcc.smile.commons.generated.Igo.Request result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.bicAnalysis_ = bicAnalysis_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.dataAccessEmails_ = dataAccessEmails_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.dataAnalystEmail_ = dataAnalystEmail_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.dataAnalystName_ = dataAnalystName_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.deliveryDate_ = deliveryDate_;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.investigatorEmail_ = investigatorEmail_;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.investigatorName_ = investigatorName_;
+        }
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          result.isCmoRequest_ = isCmoRequest_;
+        }
+        if (((from_bitField0_ & 0x00000100) != 0)) {
+          result.labHeadEmail_ = labHeadEmail_;
+        }
+        if (((from_bitField0_ & 0x00000200) != 0)) {
+          result.labHeadName_ = labHeadName_;
+        }
+        if (((from_bitField0_ & 0x00000400) != 0)) {
+          result.libraryType_ = libraryType_;
+        }
+        if (((from_bitField0_ & 0x00000800) != 0)) {
+          result.otherContactEmails_ = otherContactEmails_;
+        }
+        if (((from_bitField0_ & 0x00001000) != 0)) {
+          result.piEmail_ = piEmail_;
+        }
+        if (((from_bitField0_ & 0x00002000) != 0)) {
+          pooledNormals_.makeImmutable();
+          result.pooledNormals_ = pooledNormals_;
+        }
+        if (((from_bitField0_ & 0x00004000) != 0)) {
+          result.projectManagerName_ = projectManagerName_;
+        }
+        if (((from_bitField0_ & 0x00008000) != 0)) {
+          result.qcAccessEmails_ = qcAccessEmails_;
+        }
+        if (((from_bitField0_ & 0x00010000) != 0)) {
+          result.recipe_ = recipe_;
+        }
+        if (((from_bitField0_ & 0x00020000) != 0)) {
+          result.requestId_ = requestId_;
+        }
+        if (((from_bitField0_ & 0x00080000) != 0)) {
+          result.strand_ = strand_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.mskcc.smile.commons.generated.Igo.Request) {
+          return mergeFrom((org.mskcc.smile.commons.generated.Igo.Request)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.mskcc.smile.commons.generated.Igo.Request other) {
+        if (other == org.mskcc.smile.commons.generated.Igo.Request.getDefaultInstance()) return this;
+        if (other.getBicAnalysis() != false) {
+          setBicAnalysis(other.getBicAnalysis());
+        }
+        if (!other.getDataAccessEmails().isEmpty()) {
+          dataAccessEmails_ = other.dataAccessEmails_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (!other.getDataAnalystEmail().isEmpty()) {
+          dataAnalystEmail_ = other.dataAnalystEmail_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (!other.getDataAnalystName().isEmpty()) {
+          dataAnalystName_ = other.dataAnalystName_;
+          bitField0_ |= 0x00000008;
+          onChanged();
+        }
+        if (other.getDeliveryDate() != 0L) {
+          setDeliveryDate(other.getDeliveryDate());
+        }
+        if (!other.getInvestigatorEmail().isEmpty()) {
+          investigatorEmail_ = other.investigatorEmail_;
+          bitField0_ |= 0x00000020;
+          onChanged();
+        }
+        if (!other.getInvestigatorName().isEmpty()) {
+          investigatorName_ = other.investigatorName_;
+          bitField0_ |= 0x00000040;
+          onChanged();
+        }
+        if (other.getIsCmoRequest() != false) {
+          setIsCmoRequest(other.getIsCmoRequest());
+        }
+        if (!other.getLabHeadEmail().isEmpty()) {
+          labHeadEmail_ = other.labHeadEmail_;
+          bitField0_ |= 0x00000100;
+          onChanged();
+        }
+        if (!other.getLabHeadName().isEmpty()) {
+          labHeadName_ = other.labHeadName_;
+          bitField0_ |= 0x00000200;
+          onChanged();
+        }
+        if (!other.getLibraryType().isEmpty()) {
+          libraryType_ = other.libraryType_;
+          bitField0_ |= 0x00000400;
+          onChanged();
+        }
+        if (!other.getOtherContactEmails().isEmpty()) {
+          otherContactEmails_ = other.otherContactEmails_;
+          bitField0_ |= 0x00000800;
+          onChanged();
+        }
+        if (!other.getPiEmail().isEmpty()) {
+          piEmail_ = other.piEmail_;
+          bitField0_ |= 0x00001000;
+          onChanged();
+        }
+        if (!other.pooledNormals_.isEmpty()) {
+          if (pooledNormals_.isEmpty()) {
+            pooledNormals_ = other.pooledNormals_;
+            bitField0_ |= 0x00002000;
+          } else {
+            ensurePooledNormalsIsMutable();
+            pooledNormals_.addAll(other.pooledNormals_);
+          }
+          onChanged();
+        }
+        if (!other.getProjectManagerName().isEmpty()) {
+          projectManagerName_ = other.projectManagerName_;
+          bitField0_ |= 0x00004000;
+          onChanged();
+        }
+        if (!other.getQcAccessEmails().isEmpty()) {
+          qcAccessEmails_ = other.qcAccessEmails_;
+          bitField0_ |= 0x00008000;
+          onChanged();
+        }
+        if (!other.getRecipe().isEmpty()) {
+          recipe_ = other.recipe_;
+          bitField0_ |= 0x00010000;
+          onChanged();
+        }
+        if (!other.getRequestId().isEmpty()) {
+          requestId_ = other.requestId_;
+          bitField0_ |= 0x00020000;
+          onChanged();
+        }
+        if (samplesBuilder_ == null) {
+          if (!other.samples_.isEmpty()) {
+            if (samples_.isEmpty()) {
+              samples_ = other.samples_;
+              bitField0_ = (bitField0_ & ~0x00040000);
+            } else {
+              ensureSamplesIsMutable();
+              samples_.addAll(other.samples_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.samples_.isEmpty()) {
+            if (samplesBuilder_.isEmpty()) {
+              samplesBuilder_.dispose();
+              samplesBuilder_ = null;
+              samples_ = other.samples_;
+              bitField0_ = (bitField0_ & ~0x00040000);
+              samplesBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getSamplesFieldBuilder() : null;
+            } else {
+              samplesBuilder_.addAllMessages(other.samples_);
+            }
+          }
+        }
+        if (!other.getStrand().isEmpty()) {
+          strand_ = other.strand_;
+          bitField0_ |= 0x00080000;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                bicAnalysis_ = input.readBool();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 18: {
+                dataAccessEmails_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                dataAnalystEmail_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                dataAnalystName_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              case 40: {
+                deliveryDate_ = input.readInt64();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 40
+              case 50: {
+                investigatorEmail_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 50
+              case 58: {
+                investigatorName_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 58
+              case 64: {
+                isCmoRequest_ = input.readBool();
+                bitField0_ |= 0x00000080;
+                break;
+              } // case 64
+              case 74: {
+                labHeadEmail_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000100;
+                break;
+              } // case 74
+              case 82: {
+                labHeadName_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000200;
+                break;
+              } // case 82
+              case 90: {
+                libraryType_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000400;
+                break;
+              } // case 90
+              case 98: {
+                otherContactEmails_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000800;
+                break;
+              } // case 98
+              case 106: {
+                piEmail_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00001000;
+                break;
+              } // case 106
+              case 114: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensurePooledNormalsIsMutable();
+                pooledNormals_.add(s);
+                break;
+              } // case 114
+              case 122: {
+                projectManagerName_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00004000;
+                break;
+              } // case 122
+              case 130: {
+                qcAccessEmails_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00008000;
+                break;
+              } // case 130
+              case 138: {
+                recipe_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00010000;
+                break;
+              } // case 138
+              case 146: {
+                requestId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00020000;
+                break;
+              } // case 146
+              case 154: {
+                org.mskcc.smile.commons.generated.Igo.Request.Samples m =
+                    input.readMessage(
+                        org.mskcc.smile.commons.generated.Igo.Request.Samples.parser(),
+                        extensionRegistry);
+                if (samplesBuilder_ == null) {
+                  ensureSamplesIsMutable();
+                  samples_.add(m);
+                } else {
+                  samplesBuilder_.addMessage(m);
+                }
+                break;
+              } // case 154
+              case 162: {
+                strand_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00080000;
+                break;
+              } // case 162
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private boolean bicAnalysis_ ;
+      /**
+       * <code>bool bicAnalysis = 1;</code>
+       * @return The bicAnalysis.
+       */
+      @java.lang.Override
+      public boolean getBicAnalysis() {
+        return bicAnalysis_;
+      }
+      /**
+       * <code>bool bicAnalysis = 1;</code>
+       * @param value The bicAnalysis to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBicAnalysis(boolean value) {
+
+        bicAnalysis_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool bicAnalysis = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearBicAnalysis() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        bicAnalysis_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object dataAccessEmails_ = "";
+      /**
+       * <code>string dataAccessEmails = 2;</code>
+       * @return The dataAccessEmails.
+       */
+      public java.lang.String getDataAccessEmails() {
+        java.lang.Object ref = dataAccessEmails_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          dataAccessEmails_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string dataAccessEmails = 2;</code>
+       * @return The bytes for dataAccessEmails.
+       */
+      public com.google.protobuf.ByteString
+          getDataAccessEmailsBytes() {
+        java.lang.Object ref = dataAccessEmails_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          dataAccessEmails_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string dataAccessEmails = 2;</code>
+       * @param value The dataAccessEmails to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDataAccessEmails(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        dataAccessEmails_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string dataAccessEmails = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDataAccessEmails() {
+        dataAccessEmails_ = getDefaultInstance().getDataAccessEmails();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string dataAccessEmails = 2;</code>
+       * @param value The bytes for dataAccessEmails to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDataAccessEmailsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        dataAccessEmails_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object dataAnalystEmail_ = "";
+      /**
+       * <code>string dataAnalystEmail = 3;</code>
+       * @return The dataAnalystEmail.
+       */
+      public java.lang.String getDataAnalystEmail() {
+        java.lang.Object ref = dataAnalystEmail_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          dataAnalystEmail_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string dataAnalystEmail = 3;</code>
+       * @return The bytes for dataAnalystEmail.
+       */
+      public com.google.protobuf.ByteString
+          getDataAnalystEmailBytes() {
+        java.lang.Object ref = dataAnalystEmail_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          dataAnalystEmail_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string dataAnalystEmail = 3;</code>
+       * @param value The dataAnalystEmail to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDataAnalystEmail(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        dataAnalystEmail_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string dataAnalystEmail = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDataAnalystEmail() {
+        dataAnalystEmail_ = getDefaultInstance().getDataAnalystEmail();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string dataAnalystEmail = 3;</code>
+       * @param value The bytes for dataAnalystEmail to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDataAnalystEmailBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        dataAnalystEmail_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object dataAnalystName_ = "";
+      /**
+       * <code>string dataAnalystName = 4;</code>
+       * @return The dataAnalystName.
+       */
+      public java.lang.String getDataAnalystName() {
+        java.lang.Object ref = dataAnalystName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          dataAnalystName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string dataAnalystName = 4;</code>
+       * @return The bytes for dataAnalystName.
+       */
+      public com.google.protobuf.ByteString
+          getDataAnalystNameBytes() {
+        java.lang.Object ref = dataAnalystName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          dataAnalystName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string dataAnalystName = 4;</code>
+       * @param value The dataAnalystName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDataAnalystName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        dataAnalystName_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string dataAnalystName = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDataAnalystName() {
+        dataAnalystName_ = getDefaultInstance().getDataAnalystName();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string dataAnalystName = 4;</code>
+       * @param value The bytes for dataAnalystName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDataAnalystNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        dataAnalystName_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+
+      private long deliveryDate_ ;
+      /**
+       * <code>int64 deliveryDate = 5;</code>
+       * @return The deliveryDate.
+       */
+      @java.lang.Override
+      public long getDeliveryDate() {
+        return deliveryDate_;
+      }
+      /**
+       * <code>int64 deliveryDate = 5;</code>
+       * @param value The deliveryDate to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDeliveryDate(long value) {
+
+        deliveryDate_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 deliveryDate = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDeliveryDate() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        deliveryDate_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object investigatorEmail_ = "";
+      /**
+       * <code>string investigatorEmail = 6;</code>
+       * @return The investigatorEmail.
+       */
+      public java.lang.String getInvestigatorEmail() {
+        java.lang.Object ref = investigatorEmail_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          investigatorEmail_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string investigatorEmail = 6;</code>
+       * @return The bytes for investigatorEmail.
+       */
+      public com.google.protobuf.ByteString
+          getInvestigatorEmailBytes() {
+        java.lang.Object ref = investigatorEmail_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          investigatorEmail_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string investigatorEmail = 6;</code>
+       * @param value The investigatorEmail to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInvestigatorEmail(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        investigatorEmail_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string investigatorEmail = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearInvestigatorEmail() {
+        investigatorEmail_ = getDefaultInstance().getInvestigatorEmail();
+        bitField0_ = (bitField0_ & ~0x00000020);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string investigatorEmail = 6;</code>
+       * @param value The bytes for investigatorEmail to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInvestigatorEmailBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        investigatorEmail_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object investigatorName_ = "";
+      /**
+       * <code>string investigatorName = 7;</code>
+       * @return The investigatorName.
+       */
+      public java.lang.String getInvestigatorName() {
+        java.lang.Object ref = investigatorName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          investigatorName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string investigatorName = 7;</code>
+       * @return The bytes for investigatorName.
+       */
+      public com.google.protobuf.ByteString
+          getInvestigatorNameBytes() {
+        java.lang.Object ref = investigatorName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          investigatorName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string investigatorName = 7;</code>
+       * @param value The investigatorName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInvestigatorName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        investigatorName_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string investigatorName = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearInvestigatorName() {
+        investigatorName_ = getDefaultInstance().getInvestigatorName();
+        bitField0_ = (bitField0_ & ~0x00000040);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string investigatorName = 7;</code>
+       * @param value The bytes for investigatorName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInvestigatorNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        investigatorName_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+
+      private boolean isCmoRequest_ ;
+      /**
+       * <code>bool isCmoRequest = 8;</code>
+       * @return The isCmoRequest.
+       */
+      @java.lang.Override
+      public boolean getIsCmoRequest() {
+        return isCmoRequest_;
+      }
+      /**
+       * <code>bool isCmoRequest = 8;</code>
+       * @param value The isCmoRequest to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIsCmoRequest(boolean value) {
+
+        isCmoRequest_ = value;
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool isCmoRequest = 8;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIsCmoRequest() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        isCmoRequest_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object labHeadEmail_ = "";
+      /**
+       * <code>string labHeadEmail = 9;</code>
+       * @return The labHeadEmail.
+       */
+      public java.lang.String getLabHeadEmail() {
+        java.lang.Object ref = labHeadEmail_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          labHeadEmail_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string labHeadEmail = 9;</code>
+       * @return The bytes for labHeadEmail.
+       */
+      public com.google.protobuf.ByteString
+          getLabHeadEmailBytes() {
+        java.lang.Object ref = labHeadEmail_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          labHeadEmail_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string labHeadEmail = 9;</code>
+       * @param value The labHeadEmail to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLabHeadEmail(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        labHeadEmail_ = value;
+        bitField0_ |= 0x00000100;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string labHeadEmail = 9;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLabHeadEmail() {
+        labHeadEmail_ = getDefaultInstance().getLabHeadEmail();
+        bitField0_ = (bitField0_ & ~0x00000100);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string labHeadEmail = 9;</code>
+       * @param value The bytes for labHeadEmail to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLabHeadEmailBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        labHeadEmail_ = value;
+        bitField0_ |= 0x00000100;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object labHeadName_ = "";
+      /**
+       * <code>string labHeadName = 10;</code>
+       * @return The labHeadName.
+       */
+      public java.lang.String getLabHeadName() {
+        java.lang.Object ref = labHeadName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          labHeadName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string labHeadName = 10;</code>
+       * @return The bytes for labHeadName.
+       */
+      public com.google.protobuf.ByteString
+          getLabHeadNameBytes() {
+        java.lang.Object ref = labHeadName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          labHeadName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string labHeadName = 10;</code>
+       * @param value The labHeadName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLabHeadName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        labHeadName_ = value;
+        bitField0_ |= 0x00000200;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string labHeadName = 10;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLabHeadName() {
+        labHeadName_ = getDefaultInstance().getLabHeadName();
+        bitField0_ = (bitField0_ & ~0x00000200);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string labHeadName = 10;</code>
+       * @param value The bytes for labHeadName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLabHeadNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        labHeadName_ = value;
+        bitField0_ |= 0x00000200;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object libraryType_ = "";
+      /**
+       * <code>string libraryType = 11;</code>
+       * @return The libraryType.
+       */
+      public java.lang.String getLibraryType() {
+        java.lang.Object ref = libraryType_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          libraryType_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string libraryType = 11;</code>
+       * @return The bytes for libraryType.
+       */
+      public com.google.protobuf.ByteString
+          getLibraryTypeBytes() {
+        java.lang.Object ref = libraryType_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          libraryType_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string libraryType = 11;</code>
+       * @param value The libraryType to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLibraryType(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        libraryType_ = value;
+        bitField0_ |= 0x00000400;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string libraryType = 11;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLibraryType() {
+        libraryType_ = getDefaultInstance().getLibraryType();
+        bitField0_ = (bitField0_ & ~0x00000400);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string libraryType = 11;</code>
+       * @param value The bytes for libraryType to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLibraryTypeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        libraryType_ = value;
+        bitField0_ |= 0x00000400;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object otherContactEmails_ = "";
+      /**
+       * <code>string otherContactEmails = 12;</code>
+       * @return The otherContactEmails.
+       */
+      public java.lang.String getOtherContactEmails() {
+        java.lang.Object ref = otherContactEmails_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          otherContactEmails_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string otherContactEmails = 12;</code>
+       * @return The bytes for otherContactEmails.
+       */
+      public com.google.protobuf.ByteString
+          getOtherContactEmailsBytes() {
+        java.lang.Object ref = otherContactEmails_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          otherContactEmails_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string otherContactEmails = 12;</code>
+       * @param value The otherContactEmails to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOtherContactEmails(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        otherContactEmails_ = value;
+        bitField0_ |= 0x00000800;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string otherContactEmails = 12;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearOtherContactEmails() {
+        otherContactEmails_ = getDefaultInstance().getOtherContactEmails();
+        bitField0_ = (bitField0_ & ~0x00000800);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string otherContactEmails = 12;</code>
+       * @param value The bytes for otherContactEmails to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOtherContactEmailsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        otherContactEmails_ = value;
+        bitField0_ |= 0x00000800;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object piEmail_ = "";
+      /**
+       * <code>string piEmail = 13;</code>
+       * @return The piEmail.
+       */
+      public java.lang.String getPiEmail() {
+        java.lang.Object ref = piEmail_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          piEmail_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string piEmail = 13;</code>
+       * @return The bytes for piEmail.
+       */
+      public com.google.protobuf.ByteString
+          getPiEmailBytes() {
+        java.lang.Object ref = piEmail_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          piEmail_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string piEmail = 13;</code>
+       * @param value The piEmail to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPiEmail(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        piEmail_ = value;
+        bitField0_ |= 0x00001000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string piEmail = 13;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPiEmail() {
+        piEmail_ = getDefaultInstance().getPiEmail();
+        bitField0_ = (bitField0_ & ~0x00001000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string piEmail = 13;</code>
+       * @param value The bytes for piEmail to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPiEmailBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        piEmail_ = value;
+        bitField0_ |= 0x00001000;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringArrayList pooledNormals_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensurePooledNormalsIsMutable() {
+        if (!pooledNormals_.isModifiable()) {
+          pooledNormals_ = new com.google.protobuf.LazyStringArrayList(pooledNormals_);
+        }
+        bitField0_ |= 0x00002000;
+      }
+      /**
+       * <code>repeated string pooledNormals = 14;</code>
+       * @return A list containing the pooledNormals.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getPooledNormalsList() {
+        pooledNormals_.makeImmutable();
+        return pooledNormals_;
+      }
+      /**
+       * <code>repeated string pooledNormals = 14;</code>
+       * @return The count of pooledNormals.
+       */
+      public int getPooledNormalsCount() {
+        return pooledNormals_.size();
+      }
+      /**
+       * <code>repeated string pooledNormals = 14;</code>
+       * @param index The index of the element to return.
+       * @return The pooledNormals at the given index.
+       */
+      public java.lang.String getPooledNormals(int index) {
+        return pooledNormals_.get(index);
+      }
+      /**
+       * <code>repeated string pooledNormals = 14;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the pooledNormals at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getPooledNormalsBytes(int index) {
+        return pooledNormals_.getByteString(index);
+      }
+      /**
+       * <code>repeated string pooledNormals = 14;</code>
+       * @param index The index to set the value at.
+       * @param value The pooledNormals to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPooledNormals(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensurePooledNormalsIsMutable();
+        pooledNormals_.set(index, value);
+        bitField0_ |= 0x00002000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string pooledNormals = 14;</code>
+       * @param value The pooledNormals to add.
+       * @return This builder for chaining.
+       */
+      public Builder addPooledNormals(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensurePooledNormalsIsMutable();
+        pooledNormals_.add(value);
+        bitField0_ |= 0x00002000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string pooledNormals = 14;</code>
+       * @param values The pooledNormals to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllPooledNormals(
+          java.lang.Iterable<java.lang.String> values) {
+        ensurePooledNormalsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, pooledNormals_);
+        bitField0_ |= 0x00002000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string pooledNormals = 14;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPooledNormals() {
+        pooledNormals_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00002000);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string pooledNormals = 14;</code>
+       * @param value The bytes of the pooledNormals to add.
+       * @return This builder for chaining.
+       */
+      public Builder addPooledNormalsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensurePooledNormalsIsMutable();
+        pooledNormals_.add(value);
+        bitField0_ |= 0x00002000;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object projectManagerName_ = "";
+      /**
+       * <code>string projectManagerName = 15;</code>
+       * @return The projectManagerName.
+       */
+      public java.lang.String getProjectManagerName() {
+        java.lang.Object ref = projectManagerName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          projectManagerName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string projectManagerName = 15;</code>
+       * @return The bytes for projectManagerName.
+       */
+      public com.google.protobuf.ByteString
+          getProjectManagerNameBytes() {
+        java.lang.Object ref = projectManagerName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          projectManagerName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string projectManagerName = 15;</code>
+       * @param value The projectManagerName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setProjectManagerName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        projectManagerName_ = value;
+        bitField0_ |= 0x00004000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string projectManagerName = 15;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearProjectManagerName() {
+        projectManagerName_ = getDefaultInstance().getProjectManagerName();
+        bitField0_ = (bitField0_ & ~0x00004000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string projectManagerName = 15;</code>
+       * @param value The bytes for projectManagerName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setProjectManagerNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        projectManagerName_ = value;
+        bitField0_ |= 0x00004000;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object qcAccessEmails_ = "";
+      /**
+       * <code>string qcAccessEmails = 16;</code>
+       * @return The qcAccessEmails.
+       */
+      public java.lang.String getQcAccessEmails() {
+        java.lang.Object ref = qcAccessEmails_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          qcAccessEmails_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string qcAccessEmails = 16;</code>
+       * @return The bytes for qcAccessEmails.
+       */
+      public com.google.protobuf.ByteString
+          getQcAccessEmailsBytes() {
+        java.lang.Object ref = qcAccessEmails_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          qcAccessEmails_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string qcAccessEmails = 16;</code>
+       * @param value The qcAccessEmails to set.
+       * @return This builder for chaining.
+       */
+      public Builder setQcAccessEmails(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        qcAccessEmails_ = value;
+        bitField0_ |= 0x00008000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string qcAccessEmails = 16;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearQcAccessEmails() {
+        qcAccessEmails_ = getDefaultInstance().getQcAccessEmails();
+        bitField0_ = (bitField0_ & ~0x00008000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string qcAccessEmails = 16;</code>
+       * @param value The bytes for qcAccessEmails to set.
+       * @return This builder for chaining.
+       */
+      public Builder setQcAccessEmailsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        qcAccessEmails_ = value;
+        bitField0_ |= 0x00008000;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object recipe_ = "";
+      /**
+       * <code>string recipe = 17;</code>
+       * @return The recipe.
+       */
+      public java.lang.String getRecipe() {
+        java.lang.Object ref = recipe_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          recipe_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string recipe = 17;</code>
+       * @return The bytes for recipe.
+       */
+      public com.google.protobuf.ByteString
+          getRecipeBytes() {
+        java.lang.Object ref = recipe_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          recipe_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string recipe = 17;</code>
+       * @param value The recipe to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRecipe(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        recipe_ = value;
+        bitField0_ |= 0x00010000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string recipe = 17;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRecipe() {
+        recipe_ = getDefaultInstance().getRecipe();
+        bitField0_ = (bitField0_ & ~0x00010000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string recipe = 17;</code>
+       * @param value The bytes for recipe to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRecipeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        recipe_ = value;
+        bitField0_ |= 0x00010000;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object requestId_ = "";
+      /**
+       * <code>string requestId = 18;</code>
+       * @return The requestId.
+       */
+      public java.lang.String getRequestId() {
+        java.lang.Object ref = requestId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          requestId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string requestId = 18;</code>
+       * @return The bytes for requestId.
+       */
+      public com.google.protobuf.ByteString
+          getRequestIdBytes() {
+        java.lang.Object ref = requestId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          requestId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string requestId = 18;</code>
+       * @param value The requestId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRequestId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        requestId_ = value;
+        bitField0_ |= 0x00020000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string requestId = 18;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRequestId() {
+        requestId_ = getDefaultInstance().getRequestId();
+        bitField0_ = (bitField0_ & ~0x00020000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string requestId = 18;</code>
+       * @param value The bytes for requestId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRequestIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        requestId_ = value;
+        bitField0_ |= 0x00020000;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.mskcc.smile.commons.generated.Igo.Request.Samples> samples_ =
+        java.util.Collections.emptyList();
+      private void ensureSamplesIsMutable() {
+        if (!((bitField0_ & 0x00040000) != 0)) {
+          samples_ = new java.util.ArrayList<org.mskcc.smile.commons.generated.Igo.Request.Samples>(samples_);
+          bitField0_ |= 0x00040000;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.mskcc.smile.commons.generated.Igo.Request.Samples, org.mskcc.smile.commons.generated.Igo.Request.Samples.Builder, org.mskcc.smile.commons.generated.Igo.Request.SamplesOrBuilder> samplesBuilder_;
+
+      /**
+       * <code>repeated .Request.Samples samples = 19;</code>
+       */
+      public java.util.List<org.mskcc.smile.commons.generated.Igo.Request.Samples> getSamplesList() {
+        if (samplesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(samples_);
+        } else {
+          return samplesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .Request.Samples samples = 19;</code>
+       */
+      public int getSamplesCount() {
+        if (samplesBuilder_ == null) {
+          return samples_.size();
+        } else {
+          return samplesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .Request.Samples samples = 19;</code>
+       */
+      public org.mskcc.smile.commons.generated.Igo.Request.Samples getSamples(int index) {
+        if (samplesBuilder_ == null) {
+          return samples_.get(index);
+        } else {
+          return samplesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .Request.Samples samples = 19;</code>
+       */
+      public Builder setSamples(
+          int index, org.mskcc.smile.commons.generated.Igo.Request.Samples value) {
+        if (samplesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSamplesIsMutable();
+          samples_.set(index, value);
+          onChanged();
+        } else {
+          samplesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Request.Samples samples = 19;</code>
+       */
+      public Builder setSamples(
+          int index, org.mskcc.smile.commons.generated.Igo.Request.Samples.Builder builderForValue) {
+        if (samplesBuilder_ == null) {
+          ensureSamplesIsMutable();
+          samples_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          samplesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Request.Samples samples = 19;</code>
+       */
+      public Builder addSamples(org.mskcc.smile.commons.generated.Igo.Request.Samples value) {
+        if (samplesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSamplesIsMutable();
+          samples_.add(value);
+          onChanged();
+        } else {
+          samplesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Request.Samples samples = 19;</code>
+       */
+      public Builder addSamples(
+          int index, org.mskcc.smile.commons.generated.Igo.Request.Samples value) {
+        if (samplesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSamplesIsMutable();
+          samples_.add(index, value);
+          onChanged();
+        } else {
+          samplesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Request.Samples samples = 19;</code>
+       */
+      public Builder addSamples(
+          org.mskcc.smile.commons.generated.Igo.Request.Samples.Builder builderForValue) {
+        if (samplesBuilder_ == null) {
+          ensureSamplesIsMutable();
+          samples_.add(builderForValue.build());
+          onChanged();
+        } else {
+          samplesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Request.Samples samples = 19;</code>
+       */
+      public Builder addSamples(
+          int index, org.mskcc.smile.commons.generated.Igo.Request.Samples.Builder builderForValue) {
+        if (samplesBuilder_ == null) {
+          ensureSamplesIsMutable();
+          samples_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          samplesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Request.Samples samples = 19;</code>
+       */
+      public Builder addAllSamples(
+          java.lang.Iterable<? extends org.mskcc.smile.commons.generated.Igo.Request.Samples> values) {
+        if (samplesBuilder_ == null) {
+          ensureSamplesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, samples_);
+          onChanged();
+        } else {
+          samplesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Request.Samples samples = 19;</code>
+       */
+      public Builder clearSamples() {
+        if (samplesBuilder_ == null) {
+          samples_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00040000);
+          onChanged();
+        } else {
+          samplesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Request.Samples samples = 19;</code>
+       */
+      public Builder removeSamples(int index) {
+        if (samplesBuilder_ == null) {
+          ensureSamplesIsMutable();
+          samples_.remove(index);
+          onChanged();
+        } else {
+          samplesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Request.Samples samples = 19;</code>
+       */
+      public org.mskcc.smile.commons.generated.Igo.Request.Samples.Builder getSamplesBuilder(
+          int index) {
+        return getSamplesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .Request.Samples samples = 19;</code>
+       */
+      public org.mskcc.smile.commons.generated.Igo.Request.SamplesOrBuilder getSamplesOrBuilder(
+          int index) {
+        if (samplesBuilder_ == null) {
+          return samples_.get(index);  } else {
+          return samplesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .Request.Samples samples = 19;</code>
+       */
+      public java.util.List<? extends org.mskcc.smile.commons.generated.Igo.Request.SamplesOrBuilder> 
+           getSamplesOrBuilderList() {
+        if (samplesBuilder_ != null) {
+          return samplesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(samples_);
+        }
+      }
+      /**
+       * <code>repeated .Request.Samples samples = 19;</code>
+       */
+      public org.mskcc.smile.commons.generated.Igo.Request.Samples.Builder addSamplesBuilder() {
+        return getSamplesFieldBuilder().addBuilder(
+            org.mskcc.smile.commons.generated.Igo.Request.Samples.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .Request.Samples samples = 19;</code>
+       */
+      public org.mskcc.smile.commons.generated.Igo.Request.Samples.Builder addSamplesBuilder(
+          int index) {
+        return getSamplesFieldBuilder().addBuilder(
+            index, org.mskcc.smile.commons.generated.Igo.Request.Samples.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .Request.Samples samples = 19;</code>
+       */
+      public java.util.List<org.mskcc.smile.commons.generated.Igo.Request.Samples.Builder> 
+           getSamplesBuilderList() {
+        return getSamplesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.mskcc.smile.commons.generated.Igo.Request.Samples, org.mskcc.smile.commons.generated.Igo.Request.Samples.Builder, org.mskcc.smile.commons.generated.Igo.Request.SamplesOrBuilder> 
+          getSamplesFieldBuilder() {
+        if (samplesBuilder_ == null) {
+          samplesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.mskcc.smile.commons.generated.Igo.Request.Samples, org.mskcc.smile.commons.generated.Igo.Request.Samples.Builder, org.mskcc.smile.commons.generated.Igo.Request.SamplesOrBuilder>(
+                  samples_,
+                  ((bitField0_ & 0x00040000) != 0),
+                  getParentForChildren(),
+                  isClean());
+          samples_ = null;
+        }
+        return samplesBuilder_;
+      }
+
+      private java.lang.Object strand_ = "";
+      /**
+       * <code>string strand = 20;</code>
+       * @return The strand.
+       */
+      public java.lang.String getStrand() {
+        java.lang.Object ref = strand_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          strand_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string strand = 20;</code>
+       * @return The bytes for strand.
+       */
+      public com.google.protobuf.ByteString
+          getStrandBytes() {
+        java.lang.Object ref = strand_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          strand_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string strand = 20;</code>
+       * @param value The strand to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStrand(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        strand_ = value;
+        bitField0_ |= 0x00080000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string strand = 20;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearStrand() {
+        strand_ = getDefaultInstance().getStrand();
+        bitField0_ = (bitField0_ & ~0x00080000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string strand = 20;</code>
+       * @param value The bytes for strand to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStrandBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        strand_ = value;
+        bitField0_ |= 0x00080000;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:Request)
+    }
+
+    // @@protoc_insertion_point(class_scope:Request)
+    private static final org.mskcc.smile.commons.generated.Igo.Request DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.mskcc.smile.commons.generated.Igo.Request();
+    }
+
+    public static org.mskcc.smile.commons.generated.Igo.Request getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Request>
+        PARSER = new com.google.protobuf.AbstractParser<Request>() {
+      @java.lang.Override
+      public Request parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<Request> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Request> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.mskcc.smile.commons.generated.Igo.Request getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface RequestWithManifestsOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:RequestWithManifests)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>bool bicAnalysis = 1;</code>
+     * @return The bicAnalysis.
+     */
+    boolean getBicAnalysis();
+
+    /**
+     * <code>string dataAccessEmails = 2;</code>
+     * @return The dataAccessEmails.
+     */
+    java.lang.String getDataAccessEmails();
+    /**
+     * <code>string dataAccessEmails = 2;</code>
+     * @return The bytes for dataAccessEmails.
+     */
+    com.google.protobuf.ByteString
+        getDataAccessEmailsBytes();
+
+    /**
+     * <code>string dataAnalystEmail = 3;</code>
+     * @return The dataAnalystEmail.
+     */
+    java.lang.String getDataAnalystEmail();
+    /**
+     * <code>string dataAnalystEmail = 3;</code>
+     * @return The bytes for dataAnalystEmail.
+     */
+    com.google.protobuf.ByteString
+        getDataAnalystEmailBytes();
+
+    /**
+     * <code>string dataAnalystName = 4;</code>
+     * @return The dataAnalystName.
+     */
+    java.lang.String getDataAnalystName();
+    /**
+     * <code>string dataAnalystName = 4;</code>
+     * @return The bytes for dataAnalystName.
+     */
+    com.google.protobuf.ByteString
+        getDataAnalystNameBytes();
+
+    /**
+     * <code>int64 deliveryDate = 5;</code>
+     * @return The deliveryDate.
+     */
+    long getDeliveryDate();
+
+    /**
+     * <code>string investigatorEmail = 6;</code>
+     * @return The investigatorEmail.
+     */
+    java.lang.String getInvestigatorEmail();
+    /**
+     * <code>string investigatorEmail = 6;</code>
+     * @return The bytes for investigatorEmail.
+     */
+    com.google.protobuf.ByteString
+        getInvestigatorEmailBytes();
+
+    /**
+     * <code>string investigatorName = 7;</code>
+     * @return The investigatorName.
+     */
+    java.lang.String getInvestigatorName();
+    /**
+     * <code>string investigatorName = 7;</code>
+     * @return The bytes for investigatorName.
+     */
+    com.google.protobuf.ByteString
+        getInvestigatorNameBytes();
+
+    /**
+     * <code>bool isCmoRequest = 8;</code>
+     * @return The isCmoRequest.
+     */
+    boolean getIsCmoRequest();
+
+    /**
+     * <code>string labHeadEmail = 9;</code>
+     * @return The labHeadEmail.
+     */
+    java.lang.String getLabHeadEmail();
+    /**
+     * <code>string labHeadEmail = 9;</code>
+     * @return The bytes for labHeadEmail.
+     */
+    com.google.protobuf.ByteString
+        getLabHeadEmailBytes();
+
+    /**
+     * <code>string labHeadName = 10;</code>
+     * @return The labHeadName.
+     */
+    java.lang.String getLabHeadName();
+    /**
+     * <code>string labHeadName = 10;</code>
+     * @return The bytes for labHeadName.
+     */
+    com.google.protobuf.ByteString
+        getLabHeadNameBytes();
+
+    /**
+     * <code>string libraryType = 11;</code>
+     * @return The libraryType.
+     */
+    java.lang.String getLibraryType();
+    /**
+     * <code>string libraryType = 11;</code>
+     * @return The bytes for libraryType.
+     */
+    com.google.protobuf.ByteString
+        getLibraryTypeBytes();
+
+    /**
+     * <code>string otherContactEmails = 12;</code>
+     * @return The otherContactEmails.
+     */
+    java.lang.String getOtherContactEmails();
+    /**
+     * <code>string otherContactEmails = 12;</code>
+     * @return The bytes for otherContactEmails.
+     */
+    com.google.protobuf.ByteString
+        getOtherContactEmailsBytes();
+
+    /**
+     * <code>string piEmail = 13;</code>
+     * @return The piEmail.
+     */
+    java.lang.String getPiEmail();
+    /**
+     * <code>string piEmail = 13;</code>
+     * @return The bytes for piEmail.
+     */
+    com.google.protobuf.ByteString
+        getPiEmailBytes();
+
+    /**
+     * <code>repeated string pooledNormals = 14;</code>
+     * @return A list containing the pooledNormals.
+     */
+    java.util.List<java.lang.String>
+        getPooledNormalsList();
+    /**
+     * <code>repeated string pooledNormals = 14;</code>
+     * @return The count of pooledNormals.
+     */
+    int getPooledNormalsCount();
+    /**
+     * <code>repeated string pooledNormals = 14;</code>
+     * @param index The index of the element to return.
+     * @return The pooledNormals at the given index.
+     */
+    java.lang.String getPooledNormals(int index);
+    /**
+     * <code>repeated string pooledNormals = 14;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the pooledNormals at the given index.
+     */
+    com.google.protobuf.ByteString
+        getPooledNormalsBytes(int index);
+
+    /**
+     * <code>string projectManagerName = 15;</code>
+     * @return The projectManagerName.
+     */
+    java.lang.String getProjectManagerName();
+    /**
+     * <code>string projectManagerName = 15;</code>
+     * @return The bytes for projectManagerName.
+     */
+    com.google.protobuf.ByteString
+        getProjectManagerNameBytes();
+
+    /**
+     * <code>string qcAccessEmails = 16;</code>
+     * @return The qcAccessEmails.
+     */
+    java.lang.String getQcAccessEmails();
+    /**
+     * <code>string qcAccessEmails = 16;</code>
+     * @return The bytes for qcAccessEmails.
+     */
+    com.google.protobuf.ByteString
+        getQcAccessEmailsBytes();
+
+    /**
+     * <code>string recipe = 17;</code>
+     * @return The recipe.
+     */
+    java.lang.String getRecipe();
+    /**
+     * <code>string recipe = 17;</code>
+     * @return The bytes for recipe.
+     */
+    com.google.protobuf.ByteString
+        getRecipeBytes();
+
+    /**
+     * <code>string requestId = 18;</code>
+     * @return The requestId.
+     */
+    java.lang.String getRequestId();
+    /**
+     * <code>string requestId = 18;</code>
+     * @return The bytes for requestId.
+     */
+    com.google.protobuf.ByteString
+        getRequestIdBytes();
+
+    /**
+     * <code>repeated .SampleManifest samples = 19;</code>
+     */
+    java.util.List<org.mskcc.smile.commons.generated.Igo.SampleManifest> 
+        getSamplesList();
+    /**
+     * <code>repeated .SampleManifest samples = 19;</code>
+     */
+    org.mskcc.smile.commons.generated.Igo.SampleManifest getSamples(int index);
+    /**
+     * <code>repeated .SampleManifest samples = 19;</code>
+     */
+    int getSamplesCount();
+    /**
+     * <code>repeated .SampleManifest samples = 19;</code>
+     */
+    java.util.List<? extends org.mskcc.smile.commons.generated.Igo.SampleManifestOrBuilder> 
+        getSamplesOrBuilderList();
+    /**
+     * <code>repeated .SampleManifest samples = 19;</code>
+     */
+    org.mskcc.smile.commons.generated.Igo.SampleManifestOrBuilder getSamplesOrBuilder(
+        int index);
+
+    /**
+     * <code>string strand = 20;</code>
+     * @return The strand.
+     */
+    java.lang.String getStrand();
+    /**
+     * <code>string strand = 20;</code>
+     * @return The bytes for strand.
+     */
+    com.google.protobuf.ByteString
+        getStrandBytes();
+
+    /**
+     * <code>string projectId = 21;</code>
+     * @return The projectId.
+     */
+    java.lang.String getProjectId();
+    /**
+     * <code>string projectId = 21;</code>
+     * @return The bytes for projectId.
+     */
+    com.google.protobuf.ByteString
+        getProjectIdBytes();
+  }
+  /**
+   * Protobuf type {@code RequestWithManifests}
+   */
+  public static final class RequestWithManifests extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:RequestWithManifests)
+      RequestWithManifestsOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 29,
+        /* patch= */ 3,
+        /* suffix= */ "",
+        RequestWithManifests.class.getName());
+    }
+    // Use RequestWithManifests.newBuilder() to construct.
+    private RequestWithManifests(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private RequestWithManifests() {
+      dataAccessEmails_ = "";
+      dataAnalystEmail_ = "";
+      dataAnalystName_ = "";
+      investigatorEmail_ = "";
+      investigatorName_ = "";
+      labHeadEmail_ = "";
+      labHeadName_ = "";
+      libraryType_ = "";
+      otherContactEmails_ = "";
+      piEmail_ = "";
+      pooledNormals_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      projectManagerName_ = "";
+      qcAccessEmails_ = "";
+      recipe_ = "";
+      requestId_ = "";
+      samples_ = java.util.Collections.emptyList();
+      strand_ = "";
+      projectId_ = "";
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.mskcc.smile.commons.generated.Igo.internal_static_RequestWithManifests_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.mskcc.smile.commons.generated.Igo.internal_static_RequestWithManifests_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.mskcc.smile.commons.generated.Igo.RequestWithManifests.class, org.mskcc.smile.commons.generated.Igo.RequestWithManifests.Builder.class);
+    }
+
+    public static final int BICANALYSIS_FIELD_NUMBER = 1;
+    private boolean bicAnalysis_ = false;
+    /**
+     * <code>bool bicAnalysis = 1;</code>
+     * @return The bicAnalysis.
+     */
+    @java.lang.Override
+    public boolean getBicAnalysis() {
+      return bicAnalysis_;
+    }
+
+    public static final int DATAACCESSEMAILS_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object dataAccessEmails_ = "";
+    /**
+     * <code>string dataAccessEmails = 2;</code>
+     * @return The dataAccessEmails.
+     */
+    @java.lang.Override
+    public java.lang.String getDataAccessEmails() {
+      java.lang.Object ref = dataAccessEmails_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        dataAccessEmails_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string dataAccessEmails = 2;</code>
+     * @return The bytes for dataAccessEmails.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDataAccessEmailsBytes() {
+      java.lang.Object ref = dataAccessEmails_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        dataAccessEmails_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DATAANALYSTEMAIL_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object dataAnalystEmail_ = "";
+    /**
+     * <code>string dataAnalystEmail = 3;</code>
+     * @return The dataAnalystEmail.
+     */
+    @java.lang.Override
+    public java.lang.String getDataAnalystEmail() {
+      java.lang.Object ref = dataAnalystEmail_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        dataAnalystEmail_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string dataAnalystEmail = 3;</code>
+     * @return The bytes for dataAnalystEmail.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDataAnalystEmailBytes() {
+      java.lang.Object ref = dataAnalystEmail_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        dataAnalystEmail_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DATAANALYSTNAME_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object dataAnalystName_ = "";
+    /**
+     * <code>string dataAnalystName = 4;</code>
+     * @return The dataAnalystName.
+     */
+    @java.lang.Override
+    public java.lang.String getDataAnalystName() {
+      java.lang.Object ref = dataAnalystName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        dataAnalystName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string dataAnalystName = 4;</code>
+     * @return The bytes for dataAnalystName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDataAnalystNameBytes() {
+      java.lang.Object ref = dataAnalystName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        dataAnalystName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DELIVERYDATE_FIELD_NUMBER = 5;
+    private long deliveryDate_ = 0L;
+    /**
+     * <code>int64 deliveryDate = 5;</code>
+     * @return The deliveryDate.
+     */
+    @java.lang.Override
+    public long getDeliveryDate() {
+      return deliveryDate_;
+    }
+
+    public static final int INVESTIGATOREMAIL_FIELD_NUMBER = 6;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object investigatorEmail_ = "";
+    /**
+     * <code>string investigatorEmail = 6;</code>
+     * @return The investigatorEmail.
+     */
+    @java.lang.Override
+    public java.lang.String getInvestigatorEmail() {
+      java.lang.Object ref = investigatorEmail_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        investigatorEmail_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string investigatorEmail = 6;</code>
+     * @return The bytes for investigatorEmail.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getInvestigatorEmailBytes() {
+      java.lang.Object ref = investigatorEmail_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        investigatorEmail_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int INVESTIGATORNAME_FIELD_NUMBER = 7;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object investigatorName_ = "";
+    /**
+     * <code>string investigatorName = 7;</code>
+     * @return The investigatorName.
+     */
+    @java.lang.Override
+    public java.lang.String getInvestigatorName() {
+      java.lang.Object ref = investigatorName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        investigatorName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string investigatorName = 7;</code>
+     * @return The bytes for investigatorName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getInvestigatorNameBytes() {
+      java.lang.Object ref = investigatorName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        investigatorName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ISCMOREQUEST_FIELD_NUMBER = 8;
+    private boolean isCmoRequest_ = false;
+    /**
+     * <code>bool isCmoRequest = 8;</code>
+     * @return The isCmoRequest.
+     */
+    @java.lang.Override
+    public boolean getIsCmoRequest() {
+      return isCmoRequest_;
+    }
+
+    public static final int LABHEADEMAIL_FIELD_NUMBER = 9;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object labHeadEmail_ = "";
+    /**
+     * <code>string labHeadEmail = 9;</code>
+     * @return The labHeadEmail.
+     */
+    @java.lang.Override
+    public java.lang.String getLabHeadEmail() {
+      java.lang.Object ref = labHeadEmail_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        labHeadEmail_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string labHeadEmail = 9;</code>
+     * @return The bytes for labHeadEmail.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getLabHeadEmailBytes() {
+      java.lang.Object ref = labHeadEmail_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        labHeadEmail_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int LABHEADNAME_FIELD_NUMBER = 10;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object labHeadName_ = "";
+    /**
+     * <code>string labHeadName = 10;</code>
+     * @return The labHeadName.
+     */
+    @java.lang.Override
+    public java.lang.String getLabHeadName() {
+      java.lang.Object ref = labHeadName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        labHeadName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string labHeadName = 10;</code>
+     * @return The bytes for labHeadName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getLabHeadNameBytes() {
+      java.lang.Object ref = labHeadName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        labHeadName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int LIBRARYTYPE_FIELD_NUMBER = 11;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object libraryType_ = "";
+    /**
+     * <code>string libraryType = 11;</code>
+     * @return The libraryType.
+     */
+    @java.lang.Override
+    public java.lang.String getLibraryType() {
+      java.lang.Object ref = libraryType_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        libraryType_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string libraryType = 11;</code>
+     * @return The bytes for libraryType.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getLibraryTypeBytes() {
+      java.lang.Object ref = libraryType_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        libraryType_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int OTHERCONTACTEMAILS_FIELD_NUMBER = 12;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object otherContactEmails_ = "";
+    /**
+     * <code>string otherContactEmails = 12;</code>
+     * @return The otherContactEmails.
+     */
+    @java.lang.Override
+    public java.lang.String getOtherContactEmails() {
+      java.lang.Object ref = otherContactEmails_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        otherContactEmails_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string otherContactEmails = 12;</code>
+     * @return The bytes for otherContactEmails.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getOtherContactEmailsBytes() {
+      java.lang.Object ref = otherContactEmails_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        otherContactEmails_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PIEMAIL_FIELD_NUMBER = 13;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object piEmail_ = "";
+    /**
+     * <code>string piEmail = 13;</code>
+     * @return The piEmail.
+     */
+    @java.lang.Override
+    public java.lang.String getPiEmail() {
+      java.lang.Object ref = piEmail_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        piEmail_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string piEmail = 13;</code>
+     * @return The bytes for piEmail.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getPiEmailBytes() {
+      java.lang.Object ref = piEmail_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        piEmail_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int POOLEDNORMALS_FIELD_NUMBER = 14;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList pooledNormals_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <code>repeated string pooledNormals = 14;</code>
+     * @return A list containing the pooledNormals.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getPooledNormalsList() {
+      return pooledNormals_;
+    }
+    /**
+     * <code>repeated string pooledNormals = 14;</code>
+     * @return The count of pooledNormals.
+     */
+    public int getPooledNormalsCount() {
+      return pooledNormals_.size();
+    }
+    /**
+     * <code>repeated string pooledNormals = 14;</code>
+     * @param index The index of the element to return.
+     * @return The pooledNormals at the given index.
+     */
+    public java.lang.String getPooledNormals(int index) {
+      return pooledNormals_.get(index);
+    }
+    /**
+     * <code>repeated string pooledNormals = 14;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the pooledNormals at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getPooledNormalsBytes(int index) {
+      return pooledNormals_.getByteString(index);
+    }
+
+    public static final int PROJECTMANAGERNAME_FIELD_NUMBER = 15;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object projectManagerName_ = "";
+    /**
+     * <code>string projectManagerName = 15;</code>
+     * @return The projectManagerName.
+     */
+    @java.lang.Override
+    public java.lang.String getProjectManagerName() {
+      java.lang.Object ref = projectManagerName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        projectManagerName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string projectManagerName = 15;</code>
+     * @return The bytes for projectManagerName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getProjectManagerNameBytes() {
+      java.lang.Object ref = projectManagerName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        projectManagerName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int QCACCESSEMAILS_FIELD_NUMBER = 16;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object qcAccessEmails_ = "";
+    /**
+     * <code>string qcAccessEmails = 16;</code>
+     * @return The qcAccessEmails.
+     */
+    @java.lang.Override
+    public java.lang.String getQcAccessEmails() {
+      java.lang.Object ref = qcAccessEmails_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        qcAccessEmails_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string qcAccessEmails = 16;</code>
+     * @return The bytes for qcAccessEmails.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getQcAccessEmailsBytes() {
+      java.lang.Object ref = qcAccessEmails_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        qcAccessEmails_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int RECIPE_FIELD_NUMBER = 17;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object recipe_ = "";
+    /**
+     * <code>string recipe = 17;</code>
+     * @return The recipe.
+     */
+    @java.lang.Override
+    public java.lang.String getRecipe() {
+      java.lang.Object ref = recipe_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        recipe_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string recipe = 17;</code>
+     * @return The bytes for recipe.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getRecipeBytes() {
+      java.lang.Object ref = recipe_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        recipe_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int REQUESTID_FIELD_NUMBER = 18;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object requestId_ = "";
+    /**
+     * <code>string requestId = 18;</code>
+     * @return The requestId.
+     */
+    @java.lang.Override
+    public java.lang.String getRequestId() {
+      java.lang.Object ref = requestId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        requestId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string requestId = 18;</code>
+     * @return The bytes for requestId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getRequestIdBytes() {
+      java.lang.Object ref = requestId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        requestId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SAMPLES_FIELD_NUMBER = 19;
+    @SuppressWarnings("serial")
+    private java.util.List<org.mskcc.smile.commons.generated.Igo.SampleManifest> samples_;
+    /**
+     * <code>repeated .SampleManifest samples = 19;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.mskcc.smile.commons.generated.Igo.SampleManifest> getSamplesList() {
+      return samples_;
+    }
+    /**
+     * <code>repeated .SampleManifest samples = 19;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.mskcc.smile.commons.generated.Igo.SampleManifestOrBuilder> 
+        getSamplesOrBuilderList() {
+      return samples_;
+    }
+    /**
+     * <code>repeated .SampleManifest samples = 19;</code>
+     */
+    @java.lang.Override
+    public int getSamplesCount() {
+      return samples_.size();
+    }
+    /**
+     * <code>repeated .SampleManifest samples = 19;</code>
+     */
+    @java.lang.Override
+    public org.mskcc.smile.commons.generated.Igo.SampleManifest getSamples(int index) {
+      return samples_.get(index);
+    }
+    /**
+     * <code>repeated .SampleManifest samples = 19;</code>
+     */
+    @java.lang.Override
+    public org.mskcc.smile.commons.generated.Igo.SampleManifestOrBuilder getSamplesOrBuilder(
+        int index) {
+      return samples_.get(index);
+    }
+
+    public static final int STRAND_FIELD_NUMBER = 20;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object strand_ = "";
+    /**
+     * <code>string strand = 20;</code>
+     * @return The strand.
+     */
+    @java.lang.Override
+    public java.lang.String getStrand() {
+      java.lang.Object ref = strand_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        strand_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string strand = 20;</code>
+     * @return The bytes for strand.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getStrandBytes() {
+      java.lang.Object ref = strand_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        strand_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PROJECTID_FIELD_NUMBER = 21;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object projectId_ = "";
+    /**
+     * <code>string projectId = 21;</code>
+     * @return The projectId.
+     */
+    @java.lang.Override
+    public java.lang.String getProjectId() {
+      java.lang.Object ref = projectId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        projectId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string projectId = 21;</code>
+     * @return The bytes for projectId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getProjectIdBytes() {
+      java.lang.Object ref = projectId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        projectId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (bicAnalysis_ != false) {
+        output.writeBool(1, bicAnalysis_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(dataAccessEmails_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 2, dataAccessEmails_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(dataAnalystEmail_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 3, dataAnalystEmail_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(dataAnalystName_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 4, dataAnalystName_);
+      }
+      if (deliveryDate_ != 0L) {
+        output.writeInt64(5, deliveryDate_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(investigatorEmail_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 6, investigatorEmail_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(investigatorName_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 7, investigatorName_);
+      }
+      if (isCmoRequest_ != false) {
+        output.writeBool(8, isCmoRequest_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(labHeadEmail_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 9, labHeadEmail_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(labHeadName_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 10, labHeadName_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(libraryType_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 11, libraryType_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(otherContactEmails_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 12, otherContactEmails_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(piEmail_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 13, piEmail_);
+      }
+      for (int i = 0; i < pooledNormals_.size(); i++) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 14, pooledNormals_.getRaw(i));
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(projectManagerName_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 15, projectManagerName_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(qcAccessEmails_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 16, qcAccessEmails_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(recipe_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 17, recipe_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(requestId_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 18, requestId_);
+      }
+      for (int i = 0; i < samples_.size(); i++) {
+        output.writeMessage(19, samples_.get(i));
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(strand_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 20, strand_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(projectId_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 21, projectId_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (bicAnalysis_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(1, bicAnalysis_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(dataAccessEmails_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(2, dataAccessEmails_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(dataAnalystEmail_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(3, dataAnalystEmail_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(dataAnalystName_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(4, dataAnalystName_);
+      }
+      if (deliveryDate_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(5, deliveryDate_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(investigatorEmail_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(6, investigatorEmail_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(investigatorName_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(7, investigatorName_);
+      }
+      if (isCmoRequest_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(8, isCmoRequest_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(labHeadEmail_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(9, labHeadEmail_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(labHeadName_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(10, labHeadName_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(libraryType_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(11, libraryType_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(otherContactEmails_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(12, otherContactEmails_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(piEmail_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(13, piEmail_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < pooledNormals_.size(); i++) {
+          dataSize += computeStringSizeNoTag(pooledNormals_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getPooledNormalsList().size();
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(projectManagerName_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(15, projectManagerName_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(qcAccessEmails_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(16, qcAccessEmails_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(recipe_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(17, recipe_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(requestId_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(18, requestId_);
+      }
+      for (int i = 0; i < samples_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(19, samples_.get(i));
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(strand_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(20, strand_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(projectId_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(21, projectId_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.mskcc.smile.commons.generated.Igo.RequestWithManifests)) {
+        return super.equals(obj);
+      }
+      org.mskcc.smile.commons.generated.Igo.RequestWithManifests other = (org.mskcc.smile.commons.generated.Igo.RequestWithManifests) obj;
+
+      if (getBicAnalysis()
+          != other.getBicAnalysis()) return false;
+      if (!getDataAccessEmails()
+          .equals(other.getDataAccessEmails())) return false;
+      if (!getDataAnalystEmail()
+          .equals(other.getDataAnalystEmail())) return false;
+      if (!getDataAnalystName()
+          .equals(other.getDataAnalystName())) return false;
+      if (getDeliveryDate()
+          != other.getDeliveryDate()) return false;
+      if (!getInvestigatorEmail()
+          .equals(other.getInvestigatorEmail())) return false;
+      if (!getInvestigatorName()
+          .equals(other.getInvestigatorName())) return false;
+      if (getIsCmoRequest()
+          != other.getIsCmoRequest()) return false;
+      if (!getLabHeadEmail()
+          .equals(other.getLabHeadEmail())) return false;
+      if (!getLabHeadName()
+          .equals(other.getLabHeadName())) return false;
+      if (!getLibraryType()
+          .equals(other.getLibraryType())) return false;
+      if (!getOtherContactEmails()
+          .equals(other.getOtherContactEmails())) return false;
+      if (!getPiEmail()
+          .equals(other.getPiEmail())) return false;
+      if (!getPooledNormalsList()
+          .equals(other.getPooledNormalsList())) return false;
+      if (!getProjectManagerName()
+          .equals(other.getProjectManagerName())) return false;
+      if (!getQcAccessEmails()
+          .equals(other.getQcAccessEmails())) return false;
+      if (!getRecipe()
+          .equals(other.getRecipe())) return false;
+      if (!getRequestId()
+          .equals(other.getRequestId())) return false;
+      if (!getSamplesList()
+          .equals(other.getSamplesList())) return false;
+      if (!getStrand()
+          .equals(other.getStrand())) return false;
+      if (!getProjectId()
+          .equals(other.getProjectId())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + BICANALYSIS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getBicAnalysis());
+      hash = (37 * hash) + DATAACCESSEMAILS_FIELD_NUMBER;
+      hash = (53 * hash) + getDataAccessEmails().hashCode();
+      hash = (37 * hash) + DATAANALYSTEMAIL_FIELD_NUMBER;
+      hash = (53 * hash) + getDataAnalystEmail().hashCode();
+      hash = (37 * hash) + DATAANALYSTNAME_FIELD_NUMBER;
+      hash = (53 * hash) + getDataAnalystName().hashCode();
+      hash = (37 * hash) + DELIVERYDATE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getDeliveryDate());
+      hash = (37 * hash) + INVESTIGATOREMAIL_FIELD_NUMBER;
+      hash = (53 * hash) + getInvestigatorEmail().hashCode();
+      hash = (37 * hash) + INVESTIGATORNAME_FIELD_NUMBER;
+      hash = (53 * hash) + getInvestigatorName().hashCode();
+      hash = (37 * hash) + ISCMOREQUEST_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getIsCmoRequest());
+      hash = (37 * hash) + LABHEADEMAIL_FIELD_NUMBER;
+      hash = (53 * hash) + getLabHeadEmail().hashCode();
+      hash = (37 * hash) + LABHEADNAME_FIELD_NUMBER;
+      hash = (53 * hash) + getLabHeadName().hashCode();
+      hash = (37 * hash) + LIBRARYTYPE_FIELD_NUMBER;
+      hash = (53 * hash) + getLibraryType().hashCode();
+      hash = (37 * hash) + OTHERCONTACTEMAILS_FIELD_NUMBER;
+      hash = (53 * hash) + getOtherContactEmails().hashCode();
+      hash = (37 * hash) + PIEMAIL_FIELD_NUMBER;
+      hash = (53 * hash) + getPiEmail().hashCode();
+      if (getPooledNormalsCount() > 0) {
+        hash = (37 * hash) + POOLEDNORMALS_FIELD_NUMBER;
+        hash = (53 * hash) + getPooledNormalsList().hashCode();
+      }
+      hash = (37 * hash) + PROJECTMANAGERNAME_FIELD_NUMBER;
+      hash = (53 * hash) + getProjectManagerName().hashCode();
+      hash = (37 * hash) + QCACCESSEMAILS_FIELD_NUMBER;
+      hash = (53 * hash) + getQcAccessEmails().hashCode();
+      hash = (37 * hash) + RECIPE_FIELD_NUMBER;
+      hash = (53 * hash) + getRecipe().hashCode();
+      hash = (37 * hash) + REQUESTID_FIELD_NUMBER;
+      hash = (53 * hash) + getRequestId().hashCode();
+      if (getSamplesCount() > 0) {
+        hash = (37 * hash) + SAMPLES_FIELD_NUMBER;
+        hash = (53 * hash) + getSamplesList().hashCode();
+      }
+      hash = (37 * hash) + STRAND_FIELD_NUMBER;
+      hash = (53 * hash) + getStrand().hashCode();
+      hash = (37 * hash) + PROJECTID_FIELD_NUMBER;
+      hash = (53 * hash) + getProjectId().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.mskcc.smile.commons.generated.Igo.RequestWithManifests parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.mskcc.smile.commons.generated.Igo.RequestWithManifests parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.mskcc.smile.commons.generated.Igo.RequestWithManifests parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.mskcc.smile.commons.generated.Igo.RequestWithManifests parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.mskcc.smile.commons.generated.Igo.RequestWithManifests parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.mskcc.smile.commons.generated.Igo.RequestWithManifests parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.mskcc.smile.commons.generated.Igo.RequestWithManifests parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.mskcc.smile.commons.generated.Igo.RequestWithManifests parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.mskcc.smile.commons.generated.Igo.RequestWithManifests parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.mskcc.smile.commons.generated.Igo.RequestWithManifests parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.mskcc.smile.commons.generated.Igo.RequestWithManifests parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.mskcc.smile.commons.generated.Igo.RequestWithManifests parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.mskcc.smile.commons.generated.Igo.RequestWithManifests prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code RequestWithManifests}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:RequestWithManifests)
+        org.mskcc.smile.commons.generated.Igo.RequestWithManifestsOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.mskcc.smile.commons.generated.Igo.internal_static_RequestWithManifests_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.mskcc.smile.commons.generated.Igo.internal_static_RequestWithManifests_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.mskcc.smile.commons.generated.Igo.RequestWithManifests.class, org.mskcc.smile.commons.generated.Igo.RequestWithManifests.Builder.class);
+      }
+
+      // Construct using org.mskcc.smile.commons.generated.Igo.RequestWithManifests.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        bicAnalysis_ = false;
+        dataAccessEmails_ = "";
+        dataAnalystEmail_ = "";
+        dataAnalystName_ = "";
+        deliveryDate_ = 0L;
+        investigatorEmail_ = "";
+        investigatorName_ = "";
+        isCmoRequest_ = false;
+        labHeadEmail_ = "";
+        labHeadName_ = "";
+        libraryType_ = "";
+        otherContactEmails_ = "";
+        piEmail_ = "";
+        pooledNormals_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        projectManagerName_ = "";
+        qcAccessEmails_ = "";
+        recipe_ = "";
+        requestId_ = "";
+        if (samplesBuilder_ == null) {
+          samples_ = java.util.Collections.emptyList();
+        } else {
+          samples_ = null;
+          samplesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00040000);
+        strand_ = "";
+        projectId_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.mskcc.smile.commons.generated.Igo.internal_static_RequestWithManifests_descriptor;
+      }
+
+      @java.lang.Override
+      public org.mskcc.smile.commons.generated.Igo.RequestWithManifests getDefaultInstanceForType() {
+        return org.mskcc.smile.commons.generated.Igo.RequestWithManifests.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.mskcc.smile.commons.generated.Igo.RequestWithManifests build() {
+        org.mskcc.smile.commons.generated.Igo.RequestWithManifests result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.mskcc.smile.commons.generated.Igo.RequestWithManifests buildPartial() {
+        org.mskcc.smile.commons.generated.Igo.RequestWithManifests result = new org.mskcc.smile.commons.generated.Igo.RequestWithManifests(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.mskcc.smile.commons.generated.Igo.RequestWithManifests result) {
+        if (samplesBuilder_ == null) {
+          if (((bitField0_ & 0x00040000) != 0)) {
+            samples_ = java.util.Collections.unmodifiableList(samples_);
+            bitField0_ = (bitField0_ & ~0x00040000);
+          }
+          result.samples_ = samples_;
+        } else {
+          result.samples_ = samplesBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.mskcc.smile.commons.generated.Igo.RequestWithManifests result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.bicAnalysis_ = bicAnalysis_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.dataAccessEmails_ = dataAccessEmails_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.dataAnalystEmail_ = dataAnalystEmail_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.dataAnalystName_ = dataAnalystName_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.deliveryDate_ = deliveryDate_;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.investigatorEmail_ = investigatorEmail_;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.investigatorName_ = investigatorName_;
+        }
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          result.isCmoRequest_ = isCmoRequest_;
+        }
+        if (((from_bitField0_ & 0x00000100) != 0)) {
+          result.labHeadEmail_ = labHeadEmail_;
+        }
+        if (((from_bitField0_ & 0x00000200) != 0)) {
+          result.labHeadName_ = labHeadName_;
+        }
+        if (((from_bitField0_ & 0x00000400) != 0)) {
+          result.libraryType_ = libraryType_;
+        }
+        if (((from_bitField0_ & 0x00000800) != 0)) {
+          result.otherContactEmails_ = otherContactEmails_;
+        }
+        if (((from_bitField0_ & 0x00001000) != 0)) {
+          result.piEmail_ = piEmail_;
+        }
+        if (((from_bitField0_ & 0x00002000) != 0)) {
+          pooledNormals_.makeImmutable();
+          result.pooledNormals_ = pooledNormals_;
+        }
+        if (((from_bitField0_ & 0x00004000) != 0)) {
+          result.projectManagerName_ = projectManagerName_;
+        }
+        if (((from_bitField0_ & 0x00008000) != 0)) {
+          result.qcAccessEmails_ = qcAccessEmails_;
+        }
+        if (((from_bitField0_ & 0x00010000) != 0)) {
+          result.recipe_ = recipe_;
+        }
+        if (((from_bitField0_ & 0x00020000) != 0)) {
+          result.requestId_ = requestId_;
+        }
+        if (((from_bitField0_ & 0x00080000) != 0)) {
+          result.strand_ = strand_;
+        }
+        if (((from_bitField0_ & 0x00100000) != 0)) {
+          result.projectId_ = projectId_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.mskcc.smile.commons.generated.Igo.RequestWithManifests) {
+          return mergeFrom((org.mskcc.smile.commons.generated.Igo.RequestWithManifests)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.mskcc.smile.commons.generated.Igo.RequestWithManifests other) {
+        if (other == org.mskcc.smile.commons.generated.Igo.RequestWithManifests.getDefaultInstance()) return this;
+        if (other.getBicAnalysis() != false) {
+          setBicAnalysis(other.getBicAnalysis());
+        }
+        if (!other.getDataAccessEmails().isEmpty()) {
+          dataAccessEmails_ = other.dataAccessEmails_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (!other.getDataAnalystEmail().isEmpty()) {
+          dataAnalystEmail_ = other.dataAnalystEmail_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (!other.getDataAnalystName().isEmpty()) {
+          dataAnalystName_ = other.dataAnalystName_;
+          bitField0_ |= 0x00000008;
+          onChanged();
+        }
+        if (other.getDeliveryDate() != 0L) {
+          setDeliveryDate(other.getDeliveryDate());
+        }
+        if (!other.getInvestigatorEmail().isEmpty()) {
+          investigatorEmail_ = other.investigatorEmail_;
+          bitField0_ |= 0x00000020;
+          onChanged();
+        }
+        if (!other.getInvestigatorName().isEmpty()) {
+          investigatorName_ = other.investigatorName_;
+          bitField0_ |= 0x00000040;
+          onChanged();
+        }
+        if (other.getIsCmoRequest() != false) {
+          setIsCmoRequest(other.getIsCmoRequest());
+        }
+        if (!other.getLabHeadEmail().isEmpty()) {
+          labHeadEmail_ = other.labHeadEmail_;
+          bitField0_ |= 0x00000100;
+          onChanged();
+        }
+        if (!other.getLabHeadName().isEmpty()) {
+          labHeadName_ = other.labHeadName_;
+          bitField0_ |= 0x00000200;
+          onChanged();
+        }
+        if (!other.getLibraryType().isEmpty()) {
+          libraryType_ = other.libraryType_;
+          bitField0_ |= 0x00000400;
+          onChanged();
+        }
+        if (!other.getOtherContactEmails().isEmpty()) {
+          otherContactEmails_ = other.otherContactEmails_;
+          bitField0_ |= 0x00000800;
+          onChanged();
+        }
+        if (!other.getPiEmail().isEmpty()) {
+          piEmail_ = other.piEmail_;
+          bitField0_ |= 0x00001000;
+          onChanged();
+        }
+        if (!other.pooledNormals_.isEmpty()) {
+          if (pooledNormals_.isEmpty()) {
+            pooledNormals_ = other.pooledNormals_;
+            bitField0_ |= 0x00002000;
+          } else {
+            ensurePooledNormalsIsMutable();
+            pooledNormals_.addAll(other.pooledNormals_);
+          }
+          onChanged();
+        }
+        if (!other.getProjectManagerName().isEmpty()) {
+          projectManagerName_ = other.projectManagerName_;
+          bitField0_ |= 0x00004000;
+          onChanged();
+        }
+        if (!other.getQcAccessEmails().isEmpty()) {
+          qcAccessEmails_ = other.qcAccessEmails_;
+          bitField0_ |= 0x00008000;
+          onChanged();
+        }
+        if (!other.getRecipe().isEmpty()) {
+          recipe_ = other.recipe_;
+          bitField0_ |= 0x00010000;
+          onChanged();
+        }
+        if (!other.getRequestId().isEmpty()) {
+          requestId_ = other.requestId_;
+          bitField0_ |= 0x00020000;
+          onChanged();
+        }
+        if (samplesBuilder_ == null) {
+          if (!other.samples_.isEmpty()) {
+            if (samples_.isEmpty()) {
+              samples_ = other.samples_;
+              bitField0_ = (bitField0_ & ~0x00040000);
+            } else {
+              ensureSamplesIsMutable();
+              samples_.addAll(other.samples_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.samples_.isEmpty()) {
+            if (samplesBuilder_.isEmpty()) {
+              samplesBuilder_.dispose();
+              samplesBuilder_ = null;
+              samples_ = other.samples_;
+              bitField0_ = (bitField0_ & ~0x00040000);
+              samplesBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getSamplesFieldBuilder() : null;
+            } else {
+              samplesBuilder_.addAllMessages(other.samples_);
+            }
+          }
+        }
+        if (!other.getStrand().isEmpty()) {
+          strand_ = other.strand_;
+          bitField0_ |= 0x00080000;
+          onChanged();
+        }
+        if (!other.getProjectId().isEmpty()) {
+          projectId_ = other.projectId_;
+          bitField0_ |= 0x00100000;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                bicAnalysis_ = input.readBool();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 18: {
+                dataAccessEmails_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                dataAnalystEmail_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                dataAnalystName_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              case 40: {
+                deliveryDate_ = input.readInt64();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 40
+              case 50: {
+                investigatorEmail_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 50
+              case 58: {
+                investigatorName_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 58
+              case 64: {
+                isCmoRequest_ = input.readBool();
+                bitField0_ |= 0x00000080;
+                break;
+              } // case 64
+              case 74: {
+                labHeadEmail_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000100;
+                break;
+              } // case 74
+              case 82: {
+                labHeadName_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000200;
+                break;
+              } // case 82
+              case 90: {
+                libraryType_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000400;
+                break;
+              } // case 90
+              case 98: {
+                otherContactEmails_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000800;
+                break;
+              } // case 98
+              case 106: {
+                piEmail_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00001000;
+                break;
+              } // case 106
+              case 114: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensurePooledNormalsIsMutable();
+                pooledNormals_.add(s);
+                break;
+              } // case 114
+              case 122: {
+                projectManagerName_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00004000;
+                break;
+              } // case 122
+              case 130: {
+                qcAccessEmails_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00008000;
+                break;
+              } // case 130
+              case 138: {
+                recipe_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00010000;
+                break;
+              } // case 138
+              case 146: {
+                requestId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00020000;
+                break;
+              } // case 146
+              case 154: {
+                org.mskcc.smile.commons.generated.Igo.SampleManifest m =
+                    input.readMessage(
+                        org.mskcc.smile.commons.generated.Igo.SampleManifest.parser(),
+                        extensionRegistry);
+                if (samplesBuilder_ == null) {
+                  ensureSamplesIsMutable();
+                  samples_.add(m);
+                } else {
+                  samplesBuilder_.addMessage(m);
+                }
+                break;
+              } // case 154
+              case 162: {
+                strand_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00080000;
+                break;
+              } // case 162
+              case 170: {
+                projectId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00100000;
+                break;
+              } // case 170
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private boolean bicAnalysis_ ;
+      /**
+       * <code>bool bicAnalysis = 1;</code>
+       * @return The bicAnalysis.
+       */
+      @java.lang.Override
+      public boolean getBicAnalysis() {
+        return bicAnalysis_;
+      }
+      /**
+       * <code>bool bicAnalysis = 1;</code>
+       * @param value The bicAnalysis to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBicAnalysis(boolean value) {
+
+        bicAnalysis_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool bicAnalysis = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearBicAnalysis() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        bicAnalysis_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object dataAccessEmails_ = "";
+      /**
+       * <code>string dataAccessEmails = 2;</code>
+       * @return The dataAccessEmails.
+       */
+      public java.lang.String getDataAccessEmails() {
+        java.lang.Object ref = dataAccessEmails_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          dataAccessEmails_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string dataAccessEmails = 2;</code>
+       * @return The bytes for dataAccessEmails.
+       */
+      public com.google.protobuf.ByteString
+          getDataAccessEmailsBytes() {
+        java.lang.Object ref = dataAccessEmails_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          dataAccessEmails_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string dataAccessEmails = 2;</code>
+       * @param value The dataAccessEmails to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDataAccessEmails(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        dataAccessEmails_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string dataAccessEmails = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDataAccessEmails() {
+        dataAccessEmails_ = getDefaultInstance().getDataAccessEmails();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string dataAccessEmails = 2;</code>
+       * @param value The bytes for dataAccessEmails to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDataAccessEmailsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        dataAccessEmails_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object dataAnalystEmail_ = "";
+      /**
+       * <code>string dataAnalystEmail = 3;</code>
+       * @return The dataAnalystEmail.
+       */
+      public java.lang.String getDataAnalystEmail() {
+        java.lang.Object ref = dataAnalystEmail_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          dataAnalystEmail_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string dataAnalystEmail = 3;</code>
+       * @return The bytes for dataAnalystEmail.
+       */
+      public com.google.protobuf.ByteString
+          getDataAnalystEmailBytes() {
+        java.lang.Object ref = dataAnalystEmail_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          dataAnalystEmail_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string dataAnalystEmail = 3;</code>
+       * @param value The dataAnalystEmail to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDataAnalystEmail(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        dataAnalystEmail_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string dataAnalystEmail = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDataAnalystEmail() {
+        dataAnalystEmail_ = getDefaultInstance().getDataAnalystEmail();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string dataAnalystEmail = 3;</code>
+       * @param value The bytes for dataAnalystEmail to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDataAnalystEmailBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        dataAnalystEmail_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object dataAnalystName_ = "";
+      /**
+       * <code>string dataAnalystName = 4;</code>
+       * @return The dataAnalystName.
+       */
+      public java.lang.String getDataAnalystName() {
+        java.lang.Object ref = dataAnalystName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          dataAnalystName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string dataAnalystName = 4;</code>
+       * @return The bytes for dataAnalystName.
+       */
+      public com.google.protobuf.ByteString
+          getDataAnalystNameBytes() {
+        java.lang.Object ref = dataAnalystName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          dataAnalystName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string dataAnalystName = 4;</code>
+       * @param value The dataAnalystName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDataAnalystName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        dataAnalystName_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string dataAnalystName = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDataAnalystName() {
+        dataAnalystName_ = getDefaultInstance().getDataAnalystName();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string dataAnalystName = 4;</code>
+       * @param value The bytes for dataAnalystName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDataAnalystNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        dataAnalystName_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+
+      private long deliveryDate_ ;
+      /**
+       * <code>int64 deliveryDate = 5;</code>
+       * @return The deliveryDate.
+       */
+      @java.lang.Override
+      public long getDeliveryDate() {
+        return deliveryDate_;
+      }
+      /**
+       * <code>int64 deliveryDate = 5;</code>
+       * @param value The deliveryDate to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDeliveryDate(long value) {
+
+        deliveryDate_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 deliveryDate = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDeliveryDate() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        deliveryDate_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object investigatorEmail_ = "";
+      /**
+       * <code>string investigatorEmail = 6;</code>
+       * @return The investigatorEmail.
+       */
+      public java.lang.String getInvestigatorEmail() {
+        java.lang.Object ref = investigatorEmail_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          investigatorEmail_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string investigatorEmail = 6;</code>
+       * @return The bytes for investigatorEmail.
+       */
+      public com.google.protobuf.ByteString
+          getInvestigatorEmailBytes() {
+        java.lang.Object ref = investigatorEmail_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          investigatorEmail_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string investigatorEmail = 6;</code>
+       * @param value The investigatorEmail to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInvestigatorEmail(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        investigatorEmail_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string investigatorEmail = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearInvestigatorEmail() {
+        investigatorEmail_ = getDefaultInstance().getInvestigatorEmail();
+        bitField0_ = (bitField0_ & ~0x00000020);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string investigatorEmail = 6;</code>
+       * @param value The bytes for investigatorEmail to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInvestigatorEmailBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        investigatorEmail_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object investigatorName_ = "";
+      /**
+       * <code>string investigatorName = 7;</code>
+       * @return The investigatorName.
+       */
+      public java.lang.String getInvestigatorName() {
+        java.lang.Object ref = investigatorName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          investigatorName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string investigatorName = 7;</code>
+       * @return The bytes for investigatorName.
+       */
+      public com.google.protobuf.ByteString
+          getInvestigatorNameBytes() {
+        java.lang.Object ref = investigatorName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          investigatorName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string investigatorName = 7;</code>
+       * @param value The investigatorName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInvestigatorName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        investigatorName_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string investigatorName = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearInvestigatorName() {
+        investigatorName_ = getDefaultInstance().getInvestigatorName();
+        bitField0_ = (bitField0_ & ~0x00000040);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string investigatorName = 7;</code>
+       * @param value The bytes for investigatorName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInvestigatorNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        investigatorName_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+
+      private boolean isCmoRequest_ ;
+      /**
+       * <code>bool isCmoRequest = 8;</code>
+       * @return The isCmoRequest.
+       */
+      @java.lang.Override
+      public boolean getIsCmoRequest() {
+        return isCmoRequest_;
+      }
+      /**
+       * <code>bool isCmoRequest = 8;</code>
+       * @param value The isCmoRequest to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIsCmoRequest(boolean value) {
+
+        isCmoRequest_ = value;
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool isCmoRequest = 8;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIsCmoRequest() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        isCmoRequest_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object labHeadEmail_ = "";
+      /**
+       * <code>string labHeadEmail = 9;</code>
+       * @return The labHeadEmail.
+       */
+      public java.lang.String getLabHeadEmail() {
+        java.lang.Object ref = labHeadEmail_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          labHeadEmail_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string labHeadEmail = 9;</code>
+       * @return The bytes for labHeadEmail.
+       */
+      public com.google.protobuf.ByteString
+          getLabHeadEmailBytes() {
+        java.lang.Object ref = labHeadEmail_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          labHeadEmail_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string labHeadEmail = 9;</code>
+       * @param value The labHeadEmail to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLabHeadEmail(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        labHeadEmail_ = value;
+        bitField0_ |= 0x00000100;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string labHeadEmail = 9;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLabHeadEmail() {
+        labHeadEmail_ = getDefaultInstance().getLabHeadEmail();
+        bitField0_ = (bitField0_ & ~0x00000100);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string labHeadEmail = 9;</code>
+       * @param value The bytes for labHeadEmail to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLabHeadEmailBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        labHeadEmail_ = value;
+        bitField0_ |= 0x00000100;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object labHeadName_ = "";
+      /**
+       * <code>string labHeadName = 10;</code>
+       * @return The labHeadName.
+       */
+      public java.lang.String getLabHeadName() {
+        java.lang.Object ref = labHeadName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          labHeadName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string labHeadName = 10;</code>
+       * @return The bytes for labHeadName.
+       */
+      public com.google.protobuf.ByteString
+          getLabHeadNameBytes() {
+        java.lang.Object ref = labHeadName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          labHeadName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string labHeadName = 10;</code>
+       * @param value The labHeadName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLabHeadName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        labHeadName_ = value;
+        bitField0_ |= 0x00000200;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string labHeadName = 10;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLabHeadName() {
+        labHeadName_ = getDefaultInstance().getLabHeadName();
+        bitField0_ = (bitField0_ & ~0x00000200);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string labHeadName = 10;</code>
+       * @param value The bytes for labHeadName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLabHeadNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        labHeadName_ = value;
+        bitField0_ |= 0x00000200;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object libraryType_ = "";
+      /**
+       * <code>string libraryType = 11;</code>
+       * @return The libraryType.
+       */
+      public java.lang.String getLibraryType() {
+        java.lang.Object ref = libraryType_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          libraryType_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string libraryType = 11;</code>
+       * @return The bytes for libraryType.
+       */
+      public com.google.protobuf.ByteString
+          getLibraryTypeBytes() {
+        java.lang.Object ref = libraryType_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          libraryType_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string libraryType = 11;</code>
+       * @param value The libraryType to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLibraryType(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        libraryType_ = value;
+        bitField0_ |= 0x00000400;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string libraryType = 11;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLibraryType() {
+        libraryType_ = getDefaultInstance().getLibraryType();
+        bitField0_ = (bitField0_ & ~0x00000400);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string libraryType = 11;</code>
+       * @param value The bytes for libraryType to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLibraryTypeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        libraryType_ = value;
+        bitField0_ |= 0x00000400;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object otherContactEmails_ = "";
+      /**
+       * <code>string otherContactEmails = 12;</code>
+       * @return The otherContactEmails.
+       */
+      public java.lang.String getOtherContactEmails() {
+        java.lang.Object ref = otherContactEmails_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          otherContactEmails_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string otherContactEmails = 12;</code>
+       * @return The bytes for otherContactEmails.
+       */
+      public com.google.protobuf.ByteString
+          getOtherContactEmailsBytes() {
+        java.lang.Object ref = otherContactEmails_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          otherContactEmails_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string otherContactEmails = 12;</code>
+       * @param value The otherContactEmails to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOtherContactEmails(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        otherContactEmails_ = value;
+        bitField0_ |= 0x00000800;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string otherContactEmails = 12;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearOtherContactEmails() {
+        otherContactEmails_ = getDefaultInstance().getOtherContactEmails();
+        bitField0_ = (bitField0_ & ~0x00000800);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string otherContactEmails = 12;</code>
+       * @param value The bytes for otherContactEmails to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOtherContactEmailsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        otherContactEmails_ = value;
+        bitField0_ |= 0x00000800;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object piEmail_ = "";
+      /**
+       * <code>string piEmail = 13;</code>
+       * @return The piEmail.
+       */
+      public java.lang.String getPiEmail() {
+        java.lang.Object ref = piEmail_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          piEmail_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string piEmail = 13;</code>
+       * @return The bytes for piEmail.
+       */
+      public com.google.protobuf.ByteString
+          getPiEmailBytes() {
+        java.lang.Object ref = piEmail_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          piEmail_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string piEmail = 13;</code>
+       * @param value The piEmail to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPiEmail(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        piEmail_ = value;
+        bitField0_ |= 0x00001000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string piEmail = 13;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPiEmail() {
+        piEmail_ = getDefaultInstance().getPiEmail();
+        bitField0_ = (bitField0_ & ~0x00001000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string piEmail = 13;</code>
+       * @param value The bytes for piEmail to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPiEmailBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        piEmail_ = value;
+        bitField0_ |= 0x00001000;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringArrayList pooledNormals_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensurePooledNormalsIsMutable() {
+        if (!pooledNormals_.isModifiable()) {
+          pooledNormals_ = new com.google.protobuf.LazyStringArrayList(pooledNormals_);
+        }
+        bitField0_ |= 0x00002000;
+      }
+      /**
+       * <code>repeated string pooledNormals = 14;</code>
+       * @return A list containing the pooledNormals.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getPooledNormalsList() {
+        pooledNormals_.makeImmutable();
+        return pooledNormals_;
+      }
+      /**
+       * <code>repeated string pooledNormals = 14;</code>
+       * @return The count of pooledNormals.
+       */
+      public int getPooledNormalsCount() {
+        return pooledNormals_.size();
+      }
+      /**
+       * <code>repeated string pooledNormals = 14;</code>
+       * @param index The index of the element to return.
+       * @return The pooledNormals at the given index.
+       */
+      public java.lang.String getPooledNormals(int index) {
+        return pooledNormals_.get(index);
+      }
+      /**
+       * <code>repeated string pooledNormals = 14;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the pooledNormals at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getPooledNormalsBytes(int index) {
+        return pooledNormals_.getByteString(index);
+      }
+      /**
+       * <code>repeated string pooledNormals = 14;</code>
+       * @param index The index to set the value at.
+       * @param value The pooledNormals to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPooledNormals(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensurePooledNormalsIsMutable();
+        pooledNormals_.set(index, value);
+        bitField0_ |= 0x00002000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string pooledNormals = 14;</code>
+       * @param value The pooledNormals to add.
+       * @return This builder for chaining.
+       */
+      public Builder addPooledNormals(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensurePooledNormalsIsMutable();
+        pooledNormals_.add(value);
+        bitField0_ |= 0x00002000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string pooledNormals = 14;</code>
+       * @param values The pooledNormals to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllPooledNormals(
+          java.lang.Iterable<java.lang.String> values) {
+        ensurePooledNormalsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, pooledNormals_);
+        bitField0_ |= 0x00002000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string pooledNormals = 14;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPooledNormals() {
+        pooledNormals_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00002000);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string pooledNormals = 14;</code>
+       * @param value The bytes of the pooledNormals to add.
+       * @return This builder for chaining.
+       */
+      public Builder addPooledNormalsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensurePooledNormalsIsMutable();
+        pooledNormals_.add(value);
+        bitField0_ |= 0x00002000;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object projectManagerName_ = "";
+      /**
+       * <code>string projectManagerName = 15;</code>
+       * @return The projectManagerName.
+       */
+      public java.lang.String getProjectManagerName() {
+        java.lang.Object ref = projectManagerName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          projectManagerName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string projectManagerName = 15;</code>
+       * @return The bytes for projectManagerName.
+       */
+      public com.google.protobuf.ByteString
+          getProjectManagerNameBytes() {
+        java.lang.Object ref = projectManagerName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          projectManagerName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string projectManagerName = 15;</code>
+       * @param value The projectManagerName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setProjectManagerName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        projectManagerName_ = value;
+        bitField0_ |= 0x00004000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string projectManagerName = 15;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearProjectManagerName() {
+        projectManagerName_ = getDefaultInstance().getProjectManagerName();
+        bitField0_ = (bitField0_ & ~0x00004000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string projectManagerName = 15;</code>
+       * @param value The bytes for projectManagerName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setProjectManagerNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        projectManagerName_ = value;
+        bitField0_ |= 0x00004000;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object qcAccessEmails_ = "";
+      /**
+       * <code>string qcAccessEmails = 16;</code>
+       * @return The qcAccessEmails.
+       */
+      public java.lang.String getQcAccessEmails() {
+        java.lang.Object ref = qcAccessEmails_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          qcAccessEmails_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string qcAccessEmails = 16;</code>
+       * @return The bytes for qcAccessEmails.
+       */
+      public com.google.protobuf.ByteString
+          getQcAccessEmailsBytes() {
+        java.lang.Object ref = qcAccessEmails_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          qcAccessEmails_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string qcAccessEmails = 16;</code>
+       * @param value The qcAccessEmails to set.
+       * @return This builder for chaining.
+       */
+      public Builder setQcAccessEmails(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        qcAccessEmails_ = value;
+        bitField0_ |= 0x00008000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string qcAccessEmails = 16;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearQcAccessEmails() {
+        qcAccessEmails_ = getDefaultInstance().getQcAccessEmails();
+        bitField0_ = (bitField0_ & ~0x00008000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string qcAccessEmails = 16;</code>
+       * @param value The bytes for qcAccessEmails to set.
+       * @return This builder for chaining.
+       */
+      public Builder setQcAccessEmailsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        qcAccessEmails_ = value;
+        bitField0_ |= 0x00008000;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object recipe_ = "";
+      /**
+       * <code>string recipe = 17;</code>
+       * @return The recipe.
+       */
+      public java.lang.String getRecipe() {
+        java.lang.Object ref = recipe_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          recipe_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string recipe = 17;</code>
+       * @return The bytes for recipe.
+       */
+      public com.google.protobuf.ByteString
+          getRecipeBytes() {
+        java.lang.Object ref = recipe_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          recipe_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string recipe = 17;</code>
+       * @param value The recipe to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRecipe(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        recipe_ = value;
+        bitField0_ |= 0x00010000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string recipe = 17;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRecipe() {
+        recipe_ = getDefaultInstance().getRecipe();
+        bitField0_ = (bitField0_ & ~0x00010000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string recipe = 17;</code>
+       * @param value The bytes for recipe to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRecipeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        recipe_ = value;
+        bitField0_ |= 0x00010000;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object requestId_ = "";
+      /**
+       * <code>string requestId = 18;</code>
+       * @return The requestId.
+       */
+      public java.lang.String getRequestId() {
+        java.lang.Object ref = requestId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          requestId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string requestId = 18;</code>
+       * @return The bytes for requestId.
+       */
+      public com.google.protobuf.ByteString
+          getRequestIdBytes() {
+        java.lang.Object ref = requestId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          requestId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string requestId = 18;</code>
+       * @param value The requestId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRequestId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        requestId_ = value;
+        bitField0_ |= 0x00020000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string requestId = 18;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRequestId() {
+        requestId_ = getDefaultInstance().getRequestId();
+        bitField0_ = (bitField0_ & ~0x00020000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string requestId = 18;</code>
+       * @param value The bytes for requestId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRequestIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        requestId_ = value;
+        bitField0_ |= 0x00020000;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.mskcc.smile.commons.generated.Igo.SampleManifest> samples_ =
+        java.util.Collections.emptyList();
+      private void ensureSamplesIsMutable() {
+        if (!((bitField0_ & 0x00040000) != 0)) {
+          samples_ = new java.util.ArrayList<org.mskcc.smile.commons.generated.Igo.SampleManifest>(samples_);
+          bitField0_ |= 0x00040000;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.mskcc.smile.commons.generated.Igo.SampleManifest, org.mskcc.smile.commons.generated.Igo.SampleManifest.Builder, org.mskcc.smile.commons.generated.Igo.SampleManifestOrBuilder> samplesBuilder_;
+
+      /**
+       * <code>repeated .SampleManifest samples = 19;</code>
+       */
+      public java.util.List<org.mskcc.smile.commons.generated.Igo.SampleManifest> getSamplesList() {
+        if (samplesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(samples_);
+        } else {
+          return samplesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .SampleManifest samples = 19;</code>
+       */
+      public int getSamplesCount() {
+        if (samplesBuilder_ == null) {
+          return samples_.size();
+        } else {
+          return samplesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .SampleManifest samples = 19;</code>
+       */
+      public org.mskcc.smile.commons.generated.Igo.SampleManifest getSamples(int index) {
+        if (samplesBuilder_ == null) {
+          return samples_.get(index);
+        } else {
+          return samplesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .SampleManifest samples = 19;</code>
+       */
+      public Builder setSamples(
+          int index, org.mskcc.smile.commons.generated.Igo.SampleManifest value) {
+        if (samplesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSamplesIsMutable();
+          samples_.set(index, value);
+          onChanged();
+        } else {
+          samplesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SampleManifest samples = 19;</code>
+       */
+      public Builder setSamples(
+          int index, org.mskcc.smile.commons.generated.Igo.SampleManifest.Builder builderForValue) {
+        if (samplesBuilder_ == null) {
+          ensureSamplesIsMutable();
+          samples_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          samplesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SampleManifest samples = 19;</code>
+       */
+      public Builder addSamples(org.mskcc.smile.commons.generated.Igo.SampleManifest value) {
+        if (samplesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSamplesIsMutable();
+          samples_.add(value);
+          onChanged();
+        } else {
+          samplesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SampleManifest samples = 19;</code>
+       */
+      public Builder addSamples(
+          int index, org.mskcc.smile.commons.generated.Igo.SampleManifest value) {
+        if (samplesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSamplesIsMutable();
+          samples_.add(index, value);
+          onChanged();
+        } else {
+          samplesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SampleManifest samples = 19;</code>
+       */
+      public Builder addSamples(
+          org.mskcc.smile.commons.generated.Igo.SampleManifest.Builder builderForValue) {
+        if (samplesBuilder_ == null) {
+          ensureSamplesIsMutable();
+          samples_.add(builderForValue.build());
+          onChanged();
+        } else {
+          samplesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SampleManifest samples = 19;</code>
+       */
+      public Builder addSamples(
+          int index, org.mskcc.smile.commons.generated.Igo.SampleManifest.Builder builderForValue) {
+        if (samplesBuilder_ == null) {
+          ensureSamplesIsMutable();
+          samples_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          samplesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SampleManifest samples = 19;</code>
+       */
+      public Builder addAllSamples(
+          java.lang.Iterable<? extends org.mskcc.smile.commons.generated.Igo.SampleManifest> values) {
+        if (samplesBuilder_ == null) {
+          ensureSamplesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, samples_);
+          onChanged();
+        } else {
+          samplesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SampleManifest samples = 19;</code>
+       */
+      public Builder clearSamples() {
+        if (samplesBuilder_ == null) {
+          samples_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00040000);
+          onChanged();
+        } else {
+          samplesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SampleManifest samples = 19;</code>
+       */
+      public Builder removeSamples(int index) {
+        if (samplesBuilder_ == null) {
+          ensureSamplesIsMutable();
+          samples_.remove(index);
+          onChanged();
+        } else {
+          samplesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SampleManifest samples = 19;</code>
+       */
+      public org.mskcc.smile.commons.generated.Igo.SampleManifest.Builder getSamplesBuilder(
+          int index) {
+        return getSamplesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .SampleManifest samples = 19;</code>
+       */
+      public org.mskcc.smile.commons.generated.Igo.SampleManifestOrBuilder getSamplesOrBuilder(
+          int index) {
+        if (samplesBuilder_ == null) {
+          return samples_.get(index);  } else {
+          return samplesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .SampleManifest samples = 19;</code>
+       */
+      public java.util.List<? extends org.mskcc.smile.commons.generated.Igo.SampleManifestOrBuilder> 
+           getSamplesOrBuilderList() {
+        if (samplesBuilder_ != null) {
+          return samplesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(samples_);
+        }
+      }
+      /**
+       * <code>repeated .SampleManifest samples = 19;</code>
+       */
+      public org.mskcc.smile.commons.generated.Igo.SampleManifest.Builder addSamplesBuilder() {
+        return getSamplesFieldBuilder().addBuilder(
+            org.mskcc.smile.commons.generated.Igo.SampleManifest.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .SampleManifest samples = 19;</code>
+       */
+      public org.mskcc.smile.commons.generated.Igo.SampleManifest.Builder addSamplesBuilder(
+          int index) {
+        return getSamplesFieldBuilder().addBuilder(
+            index, org.mskcc.smile.commons.generated.Igo.SampleManifest.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .SampleManifest samples = 19;</code>
+       */
+      public java.util.List<org.mskcc.smile.commons.generated.Igo.SampleManifest.Builder> 
+           getSamplesBuilderList() {
+        return getSamplesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.mskcc.smile.commons.generated.Igo.SampleManifest, org.mskcc.smile.commons.generated.Igo.SampleManifest.Builder, org.mskcc.smile.commons.generated.Igo.SampleManifestOrBuilder> 
+          getSamplesFieldBuilder() {
+        if (samplesBuilder_ == null) {
+          samplesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.mskcc.smile.commons.generated.Igo.SampleManifest, org.mskcc.smile.commons.generated.Igo.SampleManifest.Builder, org.mskcc.smile.commons.generated.Igo.SampleManifestOrBuilder>(
+                  samples_,
+                  ((bitField0_ & 0x00040000) != 0),
+                  getParentForChildren(),
+                  isClean());
+          samples_ = null;
+        }
+        return samplesBuilder_;
+      }
+
+      private java.lang.Object strand_ = "";
+      /**
+       * <code>string strand = 20;</code>
+       * @return The strand.
+       */
+      public java.lang.String getStrand() {
+        java.lang.Object ref = strand_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          strand_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string strand = 20;</code>
+       * @return The bytes for strand.
+       */
+      public com.google.protobuf.ByteString
+          getStrandBytes() {
+        java.lang.Object ref = strand_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          strand_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string strand = 20;</code>
+       * @param value The strand to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStrand(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        strand_ = value;
+        bitField0_ |= 0x00080000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string strand = 20;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearStrand() {
+        strand_ = getDefaultInstance().getStrand();
+        bitField0_ = (bitField0_ & ~0x00080000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string strand = 20;</code>
+       * @param value The bytes for strand to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStrandBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        strand_ = value;
+        bitField0_ |= 0x00080000;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object projectId_ = "";
+      /**
+       * <code>string projectId = 21;</code>
+       * @return The projectId.
+       */
+      public java.lang.String getProjectId() {
+        java.lang.Object ref = projectId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          projectId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string projectId = 21;</code>
+       * @return The bytes for projectId.
+       */
+      public com.google.protobuf.ByteString
+          getProjectIdBytes() {
+        java.lang.Object ref = projectId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          projectId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string projectId = 21;</code>
+       * @param value The projectId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setProjectId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        projectId_ = value;
+        bitField0_ |= 0x00100000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string projectId = 21;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearProjectId() {
+        projectId_ = getDefaultInstance().getProjectId();
+        bitField0_ = (bitField0_ & ~0x00100000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string projectId = 21;</code>
+       * @param value The bytes for projectId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setProjectIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        projectId_ = value;
+        bitField0_ |= 0x00100000;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:RequestWithManifests)
+    }
+
+    // @@protoc_insertion_point(class_scope:RequestWithManifests)
+    private static final org.mskcc.smile.commons.generated.Igo.RequestWithManifests DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.mskcc.smile.commons.generated.Igo.RequestWithManifests();
+    }
+
+    public static org.mskcc.smile.commons.generated.Igo.RequestWithManifests getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<RequestWithManifests>
+        PARSER = new com.google.protobuf.AbstractParser<RequestWithManifests>() {
+      @java.lang.Override
+      public RequestWithManifests parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<RequestWithManifests> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<RequestWithManifests> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.mskcc.smile.commons.generated.Igo.RequestWithManifests getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface SampleManifestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:SampleManifest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string baitSet = 1;</code>
+     * @return The baitSet.
+     */
+    java.lang.String getBaitSet();
+    /**
+     * <code>string baitSet = 1;</code>
+     * @return The bytes for baitSet.
+     */
+    com.google.protobuf.ByteString
+        getBaitSetBytes();
+
+    /**
+     * <code>string cfDNA2dBarcode = 2;</code>
+     * @return The cfDNA2dBarcode.
+     */
+    java.lang.String getCfDNA2DBarcode();
+    /**
+     * <code>string cfDNA2dBarcode = 2;</code>
+     * @return The bytes for cfDNA2dBarcode.
+     */
+    com.google.protobuf.ByteString
+        getCfDNA2DBarcodeBytes();
+
+    /**
+     * <code>string cmoInfoIgoId = 3;</code>
+     * @return The cmoInfoIgoId.
+     */
+    java.lang.String getCmoInfoIgoId();
+    /**
+     * <code>string cmoInfoIgoId = 3;</code>
+     * @return The bytes for cmoInfoIgoId.
+     */
+    com.google.protobuf.ByteString
+        getCmoInfoIgoIdBytes();
+
+    /**
+     * <code>string cmoPatientId = 4;</code>
+     * @return The cmoPatientId.
+     */
+    java.lang.String getCmoPatientId();
+    /**
+     * <code>string cmoPatientId = 4;</code>
+     * @return The bytes for cmoPatientId.
+     */
+    com.google.protobuf.ByteString
+        getCmoPatientIdBytes();
+
+    /**
+     * <code>string cmoSampleClass = 5;</code>
+     * @return The cmoSampleClass.
+     */
+    java.lang.String getCmoSampleClass();
+    /**
+     * <code>string cmoSampleClass = 5;</code>
+     * @return The bytes for cmoSampleClass.
+     */
+    com.google.protobuf.ByteString
+        getCmoSampleClassBytes();
+
+    /**
+     * <code>.SampleManifest.Cmosampleidfields cmoSampleIdFields = 6;</code>
+     * @return Whether the cmoSampleIdFields field is set.
+     */
+    boolean hasCmoSampleIdFields();
+    /**
+     * <code>.SampleManifest.Cmosampleidfields cmoSampleIdFields = 6;</code>
+     * @return The cmoSampleIdFields.
+     */
+    org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields getCmoSampleIdFields();
+    /**
+     * <code>.SampleManifest.Cmosampleidfields cmoSampleIdFields = 6;</code>
+     */
+    org.mskcc.smile.commons.generated.Igo.SampleManifest.CmosampleidfieldsOrBuilder getCmoSampleIdFieldsOrBuilder();
+
+    /**
+     * <code>string cmoSampleName = 7;</code>
+     * @return The cmoSampleName.
+     */
+    java.lang.String getCmoSampleName();
+    /**
+     * <code>string cmoSampleName = 7;</code>
+     * @return The bytes for cmoSampleName.
+     */
+    com.google.protobuf.ByteString
+        getCmoSampleNameBytes();
+
+    /**
+     * <code>string collectionYear = 8;</code>
+     * @return The collectionYear.
+     */
+    java.lang.String getCollectionYear();
+    /**
+     * <code>string collectionYear = 8;</code>
+     * @return The bytes for collectionYear.
+     */
+    com.google.protobuf.ByteString
+        getCollectionYearBytes();
+
+    /**
+     * <code>string igoId = 9;</code>
+     * @return The igoId.
+     */
+    java.lang.String getIgoId();
+    /**
+     * <code>string igoId = 9;</code>
+     * @return The bytes for igoId.
+     */
+    com.google.protobuf.ByteString
+        getIgoIdBytes();
+
+    /**
+     * <code>string investigatorSampleId = 10;</code>
+     * @return The investigatorSampleId.
+     */
+    java.lang.String getInvestigatorSampleId();
+    /**
+     * <code>string investigatorSampleId = 10;</code>
+     * @return The bytes for investigatorSampleId.
+     */
+    com.google.protobuf.ByteString
+        getInvestigatorSampleIdBytes();
+
+    /**
+     * <code>repeated .SampleManifest.Libraries libraries = 11;</code>
+     */
+    java.util.List<org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries> 
+        getLibrariesList();
+    /**
+     * <code>repeated .SampleManifest.Libraries libraries = 11;</code>
+     */
+    org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries getLibraries(int index);
+    /**
+     * <code>repeated .SampleManifest.Libraries libraries = 11;</code>
+     */
+    int getLibrariesCount();
+    /**
+     * <code>repeated .SampleManifest.Libraries libraries = 11;</code>
+     */
+    java.util.List<? extends org.mskcc.smile.commons.generated.Igo.SampleManifest.LibrariesOrBuilder> 
+        getLibrariesOrBuilderList();
+    /**
+     * <code>repeated .SampleManifest.Libraries libraries = 11;</code>
+     */
+    org.mskcc.smile.commons.generated.Igo.SampleManifest.LibrariesOrBuilder getLibrariesOrBuilder(
+        int index);
+
+    /**
+     * <code>string oncoTreeCode = 12;</code>
+     * @return The oncoTreeCode.
+     */
+    java.lang.String getOncoTreeCode();
+    /**
+     * <code>string oncoTreeCode = 12;</code>
+     * @return The bytes for oncoTreeCode.
+     */
+    com.google.protobuf.ByteString
+        getOncoTreeCodeBytes();
+
+    /**
+     * <code>string preservation = 13;</code>
+     * @return The preservation.
+     */
+    java.lang.String getPreservation();
+    /**
+     * <code>string preservation = 13;</code>
+     * @return The bytes for preservation.
+     */
+    com.google.protobuf.ByteString
+        getPreservationBytes();
+
+    /**
+     * <code>repeated .SampleManifest.Qcreports qcReports = 14;</code>
+     */
+    java.util.List<org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports> 
+        getQcReportsList();
+    /**
+     * <code>repeated .SampleManifest.Qcreports qcReports = 14;</code>
+     */
+    org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports getQcReports(int index);
+    /**
+     * <code>repeated .SampleManifest.Qcreports qcReports = 14;</code>
+     */
+    int getQcReportsCount();
+    /**
+     * <code>repeated .SampleManifest.Qcreports qcReports = 14;</code>
+     */
+    java.util.List<? extends org.mskcc.smile.commons.generated.Igo.SampleManifest.QcreportsOrBuilder> 
+        getQcReportsOrBuilderList();
+    /**
+     * <code>repeated .SampleManifest.Qcreports qcReports = 14;</code>
+     */
+    org.mskcc.smile.commons.generated.Igo.SampleManifest.QcreportsOrBuilder getQcReportsOrBuilder(
+        int index);
+
+    /**
+     * <code>string sampleName = 15;</code>
+     * @return The sampleName.
+     */
+    java.lang.String getSampleName();
+    /**
+     * <code>string sampleName = 15;</code>
+     * @return The bytes for sampleName.
+     */
+    com.google.protobuf.ByteString
+        getSampleNameBytes();
+
+    /**
+     * <code>string sampleOrigin = 16;</code>
+     * @return The sampleOrigin.
+     */
+    java.lang.String getSampleOrigin();
+    /**
+     * <code>string sampleOrigin = 16;</code>
+     * @return The bytes for sampleOrigin.
+     */
+    com.google.protobuf.ByteString
+        getSampleOriginBytes();
+
+    /**
+     * <code>string sex = 17;</code>
+     * @return The sex.
+     */
+    java.lang.String getSex();
+    /**
+     * <code>string sex = 17;</code>
+     * @return The bytes for sex.
+     */
+    com.google.protobuf.ByteString
+        getSexBytes();
+
+    /**
+     * <code>string species = 18;</code>
+     * @return The species.
+     */
+    java.lang.String getSpecies();
+    /**
+     * <code>string species = 18;</code>
+     * @return The bytes for species.
+     */
+    com.google.protobuf.ByteString
+        getSpeciesBytes();
+
+    /**
+     * <code>string specimenType = 19;</code>
+     * @return The specimenType.
+     */
+    java.lang.String getSpecimenType();
+    /**
+     * <code>string specimenType = 19;</code>
+     * @return The bytes for specimenType.
+     */
+    com.google.protobuf.ByteString
+        getSpecimenTypeBytes();
+
+    /**
+     * <code>string tissueLocation = 20;</code>
+     * @return The tissueLocation.
+     */
+    java.lang.String getTissueLocation();
+    /**
+     * <code>string tissueLocation = 20;</code>
+     * @return The bytes for tissueLocation.
+     */
+    com.google.protobuf.ByteString
+        getTissueLocationBytes();
+
+    /**
+     * <code>string tubeId = 21;</code>
+     * @return The tubeId.
+     */
+    java.lang.String getTubeId();
+    /**
+     * <code>string tubeId = 21;</code>
+     * @return The bytes for tubeId.
+     */
+    com.google.protobuf.ByteString
+        getTubeIdBytes();
+
+    /**
+     * <code>string tumorOrNormal = 22;</code>
+     * @return The tumorOrNormal.
+     */
+    java.lang.String getTumorOrNormal();
+    /**
+     * <code>string tumorOrNormal = 22;</code>
+     * @return The bytes for tumorOrNormal.
+     */
+    com.google.protobuf.ByteString
+        getTumorOrNormalBytes();
+
+    /**
+     * <code>bool igoComplete = 23;</code>
+     * @return The igoComplete.
+     */
+    boolean getIgoComplete();
+  }
+  /**
+   * Protobuf type {@code SampleManifest}
+   */
+  public static final class SampleManifest extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:SampleManifest)
+      SampleManifestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 29,
+        /* patch= */ 3,
+        /* suffix= */ "",
+        SampleManifest.class.getName());
+    }
+    // Use SampleManifest.newBuilder() to construct.
+    private SampleManifest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private SampleManifest() {
+      baitSet_ = "";
+      cfDNA2DBarcode_ = "";
+      cmoInfoIgoId_ = "";
+      cmoPatientId_ = "";
+      cmoSampleClass_ = "";
+      cmoSampleName_ = "";
+      collectionYear_ = "";
+      igoId_ = "";
+      investigatorSampleId_ = "";
+      libraries_ = java.util.Collections.emptyList();
+      oncoTreeCode_ = "";
+      preservation_ = "";
+      qcReports_ = java.util.Collections.emptyList();
+      sampleName_ = "";
+      sampleOrigin_ = "";
+      sex_ = "";
+      species_ = "";
+      specimenType_ = "";
+      tissueLocation_ = "";
+      tubeId_ = "";
+      tumorOrNormal_ = "";
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.mskcc.smile.commons.generated.Igo.internal_static_SampleManifest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.mskcc.smile.commons.generated.Igo.internal_static_SampleManifest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.mskcc.smile.commons.generated.Igo.SampleManifest.class, org.mskcc.smile.commons.generated.Igo.SampleManifest.Builder.class);
+    }
+
+    public interface CmosampleidfieldsOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:SampleManifest.Cmosampleidfields)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>string naToExtract = 1;</code>
+       * @return The naToExtract.
+       */
+      java.lang.String getNaToExtract();
+      /**
+       * <code>string naToExtract = 1;</code>
+       * @return The bytes for naToExtract.
+       */
+      com.google.protobuf.ByteString
+          getNaToExtractBytes();
+
+      /**
+       * <code>string normalizedPatientId = 2;</code>
+       * @return The normalizedPatientId.
+       */
+      java.lang.String getNormalizedPatientId();
+      /**
+       * <code>string normalizedPatientId = 2;</code>
+       * @return The bytes for normalizedPatientId.
+       */
+      com.google.protobuf.ByteString
+          getNormalizedPatientIdBytes();
+
+      /**
+       * <code>string recipe = 3;</code>
+       * @return The recipe.
+       */
+      java.lang.String getRecipe();
+      /**
+       * <code>string recipe = 3;</code>
+       * @return The bytes for recipe.
+       */
+      com.google.protobuf.ByteString
+          getRecipeBytes();
+
+      /**
+       * <code>string sampleType = 4;</code>
+       * @return The sampleType.
+       */
+      java.lang.String getSampleType();
+      /**
+       * <code>string sampleType = 4;</code>
+       * @return The bytes for sampleType.
+       */
+      com.google.protobuf.ByteString
+          getSampleTypeBytes();
+    }
+    /**
+     * Protobuf type {@code SampleManifest.Cmosampleidfields}
+     */
+    public static final class Cmosampleidfields extends
+        com.google.protobuf.GeneratedMessage implements
+        // @@protoc_insertion_point(message_implements:SampleManifest.Cmosampleidfields)
+        CmosampleidfieldsOrBuilder {
+    private static final long serialVersionUID = 0L;
+      static {
+        com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+          /* major= */ 4,
+          /* minor= */ 29,
+          /* patch= */ 3,
+          /* suffix= */ "",
+          Cmosampleidfields.class.getName());
+      }
+      // Use Cmosampleidfields.newBuilder() to construct.
+      private Cmosampleidfields(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+      }
+      private Cmosampleidfields() {
+        naToExtract_ = "";
+        normalizedPatientId_ = "";
+        recipe_ = "";
+        sampleType_ = "";
+      }
+
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.mskcc.smile.commons.generated.Igo.internal_static_SampleManifest_Cmosampleidfields_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.mskcc.smile.commons.generated.Igo.internal_static_SampleManifest_Cmosampleidfields_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields.class, org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields.Builder.class);
+      }
+
+      public static final int NATOEXTRACT_FIELD_NUMBER = 1;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object naToExtract_ = "";
+      /**
+       * <code>string naToExtract = 1;</code>
+       * @return The naToExtract.
+       */
+      @java.lang.Override
+      public java.lang.String getNaToExtract() {
+        java.lang.Object ref = naToExtract_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          naToExtract_ = s;
+          return s;
+        }
+      }
+      /**
+       * <code>string naToExtract = 1;</code>
+       * @return The bytes for naToExtract.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getNaToExtractBytes() {
+        java.lang.Object ref = naToExtract_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          naToExtract_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int NORMALIZEDPATIENTID_FIELD_NUMBER = 2;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object normalizedPatientId_ = "";
+      /**
+       * <code>string normalizedPatientId = 2;</code>
+       * @return The normalizedPatientId.
+       */
+      @java.lang.Override
+      public java.lang.String getNormalizedPatientId() {
+        java.lang.Object ref = normalizedPatientId_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          normalizedPatientId_ = s;
+          return s;
+        }
+      }
+      /**
+       * <code>string normalizedPatientId = 2;</code>
+       * @return The bytes for normalizedPatientId.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getNormalizedPatientIdBytes() {
+        java.lang.Object ref = normalizedPatientId_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          normalizedPatientId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int RECIPE_FIELD_NUMBER = 3;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object recipe_ = "";
+      /**
+       * <code>string recipe = 3;</code>
+       * @return The recipe.
+       */
+      @java.lang.Override
+      public java.lang.String getRecipe() {
+        java.lang.Object ref = recipe_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          recipe_ = s;
+          return s;
+        }
+      }
+      /**
+       * <code>string recipe = 3;</code>
+       * @return The bytes for recipe.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getRecipeBytes() {
+        java.lang.Object ref = recipe_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          recipe_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int SAMPLETYPE_FIELD_NUMBER = 4;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object sampleType_ = "";
+      /**
+       * <code>string sampleType = 4;</code>
+       * @return The sampleType.
+       */
+      @java.lang.Override
+      public java.lang.String getSampleType() {
+        java.lang.Object ref = sampleType_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          sampleType_ = s;
+          return s;
+        }
+      }
+      /**
+       * <code>string sampleType = 4;</code>
+       * @return The bytes for sampleType.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getSampleTypeBytes() {
+        java.lang.Object ref = sampleType_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          sampleType_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      private byte memoizedIsInitialized = -1;
+      @java.lang.Override
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      @java.lang.Override
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        if (!com.google.protobuf.GeneratedMessage.isStringEmpty(naToExtract_)) {
+          com.google.protobuf.GeneratedMessage.writeString(output, 1, naToExtract_);
+        }
+        if (!com.google.protobuf.GeneratedMessage.isStringEmpty(normalizedPatientId_)) {
+          com.google.protobuf.GeneratedMessage.writeString(output, 2, normalizedPatientId_);
+        }
+        if (!com.google.protobuf.GeneratedMessage.isStringEmpty(recipe_)) {
+          com.google.protobuf.GeneratedMessage.writeString(output, 3, recipe_);
+        }
+        if (!com.google.protobuf.GeneratedMessage.isStringEmpty(sampleType_)) {
+          com.google.protobuf.GeneratedMessage.writeString(output, 4, sampleType_);
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      @java.lang.Override
+      public int getSerializedSize() {
+        int size = memoizedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (!com.google.protobuf.GeneratedMessage.isStringEmpty(naToExtract_)) {
+          size += com.google.protobuf.GeneratedMessage.computeStringSize(1, naToExtract_);
+        }
+        if (!com.google.protobuf.GeneratedMessage.isStringEmpty(normalizedPatientId_)) {
+          size += com.google.protobuf.GeneratedMessage.computeStringSize(2, normalizedPatientId_);
+        }
+        if (!com.google.protobuf.GeneratedMessage.isStringEmpty(recipe_)) {
+          size += com.google.protobuf.GeneratedMessage.computeStringSize(3, recipe_);
+        }
+        if (!com.google.protobuf.GeneratedMessage.isStringEmpty(sampleType_)) {
+          size += com.google.protobuf.GeneratedMessage.computeStringSize(4, sampleType_);
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSize = size;
+        return size;
+      }
+
+      @java.lang.Override
+      public boolean equals(final java.lang.Object obj) {
+        if (obj == this) {
+         return true;
+        }
+        if (!(obj instanceof org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields)) {
+          return super.equals(obj);
+        }
+        org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields other = (org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields) obj;
+
+        if (!getNaToExtract()
+            .equals(other.getNaToExtract())) return false;
+        if (!getNormalizedPatientId()
+            .equals(other.getNormalizedPatientId())) return false;
+        if (!getRecipe()
+            .equals(other.getRecipe())) return false;
+        if (!getSampleType()
+            .equals(other.getSampleType())) return false;
+        if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+        return true;
+      }
+
+      @java.lang.Override
+      public int hashCode() {
+        if (memoizedHashCode != 0) {
+          return memoizedHashCode;
+        }
+        int hash = 41;
+        hash = (19 * hash) + getDescriptor().hashCode();
+        hash = (37 * hash) + NATOEXTRACT_FIELD_NUMBER;
+        hash = (53 * hash) + getNaToExtract().hashCode();
+        hash = (37 * hash) + NORMALIZEDPATIENTID_FIELD_NUMBER;
+        hash = (53 * hash) + getNormalizedPatientId().hashCode();
+        hash = (37 * hash) + RECIPE_FIELD_NUMBER;
+        hash = (53 * hash) + getRecipe().hashCode();
+        hash = (37 * hash) + SAMPLETYPE_FIELD_NUMBER;
+        hash = (53 * hash) + getSampleType().hashCode();
+        hash = (29 * hash) + getUnknownFields().hashCode();
+        memoizedHashCode = hash;
+        return hash;
+      }
+
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields parseFrom(
+          java.nio.ByteBuffer data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields parseFrom(
+          java.nio.ByteBuffer data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseDelimitedWithIOException(PARSER, input);
+      }
+
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      @java.lang.Override
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder() {
+        return DEFAULT_INSTANCE.toBuilder();
+      }
+      public static Builder newBuilder(org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields prototype) {
+        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+      }
+      @java.lang.Override
+      public Builder toBuilder() {
+        return this == DEFAULT_INSTANCE
+            ? new Builder() : new Builder().mergeFrom(this);
+      }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code SampleManifest.Cmosampleidfields}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:SampleManifest.Cmosampleidfields)
+          org.mskcc.smile.commons.generated.Igo.SampleManifest.CmosampleidfieldsOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.mskcc.smile.commons.generated.Igo.internal_static_SampleManifest_Cmosampleidfields_descriptor;
+        }
+
+        @java.lang.Override
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.mskcc.smile.commons.generated.Igo.internal_static_SampleManifest_Cmosampleidfields_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields.class, org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields.Builder.class);
+        }
+
+        // Construct using org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields.newBuilder()
+        private Builder() {
+
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+
+        }
+        @java.lang.Override
+        public Builder clear() {
+          super.clear();
+          bitField0_ = 0;
+          naToExtract_ = "";
+          normalizedPatientId_ = "";
+          recipe_ = "";
+          sampleType_ = "";
+          return this;
+        }
+
+        @java.lang.Override
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.mskcc.smile.commons.generated.Igo.internal_static_SampleManifest_Cmosampleidfields_descriptor;
+        }
+
+        @java.lang.Override
+        public org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields getDefaultInstanceForType() {
+          return org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields.getDefaultInstance();
+        }
+
+        @java.lang.Override
+        public org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields build() {
+          org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        @java.lang.Override
+        public org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields buildPartial() {
+          org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields result = new org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields(this);
+          if (bitField0_ != 0) { buildPartial0(result); }
+          onBuilt();
+          return result;
+        }
+
+        private void buildPartial0(org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields result) {
+          int from_bitField0_ = bitField0_;
+          if (((from_bitField0_ & 0x00000001) != 0)) {
+            result.naToExtract_ = naToExtract_;
+          }
+          if (((from_bitField0_ & 0x00000002) != 0)) {
+            result.normalizedPatientId_ = normalizedPatientId_;
+          }
+          if (((from_bitField0_ & 0x00000004) != 0)) {
+            result.recipe_ = recipe_;
+          }
+          if (((from_bitField0_ & 0x00000008) != 0)) {
+            result.sampleType_ = sampleType_;
+          }
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields) {
+            return mergeFrom((org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields other) {
+          if (other == org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields.getDefaultInstance()) return this;
+          if (!other.getNaToExtract().isEmpty()) {
+            naToExtract_ = other.naToExtract_;
+            bitField0_ |= 0x00000001;
+            onChanged();
+          }
+          if (!other.getNormalizedPatientId().isEmpty()) {
+            normalizedPatientId_ = other.normalizedPatientId_;
+            bitField0_ |= 0x00000002;
+            onChanged();
+          }
+          if (!other.getRecipe().isEmpty()) {
+            recipe_ = other.recipe_;
+            bitField0_ |= 0x00000004;
+            onChanged();
+          }
+          if (!other.getSampleType().isEmpty()) {
+            sampleType_ = other.sampleType_;
+            bitField0_ |= 0x00000008;
+            onChanged();
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          onChanged();
+          return this;
+        }
+
+        @java.lang.Override
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          if (extensionRegistry == null) {
+            throw new java.lang.NullPointerException();
+          }
+          try {
+            boolean done = false;
+            while (!done) {
+              int tag = input.readTag();
+              switch (tag) {
+                case 0:
+                  done = true;
+                  break;
+                case 10: {
+                  naToExtract_ = input.readStringRequireUtf8();
+                  bitField0_ |= 0x00000001;
+                  break;
+                } // case 10
+                case 18: {
+                  normalizedPatientId_ = input.readStringRequireUtf8();
+                  bitField0_ |= 0x00000002;
+                  break;
+                } // case 18
+                case 26: {
+                  recipe_ = input.readStringRequireUtf8();
+                  bitField0_ |= 0x00000004;
+                  break;
+                } // case 26
+                case 34: {
+                  sampleType_ = input.readStringRequireUtf8();
+                  bitField0_ |= 0x00000008;
+                  break;
+                } // case 34
+                default: {
+                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                    done = true; // was an endgroup tag
+                  }
+                  break;
+                } // default:
+              } // switch (tag)
+            } // while (!done)
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.unwrapIOException();
+          } finally {
+            onChanged();
+          } // finally
+          return this;
+        }
+        private int bitField0_;
+
+        private java.lang.Object naToExtract_ = "";
+        /**
+         * <code>string naToExtract = 1;</code>
+         * @return The naToExtract.
+         */
+        public java.lang.String getNaToExtract() {
+          java.lang.Object ref = naToExtract_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            naToExtract_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>string naToExtract = 1;</code>
+         * @return The bytes for naToExtract.
+         */
+        public com.google.protobuf.ByteString
+            getNaToExtractBytes() {
+          java.lang.Object ref = naToExtract_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            naToExtract_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>string naToExtract = 1;</code>
+         * @param value The naToExtract to set.
+         * @return This builder for chaining.
+         */
+        public Builder setNaToExtract(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          naToExtract_ = value;
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string naToExtract = 1;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearNaToExtract() {
+          naToExtract_ = getDefaultInstance().getNaToExtract();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string naToExtract = 1;</code>
+         * @param value The bytes for naToExtract to set.
+         * @return This builder for chaining.
+         */
+        public Builder setNaToExtractBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          naToExtract_ = value;
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object normalizedPatientId_ = "";
+        /**
+         * <code>string normalizedPatientId = 2;</code>
+         * @return The normalizedPatientId.
+         */
+        public java.lang.String getNormalizedPatientId() {
+          java.lang.Object ref = normalizedPatientId_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            normalizedPatientId_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>string normalizedPatientId = 2;</code>
+         * @return The bytes for normalizedPatientId.
+         */
+        public com.google.protobuf.ByteString
+            getNormalizedPatientIdBytes() {
+          java.lang.Object ref = normalizedPatientId_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            normalizedPatientId_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>string normalizedPatientId = 2;</code>
+         * @param value The normalizedPatientId to set.
+         * @return This builder for chaining.
+         */
+        public Builder setNormalizedPatientId(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          normalizedPatientId_ = value;
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string normalizedPatientId = 2;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearNormalizedPatientId() {
+          normalizedPatientId_ = getDefaultInstance().getNormalizedPatientId();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string normalizedPatientId = 2;</code>
+         * @param value The bytes for normalizedPatientId to set.
+         * @return This builder for chaining.
+         */
+        public Builder setNormalizedPatientIdBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          normalizedPatientId_ = value;
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object recipe_ = "";
+        /**
+         * <code>string recipe = 3;</code>
+         * @return The recipe.
+         */
+        public java.lang.String getRecipe() {
+          java.lang.Object ref = recipe_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            recipe_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>string recipe = 3;</code>
+         * @return The bytes for recipe.
+         */
+        public com.google.protobuf.ByteString
+            getRecipeBytes() {
+          java.lang.Object ref = recipe_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            recipe_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>string recipe = 3;</code>
+         * @param value The recipe to set.
+         * @return This builder for chaining.
+         */
+        public Builder setRecipe(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          recipe_ = value;
+          bitField0_ |= 0x00000004;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string recipe = 3;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearRecipe() {
+          recipe_ = getDefaultInstance().getRecipe();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string recipe = 3;</code>
+         * @param value The bytes for recipe to set.
+         * @return This builder for chaining.
+         */
+        public Builder setRecipeBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          recipe_ = value;
+          bitField0_ |= 0x00000004;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object sampleType_ = "";
+        /**
+         * <code>string sampleType = 4;</code>
+         * @return The sampleType.
+         */
+        public java.lang.String getSampleType() {
+          java.lang.Object ref = sampleType_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            sampleType_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>string sampleType = 4;</code>
+         * @return The bytes for sampleType.
+         */
+        public com.google.protobuf.ByteString
+            getSampleTypeBytes() {
+          java.lang.Object ref = sampleType_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            sampleType_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>string sampleType = 4;</code>
+         * @param value The sampleType to set.
+         * @return This builder for chaining.
+         */
+        public Builder setSampleType(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          sampleType_ = value;
+          bitField0_ |= 0x00000008;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string sampleType = 4;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearSampleType() {
+          sampleType_ = getDefaultInstance().getSampleType();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string sampleType = 4;</code>
+         * @param value The bytes for sampleType to set.
+         * @return This builder for chaining.
+         */
+        public Builder setSampleTypeBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          sampleType_ = value;
+          bitField0_ |= 0x00000008;
+          onChanged();
+          return this;
+        }
+
+        // @@protoc_insertion_point(builder_scope:SampleManifest.Cmosampleidfields)
+      }
+
+      // @@protoc_insertion_point(class_scope:SampleManifest.Cmosampleidfields)
+      private static final org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields DEFAULT_INSTANCE;
+      static {
+        DEFAULT_INSTANCE = new org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields();
+      }
+
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+      }
+
+      private static final com.google.protobuf.Parser<Cmosampleidfields>
+          PARSER = new com.google.protobuf.AbstractParser<Cmosampleidfields>() {
+        @java.lang.Override
+        public Cmosampleidfields parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          Builder builder = newBuilder();
+          try {
+            builder.mergeFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.setUnfinishedMessage(builder.buildPartial());
+          } catch (com.google.protobuf.UninitializedMessageException e) {
+            throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+          } catch (java.io.IOException e) {
+            throw new com.google.protobuf.InvalidProtocolBufferException(e)
+                .setUnfinishedMessage(builder.buildPartial());
+          }
+          return builder.buildPartial();
+        }
+      };
+
+      public static com.google.protobuf.Parser<Cmosampleidfields> parser() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<Cmosampleidfields> getParserForType() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields getDefaultInstanceForType() {
+        return DEFAULT_INSTANCE;
+      }
+
+    }
+
+    public interface RunsOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:SampleManifest.Runs)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>repeated string fastqs = 1;</code>
+       * @return A list containing the fastqs.
+       */
+      java.util.List<java.lang.String>
+          getFastqsList();
+      /**
+       * <code>repeated string fastqs = 1;</code>
+       * @return The count of fastqs.
+       */
+      int getFastqsCount();
+      /**
+       * <code>repeated string fastqs = 1;</code>
+       * @param index The index of the element to return.
+       * @return The fastqs at the given index.
+       */
+      java.lang.String getFastqs(int index);
+      /**
+       * <code>repeated string fastqs = 1;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the fastqs at the given index.
+       */
+      com.google.protobuf.ByteString
+          getFastqsBytes(int index);
+
+      /**
+       * <code>string flowCellId = 2;</code>
+       * @return The flowCellId.
+       */
+      java.lang.String getFlowCellId();
+      /**
+       * <code>string flowCellId = 2;</code>
+       * @return The bytes for flowCellId.
+       */
+      com.google.protobuf.ByteString
+          getFlowCellIdBytes();
+
+      /**
+       * <code>repeated uint32 flowCellLanes = 3;</code>
+       * @return A list containing the flowCellLanes.
+       */
+      java.util.List<java.lang.Integer> getFlowCellLanesList();
+      /**
+       * <code>repeated uint32 flowCellLanes = 3;</code>
+       * @return The count of flowCellLanes.
+       */
+      int getFlowCellLanesCount();
+      /**
+       * <code>repeated uint32 flowCellLanes = 3;</code>
+       * @param index The index of the element to return.
+       * @return The flowCellLanes at the given index.
+       */
+      int getFlowCellLanes(int index);
+
+      /**
+       * <code>string readLength = 4;</code>
+       * @return The readLength.
+       */
+      java.lang.String getReadLength();
+      /**
+       * <code>string readLength = 4;</code>
+       * @return The bytes for readLength.
+       */
+      com.google.protobuf.ByteString
+          getReadLengthBytes();
+
+      /**
+       * <code>string runDate = 5;</code>
+       * @return The runDate.
+       */
+      java.lang.String getRunDate();
+      /**
+       * <code>string runDate = 5;</code>
+       * @return The bytes for runDate.
+       */
+      com.google.protobuf.ByteString
+          getRunDateBytes();
+
+      /**
+       * <code>string runId = 6;</code>
+       * @return The runId.
+       */
+      java.lang.String getRunId();
+      /**
+       * <code>string runId = 6;</code>
+       * @return The bytes for runId.
+       */
+      com.google.protobuf.ByteString
+          getRunIdBytes();
+
+      /**
+       * <code>string runMode = 7;</code>
+       * @return The runMode.
+       */
+      java.lang.String getRunMode();
+      /**
+       * <code>string runMode = 7;</code>
+       * @return The bytes for runMode.
+       */
+      com.google.protobuf.ByteString
+          getRunModeBytes();
+    }
+    /**
+     * Protobuf type {@code SampleManifest.Runs}
+     */
+    public static final class Runs extends
+        com.google.protobuf.GeneratedMessage implements
+        // @@protoc_insertion_point(message_implements:SampleManifest.Runs)
+        RunsOrBuilder {
+    private static final long serialVersionUID = 0L;
+      static {
+        com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+          /* major= */ 4,
+          /* minor= */ 29,
+          /* patch= */ 3,
+          /* suffix= */ "",
+          Runs.class.getName());
+      }
+      // Use Runs.newBuilder() to construct.
+      private Runs(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+      }
+      private Runs() {
+        fastqs_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        flowCellId_ = "";
+        flowCellLanes_ = emptyIntList();
+        readLength_ = "";
+        runDate_ = "";
+        runId_ = "";
+        runMode_ = "";
+      }
+
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.mskcc.smile.commons.generated.Igo.internal_static_SampleManifest_Runs_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.mskcc.smile.commons.generated.Igo.internal_static_SampleManifest_Runs_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs.class, org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs.Builder.class);
+      }
+
+      public static final int FASTQS_FIELD_NUMBER = 1;
+      @SuppressWarnings("serial")
+      private com.google.protobuf.LazyStringArrayList fastqs_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      /**
+       * <code>repeated string fastqs = 1;</code>
+       * @return A list containing the fastqs.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getFastqsList() {
+        return fastqs_;
+      }
+      /**
+       * <code>repeated string fastqs = 1;</code>
+       * @return The count of fastqs.
+       */
+      public int getFastqsCount() {
+        return fastqs_.size();
+      }
+      /**
+       * <code>repeated string fastqs = 1;</code>
+       * @param index The index of the element to return.
+       * @return The fastqs at the given index.
+       */
+      public java.lang.String getFastqs(int index) {
+        return fastqs_.get(index);
+      }
+      /**
+       * <code>repeated string fastqs = 1;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the fastqs at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getFastqsBytes(int index) {
+        return fastqs_.getByteString(index);
+      }
+
+      public static final int FLOWCELLID_FIELD_NUMBER = 2;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object flowCellId_ = "";
+      /**
+       * <code>string flowCellId = 2;</code>
+       * @return The flowCellId.
+       */
+      @java.lang.Override
+      public java.lang.String getFlowCellId() {
+        java.lang.Object ref = flowCellId_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          flowCellId_ = s;
+          return s;
+        }
+      }
+      /**
+       * <code>string flowCellId = 2;</code>
+       * @return The bytes for flowCellId.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getFlowCellIdBytes() {
+        java.lang.Object ref = flowCellId_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          flowCellId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int FLOWCELLLANES_FIELD_NUMBER = 3;
+      @SuppressWarnings("serial")
+      private com.google.protobuf.Internal.IntList flowCellLanes_ =
+          emptyIntList();
+      /**
+       * <code>repeated uint32 flowCellLanes = 3;</code>
+       * @return A list containing the flowCellLanes.
+       */
+      @java.lang.Override
+      public java.util.List<java.lang.Integer>
+          getFlowCellLanesList() {
+        return flowCellLanes_;
+      }
+      /**
+       * <code>repeated uint32 flowCellLanes = 3;</code>
+       * @return The count of flowCellLanes.
+       */
+      public int getFlowCellLanesCount() {
+        return flowCellLanes_.size();
+      }
+      /**
+       * <code>repeated uint32 flowCellLanes = 3;</code>
+       * @param index The index of the element to return.
+       * @return The flowCellLanes at the given index.
+       */
+      public int getFlowCellLanes(int index) {
+        return flowCellLanes_.getInt(index);
+      }
+      private int flowCellLanesMemoizedSerializedSize = -1;
+
+      public static final int READLENGTH_FIELD_NUMBER = 4;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object readLength_ = "";
+      /**
+       * <code>string readLength = 4;</code>
+       * @return The readLength.
+       */
+      @java.lang.Override
+      public java.lang.String getReadLength() {
+        java.lang.Object ref = readLength_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          readLength_ = s;
+          return s;
+        }
+      }
+      /**
+       * <code>string readLength = 4;</code>
+       * @return The bytes for readLength.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getReadLengthBytes() {
+        java.lang.Object ref = readLength_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          readLength_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int RUNDATE_FIELD_NUMBER = 5;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object runDate_ = "";
+      /**
+       * <code>string runDate = 5;</code>
+       * @return The runDate.
+       */
+      @java.lang.Override
+      public java.lang.String getRunDate() {
+        java.lang.Object ref = runDate_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          runDate_ = s;
+          return s;
+        }
+      }
+      /**
+       * <code>string runDate = 5;</code>
+       * @return The bytes for runDate.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getRunDateBytes() {
+        java.lang.Object ref = runDate_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          runDate_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int RUNID_FIELD_NUMBER = 6;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object runId_ = "";
+      /**
+       * <code>string runId = 6;</code>
+       * @return The runId.
+       */
+      @java.lang.Override
+      public java.lang.String getRunId() {
+        java.lang.Object ref = runId_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          runId_ = s;
+          return s;
+        }
+      }
+      /**
+       * <code>string runId = 6;</code>
+       * @return The bytes for runId.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getRunIdBytes() {
+        java.lang.Object ref = runId_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          runId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int RUNMODE_FIELD_NUMBER = 7;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object runMode_ = "";
+      /**
+       * <code>string runMode = 7;</code>
+       * @return The runMode.
+       */
+      @java.lang.Override
+      public java.lang.String getRunMode() {
+        java.lang.Object ref = runMode_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          runMode_ = s;
+          return s;
+        }
+      }
+      /**
+       * <code>string runMode = 7;</code>
+       * @return The bytes for runMode.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getRunModeBytes() {
+        java.lang.Object ref = runMode_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          runMode_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      private byte memoizedIsInitialized = -1;
+      @java.lang.Override
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      @java.lang.Override
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        getSerializedSize();
+        for (int i = 0; i < fastqs_.size(); i++) {
+          com.google.protobuf.GeneratedMessage.writeString(output, 1, fastqs_.getRaw(i));
+        }
+        if (!com.google.protobuf.GeneratedMessage.isStringEmpty(flowCellId_)) {
+          com.google.protobuf.GeneratedMessage.writeString(output, 2, flowCellId_);
+        }
+        if (getFlowCellLanesList().size() > 0) {
+          output.writeUInt32NoTag(26);
+          output.writeUInt32NoTag(flowCellLanesMemoizedSerializedSize);
+        }
+        for (int i = 0; i < flowCellLanes_.size(); i++) {
+          output.writeUInt32NoTag(flowCellLanes_.getInt(i));
+        }
+        if (!com.google.protobuf.GeneratedMessage.isStringEmpty(readLength_)) {
+          com.google.protobuf.GeneratedMessage.writeString(output, 4, readLength_);
+        }
+        if (!com.google.protobuf.GeneratedMessage.isStringEmpty(runDate_)) {
+          com.google.protobuf.GeneratedMessage.writeString(output, 5, runDate_);
+        }
+        if (!com.google.protobuf.GeneratedMessage.isStringEmpty(runId_)) {
+          com.google.protobuf.GeneratedMessage.writeString(output, 6, runId_);
+        }
+        if (!com.google.protobuf.GeneratedMessage.isStringEmpty(runMode_)) {
+          com.google.protobuf.GeneratedMessage.writeString(output, 7, runMode_);
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      @java.lang.Override
+      public int getSerializedSize() {
+        int size = memoizedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        {
+          int dataSize = 0;
+          for (int i = 0; i < fastqs_.size(); i++) {
+            dataSize += computeStringSizeNoTag(fastqs_.getRaw(i));
+          }
+          size += dataSize;
+          size += 1 * getFastqsList().size();
+        }
+        if (!com.google.protobuf.GeneratedMessage.isStringEmpty(flowCellId_)) {
+          size += com.google.protobuf.GeneratedMessage.computeStringSize(2, flowCellId_);
+        }
+        {
+          int dataSize = 0;
+          for (int i = 0; i < flowCellLanes_.size(); i++) {
+            dataSize += com.google.protobuf.CodedOutputStream
+              .computeUInt32SizeNoTag(flowCellLanes_.getInt(i));
+          }
+          size += dataSize;
+          if (!getFlowCellLanesList().isEmpty()) {
+            size += 1;
+            size += com.google.protobuf.CodedOutputStream
+                .computeInt32SizeNoTag(dataSize);
+          }
+          flowCellLanesMemoizedSerializedSize = dataSize;
+        }
+        if (!com.google.protobuf.GeneratedMessage.isStringEmpty(readLength_)) {
+          size += com.google.protobuf.GeneratedMessage.computeStringSize(4, readLength_);
+        }
+        if (!com.google.protobuf.GeneratedMessage.isStringEmpty(runDate_)) {
+          size += com.google.protobuf.GeneratedMessage.computeStringSize(5, runDate_);
+        }
+        if (!com.google.protobuf.GeneratedMessage.isStringEmpty(runId_)) {
+          size += com.google.protobuf.GeneratedMessage.computeStringSize(6, runId_);
+        }
+        if (!com.google.protobuf.GeneratedMessage.isStringEmpty(runMode_)) {
+          size += com.google.protobuf.GeneratedMessage.computeStringSize(7, runMode_);
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSize = size;
+        return size;
+      }
+
+      @java.lang.Override
+      public boolean equals(final java.lang.Object obj) {
+        if (obj == this) {
+         return true;
+        }
+        if (!(obj instanceof org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs)) {
+          return super.equals(obj);
+        }
+        org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs other = (org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs) obj;
+
+        if (!getFastqsList()
+            .equals(other.getFastqsList())) return false;
+        if (!getFlowCellId()
+            .equals(other.getFlowCellId())) return false;
+        if (!getFlowCellLanesList()
+            .equals(other.getFlowCellLanesList())) return false;
+        if (!getReadLength()
+            .equals(other.getReadLength())) return false;
+        if (!getRunDate()
+            .equals(other.getRunDate())) return false;
+        if (!getRunId()
+            .equals(other.getRunId())) return false;
+        if (!getRunMode()
+            .equals(other.getRunMode())) return false;
+        if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+        return true;
+      }
+
+      @java.lang.Override
+      public int hashCode() {
+        if (memoizedHashCode != 0) {
+          return memoizedHashCode;
+        }
+        int hash = 41;
+        hash = (19 * hash) + getDescriptor().hashCode();
+        if (getFastqsCount() > 0) {
+          hash = (37 * hash) + FASTQS_FIELD_NUMBER;
+          hash = (53 * hash) + getFastqsList().hashCode();
+        }
+        hash = (37 * hash) + FLOWCELLID_FIELD_NUMBER;
+        hash = (53 * hash) + getFlowCellId().hashCode();
+        if (getFlowCellLanesCount() > 0) {
+          hash = (37 * hash) + FLOWCELLLANES_FIELD_NUMBER;
+          hash = (53 * hash) + getFlowCellLanesList().hashCode();
+        }
+        hash = (37 * hash) + READLENGTH_FIELD_NUMBER;
+        hash = (53 * hash) + getReadLength().hashCode();
+        hash = (37 * hash) + RUNDATE_FIELD_NUMBER;
+        hash = (53 * hash) + getRunDate().hashCode();
+        hash = (37 * hash) + RUNID_FIELD_NUMBER;
+        hash = (53 * hash) + getRunId().hashCode();
+        hash = (37 * hash) + RUNMODE_FIELD_NUMBER;
+        hash = (53 * hash) + getRunMode().hashCode();
+        hash = (29 * hash) + getUnknownFields().hashCode();
+        memoizedHashCode = hash;
+        return hash;
+      }
+
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs parseFrom(
+          java.nio.ByteBuffer data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs parseFrom(
+          java.nio.ByteBuffer data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseDelimitedWithIOException(PARSER, input);
+      }
+
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      @java.lang.Override
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder() {
+        return DEFAULT_INSTANCE.toBuilder();
+      }
+      public static Builder newBuilder(org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs prototype) {
+        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+      }
+      @java.lang.Override
+      public Builder toBuilder() {
+        return this == DEFAULT_INSTANCE
+            ? new Builder() : new Builder().mergeFrom(this);
+      }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code SampleManifest.Runs}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:SampleManifest.Runs)
+          org.mskcc.smile.commons.generated.Igo.SampleManifest.RunsOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.mskcc.smile.commons.generated.Igo.internal_static_SampleManifest_Runs_descriptor;
+        }
+
+        @java.lang.Override
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.mskcc.smile.commons.generated.Igo.internal_static_SampleManifest_Runs_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs.class, org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs.Builder.class);
+        }
+
+        // Construct using org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs.newBuilder()
+        private Builder() {
+
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+
+        }
+        @java.lang.Override
+        public Builder clear() {
+          super.clear();
+          bitField0_ = 0;
+          fastqs_ =
+              com.google.protobuf.LazyStringArrayList.emptyList();
+          flowCellId_ = "";
+          flowCellLanes_ = emptyIntList();
+          readLength_ = "";
+          runDate_ = "";
+          runId_ = "";
+          runMode_ = "";
+          return this;
+        }
+
+        @java.lang.Override
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.mskcc.smile.commons.generated.Igo.internal_static_SampleManifest_Runs_descriptor;
+        }
+
+        @java.lang.Override
+        public org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs getDefaultInstanceForType() {
+          return org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs.getDefaultInstance();
+        }
+
+        @java.lang.Override
+        public org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs build() {
+          org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        @java.lang.Override
+        public org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs buildPartial() {
+          org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs result = new org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs(this);
+          if (bitField0_ != 0) { buildPartial0(result); }
+          onBuilt();
+          return result;
+        }
+
+        private void buildPartial0(org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs result) {
+          int from_bitField0_ = bitField0_;
+          if (((from_bitField0_ & 0x00000001) != 0)) {
+            fastqs_.makeImmutable();
+            result.fastqs_ = fastqs_;
+          }
+          if (((from_bitField0_ & 0x00000002) != 0)) {
+            result.flowCellId_ = flowCellId_;
+          }
+          if (((from_bitField0_ & 0x00000004) != 0)) {
+            flowCellLanes_.makeImmutable();
+            result.flowCellLanes_ = flowCellLanes_;
+          }
+          if (((from_bitField0_ & 0x00000008) != 0)) {
+            result.readLength_ = readLength_;
+          }
+          if (((from_bitField0_ & 0x00000010) != 0)) {
+            result.runDate_ = runDate_;
+          }
+          if (((from_bitField0_ & 0x00000020) != 0)) {
+            result.runId_ = runId_;
+          }
+          if (((from_bitField0_ & 0x00000040) != 0)) {
+            result.runMode_ = runMode_;
+          }
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs) {
+            return mergeFrom((org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs other) {
+          if (other == org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs.getDefaultInstance()) return this;
+          if (!other.fastqs_.isEmpty()) {
+            if (fastqs_.isEmpty()) {
+              fastqs_ = other.fastqs_;
+              bitField0_ |= 0x00000001;
+            } else {
+              ensureFastqsIsMutable();
+              fastqs_.addAll(other.fastqs_);
+            }
+            onChanged();
+          }
+          if (!other.getFlowCellId().isEmpty()) {
+            flowCellId_ = other.flowCellId_;
+            bitField0_ |= 0x00000002;
+            onChanged();
+          }
+          if (!other.flowCellLanes_.isEmpty()) {
+            if (flowCellLanes_.isEmpty()) {
+              flowCellLanes_ = other.flowCellLanes_;
+              flowCellLanes_.makeImmutable();
+              bitField0_ |= 0x00000004;
+            } else {
+              ensureFlowCellLanesIsMutable();
+              flowCellLanes_.addAll(other.flowCellLanes_);
+            }
+            onChanged();
+          }
+          if (!other.getReadLength().isEmpty()) {
+            readLength_ = other.readLength_;
+            bitField0_ |= 0x00000008;
+            onChanged();
+          }
+          if (!other.getRunDate().isEmpty()) {
+            runDate_ = other.runDate_;
+            bitField0_ |= 0x00000010;
+            onChanged();
+          }
+          if (!other.getRunId().isEmpty()) {
+            runId_ = other.runId_;
+            bitField0_ |= 0x00000020;
+            onChanged();
+          }
+          if (!other.getRunMode().isEmpty()) {
+            runMode_ = other.runMode_;
+            bitField0_ |= 0x00000040;
+            onChanged();
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          onChanged();
+          return this;
+        }
+
+        @java.lang.Override
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          if (extensionRegistry == null) {
+            throw new java.lang.NullPointerException();
+          }
+          try {
+            boolean done = false;
+            while (!done) {
+              int tag = input.readTag();
+              switch (tag) {
+                case 0:
+                  done = true;
+                  break;
+                case 10: {
+                  java.lang.String s = input.readStringRequireUtf8();
+                  ensureFastqsIsMutable();
+                  fastqs_.add(s);
+                  break;
+                } // case 10
+                case 18: {
+                  flowCellId_ = input.readStringRequireUtf8();
+                  bitField0_ |= 0x00000002;
+                  break;
+                } // case 18
+                case 24: {
+                  int v = input.readUInt32();
+                  ensureFlowCellLanesIsMutable();
+                  flowCellLanes_.addInt(v);
+                  break;
+                } // case 24
+                case 26: {
+                  int length = input.readRawVarint32();
+                  int limit = input.pushLimit(length);
+                  ensureFlowCellLanesIsMutable();
+                  while (input.getBytesUntilLimit() > 0) {
+                    flowCellLanes_.addInt(input.readUInt32());
+                  }
+                  input.popLimit(limit);
+                  break;
+                } // case 26
+                case 34: {
+                  readLength_ = input.readStringRequireUtf8();
+                  bitField0_ |= 0x00000008;
+                  break;
+                } // case 34
+                case 42: {
+                  runDate_ = input.readStringRequireUtf8();
+                  bitField0_ |= 0x00000010;
+                  break;
+                } // case 42
+                case 50: {
+                  runId_ = input.readStringRequireUtf8();
+                  bitField0_ |= 0x00000020;
+                  break;
+                } // case 50
+                case 58: {
+                  runMode_ = input.readStringRequireUtf8();
+                  bitField0_ |= 0x00000040;
+                  break;
+                } // case 58
+                default: {
+                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                    done = true; // was an endgroup tag
+                  }
+                  break;
+                } // default:
+              } // switch (tag)
+            } // while (!done)
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.unwrapIOException();
+          } finally {
+            onChanged();
+          } // finally
+          return this;
+        }
+        private int bitField0_;
+
+        private com.google.protobuf.LazyStringArrayList fastqs_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        private void ensureFastqsIsMutable() {
+          if (!fastqs_.isModifiable()) {
+            fastqs_ = new com.google.protobuf.LazyStringArrayList(fastqs_);
+          }
+          bitField0_ |= 0x00000001;
+        }
+        /**
+         * <code>repeated string fastqs = 1;</code>
+         * @return A list containing the fastqs.
+         */
+        public com.google.protobuf.ProtocolStringList
+            getFastqsList() {
+          fastqs_.makeImmutable();
+          return fastqs_;
+        }
+        /**
+         * <code>repeated string fastqs = 1;</code>
+         * @return The count of fastqs.
+         */
+        public int getFastqsCount() {
+          return fastqs_.size();
+        }
+        /**
+         * <code>repeated string fastqs = 1;</code>
+         * @param index The index of the element to return.
+         * @return The fastqs at the given index.
+         */
+        public java.lang.String getFastqs(int index) {
+          return fastqs_.get(index);
+        }
+        /**
+         * <code>repeated string fastqs = 1;</code>
+         * @param index The index of the value to return.
+         * @return The bytes of the fastqs at the given index.
+         */
+        public com.google.protobuf.ByteString
+            getFastqsBytes(int index) {
+          return fastqs_.getByteString(index);
+        }
+        /**
+         * <code>repeated string fastqs = 1;</code>
+         * @param index The index to set the value at.
+         * @param value The fastqs to set.
+         * @return This builder for chaining.
+         */
+        public Builder setFastqs(
+            int index, java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          ensureFastqsIsMutable();
+          fastqs_.set(index, value);
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated string fastqs = 1;</code>
+         * @param value The fastqs to add.
+         * @return This builder for chaining.
+         */
+        public Builder addFastqs(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          ensureFastqsIsMutable();
+          fastqs_.add(value);
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated string fastqs = 1;</code>
+         * @param values The fastqs to add.
+         * @return This builder for chaining.
+         */
+        public Builder addAllFastqs(
+            java.lang.Iterable<java.lang.String> values) {
+          ensureFastqsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, fastqs_);
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated string fastqs = 1;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearFastqs() {
+          fastqs_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated string fastqs = 1;</code>
+         * @param value The bytes of the fastqs to add.
+         * @return This builder for chaining.
+         */
+        public Builder addFastqsBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          ensureFastqsIsMutable();
+          fastqs_.add(value);
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object flowCellId_ = "";
+        /**
+         * <code>string flowCellId = 2;</code>
+         * @return The flowCellId.
+         */
+        public java.lang.String getFlowCellId() {
+          java.lang.Object ref = flowCellId_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            flowCellId_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>string flowCellId = 2;</code>
+         * @return The bytes for flowCellId.
+         */
+        public com.google.protobuf.ByteString
+            getFlowCellIdBytes() {
+          java.lang.Object ref = flowCellId_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            flowCellId_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>string flowCellId = 2;</code>
+         * @param value The flowCellId to set.
+         * @return This builder for chaining.
+         */
+        public Builder setFlowCellId(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          flowCellId_ = value;
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string flowCellId = 2;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearFlowCellId() {
+          flowCellId_ = getDefaultInstance().getFlowCellId();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string flowCellId = 2;</code>
+         * @param value The bytes for flowCellId to set.
+         * @return This builder for chaining.
+         */
+        public Builder setFlowCellIdBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          flowCellId_ = value;
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+
+        private com.google.protobuf.Internal.IntList flowCellLanes_ = emptyIntList();
+        private void ensureFlowCellLanesIsMutable() {
+          if (!flowCellLanes_.isModifiable()) {
+            flowCellLanes_ = makeMutableCopy(flowCellLanes_);
+          }
+          bitField0_ |= 0x00000004;
+        }
+        /**
+         * <code>repeated uint32 flowCellLanes = 3;</code>
+         * @return A list containing the flowCellLanes.
+         */
+        public java.util.List<java.lang.Integer>
+            getFlowCellLanesList() {
+          flowCellLanes_.makeImmutable();
+          return flowCellLanes_;
+        }
+        /**
+         * <code>repeated uint32 flowCellLanes = 3;</code>
+         * @return The count of flowCellLanes.
+         */
+        public int getFlowCellLanesCount() {
+          return flowCellLanes_.size();
+        }
+        /**
+         * <code>repeated uint32 flowCellLanes = 3;</code>
+         * @param index The index of the element to return.
+         * @return The flowCellLanes at the given index.
+         */
+        public int getFlowCellLanes(int index) {
+          return flowCellLanes_.getInt(index);
+        }
+        /**
+         * <code>repeated uint32 flowCellLanes = 3;</code>
+         * @param index The index to set the value at.
+         * @param value The flowCellLanes to set.
+         * @return This builder for chaining.
+         */
+        public Builder setFlowCellLanes(
+            int index, int value) {
+
+          ensureFlowCellLanesIsMutable();
+          flowCellLanes_.setInt(index, value);
+          bitField0_ |= 0x00000004;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated uint32 flowCellLanes = 3;</code>
+         * @param value The flowCellLanes to add.
+         * @return This builder for chaining.
+         */
+        public Builder addFlowCellLanes(int value) {
+
+          ensureFlowCellLanesIsMutable();
+          flowCellLanes_.addInt(value);
+          bitField0_ |= 0x00000004;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated uint32 flowCellLanes = 3;</code>
+         * @param values The flowCellLanes to add.
+         * @return This builder for chaining.
+         */
+        public Builder addAllFlowCellLanes(
+            java.lang.Iterable<? extends java.lang.Integer> values) {
+          ensureFlowCellLanesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, flowCellLanes_);
+          bitField0_ |= 0x00000004;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated uint32 flowCellLanes = 3;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearFlowCellLanes() {
+          flowCellLanes_ = emptyIntList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object readLength_ = "";
+        /**
+         * <code>string readLength = 4;</code>
+         * @return The readLength.
+         */
+        public java.lang.String getReadLength() {
+          java.lang.Object ref = readLength_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            readLength_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>string readLength = 4;</code>
+         * @return The bytes for readLength.
+         */
+        public com.google.protobuf.ByteString
+            getReadLengthBytes() {
+          java.lang.Object ref = readLength_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            readLength_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>string readLength = 4;</code>
+         * @param value The readLength to set.
+         * @return This builder for chaining.
+         */
+        public Builder setReadLength(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          readLength_ = value;
+          bitField0_ |= 0x00000008;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string readLength = 4;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearReadLength() {
+          readLength_ = getDefaultInstance().getReadLength();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string readLength = 4;</code>
+         * @param value The bytes for readLength to set.
+         * @return This builder for chaining.
+         */
+        public Builder setReadLengthBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          readLength_ = value;
+          bitField0_ |= 0x00000008;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object runDate_ = "";
+        /**
+         * <code>string runDate = 5;</code>
+         * @return The runDate.
+         */
+        public java.lang.String getRunDate() {
+          java.lang.Object ref = runDate_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            runDate_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>string runDate = 5;</code>
+         * @return The bytes for runDate.
+         */
+        public com.google.protobuf.ByteString
+            getRunDateBytes() {
+          java.lang.Object ref = runDate_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            runDate_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>string runDate = 5;</code>
+         * @param value The runDate to set.
+         * @return This builder for chaining.
+         */
+        public Builder setRunDate(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          runDate_ = value;
+          bitField0_ |= 0x00000010;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string runDate = 5;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearRunDate() {
+          runDate_ = getDefaultInstance().getRunDate();
+          bitField0_ = (bitField0_ & ~0x00000010);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string runDate = 5;</code>
+         * @param value The bytes for runDate to set.
+         * @return This builder for chaining.
+         */
+        public Builder setRunDateBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          runDate_ = value;
+          bitField0_ |= 0x00000010;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object runId_ = "";
+        /**
+         * <code>string runId = 6;</code>
+         * @return The runId.
+         */
+        public java.lang.String getRunId() {
+          java.lang.Object ref = runId_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            runId_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>string runId = 6;</code>
+         * @return The bytes for runId.
+         */
+        public com.google.protobuf.ByteString
+            getRunIdBytes() {
+          java.lang.Object ref = runId_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            runId_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>string runId = 6;</code>
+         * @param value The runId to set.
+         * @return This builder for chaining.
+         */
+        public Builder setRunId(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          runId_ = value;
+          bitField0_ |= 0x00000020;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string runId = 6;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearRunId() {
+          runId_ = getDefaultInstance().getRunId();
+          bitField0_ = (bitField0_ & ~0x00000020);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string runId = 6;</code>
+         * @param value The bytes for runId to set.
+         * @return This builder for chaining.
+         */
+        public Builder setRunIdBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          runId_ = value;
+          bitField0_ |= 0x00000020;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object runMode_ = "";
+        /**
+         * <code>string runMode = 7;</code>
+         * @return The runMode.
+         */
+        public java.lang.String getRunMode() {
+          java.lang.Object ref = runMode_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            runMode_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>string runMode = 7;</code>
+         * @return The bytes for runMode.
+         */
+        public com.google.protobuf.ByteString
+            getRunModeBytes() {
+          java.lang.Object ref = runMode_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            runMode_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>string runMode = 7;</code>
+         * @param value The runMode to set.
+         * @return This builder for chaining.
+         */
+        public Builder setRunMode(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          runMode_ = value;
+          bitField0_ |= 0x00000040;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string runMode = 7;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearRunMode() {
+          runMode_ = getDefaultInstance().getRunMode();
+          bitField0_ = (bitField0_ & ~0x00000040);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string runMode = 7;</code>
+         * @param value The bytes for runMode to set.
+         * @return This builder for chaining.
+         */
+        public Builder setRunModeBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          runMode_ = value;
+          bitField0_ |= 0x00000040;
+          onChanged();
+          return this;
+        }
+
+        // @@protoc_insertion_point(builder_scope:SampleManifest.Runs)
+      }
+
+      // @@protoc_insertion_point(class_scope:SampleManifest.Runs)
+      private static final org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs DEFAULT_INSTANCE;
+      static {
+        DEFAULT_INSTANCE = new org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs();
+      }
+
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+      }
+
+      private static final com.google.protobuf.Parser<Runs>
+          PARSER = new com.google.protobuf.AbstractParser<Runs>() {
+        @java.lang.Override
+        public Runs parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          Builder builder = newBuilder();
+          try {
+            builder.mergeFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.setUnfinishedMessage(builder.buildPartial());
+          } catch (com.google.protobuf.UninitializedMessageException e) {
+            throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+          } catch (java.io.IOException e) {
+            throw new com.google.protobuf.InvalidProtocolBufferException(e)
+                .setUnfinishedMessage(builder.buildPartial());
+          }
+          return builder.buildPartial();
+        }
+      };
+
+      public static com.google.protobuf.Parser<Runs> parser() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<Runs> getParserForType() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs getDefaultInstanceForType() {
+        return DEFAULT_INSTANCE;
+      }
+
+    }
+
+    public interface LibrariesOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:SampleManifest.Libraries)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>string barcodeId = 1;</code>
+       * @return The barcodeId.
+       */
+      java.lang.String getBarcodeId();
+      /**
+       * <code>string barcodeId = 1;</code>
+       * @return The bytes for barcodeId.
+       */
+      com.google.protobuf.ByteString
+          getBarcodeIdBytes();
+
+      /**
+       * <code>string barcodeIndex = 2;</code>
+       * @return The barcodeIndex.
+       */
+      java.lang.String getBarcodeIndex();
+      /**
+       * <code>string barcodeIndex = 2;</code>
+       * @return The bytes for barcodeIndex.
+       */
+      com.google.protobuf.ByteString
+          getBarcodeIndexBytes();
+
+      /**
+       * <code>string captureConcentrationNm = 3;</code>
+       * @return The captureConcentrationNm.
+       */
+      java.lang.String getCaptureConcentrationNm();
+      /**
+       * <code>string captureConcentrationNm = 3;</code>
+       * @return The bytes for captureConcentrationNm.
+       */
+      com.google.protobuf.ByteString
+          getCaptureConcentrationNmBytes();
+
+      /**
+       * <code>string captureInputNg = 4;</code>
+       * @return The captureInputNg.
+       */
+      java.lang.String getCaptureInputNg();
+      /**
+       * <code>string captureInputNg = 4;</code>
+       * @return The bytes for captureInputNg.
+       */
+      com.google.protobuf.ByteString
+          getCaptureInputNgBytes();
+
+      /**
+       * <code>string captureName = 5;</code>
+       * @return The captureName.
+       */
+      java.lang.String getCaptureName();
+      /**
+       * <code>string captureName = 5;</code>
+       * @return The bytes for captureName.
+       */
+      com.google.protobuf.ByteString
+          getCaptureNameBytes();
+
+      /**
+       * <code>float dnaInputNg = 6;</code>
+       * @return The dnaInputNg.
+       */
+      float getDnaInputNg();
+
+      /**
+       * <code>float libraryConcentrationNgul = 7;</code>
+       * @return The libraryConcentrationNgul.
+       */
+      float getLibraryConcentrationNgul();
+
+      /**
+       * <code>string libraryIgoId = 8;</code>
+       * @return The libraryIgoId.
+       */
+      java.lang.String getLibraryIgoId();
+      /**
+       * <code>string libraryIgoId = 8;</code>
+       * @return The bytes for libraryIgoId.
+       */
+      com.google.protobuf.ByteString
+          getLibraryIgoIdBytes();
+
+      /**
+       * <code>float libraryVolume = 9;</code>
+       * @return The libraryVolume.
+       */
+      float getLibraryVolume();
+
+      /**
+       * <code>repeated .SampleManifest.Runs runs = 10;</code>
+       */
+      java.util.List<org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs> 
+          getRunsList();
+      /**
+       * <code>repeated .SampleManifest.Runs runs = 10;</code>
+       */
+      org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs getRuns(int index);
+      /**
+       * <code>repeated .SampleManifest.Runs runs = 10;</code>
+       */
+      int getRunsCount();
+      /**
+       * <code>repeated .SampleManifest.Runs runs = 10;</code>
+       */
+      java.util.List<? extends org.mskcc.smile.commons.generated.Igo.SampleManifest.RunsOrBuilder> 
+          getRunsOrBuilderList();
+      /**
+       * <code>repeated .SampleManifest.Runs runs = 10;</code>
+       */
+      org.mskcc.smile.commons.generated.Igo.SampleManifest.RunsOrBuilder getRunsOrBuilder(
+          int index);
+    }
+    /**
+     * Protobuf type {@code SampleManifest.Libraries}
+     */
+    public static final class Libraries extends
+        com.google.protobuf.GeneratedMessage implements
+        // @@protoc_insertion_point(message_implements:SampleManifest.Libraries)
+        LibrariesOrBuilder {
+    private static final long serialVersionUID = 0L;
+      static {
+        com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+          /* major= */ 4,
+          /* minor= */ 29,
+          /* patch= */ 3,
+          /* suffix= */ "",
+          Libraries.class.getName());
+      }
+      // Use Libraries.newBuilder() to construct.
+      private Libraries(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+      }
+      private Libraries() {
+        barcodeId_ = "";
+        barcodeIndex_ = "";
+        captureConcentrationNm_ = "";
+        captureInputNg_ = "";
+        captureName_ = "";
+        libraryIgoId_ = "";
+        runs_ = java.util.Collections.emptyList();
+      }
+
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.mskcc.smile.commons.generated.Igo.internal_static_SampleManifest_Libraries_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.mskcc.smile.commons.generated.Igo.internal_static_SampleManifest_Libraries_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries.class, org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries.Builder.class);
+      }
+
+      public static final int BARCODEID_FIELD_NUMBER = 1;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object barcodeId_ = "";
+      /**
+       * <code>string barcodeId = 1;</code>
+       * @return The barcodeId.
+       */
+      @java.lang.Override
+      public java.lang.String getBarcodeId() {
+        java.lang.Object ref = barcodeId_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          barcodeId_ = s;
+          return s;
+        }
+      }
+      /**
+       * <code>string barcodeId = 1;</code>
+       * @return The bytes for barcodeId.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getBarcodeIdBytes() {
+        java.lang.Object ref = barcodeId_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          barcodeId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int BARCODEINDEX_FIELD_NUMBER = 2;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object barcodeIndex_ = "";
+      /**
+       * <code>string barcodeIndex = 2;</code>
+       * @return The barcodeIndex.
+       */
+      @java.lang.Override
+      public java.lang.String getBarcodeIndex() {
+        java.lang.Object ref = barcodeIndex_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          barcodeIndex_ = s;
+          return s;
+        }
+      }
+      /**
+       * <code>string barcodeIndex = 2;</code>
+       * @return The bytes for barcodeIndex.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getBarcodeIndexBytes() {
+        java.lang.Object ref = barcodeIndex_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          barcodeIndex_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int CAPTURECONCENTRATIONNM_FIELD_NUMBER = 3;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object captureConcentrationNm_ = "";
+      /**
+       * <code>string captureConcentrationNm = 3;</code>
+       * @return The captureConcentrationNm.
+       */
+      @java.lang.Override
+      public java.lang.String getCaptureConcentrationNm() {
+        java.lang.Object ref = captureConcentrationNm_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          captureConcentrationNm_ = s;
+          return s;
+        }
+      }
+      /**
+       * <code>string captureConcentrationNm = 3;</code>
+       * @return The bytes for captureConcentrationNm.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getCaptureConcentrationNmBytes() {
+        java.lang.Object ref = captureConcentrationNm_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          captureConcentrationNm_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int CAPTUREINPUTNG_FIELD_NUMBER = 4;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object captureInputNg_ = "";
+      /**
+       * <code>string captureInputNg = 4;</code>
+       * @return The captureInputNg.
+       */
+      @java.lang.Override
+      public java.lang.String getCaptureInputNg() {
+        java.lang.Object ref = captureInputNg_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          captureInputNg_ = s;
+          return s;
+        }
+      }
+      /**
+       * <code>string captureInputNg = 4;</code>
+       * @return The bytes for captureInputNg.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getCaptureInputNgBytes() {
+        java.lang.Object ref = captureInputNg_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          captureInputNg_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int CAPTURENAME_FIELD_NUMBER = 5;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object captureName_ = "";
+      /**
+       * <code>string captureName = 5;</code>
+       * @return The captureName.
+       */
+      @java.lang.Override
+      public java.lang.String getCaptureName() {
+        java.lang.Object ref = captureName_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          captureName_ = s;
+          return s;
+        }
+      }
+      /**
+       * <code>string captureName = 5;</code>
+       * @return The bytes for captureName.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getCaptureNameBytes() {
+        java.lang.Object ref = captureName_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          captureName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int DNAINPUTNG_FIELD_NUMBER = 6;
+      private float dnaInputNg_ = 0F;
+      /**
+       * <code>float dnaInputNg = 6;</code>
+       * @return The dnaInputNg.
+       */
+      @java.lang.Override
+      public float getDnaInputNg() {
+        return dnaInputNg_;
+      }
+
+      public static final int LIBRARYCONCENTRATIONNGUL_FIELD_NUMBER = 7;
+      private float libraryConcentrationNgul_ = 0F;
+      /**
+       * <code>float libraryConcentrationNgul = 7;</code>
+       * @return The libraryConcentrationNgul.
+       */
+      @java.lang.Override
+      public float getLibraryConcentrationNgul() {
+        return libraryConcentrationNgul_;
+      }
+
+      public static final int LIBRARYIGOID_FIELD_NUMBER = 8;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object libraryIgoId_ = "";
+      /**
+       * <code>string libraryIgoId = 8;</code>
+       * @return The libraryIgoId.
+       */
+      @java.lang.Override
+      public java.lang.String getLibraryIgoId() {
+        java.lang.Object ref = libraryIgoId_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          libraryIgoId_ = s;
+          return s;
+        }
+      }
+      /**
+       * <code>string libraryIgoId = 8;</code>
+       * @return The bytes for libraryIgoId.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getLibraryIgoIdBytes() {
+        java.lang.Object ref = libraryIgoId_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          libraryIgoId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int LIBRARYVOLUME_FIELD_NUMBER = 9;
+      private float libraryVolume_ = 0F;
+      /**
+       * <code>float libraryVolume = 9;</code>
+       * @return The libraryVolume.
+       */
+      @java.lang.Override
+      public float getLibraryVolume() {
+        return libraryVolume_;
+      }
+
+      public static final int RUNS_FIELD_NUMBER = 10;
+      @SuppressWarnings("serial")
+      private java.util.List<org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs> runs_;
+      /**
+       * <code>repeated .SampleManifest.Runs runs = 10;</code>
+       */
+      @java.lang.Override
+      public java.util.List<org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs> getRunsList() {
+        return runs_;
+      }
+      /**
+       * <code>repeated .SampleManifest.Runs runs = 10;</code>
+       */
+      @java.lang.Override
+      public java.util.List<? extends org.mskcc.smile.commons.generated.Igo.SampleManifest.RunsOrBuilder> 
+          getRunsOrBuilderList() {
+        return runs_;
+      }
+      /**
+       * <code>repeated .SampleManifest.Runs runs = 10;</code>
+       */
+      @java.lang.Override
+      public int getRunsCount() {
+        return runs_.size();
+      }
+      /**
+       * <code>repeated .SampleManifest.Runs runs = 10;</code>
+       */
+      @java.lang.Override
+      public org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs getRuns(int index) {
+        return runs_.get(index);
+      }
+      /**
+       * <code>repeated .SampleManifest.Runs runs = 10;</code>
+       */
+      @java.lang.Override
+      public org.mskcc.smile.commons.generated.Igo.SampleManifest.RunsOrBuilder getRunsOrBuilder(
+          int index) {
+        return runs_.get(index);
+      }
+
+      private byte memoizedIsInitialized = -1;
+      @java.lang.Override
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      @java.lang.Override
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        if (!com.google.protobuf.GeneratedMessage.isStringEmpty(barcodeId_)) {
+          com.google.protobuf.GeneratedMessage.writeString(output, 1, barcodeId_);
+        }
+        if (!com.google.protobuf.GeneratedMessage.isStringEmpty(barcodeIndex_)) {
+          com.google.protobuf.GeneratedMessage.writeString(output, 2, barcodeIndex_);
+        }
+        if (!com.google.protobuf.GeneratedMessage.isStringEmpty(captureConcentrationNm_)) {
+          com.google.protobuf.GeneratedMessage.writeString(output, 3, captureConcentrationNm_);
+        }
+        if (!com.google.protobuf.GeneratedMessage.isStringEmpty(captureInputNg_)) {
+          com.google.protobuf.GeneratedMessage.writeString(output, 4, captureInputNg_);
+        }
+        if (!com.google.protobuf.GeneratedMessage.isStringEmpty(captureName_)) {
+          com.google.protobuf.GeneratedMessage.writeString(output, 5, captureName_);
+        }
+        if (java.lang.Float.floatToRawIntBits(dnaInputNg_) != 0) {
+          output.writeFloat(6, dnaInputNg_);
+        }
+        if (java.lang.Float.floatToRawIntBits(libraryConcentrationNgul_) != 0) {
+          output.writeFloat(7, libraryConcentrationNgul_);
+        }
+        if (!com.google.protobuf.GeneratedMessage.isStringEmpty(libraryIgoId_)) {
+          com.google.protobuf.GeneratedMessage.writeString(output, 8, libraryIgoId_);
+        }
+        if (java.lang.Float.floatToRawIntBits(libraryVolume_) != 0) {
+          output.writeFloat(9, libraryVolume_);
+        }
+        for (int i = 0; i < runs_.size(); i++) {
+          output.writeMessage(10, runs_.get(i));
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      @java.lang.Override
+      public int getSerializedSize() {
+        int size = memoizedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (!com.google.protobuf.GeneratedMessage.isStringEmpty(barcodeId_)) {
+          size += com.google.protobuf.GeneratedMessage.computeStringSize(1, barcodeId_);
+        }
+        if (!com.google.protobuf.GeneratedMessage.isStringEmpty(barcodeIndex_)) {
+          size += com.google.protobuf.GeneratedMessage.computeStringSize(2, barcodeIndex_);
+        }
+        if (!com.google.protobuf.GeneratedMessage.isStringEmpty(captureConcentrationNm_)) {
+          size += com.google.protobuf.GeneratedMessage.computeStringSize(3, captureConcentrationNm_);
+        }
+        if (!com.google.protobuf.GeneratedMessage.isStringEmpty(captureInputNg_)) {
+          size += com.google.protobuf.GeneratedMessage.computeStringSize(4, captureInputNg_);
+        }
+        if (!com.google.protobuf.GeneratedMessage.isStringEmpty(captureName_)) {
+          size += com.google.protobuf.GeneratedMessage.computeStringSize(5, captureName_);
+        }
+        if (java.lang.Float.floatToRawIntBits(dnaInputNg_) != 0) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeFloatSize(6, dnaInputNg_);
+        }
+        if (java.lang.Float.floatToRawIntBits(libraryConcentrationNgul_) != 0) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeFloatSize(7, libraryConcentrationNgul_);
+        }
+        if (!com.google.protobuf.GeneratedMessage.isStringEmpty(libraryIgoId_)) {
+          size += com.google.protobuf.GeneratedMessage.computeStringSize(8, libraryIgoId_);
+        }
+        if (java.lang.Float.floatToRawIntBits(libraryVolume_) != 0) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeFloatSize(9, libraryVolume_);
+        }
+        for (int i = 0; i < runs_.size(); i++) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(10, runs_.get(i));
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSize = size;
+        return size;
+      }
+
+      @java.lang.Override
+      public boolean equals(final java.lang.Object obj) {
+        if (obj == this) {
+         return true;
+        }
+        if (!(obj instanceof org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries)) {
+          return super.equals(obj);
+        }
+        org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries other = (org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries) obj;
+
+        if (!getBarcodeId()
+            .equals(other.getBarcodeId())) return false;
+        if (!getBarcodeIndex()
+            .equals(other.getBarcodeIndex())) return false;
+        if (!getCaptureConcentrationNm()
+            .equals(other.getCaptureConcentrationNm())) return false;
+        if (!getCaptureInputNg()
+            .equals(other.getCaptureInputNg())) return false;
+        if (!getCaptureName()
+            .equals(other.getCaptureName())) return false;
+        if (java.lang.Float.floatToIntBits(getDnaInputNg())
+            != java.lang.Float.floatToIntBits(
+                other.getDnaInputNg())) return false;
+        if (java.lang.Float.floatToIntBits(getLibraryConcentrationNgul())
+            != java.lang.Float.floatToIntBits(
+                other.getLibraryConcentrationNgul())) return false;
+        if (!getLibraryIgoId()
+            .equals(other.getLibraryIgoId())) return false;
+        if (java.lang.Float.floatToIntBits(getLibraryVolume())
+            != java.lang.Float.floatToIntBits(
+                other.getLibraryVolume())) return false;
+        if (!getRunsList()
+            .equals(other.getRunsList())) return false;
+        if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+        return true;
+      }
+
+      @java.lang.Override
+      public int hashCode() {
+        if (memoizedHashCode != 0) {
+          return memoizedHashCode;
+        }
+        int hash = 41;
+        hash = (19 * hash) + getDescriptor().hashCode();
+        hash = (37 * hash) + BARCODEID_FIELD_NUMBER;
+        hash = (53 * hash) + getBarcodeId().hashCode();
+        hash = (37 * hash) + BARCODEINDEX_FIELD_NUMBER;
+        hash = (53 * hash) + getBarcodeIndex().hashCode();
+        hash = (37 * hash) + CAPTURECONCENTRATIONNM_FIELD_NUMBER;
+        hash = (53 * hash) + getCaptureConcentrationNm().hashCode();
+        hash = (37 * hash) + CAPTUREINPUTNG_FIELD_NUMBER;
+        hash = (53 * hash) + getCaptureInputNg().hashCode();
+        hash = (37 * hash) + CAPTURENAME_FIELD_NUMBER;
+        hash = (53 * hash) + getCaptureName().hashCode();
+        hash = (37 * hash) + DNAINPUTNG_FIELD_NUMBER;
+        hash = (53 * hash) + java.lang.Float.floatToIntBits(
+            getDnaInputNg());
+        hash = (37 * hash) + LIBRARYCONCENTRATIONNGUL_FIELD_NUMBER;
+        hash = (53 * hash) + java.lang.Float.floatToIntBits(
+            getLibraryConcentrationNgul());
+        hash = (37 * hash) + LIBRARYIGOID_FIELD_NUMBER;
+        hash = (53 * hash) + getLibraryIgoId().hashCode();
+        hash = (37 * hash) + LIBRARYVOLUME_FIELD_NUMBER;
+        hash = (53 * hash) + java.lang.Float.floatToIntBits(
+            getLibraryVolume());
+        if (getRunsCount() > 0) {
+          hash = (37 * hash) + RUNS_FIELD_NUMBER;
+          hash = (53 * hash) + getRunsList().hashCode();
+        }
+        hash = (29 * hash) + getUnknownFields().hashCode();
+        memoizedHashCode = hash;
+        return hash;
+      }
+
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries parseFrom(
+          java.nio.ByteBuffer data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries parseFrom(
+          java.nio.ByteBuffer data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseDelimitedWithIOException(PARSER, input);
+      }
+
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      @java.lang.Override
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder() {
+        return DEFAULT_INSTANCE.toBuilder();
+      }
+      public static Builder newBuilder(org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries prototype) {
+        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+      }
+      @java.lang.Override
+      public Builder toBuilder() {
+        return this == DEFAULT_INSTANCE
+            ? new Builder() : new Builder().mergeFrom(this);
+      }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code SampleManifest.Libraries}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:SampleManifest.Libraries)
+          org.mskcc.smile.commons.generated.Igo.SampleManifest.LibrariesOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.mskcc.smile.commons.generated.Igo.internal_static_SampleManifest_Libraries_descriptor;
+        }
+
+        @java.lang.Override
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.mskcc.smile.commons.generated.Igo.internal_static_SampleManifest_Libraries_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries.class, org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries.Builder.class);
+        }
+
+        // Construct using org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries.newBuilder()
+        private Builder() {
+
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+
+        }
+        @java.lang.Override
+        public Builder clear() {
+          super.clear();
+          bitField0_ = 0;
+          barcodeId_ = "";
+          barcodeIndex_ = "";
+          captureConcentrationNm_ = "";
+          captureInputNg_ = "";
+          captureName_ = "";
+          dnaInputNg_ = 0F;
+          libraryConcentrationNgul_ = 0F;
+          libraryIgoId_ = "";
+          libraryVolume_ = 0F;
+          if (runsBuilder_ == null) {
+            runs_ = java.util.Collections.emptyList();
+          } else {
+            runs_ = null;
+            runsBuilder_.clear();
+          }
+          bitField0_ = (bitField0_ & ~0x00000200);
+          return this;
+        }
+
+        @java.lang.Override
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.mskcc.smile.commons.generated.Igo.internal_static_SampleManifest_Libraries_descriptor;
+        }
+
+        @java.lang.Override
+        public org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries getDefaultInstanceForType() {
+          return org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries.getDefaultInstance();
+        }
+
+        @java.lang.Override
+        public org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries build() {
+          org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        @java.lang.Override
+        public org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries buildPartial() {
+          org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries result = new org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries(this);
+          buildPartialRepeatedFields(result);
+          if (bitField0_ != 0) { buildPartial0(result); }
+          onBuilt();
+          return result;
+        }
+
+        private void buildPartialRepeatedFields(org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries result) {
+          if (runsBuilder_ == null) {
+            if (((bitField0_ & 0x00000200) != 0)) {
+              runs_ = java.util.Collections.unmodifiableList(runs_);
+              bitField0_ = (bitField0_ & ~0x00000200);
+            }
+            result.runs_ = runs_;
+          } else {
+            result.runs_ = runsBuilder_.build();
+          }
+        }
+
+        private void buildPartial0(org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries result) {
+          int from_bitField0_ = bitField0_;
+          if (((from_bitField0_ & 0x00000001) != 0)) {
+            result.barcodeId_ = barcodeId_;
+          }
+          if (((from_bitField0_ & 0x00000002) != 0)) {
+            result.barcodeIndex_ = barcodeIndex_;
+          }
+          if (((from_bitField0_ & 0x00000004) != 0)) {
+            result.captureConcentrationNm_ = captureConcentrationNm_;
+          }
+          if (((from_bitField0_ & 0x00000008) != 0)) {
+            result.captureInputNg_ = captureInputNg_;
+          }
+          if (((from_bitField0_ & 0x00000010) != 0)) {
+            result.captureName_ = captureName_;
+          }
+          if (((from_bitField0_ & 0x00000020) != 0)) {
+            result.dnaInputNg_ = dnaInputNg_;
+          }
+          if (((from_bitField0_ & 0x00000040) != 0)) {
+            result.libraryConcentrationNgul_ = libraryConcentrationNgul_;
+          }
+          if (((from_bitField0_ & 0x00000080) != 0)) {
+            result.libraryIgoId_ = libraryIgoId_;
+          }
+          if (((from_bitField0_ & 0x00000100) != 0)) {
+            result.libraryVolume_ = libraryVolume_;
+          }
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries) {
+            return mergeFrom((org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries other) {
+          if (other == org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries.getDefaultInstance()) return this;
+          if (!other.getBarcodeId().isEmpty()) {
+            barcodeId_ = other.barcodeId_;
+            bitField0_ |= 0x00000001;
+            onChanged();
+          }
+          if (!other.getBarcodeIndex().isEmpty()) {
+            barcodeIndex_ = other.barcodeIndex_;
+            bitField0_ |= 0x00000002;
+            onChanged();
+          }
+          if (!other.getCaptureConcentrationNm().isEmpty()) {
+            captureConcentrationNm_ = other.captureConcentrationNm_;
+            bitField0_ |= 0x00000004;
+            onChanged();
+          }
+          if (!other.getCaptureInputNg().isEmpty()) {
+            captureInputNg_ = other.captureInputNg_;
+            bitField0_ |= 0x00000008;
+            onChanged();
+          }
+          if (!other.getCaptureName().isEmpty()) {
+            captureName_ = other.captureName_;
+            bitField0_ |= 0x00000010;
+            onChanged();
+          }
+          if (other.getDnaInputNg() != 0F) {
+            setDnaInputNg(other.getDnaInputNg());
+          }
+          if (other.getLibraryConcentrationNgul() != 0F) {
+            setLibraryConcentrationNgul(other.getLibraryConcentrationNgul());
+          }
+          if (!other.getLibraryIgoId().isEmpty()) {
+            libraryIgoId_ = other.libraryIgoId_;
+            bitField0_ |= 0x00000080;
+            onChanged();
+          }
+          if (other.getLibraryVolume() != 0F) {
+            setLibraryVolume(other.getLibraryVolume());
+          }
+          if (runsBuilder_ == null) {
+            if (!other.runs_.isEmpty()) {
+              if (runs_.isEmpty()) {
+                runs_ = other.runs_;
+                bitField0_ = (bitField0_ & ~0x00000200);
+              } else {
+                ensureRunsIsMutable();
+                runs_.addAll(other.runs_);
+              }
+              onChanged();
+            }
+          } else {
+            if (!other.runs_.isEmpty()) {
+              if (runsBuilder_.isEmpty()) {
+                runsBuilder_.dispose();
+                runsBuilder_ = null;
+                runs_ = other.runs_;
+                bitField0_ = (bitField0_ & ~0x00000200);
+                runsBuilder_ = 
+                  com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                     getRunsFieldBuilder() : null;
+              } else {
+                runsBuilder_.addAllMessages(other.runs_);
+              }
+            }
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          onChanged();
+          return this;
+        }
+
+        @java.lang.Override
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          if (extensionRegistry == null) {
+            throw new java.lang.NullPointerException();
+          }
+          try {
+            boolean done = false;
+            while (!done) {
+              int tag = input.readTag();
+              switch (tag) {
+                case 0:
+                  done = true;
+                  break;
+                case 10: {
+                  barcodeId_ = input.readStringRequireUtf8();
+                  bitField0_ |= 0x00000001;
+                  break;
+                } // case 10
+                case 18: {
+                  barcodeIndex_ = input.readStringRequireUtf8();
+                  bitField0_ |= 0x00000002;
+                  break;
+                } // case 18
+                case 26: {
+                  captureConcentrationNm_ = input.readStringRequireUtf8();
+                  bitField0_ |= 0x00000004;
+                  break;
+                } // case 26
+                case 34: {
+                  captureInputNg_ = input.readStringRequireUtf8();
+                  bitField0_ |= 0x00000008;
+                  break;
+                } // case 34
+                case 42: {
+                  captureName_ = input.readStringRequireUtf8();
+                  bitField0_ |= 0x00000010;
+                  break;
+                } // case 42
+                case 53: {
+                  dnaInputNg_ = input.readFloat();
+                  bitField0_ |= 0x00000020;
+                  break;
+                } // case 53
+                case 61: {
+                  libraryConcentrationNgul_ = input.readFloat();
+                  bitField0_ |= 0x00000040;
+                  break;
+                } // case 61
+                case 66: {
+                  libraryIgoId_ = input.readStringRequireUtf8();
+                  bitField0_ |= 0x00000080;
+                  break;
+                } // case 66
+                case 77: {
+                  libraryVolume_ = input.readFloat();
+                  bitField0_ |= 0x00000100;
+                  break;
+                } // case 77
+                case 82: {
+                  org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs m =
+                      input.readMessage(
+                          org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs.parser(),
+                          extensionRegistry);
+                  if (runsBuilder_ == null) {
+                    ensureRunsIsMutable();
+                    runs_.add(m);
+                  } else {
+                    runsBuilder_.addMessage(m);
+                  }
+                  break;
+                } // case 82
+                default: {
+                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                    done = true; // was an endgroup tag
+                  }
+                  break;
+                } // default:
+              } // switch (tag)
+            } // while (!done)
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.unwrapIOException();
+          } finally {
+            onChanged();
+          } // finally
+          return this;
+        }
+        private int bitField0_;
+
+        private java.lang.Object barcodeId_ = "";
+        /**
+         * <code>string barcodeId = 1;</code>
+         * @return The barcodeId.
+         */
+        public java.lang.String getBarcodeId() {
+          java.lang.Object ref = barcodeId_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            barcodeId_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>string barcodeId = 1;</code>
+         * @return The bytes for barcodeId.
+         */
+        public com.google.protobuf.ByteString
+            getBarcodeIdBytes() {
+          java.lang.Object ref = barcodeId_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            barcodeId_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>string barcodeId = 1;</code>
+         * @param value The barcodeId to set.
+         * @return This builder for chaining.
+         */
+        public Builder setBarcodeId(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          barcodeId_ = value;
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string barcodeId = 1;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearBarcodeId() {
+          barcodeId_ = getDefaultInstance().getBarcodeId();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string barcodeId = 1;</code>
+         * @param value The bytes for barcodeId to set.
+         * @return This builder for chaining.
+         */
+        public Builder setBarcodeIdBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          barcodeId_ = value;
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object barcodeIndex_ = "";
+        /**
+         * <code>string barcodeIndex = 2;</code>
+         * @return The barcodeIndex.
+         */
+        public java.lang.String getBarcodeIndex() {
+          java.lang.Object ref = barcodeIndex_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            barcodeIndex_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>string barcodeIndex = 2;</code>
+         * @return The bytes for barcodeIndex.
+         */
+        public com.google.protobuf.ByteString
+            getBarcodeIndexBytes() {
+          java.lang.Object ref = barcodeIndex_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            barcodeIndex_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>string barcodeIndex = 2;</code>
+         * @param value The barcodeIndex to set.
+         * @return This builder for chaining.
+         */
+        public Builder setBarcodeIndex(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          barcodeIndex_ = value;
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string barcodeIndex = 2;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearBarcodeIndex() {
+          barcodeIndex_ = getDefaultInstance().getBarcodeIndex();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string barcodeIndex = 2;</code>
+         * @param value The bytes for barcodeIndex to set.
+         * @return This builder for chaining.
+         */
+        public Builder setBarcodeIndexBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          barcodeIndex_ = value;
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object captureConcentrationNm_ = "";
+        /**
+         * <code>string captureConcentrationNm = 3;</code>
+         * @return The captureConcentrationNm.
+         */
+        public java.lang.String getCaptureConcentrationNm() {
+          java.lang.Object ref = captureConcentrationNm_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            captureConcentrationNm_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>string captureConcentrationNm = 3;</code>
+         * @return The bytes for captureConcentrationNm.
+         */
+        public com.google.protobuf.ByteString
+            getCaptureConcentrationNmBytes() {
+          java.lang.Object ref = captureConcentrationNm_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            captureConcentrationNm_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>string captureConcentrationNm = 3;</code>
+         * @param value The captureConcentrationNm to set.
+         * @return This builder for chaining.
+         */
+        public Builder setCaptureConcentrationNm(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          captureConcentrationNm_ = value;
+          bitField0_ |= 0x00000004;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string captureConcentrationNm = 3;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearCaptureConcentrationNm() {
+          captureConcentrationNm_ = getDefaultInstance().getCaptureConcentrationNm();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string captureConcentrationNm = 3;</code>
+         * @param value The bytes for captureConcentrationNm to set.
+         * @return This builder for chaining.
+         */
+        public Builder setCaptureConcentrationNmBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          captureConcentrationNm_ = value;
+          bitField0_ |= 0x00000004;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object captureInputNg_ = "";
+        /**
+         * <code>string captureInputNg = 4;</code>
+         * @return The captureInputNg.
+         */
+        public java.lang.String getCaptureInputNg() {
+          java.lang.Object ref = captureInputNg_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            captureInputNg_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>string captureInputNg = 4;</code>
+         * @return The bytes for captureInputNg.
+         */
+        public com.google.protobuf.ByteString
+            getCaptureInputNgBytes() {
+          java.lang.Object ref = captureInputNg_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            captureInputNg_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>string captureInputNg = 4;</code>
+         * @param value The captureInputNg to set.
+         * @return This builder for chaining.
+         */
+        public Builder setCaptureInputNg(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          captureInputNg_ = value;
+          bitField0_ |= 0x00000008;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string captureInputNg = 4;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearCaptureInputNg() {
+          captureInputNg_ = getDefaultInstance().getCaptureInputNg();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string captureInputNg = 4;</code>
+         * @param value The bytes for captureInputNg to set.
+         * @return This builder for chaining.
+         */
+        public Builder setCaptureInputNgBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          captureInputNg_ = value;
+          bitField0_ |= 0x00000008;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object captureName_ = "";
+        /**
+         * <code>string captureName = 5;</code>
+         * @return The captureName.
+         */
+        public java.lang.String getCaptureName() {
+          java.lang.Object ref = captureName_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            captureName_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>string captureName = 5;</code>
+         * @return The bytes for captureName.
+         */
+        public com.google.protobuf.ByteString
+            getCaptureNameBytes() {
+          java.lang.Object ref = captureName_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            captureName_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>string captureName = 5;</code>
+         * @param value The captureName to set.
+         * @return This builder for chaining.
+         */
+        public Builder setCaptureName(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          captureName_ = value;
+          bitField0_ |= 0x00000010;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string captureName = 5;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearCaptureName() {
+          captureName_ = getDefaultInstance().getCaptureName();
+          bitField0_ = (bitField0_ & ~0x00000010);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string captureName = 5;</code>
+         * @param value The bytes for captureName to set.
+         * @return This builder for chaining.
+         */
+        public Builder setCaptureNameBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          captureName_ = value;
+          bitField0_ |= 0x00000010;
+          onChanged();
+          return this;
+        }
+
+        private float dnaInputNg_ ;
+        /**
+         * <code>float dnaInputNg = 6;</code>
+         * @return The dnaInputNg.
+         */
+        @java.lang.Override
+        public float getDnaInputNg() {
+          return dnaInputNg_;
+        }
+        /**
+         * <code>float dnaInputNg = 6;</code>
+         * @param value The dnaInputNg to set.
+         * @return This builder for chaining.
+         */
+        public Builder setDnaInputNg(float value) {
+
+          dnaInputNg_ = value;
+          bitField0_ |= 0x00000020;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>float dnaInputNg = 6;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearDnaInputNg() {
+          bitField0_ = (bitField0_ & ~0x00000020);
+          dnaInputNg_ = 0F;
+          onChanged();
+          return this;
+        }
+
+        private float libraryConcentrationNgul_ ;
+        /**
+         * <code>float libraryConcentrationNgul = 7;</code>
+         * @return The libraryConcentrationNgul.
+         */
+        @java.lang.Override
+        public float getLibraryConcentrationNgul() {
+          return libraryConcentrationNgul_;
+        }
+        /**
+         * <code>float libraryConcentrationNgul = 7;</code>
+         * @param value The libraryConcentrationNgul to set.
+         * @return This builder for chaining.
+         */
+        public Builder setLibraryConcentrationNgul(float value) {
+
+          libraryConcentrationNgul_ = value;
+          bitField0_ |= 0x00000040;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>float libraryConcentrationNgul = 7;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearLibraryConcentrationNgul() {
+          bitField0_ = (bitField0_ & ~0x00000040);
+          libraryConcentrationNgul_ = 0F;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object libraryIgoId_ = "";
+        /**
+         * <code>string libraryIgoId = 8;</code>
+         * @return The libraryIgoId.
+         */
+        public java.lang.String getLibraryIgoId() {
+          java.lang.Object ref = libraryIgoId_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            libraryIgoId_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>string libraryIgoId = 8;</code>
+         * @return The bytes for libraryIgoId.
+         */
+        public com.google.protobuf.ByteString
+            getLibraryIgoIdBytes() {
+          java.lang.Object ref = libraryIgoId_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            libraryIgoId_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>string libraryIgoId = 8;</code>
+         * @param value The libraryIgoId to set.
+         * @return This builder for chaining.
+         */
+        public Builder setLibraryIgoId(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          libraryIgoId_ = value;
+          bitField0_ |= 0x00000080;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string libraryIgoId = 8;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearLibraryIgoId() {
+          libraryIgoId_ = getDefaultInstance().getLibraryIgoId();
+          bitField0_ = (bitField0_ & ~0x00000080);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string libraryIgoId = 8;</code>
+         * @param value The bytes for libraryIgoId to set.
+         * @return This builder for chaining.
+         */
+        public Builder setLibraryIgoIdBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          libraryIgoId_ = value;
+          bitField0_ |= 0x00000080;
+          onChanged();
+          return this;
+        }
+
+        private float libraryVolume_ ;
+        /**
+         * <code>float libraryVolume = 9;</code>
+         * @return The libraryVolume.
+         */
+        @java.lang.Override
+        public float getLibraryVolume() {
+          return libraryVolume_;
+        }
+        /**
+         * <code>float libraryVolume = 9;</code>
+         * @param value The libraryVolume to set.
+         * @return This builder for chaining.
+         */
+        public Builder setLibraryVolume(float value) {
+
+          libraryVolume_ = value;
+          bitField0_ |= 0x00000100;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>float libraryVolume = 9;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearLibraryVolume() {
+          bitField0_ = (bitField0_ & ~0x00000100);
+          libraryVolume_ = 0F;
+          onChanged();
+          return this;
+        }
+
+        private java.util.List<org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs> runs_ =
+          java.util.Collections.emptyList();
+        private void ensureRunsIsMutable() {
+          if (!((bitField0_ & 0x00000200) != 0)) {
+            runs_ = new java.util.ArrayList<org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs>(runs_);
+            bitField0_ |= 0x00000200;
+           }
+        }
+
+        private com.google.protobuf.RepeatedFieldBuilder<
+            org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs, org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs.Builder, org.mskcc.smile.commons.generated.Igo.SampleManifest.RunsOrBuilder> runsBuilder_;
+
+        /**
+         * <code>repeated .SampleManifest.Runs runs = 10;</code>
+         */
+        public java.util.List<org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs> getRunsList() {
+          if (runsBuilder_ == null) {
+            return java.util.Collections.unmodifiableList(runs_);
+          } else {
+            return runsBuilder_.getMessageList();
+          }
+        }
+        /**
+         * <code>repeated .SampleManifest.Runs runs = 10;</code>
+         */
+        public int getRunsCount() {
+          if (runsBuilder_ == null) {
+            return runs_.size();
+          } else {
+            return runsBuilder_.getCount();
+          }
+        }
+        /**
+         * <code>repeated .SampleManifest.Runs runs = 10;</code>
+         */
+        public org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs getRuns(int index) {
+          if (runsBuilder_ == null) {
+            return runs_.get(index);
+          } else {
+            return runsBuilder_.getMessage(index);
+          }
+        }
+        /**
+         * <code>repeated .SampleManifest.Runs runs = 10;</code>
+         */
+        public Builder setRuns(
+            int index, org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs value) {
+          if (runsBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureRunsIsMutable();
+            runs_.set(index, value);
+            onChanged();
+          } else {
+            runsBuilder_.setMessage(index, value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .SampleManifest.Runs runs = 10;</code>
+         */
+        public Builder setRuns(
+            int index, org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs.Builder builderForValue) {
+          if (runsBuilder_ == null) {
+            ensureRunsIsMutable();
+            runs_.set(index, builderForValue.build());
+            onChanged();
+          } else {
+            runsBuilder_.setMessage(index, builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .SampleManifest.Runs runs = 10;</code>
+         */
+        public Builder addRuns(org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs value) {
+          if (runsBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureRunsIsMutable();
+            runs_.add(value);
+            onChanged();
+          } else {
+            runsBuilder_.addMessage(value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .SampleManifest.Runs runs = 10;</code>
+         */
+        public Builder addRuns(
+            int index, org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs value) {
+          if (runsBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureRunsIsMutable();
+            runs_.add(index, value);
+            onChanged();
+          } else {
+            runsBuilder_.addMessage(index, value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .SampleManifest.Runs runs = 10;</code>
+         */
+        public Builder addRuns(
+            org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs.Builder builderForValue) {
+          if (runsBuilder_ == null) {
+            ensureRunsIsMutable();
+            runs_.add(builderForValue.build());
+            onChanged();
+          } else {
+            runsBuilder_.addMessage(builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .SampleManifest.Runs runs = 10;</code>
+         */
+        public Builder addRuns(
+            int index, org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs.Builder builderForValue) {
+          if (runsBuilder_ == null) {
+            ensureRunsIsMutable();
+            runs_.add(index, builderForValue.build());
+            onChanged();
+          } else {
+            runsBuilder_.addMessage(index, builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .SampleManifest.Runs runs = 10;</code>
+         */
+        public Builder addAllRuns(
+            java.lang.Iterable<? extends org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs> values) {
+          if (runsBuilder_ == null) {
+            ensureRunsIsMutable();
+            com.google.protobuf.AbstractMessageLite.Builder.addAll(
+                values, runs_);
+            onChanged();
+          } else {
+            runsBuilder_.addAllMessages(values);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .SampleManifest.Runs runs = 10;</code>
+         */
+        public Builder clearRuns() {
+          if (runsBuilder_ == null) {
+            runs_ = java.util.Collections.emptyList();
+            bitField0_ = (bitField0_ & ~0x00000200);
+            onChanged();
+          } else {
+            runsBuilder_.clear();
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .SampleManifest.Runs runs = 10;</code>
+         */
+        public Builder removeRuns(int index) {
+          if (runsBuilder_ == null) {
+            ensureRunsIsMutable();
+            runs_.remove(index);
+            onChanged();
+          } else {
+            runsBuilder_.remove(index);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .SampleManifest.Runs runs = 10;</code>
+         */
+        public org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs.Builder getRunsBuilder(
+            int index) {
+          return getRunsFieldBuilder().getBuilder(index);
+        }
+        /**
+         * <code>repeated .SampleManifest.Runs runs = 10;</code>
+         */
+        public org.mskcc.smile.commons.generated.Igo.SampleManifest.RunsOrBuilder getRunsOrBuilder(
+            int index) {
+          if (runsBuilder_ == null) {
+            return runs_.get(index);  } else {
+            return runsBuilder_.getMessageOrBuilder(index);
+          }
+        }
+        /**
+         * <code>repeated .SampleManifest.Runs runs = 10;</code>
+         */
+        public java.util.List<? extends org.mskcc.smile.commons.generated.Igo.SampleManifest.RunsOrBuilder> 
+             getRunsOrBuilderList() {
+          if (runsBuilder_ != null) {
+            return runsBuilder_.getMessageOrBuilderList();
+          } else {
+            return java.util.Collections.unmodifiableList(runs_);
+          }
+        }
+        /**
+         * <code>repeated .SampleManifest.Runs runs = 10;</code>
+         */
+        public org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs.Builder addRunsBuilder() {
+          return getRunsFieldBuilder().addBuilder(
+              org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs.getDefaultInstance());
+        }
+        /**
+         * <code>repeated .SampleManifest.Runs runs = 10;</code>
+         */
+        public org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs.Builder addRunsBuilder(
+            int index) {
+          return getRunsFieldBuilder().addBuilder(
+              index, org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs.getDefaultInstance());
+        }
+        /**
+         * <code>repeated .SampleManifest.Runs runs = 10;</code>
+         */
+        public java.util.List<org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs.Builder> 
+             getRunsBuilderList() {
+          return getRunsFieldBuilder().getBuilderList();
+        }
+        private com.google.protobuf.RepeatedFieldBuilder<
+            org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs, org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs.Builder, org.mskcc.smile.commons.generated.Igo.SampleManifest.RunsOrBuilder> 
+            getRunsFieldBuilder() {
+          if (runsBuilder_ == null) {
+            runsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+                org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs, org.mskcc.smile.commons.generated.Igo.SampleManifest.Runs.Builder, org.mskcc.smile.commons.generated.Igo.SampleManifest.RunsOrBuilder>(
+                    runs_,
+                    ((bitField0_ & 0x00000200) != 0),
+                    getParentForChildren(),
+                    isClean());
+            runs_ = null;
+          }
+          return runsBuilder_;
+        }
+
+        // @@protoc_insertion_point(builder_scope:SampleManifest.Libraries)
+      }
+
+      // @@protoc_insertion_point(class_scope:SampleManifest.Libraries)
+      private static final org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries DEFAULT_INSTANCE;
+      static {
+        DEFAULT_INSTANCE = new org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries();
+      }
+
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+      }
+
+      private static final com.google.protobuf.Parser<Libraries>
+          PARSER = new com.google.protobuf.AbstractParser<Libraries>() {
+        @java.lang.Override
+        public Libraries parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          Builder builder = newBuilder();
+          try {
+            builder.mergeFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.setUnfinishedMessage(builder.buildPartial());
+          } catch (com.google.protobuf.UninitializedMessageException e) {
+            throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+          } catch (java.io.IOException e) {
+            throw new com.google.protobuf.InvalidProtocolBufferException(e)
+                .setUnfinishedMessage(builder.buildPartial());
+          }
+          return builder.buildPartial();
+        }
+      };
+
+      public static com.google.protobuf.Parser<Libraries> parser() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<Libraries> getParserForType() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries getDefaultInstanceForType() {
+        return DEFAULT_INSTANCE;
+      }
+
+    }
+
+    public interface QcreportsOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:SampleManifest.Qcreports)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>string IGORecommendation = 1;</code>
+       * @return The iGORecommendation.
+       */
+      java.lang.String getIGORecommendation();
+      /**
+       * <code>string IGORecommendation = 1;</code>
+       * @return The bytes for iGORecommendation.
+       */
+      com.google.protobuf.ByteString
+          getIGORecommendationBytes();
+
+      /**
+       * <code>string comments = 2;</code>
+       * @return The comments.
+       */
+      java.lang.String getComments();
+      /**
+       * <code>string comments = 2;</code>
+       * @return The bytes for comments.
+       */
+      com.google.protobuf.ByteString
+          getCommentsBytes();
+
+      /**
+       * <code>string investigatorDecision = 3;</code>
+       * @return The investigatorDecision.
+       */
+      java.lang.String getInvestigatorDecision();
+      /**
+       * <code>string investigatorDecision = 3;</code>
+       * @return The bytes for investigatorDecision.
+       */
+      com.google.protobuf.ByteString
+          getInvestigatorDecisionBytes();
+
+      /**
+       * <code>string qcReportType = 4;</code>
+       * @return The qcReportType.
+       */
+      java.lang.String getQcReportType();
+      /**
+       * <code>string qcReportType = 4;</code>
+       * @return The bytes for qcReportType.
+       */
+      com.google.protobuf.ByteString
+          getQcReportTypeBytes();
+    }
+    /**
+     * Protobuf type {@code SampleManifest.Qcreports}
+     */
+    public static final class Qcreports extends
+        com.google.protobuf.GeneratedMessage implements
+        // @@protoc_insertion_point(message_implements:SampleManifest.Qcreports)
+        QcreportsOrBuilder {
+    private static final long serialVersionUID = 0L;
+      static {
+        com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+          /* major= */ 4,
+          /* minor= */ 29,
+          /* patch= */ 3,
+          /* suffix= */ "",
+          Qcreports.class.getName());
+      }
+      // Use Qcreports.newBuilder() to construct.
+      private Qcreports(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+      }
+      private Qcreports() {
+        iGORecommendation_ = "";
+        comments_ = "";
+        investigatorDecision_ = "";
+        qcReportType_ = "";
+      }
+
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.mskcc.smile.commons.generated.Igo.internal_static_SampleManifest_Qcreports_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.mskcc.smile.commons.generated.Igo.internal_static_SampleManifest_Qcreports_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports.class, org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports.Builder.class);
+      }
+
+      public static final int IGORECOMMENDATION_FIELD_NUMBER = 1;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object iGORecommendation_ = "";
+      /**
+       * <code>string IGORecommendation = 1;</code>
+       * @return The iGORecommendation.
+       */
+      @java.lang.Override
+      public java.lang.String getIGORecommendation() {
+        java.lang.Object ref = iGORecommendation_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          iGORecommendation_ = s;
+          return s;
+        }
+      }
+      /**
+       * <code>string IGORecommendation = 1;</code>
+       * @return The bytes for iGORecommendation.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getIGORecommendationBytes() {
+        java.lang.Object ref = iGORecommendation_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          iGORecommendation_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int COMMENTS_FIELD_NUMBER = 2;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object comments_ = "";
+      /**
+       * <code>string comments = 2;</code>
+       * @return The comments.
+       */
+      @java.lang.Override
+      public java.lang.String getComments() {
+        java.lang.Object ref = comments_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          comments_ = s;
+          return s;
+        }
+      }
+      /**
+       * <code>string comments = 2;</code>
+       * @return The bytes for comments.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getCommentsBytes() {
+        java.lang.Object ref = comments_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          comments_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int INVESTIGATORDECISION_FIELD_NUMBER = 3;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object investigatorDecision_ = "";
+      /**
+       * <code>string investigatorDecision = 3;</code>
+       * @return The investigatorDecision.
+       */
+      @java.lang.Override
+      public java.lang.String getInvestigatorDecision() {
+        java.lang.Object ref = investigatorDecision_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          investigatorDecision_ = s;
+          return s;
+        }
+      }
+      /**
+       * <code>string investigatorDecision = 3;</code>
+       * @return The bytes for investigatorDecision.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getInvestigatorDecisionBytes() {
+        java.lang.Object ref = investigatorDecision_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          investigatorDecision_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int QCREPORTTYPE_FIELD_NUMBER = 4;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object qcReportType_ = "";
+      /**
+       * <code>string qcReportType = 4;</code>
+       * @return The qcReportType.
+       */
+      @java.lang.Override
+      public java.lang.String getQcReportType() {
+        java.lang.Object ref = qcReportType_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          qcReportType_ = s;
+          return s;
+        }
+      }
+      /**
+       * <code>string qcReportType = 4;</code>
+       * @return The bytes for qcReportType.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getQcReportTypeBytes() {
+        java.lang.Object ref = qcReportType_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          qcReportType_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      private byte memoizedIsInitialized = -1;
+      @java.lang.Override
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      @java.lang.Override
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        if (!com.google.protobuf.GeneratedMessage.isStringEmpty(iGORecommendation_)) {
+          com.google.protobuf.GeneratedMessage.writeString(output, 1, iGORecommendation_);
+        }
+        if (!com.google.protobuf.GeneratedMessage.isStringEmpty(comments_)) {
+          com.google.protobuf.GeneratedMessage.writeString(output, 2, comments_);
+        }
+        if (!com.google.protobuf.GeneratedMessage.isStringEmpty(investigatorDecision_)) {
+          com.google.protobuf.GeneratedMessage.writeString(output, 3, investigatorDecision_);
+        }
+        if (!com.google.protobuf.GeneratedMessage.isStringEmpty(qcReportType_)) {
+          com.google.protobuf.GeneratedMessage.writeString(output, 4, qcReportType_);
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      @java.lang.Override
+      public int getSerializedSize() {
+        int size = memoizedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (!com.google.protobuf.GeneratedMessage.isStringEmpty(iGORecommendation_)) {
+          size += com.google.protobuf.GeneratedMessage.computeStringSize(1, iGORecommendation_);
+        }
+        if (!com.google.protobuf.GeneratedMessage.isStringEmpty(comments_)) {
+          size += com.google.protobuf.GeneratedMessage.computeStringSize(2, comments_);
+        }
+        if (!com.google.protobuf.GeneratedMessage.isStringEmpty(investigatorDecision_)) {
+          size += com.google.protobuf.GeneratedMessage.computeStringSize(3, investigatorDecision_);
+        }
+        if (!com.google.protobuf.GeneratedMessage.isStringEmpty(qcReportType_)) {
+          size += com.google.protobuf.GeneratedMessage.computeStringSize(4, qcReportType_);
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSize = size;
+        return size;
+      }
+
+      @java.lang.Override
+      public boolean equals(final java.lang.Object obj) {
+        if (obj == this) {
+         return true;
+        }
+        if (!(obj instanceof org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports)) {
+          return super.equals(obj);
+        }
+        org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports other = (org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports) obj;
+
+        if (!getIGORecommendation()
+            .equals(other.getIGORecommendation())) return false;
+        if (!getComments()
+            .equals(other.getComments())) return false;
+        if (!getInvestigatorDecision()
+            .equals(other.getInvestigatorDecision())) return false;
+        if (!getQcReportType()
+            .equals(other.getQcReportType())) return false;
+        if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+        return true;
+      }
+
+      @java.lang.Override
+      public int hashCode() {
+        if (memoizedHashCode != 0) {
+          return memoizedHashCode;
+        }
+        int hash = 41;
+        hash = (19 * hash) + getDescriptor().hashCode();
+        hash = (37 * hash) + IGORECOMMENDATION_FIELD_NUMBER;
+        hash = (53 * hash) + getIGORecommendation().hashCode();
+        hash = (37 * hash) + COMMENTS_FIELD_NUMBER;
+        hash = (53 * hash) + getComments().hashCode();
+        hash = (37 * hash) + INVESTIGATORDECISION_FIELD_NUMBER;
+        hash = (53 * hash) + getInvestigatorDecision().hashCode();
+        hash = (37 * hash) + QCREPORTTYPE_FIELD_NUMBER;
+        hash = (53 * hash) + getQcReportType().hashCode();
+        hash = (29 * hash) + getUnknownFields().hashCode();
+        memoizedHashCode = hash;
+        return hash;
+      }
+
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports parseFrom(
+          java.nio.ByteBuffer data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports parseFrom(
+          java.nio.ByteBuffer data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseDelimitedWithIOException(PARSER, input);
+      }
+
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      @java.lang.Override
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder() {
+        return DEFAULT_INSTANCE.toBuilder();
+      }
+      public static Builder newBuilder(org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports prototype) {
+        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+      }
+      @java.lang.Override
+      public Builder toBuilder() {
+        return this == DEFAULT_INSTANCE
+            ? new Builder() : new Builder().mergeFrom(this);
+      }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code SampleManifest.Qcreports}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:SampleManifest.Qcreports)
+          org.mskcc.smile.commons.generated.Igo.SampleManifest.QcreportsOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.mskcc.smile.commons.generated.Igo.internal_static_SampleManifest_Qcreports_descriptor;
+        }
+
+        @java.lang.Override
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.mskcc.smile.commons.generated.Igo.internal_static_SampleManifest_Qcreports_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports.class, org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports.Builder.class);
+        }
+
+        // Construct using org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports.newBuilder()
+        private Builder() {
+
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+
+        }
+        @java.lang.Override
+        public Builder clear() {
+          super.clear();
+          bitField0_ = 0;
+          iGORecommendation_ = "";
+          comments_ = "";
+          investigatorDecision_ = "";
+          qcReportType_ = "";
+          return this;
+        }
+
+        @java.lang.Override
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.mskcc.smile.commons.generated.Igo.internal_static_SampleManifest_Qcreports_descriptor;
+        }
+
+        @java.lang.Override
+        public org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports getDefaultInstanceForType() {
+          return org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports.getDefaultInstance();
+        }
+
+        @java.lang.Override
+        public org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports build() {
+          org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        @java.lang.Override
+        public org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports buildPartial() {
+          org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports result = new org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports(this);
+          if (bitField0_ != 0) { buildPartial0(result); }
+          onBuilt();
+          return result;
+        }
+
+        private void buildPartial0(org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports result) {
+          int from_bitField0_ = bitField0_;
+          if (((from_bitField0_ & 0x00000001) != 0)) {
+            result.iGORecommendation_ = iGORecommendation_;
+          }
+          if (((from_bitField0_ & 0x00000002) != 0)) {
+            result.comments_ = comments_;
+          }
+          if (((from_bitField0_ & 0x00000004) != 0)) {
+            result.investigatorDecision_ = investigatorDecision_;
+          }
+          if (((from_bitField0_ & 0x00000008) != 0)) {
+            result.qcReportType_ = qcReportType_;
+          }
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports) {
+            return mergeFrom((org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports other) {
+          if (other == org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports.getDefaultInstance()) return this;
+          if (!other.getIGORecommendation().isEmpty()) {
+            iGORecommendation_ = other.iGORecommendation_;
+            bitField0_ |= 0x00000001;
+            onChanged();
+          }
+          if (!other.getComments().isEmpty()) {
+            comments_ = other.comments_;
+            bitField0_ |= 0x00000002;
+            onChanged();
+          }
+          if (!other.getInvestigatorDecision().isEmpty()) {
+            investigatorDecision_ = other.investigatorDecision_;
+            bitField0_ |= 0x00000004;
+            onChanged();
+          }
+          if (!other.getQcReportType().isEmpty()) {
+            qcReportType_ = other.qcReportType_;
+            bitField0_ |= 0x00000008;
+            onChanged();
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          onChanged();
+          return this;
+        }
+
+        @java.lang.Override
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          if (extensionRegistry == null) {
+            throw new java.lang.NullPointerException();
+          }
+          try {
+            boolean done = false;
+            while (!done) {
+              int tag = input.readTag();
+              switch (tag) {
+                case 0:
+                  done = true;
+                  break;
+                case 10: {
+                  iGORecommendation_ = input.readStringRequireUtf8();
+                  bitField0_ |= 0x00000001;
+                  break;
+                } // case 10
+                case 18: {
+                  comments_ = input.readStringRequireUtf8();
+                  bitField0_ |= 0x00000002;
+                  break;
+                } // case 18
+                case 26: {
+                  investigatorDecision_ = input.readStringRequireUtf8();
+                  bitField0_ |= 0x00000004;
+                  break;
+                } // case 26
+                case 34: {
+                  qcReportType_ = input.readStringRequireUtf8();
+                  bitField0_ |= 0x00000008;
+                  break;
+                } // case 34
+                default: {
+                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                    done = true; // was an endgroup tag
+                  }
+                  break;
+                } // default:
+              } // switch (tag)
+            } // while (!done)
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.unwrapIOException();
+          } finally {
+            onChanged();
+          } // finally
+          return this;
+        }
+        private int bitField0_;
+
+        private java.lang.Object iGORecommendation_ = "";
+        /**
+         * <code>string IGORecommendation = 1;</code>
+         * @return The iGORecommendation.
+         */
+        public java.lang.String getIGORecommendation() {
+          java.lang.Object ref = iGORecommendation_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            iGORecommendation_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>string IGORecommendation = 1;</code>
+         * @return The bytes for iGORecommendation.
+         */
+        public com.google.protobuf.ByteString
+            getIGORecommendationBytes() {
+          java.lang.Object ref = iGORecommendation_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            iGORecommendation_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>string IGORecommendation = 1;</code>
+         * @param value The iGORecommendation to set.
+         * @return This builder for chaining.
+         */
+        public Builder setIGORecommendation(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          iGORecommendation_ = value;
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string IGORecommendation = 1;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearIGORecommendation() {
+          iGORecommendation_ = getDefaultInstance().getIGORecommendation();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string IGORecommendation = 1;</code>
+         * @param value The bytes for iGORecommendation to set.
+         * @return This builder for chaining.
+         */
+        public Builder setIGORecommendationBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          iGORecommendation_ = value;
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object comments_ = "";
+        /**
+         * <code>string comments = 2;</code>
+         * @return The comments.
+         */
+        public java.lang.String getComments() {
+          java.lang.Object ref = comments_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            comments_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>string comments = 2;</code>
+         * @return The bytes for comments.
+         */
+        public com.google.protobuf.ByteString
+            getCommentsBytes() {
+          java.lang.Object ref = comments_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            comments_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>string comments = 2;</code>
+         * @param value The comments to set.
+         * @return This builder for chaining.
+         */
+        public Builder setComments(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          comments_ = value;
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string comments = 2;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearComments() {
+          comments_ = getDefaultInstance().getComments();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string comments = 2;</code>
+         * @param value The bytes for comments to set.
+         * @return This builder for chaining.
+         */
+        public Builder setCommentsBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          comments_ = value;
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object investigatorDecision_ = "";
+        /**
+         * <code>string investigatorDecision = 3;</code>
+         * @return The investigatorDecision.
+         */
+        public java.lang.String getInvestigatorDecision() {
+          java.lang.Object ref = investigatorDecision_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            investigatorDecision_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>string investigatorDecision = 3;</code>
+         * @return The bytes for investigatorDecision.
+         */
+        public com.google.protobuf.ByteString
+            getInvestigatorDecisionBytes() {
+          java.lang.Object ref = investigatorDecision_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            investigatorDecision_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>string investigatorDecision = 3;</code>
+         * @param value The investigatorDecision to set.
+         * @return This builder for chaining.
+         */
+        public Builder setInvestigatorDecision(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          investigatorDecision_ = value;
+          bitField0_ |= 0x00000004;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string investigatorDecision = 3;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearInvestigatorDecision() {
+          investigatorDecision_ = getDefaultInstance().getInvestigatorDecision();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string investigatorDecision = 3;</code>
+         * @param value The bytes for investigatorDecision to set.
+         * @return This builder for chaining.
+         */
+        public Builder setInvestigatorDecisionBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          investigatorDecision_ = value;
+          bitField0_ |= 0x00000004;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object qcReportType_ = "";
+        /**
+         * <code>string qcReportType = 4;</code>
+         * @return The qcReportType.
+         */
+        public java.lang.String getQcReportType() {
+          java.lang.Object ref = qcReportType_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            qcReportType_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>string qcReportType = 4;</code>
+         * @return The bytes for qcReportType.
+         */
+        public com.google.protobuf.ByteString
+            getQcReportTypeBytes() {
+          java.lang.Object ref = qcReportType_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            qcReportType_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>string qcReportType = 4;</code>
+         * @param value The qcReportType to set.
+         * @return This builder for chaining.
+         */
+        public Builder setQcReportType(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          qcReportType_ = value;
+          bitField0_ |= 0x00000008;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string qcReportType = 4;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearQcReportType() {
+          qcReportType_ = getDefaultInstance().getQcReportType();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>string qcReportType = 4;</code>
+         * @param value The bytes for qcReportType to set.
+         * @return This builder for chaining.
+         */
+        public Builder setQcReportTypeBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          checkByteStringIsUtf8(value);
+          qcReportType_ = value;
+          bitField0_ |= 0x00000008;
+          onChanged();
+          return this;
+        }
+
+        // @@protoc_insertion_point(builder_scope:SampleManifest.Qcreports)
+      }
+
+      // @@protoc_insertion_point(class_scope:SampleManifest.Qcreports)
+      private static final org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports DEFAULT_INSTANCE;
+      static {
+        DEFAULT_INSTANCE = new org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports();
+      }
+
+      public static org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+      }
+
+      private static final com.google.protobuf.Parser<Qcreports>
+          PARSER = new com.google.protobuf.AbstractParser<Qcreports>() {
+        @java.lang.Override
+        public Qcreports parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          Builder builder = newBuilder();
+          try {
+            builder.mergeFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.setUnfinishedMessage(builder.buildPartial());
+          } catch (com.google.protobuf.UninitializedMessageException e) {
+            throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+          } catch (java.io.IOException e) {
+            throw new com.google.protobuf.InvalidProtocolBufferException(e)
+                .setUnfinishedMessage(builder.buildPartial());
+          }
+          return builder.buildPartial();
+        }
+      };
+
+      public static com.google.protobuf.Parser<Qcreports> parser() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<Qcreports> getParserForType() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports getDefaultInstanceForType() {
+        return DEFAULT_INSTANCE;
+      }
+
+    }
+
+    private int bitField0_;
+    public static final int BAITSET_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object baitSet_ = "";
+    /**
+     * <code>string baitSet = 1;</code>
+     * @return The baitSet.
+     */
+    @java.lang.Override
+    public java.lang.String getBaitSet() {
+      java.lang.Object ref = baitSet_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        baitSet_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string baitSet = 1;</code>
+     * @return The bytes for baitSet.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getBaitSetBytes() {
+      java.lang.Object ref = baitSet_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        baitSet_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int CFDNA2DBARCODE_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object cfDNA2DBarcode_ = "";
+    /**
+     * <code>string cfDNA2dBarcode = 2;</code>
+     * @return The cfDNA2dBarcode.
+     */
+    @java.lang.Override
+    public java.lang.String getCfDNA2DBarcode() {
+      java.lang.Object ref = cfDNA2DBarcode_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        cfDNA2DBarcode_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string cfDNA2dBarcode = 2;</code>
+     * @return The bytes for cfDNA2dBarcode.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getCfDNA2DBarcodeBytes() {
+      java.lang.Object ref = cfDNA2DBarcode_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        cfDNA2DBarcode_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int CMOINFOIGOID_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object cmoInfoIgoId_ = "";
+    /**
+     * <code>string cmoInfoIgoId = 3;</code>
+     * @return The cmoInfoIgoId.
+     */
+    @java.lang.Override
+    public java.lang.String getCmoInfoIgoId() {
+      java.lang.Object ref = cmoInfoIgoId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        cmoInfoIgoId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string cmoInfoIgoId = 3;</code>
+     * @return The bytes for cmoInfoIgoId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getCmoInfoIgoIdBytes() {
+      java.lang.Object ref = cmoInfoIgoId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        cmoInfoIgoId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int CMOPATIENTID_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object cmoPatientId_ = "";
+    /**
+     * <code>string cmoPatientId = 4;</code>
+     * @return The cmoPatientId.
+     */
+    @java.lang.Override
+    public java.lang.String getCmoPatientId() {
+      java.lang.Object ref = cmoPatientId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        cmoPatientId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string cmoPatientId = 4;</code>
+     * @return The bytes for cmoPatientId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getCmoPatientIdBytes() {
+      java.lang.Object ref = cmoPatientId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        cmoPatientId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int CMOSAMPLECLASS_FIELD_NUMBER = 5;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object cmoSampleClass_ = "";
+    /**
+     * <code>string cmoSampleClass = 5;</code>
+     * @return The cmoSampleClass.
+     */
+    @java.lang.Override
+    public java.lang.String getCmoSampleClass() {
+      java.lang.Object ref = cmoSampleClass_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        cmoSampleClass_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string cmoSampleClass = 5;</code>
+     * @return The bytes for cmoSampleClass.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getCmoSampleClassBytes() {
+      java.lang.Object ref = cmoSampleClass_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        cmoSampleClass_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int CMOSAMPLEIDFIELDS_FIELD_NUMBER = 6;
+    private org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields cmoSampleIdFields_;
+    /**
+     * <code>.SampleManifest.Cmosampleidfields cmoSampleIdFields = 6;</code>
+     * @return Whether the cmoSampleIdFields field is set.
+     */
+    @java.lang.Override
+    public boolean hasCmoSampleIdFields() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>.SampleManifest.Cmosampleidfields cmoSampleIdFields = 6;</code>
+     * @return The cmoSampleIdFields.
+     */
+    @java.lang.Override
+    public org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields getCmoSampleIdFields() {
+      return cmoSampleIdFields_ == null ? org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields.getDefaultInstance() : cmoSampleIdFields_;
+    }
+    /**
+     * <code>.SampleManifest.Cmosampleidfields cmoSampleIdFields = 6;</code>
+     */
+    @java.lang.Override
+    public org.mskcc.smile.commons.generated.Igo.SampleManifest.CmosampleidfieldsOrBuilder getCmoSampleIdFieldsOrBuilder() {
+      return cmoSampleIdFields_ == null ? org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields.getDefaultInstance() : cmoSampleIdFields_;
+    }
+
+    public static final int CMOSAMPLENAME_FIELD_NUMBER = 7;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object cmoSampleName_ = "";
+    /**
+     * <code>string cmoSampleName = 7;</code>
+     * @return The cmoSampleName.
+     */
+    @java.lang.Override
+    public java.lang.String getCmoSampleName() {
+      java.lang.Object ref = cmoSampleName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        cmoSampleName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string cmoSampleName = 7;</code>
+     * @return The bytes for cmoSampleName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getCmoSampleNameBytes() {
+      java.lang.Object ref = cmoSampleName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        cmoSampleName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int COLLECTIONYEAR_FIELD_NUMBER = 8;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object collectionYear_ = "";
+    /**
+     * <code>string collectionYear = 8;</code>
+     * @return The collectionYear.
+     */
+    @java.lang.Override
+    public java.lang.String getCollectionYear() {
+      java.lang.Object ref = collectionYear_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        collectionYear_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string collectionYear = 8;</code>
+     * @return The bytes for collectionYear.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getCollectionYearBytes() {
+      java.lang.Object ref = collectionYear_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        collectionYear_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int IGOID_FIELD_NUMBER = 9;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object igoId_ = "";
+    /**
+     * <code>string igoId = 9;</code>
+     * @return The igoId.
+     */
+    @java.lang.Override
+    public java.lang.String getIgoId() {
+      java.lang.Object ref = igoId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        igoId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string igoId = 9;</code>
+     * @return The bytes for igoId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getIgoIdBytes() {
+      java.lang.Object ref = igoId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        igoId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int INVESTIGATORSAMPLEID_FIELD_NUMBER = 10;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object investigatorSampleId_ = "";
+    /**
+     * <code>string investigatorSampleId = 10;</code>
+     * @return The investigatorSampleId.
+     */
+    @java.lang.Override
+    public java.lang.String getInvestigatorSampleId() {
+      java.lang.Object ref = investigatorSampleId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        investigatorSampleId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string investigatorSampleId = 10;</code>
+     * @return The bytes for investigatorSampleId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getInvestigatorSampleIdBytes() {
+      java.lang.Object ref = investigatorSampleId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        investigatorSampleId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int LIBRARIES_FIELD_NUMBER = 11;
+    @SuppressWarnings("serial")
+    private java.util.List<org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries> libraries_;
+    /**
+     * <code>repeated .SampleManifest.Libraries libraries = 11;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries> getLibrariesList() {
+      return libraries_;
+    }
+    /**
+     * <code>repeated .SampleManifest.Libraries libraries = 11;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.mskcc.smile.commons.generated.Igo.SampleManifest.LibrariesOrBuilder> 
+        getLibrariesOrBuilderList() {
+      return libraries_;
+    }
+    /**
+     * <code>repeated .SampleManifest.Libraries libraries = 11;</code>
+     */
+    @java.lang.Override
+    public int getLibrariesCount() {
+      return libraries_.size();
+    }
+    /**
+     * <code>repeated .SampleManifest.Libraries libraries = 11;</code>
+     */
+    @java.lang.Override
+    public org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries getLibraries(int index) {
+      return libraries_.get(index);
+    }
+    /**
+     * <code>repeated .SampleManifest.Libraries libraries = 11;</code>
+     */
+    @java.lang.Override
+    public org.mskcc.smile.commons.generated.Igo.SampleManifest.LibrariesOrBuilder getLibrariesOrBuilder(
+        int index) {
+      return libraries_.get(index);
+    }
+
+    public static final int ONCOTREECODE_FIELD_NUMBER = 12;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object oncoTreeCode_ = "";
+    /**
+     * <code>string oncoTreeCode = 12;</code>
+     * @return The oncoTreeCode.
+     */
+    @java.lang.Override
+    public java.lang.String getOncoTreeCode() {
+      java.lang.Object ref = oncoTreeCode_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        oncoTreeCode_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string oncoTreeCode = 12;</code>
+     * @return The bytes for oncoTreeCode.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getOncoTreeCodeBytes() {
+      java.lang.Object ref = oncoTreeCode_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        oncoTreeCode_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PRESERVATION_FIELD_NUMBER = 13;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object preservation_ = "";
+    /**
+     * <code>string preservation = 13;</code>
+     * @return The preservation.
+     */
+    @java.lang.Override
+    public java.lang.String getPreservation() {
+      java.lang.Object ref = preservation_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        preservation_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string preservation = 13;</code>
+     * @return The bytes for preservation.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getPreservationBytes() {
+      java.lang.Object ref = preservation_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        preservation_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int QCREPORTS_FIELD_NUMBER = 14;
+    @SuppressWarnings("serial")
+    private java.util.List<org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports> qcReports_;
+    /**
+     * <code>repeated .SampleManifest.Qcreports qcReports = 14;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports> getQcReportsList() {
+      return qcReports_;
+    }
+    /**
+     * <code>repeated .SampleManifest.Qcreports qcReports = 14;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.mskcc.smile.commons.generated.Igo.SampleManifest.QcreportsOrBuilder> 
+        getQcReportsOrBuilderList() {
+      return qcReports_;
+    }
+    /**
+     * <code>repeated .SampleManifest.Qcreports qcReports = 14;</code>
+     */
+    @java.lang.Override
+    public int getQcReportsCount() {
+      return qcReports_.size();
+    }
+    /**
+     * <code>repeated .SampleManifest.Qcreports qcReports = 14;</code>
+     */
+    @java.lang.Override
+    public org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports getQcReports(int index) {
+      return qcReports_.get(index);
+    }
+    /**
+     * <code>repeated .SampleManifest.Qcreports qcReports = 14;</code>
+     */
+    @java.lang.Override
+    public org.mskcc.smile.commons.generated.Igo.SampleManifest.QcreportsOrBuilder getQcReportsOrBuilder(
+        int index) {
+      return qcReports_.get(index);
+    }
+
+    public static final int SAMPLENAME_FIELD_NUMBER = 15;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object sampleName_ = "";
+    /**
+     * <code>string sampleName = 15;</code>
+     * @return The sampleName.
+     */
+    @java.lang.Override
+    public java.lang.String getSampleName() {
+      java.lang.Object ref = sampleName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        sampleName_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string sampleName = 15;</code>
+     * @return The bytes for sampleName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getSampleNameBytes() {
+      java.lang.Object ref = sampleName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        sampleName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SAMPLEORIGIN_FIELD_NUMBER = 16;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object sampleOrigin_ = "";
+    /**
+     * <code>string sampleOrigin = 16;</code>
+     * @return The sampleOrigin.
+     */
+    @java.lang.Override
+    public java.lang.String getSampleOrigin() {
+      java.lang.Object ref = sampleOrigin_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        sampleOrigin_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string sampleOrigin = 16;</code>
+     * @return The bytes for sampleOrigin.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getSampleOriginBytes() {
+      java.lang.Object ref = sampleOrigin_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        sampleOrigin_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SEX_FIELD_NUMBER = 17;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object sex_ = "";
+    /**
+     * <code>string sex = 17;</code>
+     * @return The sex.
+     */
+    @java.lang.Override
+    public java.lang.String getSex() {
+      java.lang.Object ref = sex_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        sex_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string sex = 17;</code>
+     * @return The bytes for sex.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getSexBytes() {
+      java.lang.Object ref = sex_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        sex_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SPECIES_FIELD_NUMBER = 18;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object species_ = "";
+    /**
+     * <code>string species = 18;</code>
+     * @return The species.
+     */
+    @java.lang.Override
+    public java.lang.String getSpecies() {
+      java.lang.Object ref = species_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        species_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string species = 18;</code>
+     * @return The bytes for species.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getSpeciesBytes() {
+      java.lang.Object ref = species_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        species_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SPECIMENTYPE_FIELD_NUMBER = 19;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object specimenType_ = "";
+    /**
+     * <code>string specimenType = 19;</code>
+     * @return The specimenType.
+     */
+    @java.lang.Override
+    public java.lang.String getSpecimenType() {
+      java.lang.Object ref = specimenType_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        specimenType_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string specimenType = 19;</code>
+     * @return The bytes for specimenType.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getSpecimenTypeBytes() {
+      java.lang.Object ref = specimenType_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        specimenType_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TISSUELOCATION_FIELD_NUMBER = 20;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object tissueLocation_ = "";
+    /**
+     * <code>string tissueLocation = 20;</code>
+     * @return The tissueLocation.
+     */
+    @java.lang.Override
+    public java.lang.String getTissueLocation() {
+      java.lang.Object ref = tissueLocation_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        tissueLocation_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string tissueLocation = 20;</code>
+     * @return The bytes for tissueLocation.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTissueLocationBytes() {
+      java.lang.Object ref = tissueLocation_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        tissueLocation_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TUBEID_FIELD_NUMBER = 21;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object tubeId_ = "";
+    /**
+     * <code>string tubeId = 21;</code>
+     * @return The tubeId.
+     */
+    @java.lang.Override
+    public java.lang.String getTubeId() {
+      java.lang.Object ref = tubeId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        tubeId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string tubeId = 21;</code>
+     * @return The bytes for tubeId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTubeIdBytes() {
+      java.lang.Object ref = tubeId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        tubeId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TUMORORNORMAL_FIELD_NUMBER = 22;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object tumorOrNormal_ = "";
+    /**
+     * <code>string tumorOrNormal = 22;</code>
+     * @return The tumorOrNormal.
+     */
+    @java.lang.Override
+    public java.lang.String getTumorOrNormal() {
+      java.lang.Object ref = tumorOrNormal_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        tumorOrNormal_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string tumorOrNormal = 22;</code>
+     * @return The bytes for tumorOrNormal.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTumorOrNormalBytes() {
+      java.lang.Object ref = tumorOrNormal_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        tumorOrNormal_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int IGOCOMPLETE_FIELD_NUMBER = 23;
+    private boolean igoComplete_ = false;
+    /**
+     * <code>bool igoComplete = 23;</code>
+     * @return The igoComplete.
+     */
+    @java.lang.Override
+    public boolean getIgoComplete() {
+      return igoComplete_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(baitSet_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, baitSet_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(cfDNA2DBarcode_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 2, cfDNA2DBarcode_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(cmoInfoIgoId_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 3, cmoInfoIgoId_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(cmoPatientId_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 4, cmoPatientId_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(cmoSampleClass_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 5, cmoSampleClass_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeMessage(6, getCmoSampleIdFields());
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(cmoSampleName_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 7, cmoSampleName_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(collectionYear_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 8, collectionYear_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(igoId_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 9, igoId_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(investigatorSampleId_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 10, investigatorSampleId_);
+      }
+      for (int i = 0; i < libraries_.size(); i++) {
+        output.writeMessage(11, libraries_.get(i));
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(oncoTreeCode_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 12, oncoTreeCode_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(preservation_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 13, preservation_);
+      }
+      for (int i = 0; i < qcReports_.size(); i++) {
+        output.writeMessage(14, qcReports_.get(i));
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(sampleName_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 15, sampleName_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(sampleOrigin_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 16, sampleOrigin_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(sex_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 17, sex_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(species_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 18, species_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(specimenType_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 19, specimenType_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(tissueLocation_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 20, tissueLocation_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(tubeId_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 21, tubeId_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(tumorOrNormal_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 22, tumorOrNormal_);
+      }
+      if (igoComplete_ != false) {
+        output.writeBool(23, igoComplete_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(baitSet_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, baitSet_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(cfDNA2DBarcode_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(2, cfDNA2DBarcode_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(cmoInfoIgoId_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(3, cmoInfoIgoId_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(cmoPatientId_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(4, cmoPatientId_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(cmoSampleClass_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(5, cmoSampleClass_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, getCmoSampleIdFields());
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(cmoSampleName_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(7, cmoSampleName_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(collectionYear_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(8, collectionYear_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(igoId_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(9, igoId_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(investigatorSampleId_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(10, investigatorSampleId_);
+      }
+      for (int i = 0; i < libraries_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(11, libraries_.get(i));
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(oncoTreeCode_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(12, oncoTreeCode_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(preservation_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(13, preservation_);
+      }
+      for (int i = 0; i < qcReports_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(14, qcReports_.get(i));
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(sampleName_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(15, sampleName_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(sampleOrigin_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(16, sampleOrigin_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(sex_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(17, sex_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(species_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(18, species_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(specimenType_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(19, specimenType_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(tissueLocation_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(20, tissueLocation_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(tubeId_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(21, tubeId_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(tumorOrNormal_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(22, tumorOrNormal_);
+      }
+      if (igoComplete_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(23, igoComplete_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.mskcc.smile.commons.generated.Igo.SampleManifest)) {
+        return super.equals(obj);
+      }
+      org.mskcc.smile.commons.generated.Igo.SampleManifest other = (org.mskcc.smile.commons.generated.Igo.SampleManifest) obj;
+
+      if (!getBaitSet()
+          .equals(other.getBaitSet())) return false;
+      if (!getCfDNA2DBarcode()
+          .equals(other.getCfDNA2DBarcode())) return false;
+      if (!getCmoInfoIgoId()
+          .equals(other.getCmoInfoIgoId())) return false;
+      if (!getCmoPatientId()
+          .equals(other.getCmoPatientId())) return false;
+      if (!getCmoSampleClass()
+          .equals(other.getCmoSampleClass())) return false;
+      if (hasCmoSampleIdFields() != other.hasCmoSampleIdFields()) return false;
+      if (hasCmoSampleIdFields()) {
+        if (!getCmoSampleIdFields()
+            .equals(other.getCmoSampleIdFields())) return false;
+      }
+      if (!getCmoSampleName()
+          .equals(other.getCmoSampleName())) return false;
+      if (!getCollectionYear()
+          .equals(other.getCollectionYear())) return false;
+      if (!getIgoId()
+          .equals(other.getIgoId())) return false;
+      if (!getInvestigatorSampleId()
+          .equals(other.getInvestigatorSampleId())) return false;
+      if (!getLibrariesList()
+          .equals(other.getLibrariesList())) return false;
+      if (!getOncoTreeCode()
+          .equals(other.getOncoTreeCode())) return false;
+      if (!getPreservation()
+          .equals(other.getPreservation())) return false;
+      if (!getQcReportsList()
+          .equals(other.getQcReportsList())) return false;
+      if (!getSampleName()
+          .equals(other.getSampleName())) return false;
+      if (!getSampleOrigin()
+          .equals(other.getSampleOrigin())) return false;
+      if (!getSex()
+          .equals(other.getSex())) return false;
+      if (!getSpecies()
+          .equals(other.getSpecies())) return false;
+      if (!getSpecimenType()
+          .equals(other.getSpecimenType())) return false;
+      if (!getTissueLocation()
+          .equals(other.getTissueLocation())) return false;
+      if (!getTubeId()
+          .equals(other.getTubeId())) return false;
+      if (!getTumorOrNormal()
+          .equals(other.getTumorOrNormal())) return false;
+      if (getIgoComplete()
+          != other.getIgoComplete()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + BAITSET_FIELD_NUMBER;
+      hash = (53 * hash) + getBaitSet().hashCode();
+      hash = (37 * hash) + CFDNA2DBARCODE_FIELD_NUMBER;
+      hash = (53 * hash) + getCfDNA2DBarcode().hashCode();
+      hash = (37 * hash) + CMOINFOIGOID_FIELD_NUMBER;
+      hash = (53 * hash) + getCmoInfoIgoId().hashCode();
+      hash = (37 * hash) + CMOPATIENTID_FIELD_NUMBER;
+      hash = (53 * hash) + getCmoPatientId().hashCode();
+      hash = (37 * hash) + CMOSAMPLECLASS_FIELD_NUMBER;
+      hash = (53 * hash) + getCmoSampleClass().hashCode();
+      if (hasCmoSampleIdFields()) {
+        hash = (37 * hash) + CMOSAMPLEIDFIELDS_FIELD_NUMBER;
+        hash = (53 * hash) + getCmoSampleIdFields().hashCode();
+      }
+      hash = (37 * hash) + CMOSAMPLENAME_FIELD_NUMBER;
+      hash = (53 * hash) + getCmoSampleName().hashCode();
+      hash = (37 * hash) + COLLECTIONYEAR_FIELD_NUMBER;
+      hash = (53 * hash) + getCollectionYear().hashCode();
+      hash = (37 * hash) + IGOID_FIELD_NUMBER;
+      hash = (53 * hash) + getIgoId().hashCode();
+      hash = (37 * hash) + INVESTIGATORSAMPLEID_FIELD_NUMBER;
+      hash = (53 * hash) + getInvestigatorSampleId().hashCode();
+      if (getLibrariesCount() > 0) {
+        hash = (37 * hash) + LIBRARIES_FIELD_NUMBER;
+        hash = (53 * hash) + getLibrariesList().hashCode();
+      }
+      hash = (37 * hash) + ONCOTREECODE_FIELD_NUMBER;
+      hash = (53 * hash) + getOncoTreeCode().hashCode();
+      hash = (37 * hash) + PRESERVATION_FIELD_NUMBER;
+      hash = (53 * hash) + getPreservation().hashCode();
+      if (getQcReportsCount() > 0) {
+        hash = (37 * hash) + QCREPORTS_FIELD_NUMBER;
+        hash = (53 * hash) + getQcReportsList().hashCode();
+      }
+      hash = (37 * hash) + SAMPLENAME_FIELD_NUMBER;
+      hash = (53 * hash) + getSampleName().hashCode();
+      hash = (37 * hash) + SAMPLEORIGIN_FIELD_NUMBER;
+      hash = (53 * hash) + getSampleOrigin().hashCode();
+      hash = (37 * hash) + SEX_FIELD_NUMBER;
+      hash = (53 * hash) + getSex().hashCode();
+      hash = (37 * hash) + SPECIES_FIELD_NUMBER;
+      hash = (53 * hash) + getSpecies().hashCode();
+      hash = (37 * hash) + SPECIMENTYPE_FIELD_NUMBER;
+      hash = (53 * hash) + getSpecimenType().hashCode();
+      hash = (37 * hash) + TISSUELOCATION_FIELD_NUMBER;
+      hash = (53 * hash) + getTissueLocation().hashCode();
+      hash = (37 * hash) + TUBEID_FIELD_NUMBER;
+      hash = (53 * hash) + getTubeId().hashCode();
+      hash = (37 * hash) + TUMORORNORMAL_FIELD_NUMBER;
+      hash = (53 * hash) + getTumorOrNormal().hashCode();
+      hash = (37 * hash) + IGOCOMPLETE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getIgoComplete());
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.mskcc.smile.commons.generated.Igo.SampleManifest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.mskcc.smile.commons.generated.Igo.SampleManifest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.mskcc.smile.commons.generated.Igo.SampleManifest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.mskcc.smile.commons.generated.Igo.SampleManifest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.mskcc.smile.commons.generated.Igo.SampleManifest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.mskcc.smile.commons.generated.Igo.SampleManifest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.mskcc.smile.commons.generated.Igo.SampleManifest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.mskcc.smile.commons.generated.Igo.SampleManifest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static org.mskcc.smile.commons.generated.Igo.SampleManifest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static org.mskcc.smile.commons.generated.Igo.SampleManifest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.mskcc.smile.commons.generated.Igo.SampleManifest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.mskcc.smile.commons.generated.Igo.SampleManifest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.mskcc.smile.commons.generated.Igo.SampleManifest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code SampleManifest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:SampleManifest)
+        org.mskcc.smile.commons.generated.Igo.SampleManifestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.mskcc.smile.commons.generated.Igo.internal_static_SampleManifest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.mskcc.smile.commons.generated.Igo.internal_static_SampleManifest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.mskcc.smile.commons.generated.Igo.SampleManifest.class, org.mskcc.smile.commons.generated.Igo.SampleManifest.Builder.class);
+      }
+
+      // Construct using org.mskcc.smile.commons.generated.Igo.SampleManifest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage
+                .alwaysUseFieldBuilders) {
+          getCmoSampleIdFieldsFieldBuilder();
+          getLibrariesFieldBuilder();
+          getQcReportsFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        baitSet_ = "";
+        cfDNA2DBarcode_ = "";
+        cmoInfoIgoId_ = "";
+        cmoPatientId_ = "";
+        cmoSampleClass_ = "";
+        cmoSampleIdFields_ = null;
+        if (cmoSampleIdFieldsBuilder_ != null) {
+          cmoSampleIdFieldsBuilder_.dispose();
+          cmoSampleIdFieldsBuilder_ = null;
+        }
+        cmoSampleName_ = "";
+        collectionYear_ = "";
+        igoId_ = "";
+        investigatorSampleId_ = "";
+        if (librariesBuilder_ == null) {
+          libraries_ = java.util.Collections.emptyList();
+        } else {
+          libraries_ = null;
+          librariesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000400);
+        oncoTreeCode_ = "";
+        preservation_ = "";
+        if (qcReportsBuilder_ == null) {
+          qcReports_ = java.util.Collections.emptyList();
+        } else {
+          qcReports_ = null;
+          qcReportsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00002000);
+        sampleName_ = "";
+        sampleOrigin_ = "";
+        sex_ = "";
+        species_ = "";
+        specimenType_ = "";
+        tissueLocation_ = "";
+        tubeId_ = "";
+        tumorOrNormal_ = "";
+        igoComplete_ = false;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.mskcc.smile.commons.generated.Igo.internal_static_SampleManifest_descriptor;
+      }
+
+      @java.lang.Override
+      public org.mskcc.smile.commons.generated.Igo.SampleManifest getDefaultInstanceForType() {
+        return org.mskcc.smile.commons.generated.Igo.SampleManifest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.mskcc.smile.commons.generated.Igo.SampleManifest build() {
+        org.mskcc.smile.commons.generated.Igo.SampleManifest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.mskcc.smile.commons.generated.Igo.SampleManifest buildPartial() {
+        org.mskcc.smile.commons.generated.Igo.SampleManifest result = new org.mskcc.smile.commons.generated.Igo.SampleManifest(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.mskcc.smile.commons.generated.Igo.SampleManifest result) {
+        if (librariesBuilder_ == null) {
+          if (((bitField0_ & 0x00000400) != 0)) {
+            libraries_ = java.util.Collections.unmodifiableList(libraries_);
+            bitField0_ = (bitField0_ & ~0x00000400);
+          }
+          result.libraries_ = libraries_;
+        } else {
+          result.libraries_ = librariesBuilder_.build();
+        }
+        if (qcReportsBuilder_ == null) {
+          if (((bitField0_ & 0x00002000) != 0)) {
+            qcReports_ = java.util.Collections.unmodifiableList(qcReports_);
+            bitField0_ = (bitField0_ & ~0x00002000);
+          }
+          result.qcReports_ = qcReports_;
+        } else {
+          result.qcReports_ = qcReportsBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.mskcc.smile.commons.generated.Igo.SampleManifest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.baitSet_ = baitSet_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.cfDNA2DBarcode_ = cfDNA2DBarcode_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.cmoInfoIgoId_ = cmoInfoIgoId_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.cmoPatientId_ = cmoPatientId_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.cmoSampleClass_ = cmoSampleClass_;
+        }
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.cmoSampleIdFields_ = cmoSampleIdFieldsBuilder_ == null
+              ? cmoSampleIdFields_
+              : cmoSampleIdFieldsBuilder_.build();
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.cmoSampleName_ = cmoSampleName_;
+        }
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          result.collectionYear_ = collectionYear_;
+        }
+        if (((from_bitField0_ & 0x00000100) != 0)) {
+          result.igoId_ = igoId_;
+        }
+        if (((from_bitField0_ & 0x00000200) != 0)) {
+          result.investigatorSampleId_ = investigatorSampleId_;
+        }
+        if (((from_bitField0_ & 0x00000800) != 0)) {
+          result.oncoTreeCode_ = oncoTreeCode_;
+        }
+        if (((from_bitField0_ & 0x00001000) != 0)) {
+          result.preservation_ = preservation_;
+        }
+        if (((from_bitField0_ & 0x00004000) != 0)) {
+          result.sampleName_ = sampleName_;
+        }
+        if (((from_bitField0_ & 0x00008000) != 0)) {
+          result.sampleOrigin_ = sampleOrigin_;
+        }
+        if (((from_bitField0_ & 0x00010000) != 0)) {
+          result.sex_ = sex_;
+        }
+        if (((from_bitField0_ & 0x00020000) != 0)) {
+          result.species_ = species_;
+        }
+        if (((from_bitField0_ & 0x00040000) != 0)) {
+          result.specimenType_ = specimenType_;
+        }
+        if (((from_bitField0_ & 0x00080000) != 0)) {
+          result.tissueLocation_ = tissueLocation_;
+        }
+        if (((from_bitField0_ & 0x00100000) != 0)) {
+          result.tubeId_ = tubeId_;
+        }
+        if (((from_bitField0_ & 0x00200000) != 0)) {
+          result.tumorOrNormal_ = tumorOrNormal_;
+        }
+        if (((from_bitField0_ & 0x00400000) != 0)) {
+          result.igoComplete_ = igoComplete_;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.mskcc.smile.commons.generated.Igo.SampleManifest) {
+          return mergeFrom((org.mskcc.smile.commons.generated.Igo.SampleManifest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.mskcc.smile.commons.generated.Igo.SampleManifest other) {
+        if (other == org.mskcc.smile.commons.generated.Igo.SampleManifest.getDefaultInstance()) return this;
+        if (!other.getBaitSet().isEmpty()) {
+          baitSet_ = other.baitSet_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getCfDNA2DBarcode().isEmpty()) {
+          cfDNA2DBarcode_ = other.cfDNA2DBarcode_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (!other.getCmoInfoIgoId().isEmpty()) {
+          cmoInfoIgoId_ = other.cmoInfoIgoId_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (!other.getCmoPatientId().isEmpty()) {
+          cmoPatientId_ = other.cmoPatientId_;
+          bitField0_ |= 0x00000008;
+          onChanged();
+        }
+        if (!other.getCmoSampleClass().isEmpty()) {
+          cmoSampleClass_ = other.cmoSampleClass_;
+          bitField0_ |= 0x00000010;
+          onChanged();
+        }
+        if (other.hasCmoSampleIdFields()) {
+          mergeCmoSampleIdFields(other.getCmoSampleIdFields());
+        }
+        if (!other.getCmoSampleName().isEmpty()) {
+          cmoSampleName_ = other.cmoSampleName_;
+          bitField0_ |= 0x00000040;
+          onChanged();
+        }
+        if (!other.getCollectionYear().isEmpty()) {
+          collectionYear_ = other.collectionYear_;
+          bitField0_ |= 0x00000080;
+          onChanged();
+        }
+        if (!other.getIgoId().isEmpty()) {
+          igoId_ = other.igoId_;
+          bitField0_ |= 0x00000100;
+          onChanged();
+        }
+        if (!other.getInvestigatorSampleId().isEmpty()) {
+          investigatorSampleId_ = other.investigatorSampleId_;
+          bitField0_ |= 0x00000200;
+          onChanged();
+        }
+        if (librariesBuilder_ == null) {
+          if (!other.libraries_.isEmpty()) {
+            if (libraries_.isEmpty()) {
+              libraries_ = other.libraries_;
+              bitField0_ = (bitField0_ & ~0x00000400);
+            } else {
+              ensureLibrariesIsMutable();
+              libraries_.addAll(other.libraries_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.libraries_.isEmpty()) {
+            if (librariesBuilder_.isEmpty()) {
+              librariesBuilder_.dispose();
+              librariesBuilder_ = null;
+              libraries_ = other.libraries_;
+              bitField0_ = (bitField0_ & ~0x00000400);
+              librariesBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getLibrariesFieldBuilder() : null;
+            } else {
+              librariesBuilder_.addAllMessages(other.libraries_);
+            }
+          }
+        }
+        if (!other.getOncoTreeCode().isEmpty()) {
+          oncoTreeCode_ = other.oncoTreeCode_;
+          bitField0_ |= 0x00000800;
+          onChanged();
+        }
+        if (!other.getPreservation().isEmpty()) {
+          preservation_ = other.preservation_;
+          bitField0_ |= 0x00001000;
+          onChanged();
+        }
+        if (qcReportsBuilder_ == null) {
+          if (!other.qcReports_.isEmpty()) {
+            if (qcReports_.isEmpty()) {
+              qcReports_ = other.qcReports_;
+              bitField0_ = (bitField0_ & ~0x00002000);
+            } else {
+              ensureQcReportsIsMutable();
+              qcReports_.addAll(other.qcReports_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.qcReports_.isEmpty()) {
+            if (qcReportsBuilder_.isEmpty()) {
+              qcReportsBuilder_.dispose();
+              qcReportsBuilder_ = null;
+              qcReports_ = other.qcReports_;
+              bitField0_ = (bitField0_ & ~0x00002000);
+              qcReportsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getQcReportsFieldBuilder() : null;
+            } else {
+              qcReportsBuilder_.addAllMessages(other.qcReports_);
+            }
+          }
+        }
+        if (!other.getSampleName().isEmpty()) {
+          sampleName_ = other.sampleName_;
+          bitField0_ |= 0x00004000;
+          onChanged();
+        }
+        if (!other.getSampleOrigin().isEmpty()) {
+          sampleOrigin_ = other.sampleOrigin_;
+          bitField0_ |= 0x00008000;
+          onChanged();
+        }
+        if (!other.getSex().isEmpty()) {
+          sex_ = other.sex_;
+          bitField0_ |= 0x00010000;
+          onChanged();
+        }
+        if (!other.getSpecies().isEmpty()) {
+          species_ = other.species_;
+          bitField0_ |= 0x00020000;
+          onChanged();
+        }
+        if (!other.getSpecimenType().isEmpty()) {
+          specimenType_ = other.specimenType_;
+          bitField0_ |= 0x00040000;
+          onChanged();
+        }
+        if (!other.getTissueLocation().isEmpty()) {
+          tissueLocation_ = other.tissueLocation_;
+          bitField0_ |= 0x00080000;
+          onChanged();
+        }
+        if (!other.getTubeId().isEmpty()) {
+          tubeId_ = other.tubeId_;
+          bitField0_ |= 0x00100000;
+          onChanged();
+        }
+        if (!other.getTumorOrNormal().isEmpty()) {
+          tumorOrNormal_ = other.tumorOrNormal_;
+          bitField0_ |= 0x00200000;
+          onChanged();
+        }
+        if (other.getIgoComplete() != false) {
+          setIgoComplete(other.getIgoComplete());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                baitSet_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                cfDNA2DBarcode_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                cmoInfoIgoId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                cmoPatientId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              case 42: {
+                cmoSampleClass_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 42
+              case 50: {
+                input.readMessage(
+                    getCmoSampleIdFieldsFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 50
+              case 58: {
+                cmoSampleName_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 58
+              case 66: {
+                collectionYear_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000080;
+                break;
+              } // case 66
+              case 74: {
+                igoId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000100;
+                break;
+              } // case 74
+              case 82: {
+                investigatorSampleId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000200;
+                break;
+              } // case 82
+              case 90: {
+                org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries m =
+                    input.readMessage(
+                        org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries.parser(),
+                        extensionRegistry);
+                if (librariesBuilder_ == null) {
+                  ensureLibrariesIsMutable();
+                  libraries_.add(m);
+                } else {
+                  librariesBuilder_.addMessage(m);
+                }
+                break;
+              } // case 90
+              case 98: {
+                oncoTreeCode_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000800;
+                break;
+              } // case 98
+              case 106: {
+                preservation_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00001000;
+                break;
+              } // case 106
+              case 114: {
+                org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports m =
+                    input.readMessage(
+                        org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports.parser(),
+                        extensionRegistry);
+                if (qcReportsBuilder_ == null) {
+                  ensureQcReportsIsMutable();
+                  qcReports_.add(m);
+                } else {
+                  qcReportsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 114
+              case 122: {
+                sampleName_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00004000;
+                break;
+              } // case 122
+              case 130: {
+                sampleOrigin_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00008000;
+                break;
+              } // case 130
+              case 138: {
+                sex_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00010000;
+                break;
+              } // case 138
+              case 146: {
+                species_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00020000;
+                break;
+              } // case 146
+              case 154: {
+                specimenType_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00040000;
+                break;
+              } // case 154
+              case 162: {
+                tissueLocation_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00080000;
+                break;
+              } // case 162
+              case 170: {
+                tubeId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00100000;
+                break;
+              } // case 170
+              case 178: {
+                tumorOrNormal_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00200000;
+                break;
+              } // case 178
+              case 184: {
+                igoComplete_ = input.readBool();
+                bitField0_ |= 0x00400000;
+                break;
+              } // case 184
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object baitSet_ = "";
+      /**
+       * <code>string baitSet = 1;</code>
+       * @return The baitSet.
+       */
+      public java.lang.String getBaitSet() {
+        java.lang.Object ref = baitSet_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          baitSet_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string baitSet = 1;</code>
+       * @return The bytes for baitSet.
+       */
+      public com.google.protobuf.ByteString
+          getBaitSetBytes() {
+        java.lang.Object ref = baitSet_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          baitSet_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string baitSet = 1;</code>
+       * @param value The baitSet to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBaitSet(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        baitSet_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string baitSet = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearBaitSet() {
+        baitSet_ = getDefaultInstance().getBaitSet();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string baitSet = 1;</code>
+       * @param value The bytes for baitSet to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBaitSetBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        baitSet_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object cfDNA2DBarcode_ = "";
+      /**
+       * <code>string cfDNA2dBarcode = 2;</code>
+       * @return The cfDNA2dBarcode.
+       */
+      public java.lang.String getCfDNA2DBarcode() {
+        java.lang.Object ref = cfDNA2DBarcode_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          cfDNA2DBarcode_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string cfDNA2dBarcode = 2;</code>
+       * @return The bytes for cfDNA2dBarcode.
+       */
+      public com.google.protobuf.ByteString
+          getCfDNA2DBarcodeBytes() {
+        java.lang.Object ref = cfDNA2DBarcode_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          cfDNA2DBarcode_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string cfDNA2dBarcode = 2;</code>
+       * @param value The cfDNA2dBarcode to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCfDNA2DBarcode(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        cfDNA2DBarcode_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string cfDNA2dBarcode = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCfDNA2DBarcode() {
+        cfDNA2DBarcode_ = getDefaultInstance().getCfDNA2DBarcode();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string cfDNA2dBarcode = 2;</code>
+       * @param value The bytes for cfDNA2dBarcode to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCfDNA2DBarcodeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        cfDNA2DBarcode_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object cmoInfoIgoId_ = "";
+      /**
+       * <code>string cmoInfoIgoId = 3;</code>
+       * @return The cmoInfoIgoId.
+       */
+      public java.lang.String getCmoInfoIgoId() {
+        java.lang.Object ref = cmoInfoIgoId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          cmoInfoIgoId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string cmoInfoIgoId = 3;</code>
+       * @return The bytes for cmoInfoIgoId.
+       */
+      public com.google.protobuf.ByteString
+          getCmoInfoIgoIdBytes() {
+        java.lang.Object ref = cmoInfoIgoId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          cmoInfoIgoId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string cmoInfoIgoId = 3;</code>
+       * @param value The cmoInfoIgoId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCmoInfoIgoId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        cmoInfoIgoId_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string cmoInfoIgoId = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCmoInfoIgoId() {
+        cmoInfoIgoId_ = getDefaultInstance().getCmoInfoIgoId();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string cmoInfoIgoId = 3;</code>
+       * @param value The bytes for cmoInfoIgoId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCmoInfoIgoIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        cmoInfoIgoId_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object cmoPatientId_ = "";
+      /**
+       * <code>string cmoPatientId = 4;</code>
+       * @return The cmoPatientId.
+       */
+      public java.lang.String getCmoPatientId() {
+        java.lang.Object ref = cmoPatientId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          cmoPatientId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string cmoPatientId = 4;</code>
+       * @return The bytes for cmoPatientId.
+       */
+      public com.google.protobuf.ByteString
+          getCmoPatientIdBytes() {
+        java.lang.Object ref = cmoPatientId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          cmoPatientId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string cmoPatientId = 4;</code>
+       * @param value The cmoPatientId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCmoPatientId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        cmoPatientId_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string cmoPatientId = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCmoPatientId() {
+        cmoPatientId_ = getDefaultInstance().getCmoPatientId();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string cmoPatientId = 4;</code>
+       * @param value The bytes for cmoPatientId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCmoPatientIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        cmoPatientId_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object cmoSampleClass_ = "";
+      /**
+       * <code>string cmoSampleClass = 5;</code>
+       * @return The cmoSampleClass.
+       */
+      public java.lang.String getCmoSampleClass() {
+        java.lang.Object ref = cmoSampleClass_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          cmoSampleClass_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string cmoSampleClass = 5;</code>
+       * @return The bytes for cmoSampleClass.
+       */
+      public com.google.protobuf.ByteString
+          getCmoSampleClassBytes() {
+        java.lang.Object ref = cmoSampleClass_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          cmoSampleClass_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string cmoSampleClass = 5;</code>
+       * @param value The cmoSampleClass to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCmoSampleClass(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        cmoSampleClass_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string cmoSampleClass = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCmoSampleClass() {
+        cmoSampleClass_ = getDefaultInstance().getCmoSampleClass();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string cmoSampleClass = 5;</code>
+       * @param value The bytes for cmoSampleClass to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCmoSampleClassBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        cmoSampleClass_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+
+      private org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields cmoSampleIdFields_;
+      private com.google.protobuf.SingleFieldBuilder<
+          org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields, org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields.Builder, org.mskcc.smile.commons.generated.Igo.SampleManifest.CmosampleidfieldsOrBuilder> cmoSampleIdFieldsBuilder_;
+      /**
+       * <code>.SampleManifest.Cmosampleidfields cmoSampleIdFields = 6;</code>
+       * @return Whether the cmoSampleIdFields field is set.
+       */
+      public boolean hasCmoSampleIdFields() {
+        return ((bitField0_ & 0x00000020) != 0);
+      }
+      /**
+       * <code>.SampleManifest.Cmosampleidfields cmoSampleIdFields = 6;</code>
+       * @return The cmoSampleIdFields.
+       */
+      public org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields getCmoSampleIdFields() {
+        if (cmoSampleIdFieldsBuilder_ == null) {
+          return cmoSampleIdFields_ == null ? org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields.getDefaultInstance() : cmoSampleIdFields_;
+        } else {
+          return cmoSampleIdFieldsBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.SampleManifest.Cmosampleidfields cmoSampleIdFields = 6;</code>
+       */
+      public Builder setCmoSampleIdFields(org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields value) {
+        if (cmoSampleIdFieldsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          cmoSampleIdFields_ = value;
+        } else {
+          cmoSampleIdFieldsBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.SampleManifest.Cmosampleidfields cmoSampleIdFields = 6;</code>
+       */
+      public Builder setCmoSampleIdFields(
+          org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields.Builder builderForValue) {
+        if (cmoSampleIdFieldsBuilder_ == null) {
+          cmoSampleIdFields_ = builderForValue.build();
+        } else {
+          cmoSampleIdFieldsBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.SampleManifest.Cmosampleidfields cmoSampleIdFields = 6;</code>
+       */
+      public Builder mergeCmoSampleIdFields(org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields value) {
+        if (cmoSampleIdFieldsBuilder_ == null) {
+          if (((bitField0_ & 0x00000020) != 0) &&
+            cmoSampleIdFields_ != null &&
+            cmoSampleIdFields_ != org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields.getDefaultInstance()) {
+            getCmoSampleIdFieldsBuilder().mergeFrom(value);
+          } else {
+            cmoSampleIdFields_ = value;
+          }
+        } else {
+          cmoSampleIdFieldsBuilder_.mergeFrom(value);
+        }
+        if (cmoSampleIdFields_ != null) {
+          bitField0_ |= 0x00000020;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <code>.SampleManifest.Cmosampleidfields cmoSampleIdFields = 6;</code>
+       */
+      public Builder clearCmoSampleIdFields() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        cmoSampleIdFields_ = null;
+        if (cmoSampleIdFieldsBuilder_ != null) {
+          cmoSampleIdFieldsBuilder_.dispose();
+          cmoSampleIdFieldsBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.SampleManifest.Cmosampleidfields cmoSampleIdFields = 6;</code>
+       */
+      public org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields.Builder getCmoSampleIdFieldsBuilder() {
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return getCmoSampleIdFieldsFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.SampleManifest.Cmosampleidfields cmoSampleIdFields = 6;</code>
+       */
+      public org.mskcc.smile.commons.generated.Igo.SampleManifest.CmosampleidfieldsOrBuilder getCmoSampleIdFieldsOrBuilder() {
+        if (cmoSampleIdFieldsBuilder_ != null) {
+          return cmoSampleIdFieldsBuilder_.getMessageOrBuilder();
+        } else {
+          return cmoSampleIdFields_ == null ?
+              org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields.getDefaultInstance() : cmoSampleIdFields_;
+        }
+      }
+      /**
+       * <code>.SampleManifest.Cmosampleidfields cmoSampleIdFields = 6;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields, org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields.Builder, org.mskcc.smile.commons.generated.Igo.SampleManifest.CmosampleidfieldsOrBuilder> 
+          getCmoSampleIdFieldsFieldBuilder() {
+        if (cmoSampleIdFieldsBuilder_ == null) {
+          cmoSampleIdFieldsBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields, org.mskcc.smile.commons.generated.Igo.SampleManifest.Cmosampleidfields.Builder, org.mskcc.smile.commons.generated.Igo.SampleManifest.CmosampleidfieldsOrBuilder>(
+                  getCmoSampleIdFields(),
+                  getParentForChildren(),
+                  isClean());
+          cmoSampleIdFields_ = null;
+        }
+        return cmoSampleIdFieldsBuilder_;
+      }
+
+      private java.lang.Object cmoSampleName_ = "";
+      /**
+       * <code>string cmoSampleName = 7;</code>
+       * @return The cmoSampleName.
+       */
+      public java.lang.String getCmoSampleName() {
+        java.lang.Object ref = cmoSampleName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          cmoSampleName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string cmoSampleName = 7;</code>
+       * @return The bytes for cmoSampleName.
+       */
+      public com.google.protobuf.ByteString
+          getCmoSampleNameBytes() {
+        java.lang.Object ref = cmoSampleName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          cmoSampleName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string cmoSampleName = 7;</code>
+       * @param value The cmoSampleName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCmoSampleName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        cmoSampleName_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string cmoSampleName = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCmoSampleName() {
+        cmoSampleName_ = getDefaultInstance().getCmoSampleName();
+        bitField0_ = (bitField0_ & ~0x00000040);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string cmoSampleName = 7;</code>
+       * @param value The bytes for cmoSampleName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCmoSampleNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        cmoSampleName_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object collectionYear_ = "";
+      /**
+       * <code>string collectionYear = 8;</code>
+       * @return The collectionYear.
+       */
+      public java.lang.String getCollectionYear() {
+        java.lang.Object ref = collectionYear_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          collectionYear_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string collectionYear = 8;</code>
+       * @return The bytes for collectionYear.
+       */
+      public com.google.protobuf.ByteString
+          getCollectionYearBytes() {
+        java.lang.Object ref = collectionYear_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          collectionYear_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string collectionYear = 8;</code>
+       * @param value The collectionYear to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCollectionYear(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        collectionYear_ = value;
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string collectionYear = 8;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCollectionYear() {
+        collectionYear_ = getDefaultInstance().getCollectionYear();
+        bitField0_ = (bitField0_ & ~0x00000080);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string collectionYear = 8;</code>
+       * @param value The bytes for collectionYear to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCollectionYearBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        collectionYear_ = value;
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object igoId_ = "";
+      /**
+       * <code>string igoId = 9;</code>
+       * @return The igoId.
+       */
+      public java.lang.String getIgoId() {
+        java.lang.Object ref = igoId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          igoId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string igoId = 9;</code>
+       * @return The bytes for igoId.
+       */
+      public com.google.protobuf.ByteString
+          getIgoIdBytes() {
+        java.lang.Object ref = igoId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          igoId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string igoId = 9;</code>
+       * @param value The igoId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIgoId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        igoId_ = value;
+        bitField0_ |= 0x00000100;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string igoId = 9;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIgoId() {
+        igoId_ = getDefaultInstance().getIgoId();
+        bitField0_ = (bitField0_ & ~0x00000100);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string igoId = 9;</code>
+       * @param value The bytes for igoId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIgoIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        igoId_ = value;
+        bitField0_ |= 0x00000100;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object investigatorSampleId_ = "";
+      /**
+       * <code>string investigatorSampleId = 10;</code>
+       * @return The investigatorSampleId.
+       */
+      public java.lang.String getInvestigatorSampleId() {
+        java.lang.Object ref = investigatorSampleId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          investigatorSampleId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string investigatorSampleId = 10;</code>
+       * @return The bytes for investigatorSampleId.
+       */
+      public com.google.protobuf.ByteString
+          getInvestigatorSampleIdBytes() {
+        java.lang.Object ref = investigatorSampleId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          investigatorSampleId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string investigatorSampleId = 10;</code>
+       * @param value The investigatorSampleId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInvestigatorSampleId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        investigatorSampleId_ = value;
+        bitField0_ |= 0x00000200;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string investigatorSampleId = 10;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearInvestigatorSampleId() {
+        investigatorSampleId_ = getDefaultInstance().getInvestigatorSampleId();
+        bitField0_ = (bitField0_ & ~0x00000200);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string investigatorSampleId = 10;</code>
+       * @param value The bytes for investigatorSampleId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInvestigatorSampleIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        investigatorSampleId_ = value;
+        bitField0_ |= 0x00000200;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries> libraries_ =
+        java.util.Collections.emptyList();
+      private void ensureLibrariesIsMutable() {
+        if (!((bitField0_ & 0x00000400) != 0)) {
+          libraries_ = new java.util.ArrayList<org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries>(libraries_);
+          bitField0_ |= 0x00000400;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries, org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries.Builder, org.mskcc.smile.commons.generated.Igo.SampleManifest.LibrariesOrBuilder> librariesBuilder_;
+
+      /**
+       * <code>repeated .SampleManifest.Libraries libraries = 11;</code>
+       */
+      public java.util.List<org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries> getLibrariesList() {
+        if (librariesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(libraries_);
+        } else {
+          return librariesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .SampleManifest.Libraries libraries = 11;</code>
+       */
+      public int getLibrariesCount() {
+        if (librariesBuilder_ == null) {
+          return libraries_.size();
+        } else {
+          return librariesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .SampleManifest.Libraries libraries = 11;</code>
+       */
+      public org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries getLibraries(int index) {
+        if (librariesBuilder_ == null) {
+          return libraries_.get(index);
+        } else {
+          return librariesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .SampleManifest.Libraries libraries = 11;</code>
+       */
+      public Builder setLibraries(
+          int index, org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries value) {
+        if (librariesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureLibrariesIsMutable();
+          libraries_.set(index, value);
+          onChanged();
+        } else {
+          librariesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SampleManifest.Libraries libraries = 11;</code>
+       */
+      public Builder setLibraries(
+          int index, org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries.Builder builderForValue) {
+        if (librariesBuilder_ == null) {
+          ensureLibrariesIsMutable();
+          libraries_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          librariesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SampleManifest.Libraries libraries = 11;</code>
+       */
+      public Builder addLibraries(org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries value) {
+        if (librariesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureLibrariesIsMutable();
+          libraries_.add(value);
+          onChanged();
+        } else {
+          librariesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SampleManifest.Libraries libraries = 11;</code>
+       */
+      public Builder addLibraries(
+          int index, org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries value) {
+        if (librariesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureLibrariesIsMutable();
+          libraries_.add(index, value);
+          onChanged();
+        } else {
+          librariesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SampleManifest.Libraries libraries = 11;</code>
+       */
+      public Builder addLibraries(
+          org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries.Builder builderForValue) {
+        if (librariesBuilder_ == null) {
+          ensureLibrariesIsMutable();
+          libraries_.add(builderForValue.build());
+          onChanged();
+        } else {
+          librariesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SampleManifest.Libraries libraries = 11;</code>
+       */
+      public Builder addLibraries(
+          int index, org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries.Builder builderForValue) {
+        if (librariesBuilder_ == null) {
+          ensureLibrariesIsMutable();
+          libraries_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          librariesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SampleManifest.Libraries libraries = 11;</code>
+       */
+      public Builder addAllLibraries(
+          java.lang.Iterable<? extends org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries> values) {
+        if (librariesBuilder_ == null) {
+          ensureLibrariesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, libraries_);
+          onChanged();
+        } else {
+          librariesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SampleManifest.Libraries libraries = 11;</code>
+       */
+      public Builder clearLibraries() {
+        if (librariesBuilder_ == null) {
+          libraries_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000400);
+          onChanged();
+        } else {
+          librariesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SampleManifest.Libraries libraries = 11;</code>
+       */
+      public Builder removeLibraries(int index) {
+        if (librariesBuilder_ == null) {
+          ensureLibrariesIsMutable();
+          libraries_.remove(index);
+          onChanged();
+        } else {
+          librariesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SampleManifest.Libraries libraries = 11;</code>
+       */
+      public org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries.Builder getLibrariesBuilder(
+          int index) {
+        return getLibrariesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .SampleManifest.Libraries libraries = 11;</code>
+       */
+      public org.mskcc.smile.commons.generated.Igo.SampleManifest.LibrariesOrBuilder getLibrariesOrBuilder(
+          int index) {
+        if (librariesBuilder_ == null) {
+          return libraries_.get(index);  } else {
+          return librariesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .SampleManifest.Libraries libraries = 11;</code>
+       */
+      public java.util.List<? extends org.mskcc.smile.commons.generated.Igo.SampleManifest.LibrariesOrBuilder> 
+           getLibrariesOrBuilderList() {
+        if (librariesBuilder_ != null) {
+          return librariesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(libraries_);
+        }
+      }
+      /**
+       * <code>repeated .SampleManifest.Libraries libraries = 11;</code>
+       */
+      public org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries.Builder addLibrariesBuilder() {
+        return getLibrariesFieldBuilder().addBuilder(
+            org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .SampleManifest.Libraries libraries = 11;</code>
+       */
+      public org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries.Builder addLibrariesBuilder(
+          int index) {
+        return getLibrariesFieldBuilder().addBuilder(
+            index, org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .SampleManifest.Libraries libraries = 11;</code>
+       */
+      public java.util.List<org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries.Builder> 
+           getLibrariesBuilderList() {
+        return getLibrariesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries, org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries.Builder, org.mskcc.smile.commons.generated.Igo.SampleManifest.LibrariesOrBuilder> 
+          getLibrariesFieldBuilder() {
+        if (librariesBuilder_ == null) {
+          librariesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries, org.mskcc.smile.commons.generated.Igo.SampleManifest.Libraries.Builder, org.mskcc.smile.commons.generated.Igo.SampleManifest.LibrariesOrBuilder>(
+                  libraries_,
+                  ((bitField0_ & 0x00000400) != 0),
+                  getParentForChildren(),
+                  isClean());
+          libraries_ = null;
+        }
+        return librariesBuilder_;
+      }
+
+      private java.lang.Object oncoTreeCode_ = "";
+      /**
+       * <code>string oncoTreeCode = 12;</code>
+       * @return The oncoTreeCode.
+       */
+      public java.lang.String getOncoTreeCode() {
+        java.lang.Object ref = oncoTreeCode_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          oncoTreeCode_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string oncoTreeCode = 12;</code>
+       * @return The bytes for oncoTreeCode.
+       */
+      public com.google.protobuf.ByteString
+          getOncoTreeCodeBytes() {
+        java.lang.Object ref = oncoTreeCode_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          oncoTreeCode_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string oncoTreeCode = 12;</code>
+       * @param value The oncoTreeCode to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOncoTreeCode(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        oncoTreeCode_ = value;
+        bitField0_ |= 0x00000800;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string oncoTreeCode = 12;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearOncoTreeCode() {
+        oncoTreeCode_ = getDefaultInstance().getOncoTreeCode();
+        bitField0_ = (bitField0_ & ~0x00000800);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string oncoTreeCode = 12;</code>
+       * @param value The bytes for oncoTreeCode to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOncoTreeCodeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        oncoTreeCode_ = value;
+        bitField0_ |= 0x00000800;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object preservation_ = "";
+      /**
+       * <code>string preservation = 13;</code>
+       * @return The preservation.
+       */
+      public java.lang.String getPreservation() {
+        java.lang.Object ref = preservation_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          preservation_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string preservation = 13;</code>
+       * @return The bytes for preservation.
+       */
+      public com.google.protobuf.ByteString
+          getPreservationBytes() {
+        java.lang.Object ref = preservation_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          preservation_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string preservation = 13;</code>
+       * @param value The preservation to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPreservation(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        preservation_ = value;
+        bitField0_ |= 0x00001000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string preservation = 13;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPreservation() {
+        preservation_ = getDefaultInstance().getPreservation();
+        bitField0_ = (bitField0_ & ~0x00001000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string preservation = 13;</code>
+       * @param value The bytes for preservation to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPreservationBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        preservation_ = value;
+        bitField0_ |= 0x00001000;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports> qcReports_ =
+        java.util.Collections.emptyList();
+      private void ensureQcReportsIsMutable() {
+        if (!((bitField0_ & 0x00002000) != 0)) {
+          qcReports_ = new java.util.ArrayList<org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports>(qcReports_);
+          bitField0_ |= 0x00002000;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports, org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports.Builder, org.mskcc.smile.commons.generated.Igo.SampleManifest.QcreportsOrBuilder> qcReportsBuilder_;
+
+      /**
+       * <code>repeated .SampleManifest.Qcreports qcReports = 14;</code>
+       */
+      public java.util.List<org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports> getQcReportsList() {
+        if (qcReportsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(qcReports_);
+        } else {
+          return qcReportsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .SampleManifest.Qcreports qcReports = 14;</code>
+       */
+      public int getQcReportsCount() {
+        if (qcReportsBuilder_ == null) {
+          return qcReports_.size();
+        } else {
+          return qcReportsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .SampleManifest.Qcreports qcReports = 14;</code>
+       */
+      public org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports getQcReports(int index) {
+        if (qcReportsBuilder_ == null) {
+          return qcReports_.get(index);
+        } else {
+          return qcReportsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .SampleManifest.Qcreports qcReports = 14;</code>
+       */
+      public Builder setQcReports(
+          int index, org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports value) {
+        if (qcReportsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureQcReportsIsMutable();
+          qcReports_.set(index, value);
+          onChanged();
+        } else {
+          qcReportsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SampleManifest.Qcreports qcReports = 14;</code>
+       */
+      public Builder setQcReports(
+          int index, org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports.Builder builderForValue) {
+        if (qcReportsBuilder_ == null) {
+          ensureQcReportsIsMutable();
+          qcReports_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          qcReportsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SampleManifest.Qcreports qcReports = 14;</code>
+       */
+      public Builder addQcReports(org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports value) {
+        if (qcReportsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureQcReportsIsMutable();
+          qcReports_.add(value);
+          onChanged();
+        } else {
+          qcReportsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SampleManifest.Qcreports qcReports = 14;</code>
+       */
+      public Builder addQcReports(
+          int index, org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports value) {
+        if (qcReportsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureQcReportsIsMutable();
+          qcReports_.add(index, value);
+          onChanged();
+        } else {
+          qcReportsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SampleManifest.Qcreports qcReports = 14;</code>
+       */
+      public Builder addQcReports(
+          org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports.Builder builderForValue) {
+        if (qcReportsBuilder_ == null) {
+          ensureQcReportsIsMutable();
+          qcReports_.add(builderForValue.build());
+          onChanged();
+        } else {
+          qcReportsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SampleManifest.Qcreports qcReports = 14;</code>
+       */
+      public Builder addQcReports(
+          int index, org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports.Builder builderForValue) {
+        if (qcReportsBuilder_ == null) {
+          ensureQcReportsIsMutable();
+          qcReports_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          qcReportsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SampleManifest.Qcreports qcReports = 14;</code>
+       */
+      public Builder addAllQcReports(
+          java.lang.Iterable<? extends org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports> values) {
+        if (qcReportsBuilder_ == null) {
+          ensureQcReportsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, qcReports_);
+          onChanged();
+        } else {
+          qcReportsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SampleManifest.Qcreports qcReports = 14;</code>
+       */
+      public Builder clearQcReports() {
+        if (qcReportsBuilder_ == null) {
+          qcReports_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00002000);
+          onChanged();
+        } else {
+          qcReportsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SampleManifest.Qcreports qcReports = 14;</code>
+       */
+      public Builder removeQcReports(int index) {
+        if (qcReportsBuilder_ == null) {
+          ensureQcReportsIsMutable();
+          qcReports_.remove(index);
+          onChanged();
+        } else {
+          qcReportsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .SampleManifest.Qcreports qcReports = 14;</code>
+       */
+      public org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports.Builder getQcReportsBuilder(
+          int index) {
+        return getQcReportsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .SampleManifest.Qcreports qcReports = 14;</code>
+       */
+      public org.mskcc.smile.commons.generated.Igo.SampleManifest.QcreportsOrBuilder getQcReportsOrBuilder(
+          int index) {
+        if (qcReportsBuilder_ == null) {
+          return qcReports_.get(index);  } else {
+          return qcReportsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .SampleManifest.Qcreports qcReports = 14;</code>
+       */
+      public java.util.List<? extends org.mskcc.smile.commons.generated.Igo.SampleManifest.QcreportsOrBuilder> 
+           getQcReportsOrBuilderList() {
+        if (qcReportsBuilder_ != null) {
+          return qcReportsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(qcReports_);
+        }
+      }
+      /**
+       * <code>repeated .SampleManifest.Qcreports qcReports = 14;</code>
+       */
+      public org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports.Builder addQcReportsBuilder() {
+        return getQcReportsFieldBuilder().addBuilder(
+            org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .SampleManifest.Qcreports qcReports = 14;</code>
+       */
+      public org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports.Builder addQcReportsBuilder(
+          int index) {
+        return getQcReportsFieldBuilder().addBuilder(
+            index, org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .SampleManifest.Qcreports qcReports = 14;</code>
+       */
+      public java.util.List<org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports.Builder> 
+           getQcReportsBuilderList() {
+        return getQcReportsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports, org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports.Builder, org.mskcc.smile.commons.generated.Igo.SampleManifest.QcreportsOrBuilder> 
+          getQcReportsFieldBuilder() {
+        if (qcReportsBuilder_ == null) {
+          qcReportsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports, org.mskcc.smile.commons.generated.Igo.SampleManifest.Qcreports.Builder, org.mskcc.smile.commons.generated.Igo.SampleManifest.QcreportsOrBuilder>(
+                  qcReports_,
+                  ((bitField0_ & 0x00002000) != 0),
+                  getParentForChildren(),
+                  isClean());
+          qcReports_ = null;
+        }
+        return qcReportsBuilder_;
+      }
+
+      private java.lang.Object sampleName_ = "";
+      /**
+       * <code>string sampleName = 15;</code>
+       * @return The sampleName.
+       */
+      public java.lang.String getSampleName() {
+        java.lang.Object ref = sampleName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          sampleName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string sampleName = 15;</code>
+       * @return The bytes for sampleName.
+       */
+      public com.google.protobuf.ByteString
+          getSampleNameBytes() {
+        java.lang.Object ref = sampleName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          sampleName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string sampleName = 15;</code>
+       * @param value The sampleName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSampleName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        sampleName_ = value;
+        bitField0_ |= 0x00004000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string sampleName = 15;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSampleName() {
+        sampleName_ = getDefaultInstance().getSampleName();
+        bitField0_ = (bitField0_ & ~0x00004000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string sampleName = 15;</code>
+       * @param value The bytes for sampleName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSampleNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        sampleName_ = value;
+        bitField0_ |= 0x00004000;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object sampleOrigin_ = "";
+      /**
+       * <code>string sampleOrigin = 16;</code>
+       * @return The sampleOrigin.
+       */
+      public java.lang.String getSampleOrigin() {
+        java.lang.Object ref = sampleOrigin_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          sampleOrigin_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string sampleOrigin = 16;</code>
+       * @return The bytes for sampleOrigin.
+       */
+      public com.google.protobuf.ByteString
+          getSampleOriginBytes() {
+        java.lang.Object ref = sampleOrigin_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          sampleOrigin_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string sampleOrigin = 16;</code>
+       * @param value The sampleOrigin to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSampleOrigin(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        sampleOrigin_ = value;
+        bitField0_ |= 0x00008000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string sampleOrigin = 16;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSampleOrigin() {
+        sampleOrigin_ = getDefaultInstance().getSampleOrigin();
+        bitField0_ = (bitField0_ & ~0x00008000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string sampleOrigin = 16;</code>
+       * @param value The bytes for sampleOrigin to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSampleOriginBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        sampleOrigin_ = value;
+        bitField0_ |= 0x00008000;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object sex_ = "";
+      /**
+       * <code>string sex = 17;</code>
+       * @return The sex.
+       */
+      public java.lang.String getSex() {
+        java.lang.Object ref = sex_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          sex_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string sex = 17;</code>
+       * @return The bytes for sex.
+       */
+      public com.google.protobuf.ByteString
+          getSexBytes() {
+        java.lang.Object ref = sex_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          sex_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string sex = 17;</code>
+       * @param value The sex to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSex(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        sex_ = value;
+        bitField0_ |= 0x00010000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string sex = 17;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSex() {
+        sex_ = getDefaultInstance().getSex();
+        bitField0_ = (bitField0_ & ~0x00010000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string sex = 17;</code>
+       * @param value The bytes for sex to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSexBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        sex_ = value;
+        bitField0_ |= 0x00010000;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object species_ = "";
+      /**
+       * <code>string species = 18;</code>
+       * @return The species.
+       */
+      public java.lang.String getSpecies() {
+        java.lang.Object ref = species_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          species_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string species = 18;</code>
+       * @return The bytes for species.
+       */
+      public com.google.protobuf.ByteString
+          getSpeciesBytes() {
+        java.lang.Object ref = species_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          species_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string species = 18;</code>
+       * @param value The species to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSpecies(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        species_ = value;
+        bitField0_ |= 0x00020000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string species = 18;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSpecies() {
+        species_ = getDefaultInstance().getSpecies();
+        bitField0_ = (bitField0_ & ~0x00020000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string species = 18;</code>
+       * @param value The bytes for species to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSpeciesBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        species_ = value;
+        bitField0_ |= 0x00020000;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object specimenType_ = "";
+      /**
+       * <code>string specimenType = 19;</code>
+       * @return The specimenType.
+       */
+      public java.lang.String getSpecimenType() {
+        java.lang.Object ref = specimenType_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          specimenType_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string specimenType = 19;</code>
+       * @return The bytes for specimenType.
+       */
+      public com.google.protobuf.ByteString
+          getSpecimenTypeBytes() {
+        java.lang.Object ref = specimenType_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          specimenType_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string specimenType = 19;</code>
+       * @param value The specimenType to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSpecimenType(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        specimenType_ = value;
+        bitField0_ |= 0x00040000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string specimenType = 19;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSpecimenType() {
+        specimenType_ = getDefaultInstance().getSpecimenType();
+        bitField0_ = (bitField0_ & ~0x00040000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string specimenType = 19;</code>
+       * @param value The bytes for specimenType to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSpecimenTypeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        specimenType_ = value;
+        bitField0_ |= 0x00040000;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object tissueLocation_ = "";
+      /**
+       * <code>string tissueLocation = 20;</code>
+       * @return The tissueLocation.
+       */
+      public java.lang.String getTissueLocation() {
+        java.lang.Object ref = tissueLocation_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          tissueLocation_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string tissueLocation = 20;</code>
+       * @return The bytes for tissueLocation.
+       */
+      public com.google.protobuf.ByteString
+          getTissueLocationBytes() {
+        java.lang.Object ref = tissueLocation_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          tissueLocation_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string tissueLocation = 20;</code>
+       * @param value The tissueLocation to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTissueLocation(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        tissueLocation_ = value;
+        bitField0_ |= 0x00080000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string tissueLocation = 20;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTissueLocation() {
+        tissueLocation_ = getDefaultInstance().getTissueLocation();
+        bitField0_ = (bitField0_ & ~0x00080000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string tissueLocation = 20;</code>
+       * @param value The bytes for tissueLocation to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTissueLocationBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        tissueLocation_ = value;
+        bitField0_ |= 0x00080000;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object tubeId_ = "";
+      /**
+       * <code>string tubeId = 21;</code>
+       * @return The tubeId.
+       */
+      public java.lang.String getTubeId() {
+        java.lang.Object ref = tubeId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          tubeId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string tubeId = 21;</code>
+       * @return The bytes for tubeId.
+       */
+      public com.google.protobuf.ByteString
+          getTubeIdBytes() {
+        java.lang.Object ref = tubeId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          tubeId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string tubeId = 21;</code>
+       * @param value The tubeId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTubeId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        tubeId_ = value;
+        bitField0_ |= 0x00100000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string tubeId = 21;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTubeId() {
+        tubeId_ = getDefaultInstance().getTubeId();
+        bitField0_ = (bitField0_ & ~0x00100000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string tubeId = 21;</code>
+       * @param value The bytes for tubeId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTubeIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        tubeId_ = value;
+        bitField0_ |= 0x00100000;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object tumorOrNormal_ = "";
+      /**
+       * <code>string tumorOrNormal = 22;</code>
+       * @return The tumorOrNormal.
+       */
+      public java.lang.String getTumorOrNormal() {
+        java.lang.Object ref = tumorOrNormal_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          tumorOrNormal_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string tumorOrNormal = 22;</code>
+       * @return The bytes for tumorOrNormal.
+       */
+      public com.google.protobuf.ByteString
+          getTumorOrNormalBytes() {
+        java.lang.Object ref = tumorOrNormal_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          tumorOrNormal_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string tumorOrNormal = 22;</code>
+       * @param value The tumorOrNormal to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTumorOrNormal(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        tumorOrNormal_ = value;
+        bitField0_ |= 0x00200000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string tumorOrNormal = 22;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTumorOrNormal() {
+        tumorOrNormal_ = getDefaultInstance().getTumorOrNormal();
+        bitField0_ = (bitField0_ & ~0x00200000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string tumorOrNormal = 22;</code>
+       * @param value The bytes for tumorOrNormal to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTumorOrNormalBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        tumorOrNormal_ = value;
+        bitField0_ |= 0x00200000;
+        onChanged();
+        return this;
+      }
+
+      private boolean igoComplete_ ;
+      /**
+       * <code>bool igoComplete = 23;</code>
+       * @return The igoComplete.
+       */
+      @java.lang.Override
+      public boolean getIgoComplete() {
+        return igoComplete_;
+      }
+      /**
+       * <code>bool igoComplete = 23;</code>
+       * @param value The igoComplete to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIgoComplete(boolean value) {
+
+        igoComplete_ = value;
+        bitField0_ |= 0x00400000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool igoComplete = 23;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIgoComplete() {
+        bitField0_ = (bitField0_ & ~0x00400000);
+        igoComplete_ = false;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:SampleManifest)
+    }
+
+    // @@protoc_insertion_point(class_scope:SampleManifest)
+    private static final org.mskcc.smile.commons.generated.Igo.SampleManifest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.mskcc.smile.commons.generated.Igo.SampleManifest();
+    }
+
+    public static org.mskcc.smile.commons.generated.Igo.SampleManifest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<SampleManifest>
+        PARSER = new com.google.protobuf.AbstractParser<SampleManifest>() {
+      @java.lang.Override
+      public SampleManifest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<SampleManifest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SampleManifest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.mskcc.smile.commons.generated.Igo.SampleManifest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Delivery_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_Delivery_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Request_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_Request_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Request_Samples_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_Request_Samples_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_RequestWithManifests_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_RequestWithManifests_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_SampleManifest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_SampleManifest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_SampleManifest_Cmosampleidfields_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_SampleManifest_Cmosampleidfields_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_SampleManifest_Runs_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_SampleManifest_Runs_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_SampleManifest_Libraries_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_SampleManifest_Libraries_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_SampleManifest_Qcreports_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_SampleManifest_Qcreports_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\026types/igo/v1/igo.proto\"1\n\010Delivery\022\017\n\007" +
+      "request\030\001 \001(\t\022\024\n\014deliveryDate\030\002 \001(\003\"\255\004\n\007" +
+      "Request\022\023\n\013bicAnalysis\030\001 \001(\010\022\030\n\020dataAcce" +
+      "ssEmails\030\002 \001(\t\022\030\n\020dataAnalystEmail\030\003 \001(\t" +
+      "\022\027\n\017dataAnalystName\030\004 \001(\t\022\024\n\014deliveryDat" +
+      "e\030\005 \001(\003\022\031\n\021investigatorEmail\030\006 \001(\t\022\030\n\020in" +
+      "vestigatorName\030\007 \001(\t\022\024\n\014isCmoRequest\030\010 \001" +
+      "(\010\022\024\n\014labHeadEmail\030\t \001(\t\022\023\n\013labHeadName\030" +
+      "\n \001(\t\022\023\n\013libraryType\030\013 \001(\t\022\032\n\022otherConta" +
+      "ctEmails\030\014 \001(\t\022\017\n\007piEmail\030\r \001(\t\022\025\n\rpoole" +
+      "dNormals\030\016 \003(\t\022\032\n\022projectManagerName\030\017 \001" +
+      "(\t\022\026\n\016qcAccessEmails\030\020 \001(\t\022\016\n\006recipe\030\021 \001" +
+      "(\t\022\021\n\trequestId\030\022 \001(\t\022!\n\007samples\030\023 \003(\0132\020" +
+      ".Request.Samples\022\016\n\006strand\030\024 \001(\t\032Q\n\007Samp" +
+      "les\022\023\n\013igoComplete\030\001 \001(\010\022\023\n\013igoSampleId\030" +
+      "\002 \001(\t\022\034\n\024investigatorSampleId\030\003 \001(\t\"\371\003\n\024" +
+      "RequestWithManifests\022\023\n\013bicAnalysis\030\001 \001(" +
+      "\010\022\030\n\020dataAccessEmails\030\002 \001(\t\022\030\n\020dataAnaly" +
+      "stEmail\030\003 \001(\t\022\027\n\017dataAnalystName\030\004 \001(\t\022\024" +
+      "\n\014deliveryDate\030\005 \001(\003\022\031\n\021investigatorEmai" +
+      "l\030\006 \001(\t\022\030\n\020investigatorName\030\007 \001(\t\022\024\n\014isC" +
+      "moRequest\030\010 \001(\010\022\024\n\014labHeadEmail\030\t \001(\t\022\023\n" +
+      "\013labHeadName\030\n \001(\t\022\023\n\013libraryType\030\013 \001(\t\022" +
+      "\032\n\022otherContactEmails\030\014 \001(\t\022\017\n\007piEmail\030\r" +
+      " \001(\t\022\025\n\rpooledNormals\030\016 \003(\t\022\032\n\022projectMa" +
+      "nagerName\030\017 \001(\t\022\026\n\016qcAccessEmails\030\020 \001(\t\022" +
+      "\016\n\006recipe\030\021 \001(\t\022\021\n\trequestId\030\022 \001(\t\022 \n\007sa" +
+      "mples\030\023 \003(\0132\017.SampleManifest\022\016\n\006strand\030\024" +
+      " \001(\t\022\021\n\tprojectId\030\025 \001(\t\"\276\t\n\016SampleManife" +
+      "st\022\017\n\007baitSet\030\001 \001(\t\022\026\n\016cfDNA2dBarcode\030\002 " +
+      "\001(\t\022\024\n\014cmoInfoIgoId\030\003 \001(\t\022\024\n\014cmoPatientI" +
+      "d\030\004 \001(\t\022\026\n\016cmoSampleClass\030\005 \001(\t\022<\n\021cmoSa" +
+      "mpleIdFields\030\006 \001(\0132!.SampleManifest.Cmos" +
+      "ampleidfields\022\025\n\rcmoSampleName\030\007 \001(\t\022\026\n\016" +
+      "collectionYear\030\010 \001(\t\022\r\n\005igoId\030\t \001(\t\022\034\n\024i" +
+      "nvestigatorSampleId\030\n \001(\t\022,\n\tlibraries\030\013" +
+      " \003(\0132\031.SampleManifest.Libraries\022\024\n\014oncoT" +
+      "reeCode\030\014 \001(\t\022\024\n\014preservation\030\r \001(\t\022,\n\tq" +
+      "cReports\030\016 \003(\0132\031.SampleManifest.Qcreport" +
+      "s\022\022\n\nsampleName\030\017 \001(\t\022\024\n\014sampleOrigin\030\020 " +
+      "\001(\t\022\013\n\003sex\030\021 \001(\t\022\017\n\007species\030\022 \001(\t\022\024\n\014spe" +
+      "cimenType\030\023 \001(\t\022\026\n\016tissueLocation\030\024 \001(\t\022" +
+      "\016\n\006tubeId\030\025 \001(\t\022\025\n\rtumorOrNormal\030\026 \001(\t\022\023" +
+      "\n\013igoComplete\030\027 \001(\010\032i\n\021Cmosampleidfields" +
+      "\022\023\n\013naToExtract\030\001 \001(\t\022\033\n\023normalizedPatie" +
+      "ntId\030\002 \001(\t\022\016\n\006recipe\030\003 \001(\t\022\022\n\nsampleType" +
+      "\030\004 \001(\t\032\206\001\n\004Runs\022\016\n\006fastqs\030\001 \003(\t\022\022\n\nflowC" +
+      "ellId\030\002 \001(\t\022\025\n\rflowCellLanes\030\003 \003(\r\022\022\n\nre" +
+      "adLength\030\004 \001(\t\022\017\n\007runDate\030\005 \001(\t\022\r\n\005runId" +
+      "\030\006 \001(\t\022\017\n\007runMode\030\007 \001(\t\032\210\002\n\tLibraries\022\021\n" +
+      "\tbarcodeId\030\001 \001(\t\022\024\n\014barcodeIndex\030\002 \001(\t\022\036" +
+      "\n\026captureConcentrationNm\030\003 \001(\t\022\026\n\016captur" +
+      "eInputNg\030\004 \001(\t\022\023\n\013captureName\030\005 \001(\t\022\022\n\nd" +
+      "naInputNg\030\006 \001(\002\022 \n\030libraryConcentrationN" +
+      "gul\030\007 \001(\002\022\024\n\014libraryIgoId\030\010 \001(\t\022\025\n\rlibra" +
+      "ryVolume\030\t \001(\002\022\"\n\004runs\030\n \003(\0132\024.SampleMan" +
+      "ifest.Runs\032l\n\tQcreports\022\031\n\021IGORecommenda" +
+      "tion\030\001 \001(\t\022\020\n\010comments\030\002 \001(\t\022\034\n\024investig" +
+      "atorDecision\030\003 \001(\t\022\024\n\014qcReportType\030\004 \001(\t" +
+      "BU\n!org.mskcc.smile.commons.generatedB\003I" +
+      "goZ+github.com/mskcc/smile-commons/types" +
+      "/igo/v1b\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        });
+    internal_static_Delivery_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_Delivery_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_Delivery_descriptor,
+        new java.lang.String[] { "Request", "DeliveryDate", });
+    internal_static_Request_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_Request_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_Request_descriptor,
+        new java.lang.String[] { "BicAnalysis", "DataAccessEmails", "DataAnalystEmail", "DataAnalystName", "DeliveryDate", "InvestigatorEmail", "InvestigatorName", "IsCmoRequest", "LabHeadEmail", "LabHeadName", "LibraryType", "OtherContactEmails", "PiEmail", "PooledNormals", "ProjectManagerName", "QcAccessEmails", "Recipe", "RequestId", "Samples", "Strand", });
+    internal_static_Request_Samples_descriptor =
+      internal_static_Request_descriptor.getNestedTypes().get(0);
+    internal_static_Request_Samples_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_Request_Samples_descriptor,
+        new java.lang.String[] { "IgoComplete", "IgoSampleId", "InvestigatorSampleId", });
+    internal_static_RequestWithManifests_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_RequestWithManifests_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_RequestWithManifests_descriptor,
+        new java.lang.String[] { "BicAnalysis", "DataAccessEmails", "DataAnalystEmail", "DataAnalystName", "DeliveryDate", "InvestigatorEmail", "InvestigatorName", "IsCmoRequest", "LabHeadEmail", "LabHeadName", "LibraryType", "OtherContactEmails", "PiEmail", "PooledNormals", "ProjectManagerName", "QcAccessEmails", "Recipe", "RequestId", "Samples", "Strand", "ProjectId", });
+    internal_static_SampleManifest_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_SampleManifest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_SampleManifest_descriptor,
+        new java.lang.String[] { "BaitSet", "CfDNA2DBarcode", "CmoInfoIgoId", "CmoPatientId", "CmoSampleClass", "CmoSampleIdFields", "CmoSampleName", "CollectionYear", "IgoId", "InvestigatorSampleId", "Libraries", "OncoTreeCode", "Preservation", "QcReports", "SampleName", "SampleOrigin", "Sex", "Species", "SpecimenType", "TissueLocation", "TubeId", "TumorOrNormal", "IgoComplete", });
+    internal_static_SampleManifest_Cmosampleidfields_descriptor =
+      internal_static_SampleManifest_descriptor.getNestedTypes().get(0);
+    internal_static_SampleManifest_Cmosampleidfields_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_SampleManifest_Cmosampleidfields_descriptor,
+        new java.lang.String[] { "NaToExtract", "NormalizedPatientId", "Recipe", "SampleType", });
+    internal_static_SampleManifest_Runs_descriptor =
+      internal_static_SampleManifest_descriptor.getNestedTypes().get(1);
+    internal_static_SampleManifest_Runs_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_SampleManifest_Runs_descriptor,
+        new java.lang.String[] { "Fastqs", "FlowCellId", "FlowCellLanes", "ReadLength", "RunDate", "RunId", "RunMode", });
+    internal_static_SampleManifest_Libraries_descriptor =
+      internal_static_SampleManifest_descriptor.getNestedTypes().get(2);
+    internal_static_SampleManifest_Libraries_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_SampleManifest_Libraries_descriptor,
+        new java.lang.String[] { "BarcodeId", "BarcodeIndex", "CaptureConcentrationNm", "CaptureInputNg", "CaptureName", "DnaInputNg", "LibraryConcentrationNgul", "LibraryIgoId", "LibraryVolume", "Runs", });
+    internal_static_SampleManifest_Qcreports_descriptor =
+      internal_static_SampleManifest_descriptor.getNestedTypes().get(3);
+    internal_static_SampleManifest_Qcreports_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_SampleManifest_Qcreports_descriptor,
+        new java.lang.String[] { "IGORecommendation", "Comments", "InvestigatorDecision", "QcReportType", });
+    descriptor.resolveAllFeaturesImmutable();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -0,0 +1,151 @@
+package org.mskcc.smile.commons.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Computes a 128-bit digest of json trees in a canonical form that follows the same
+ * rules as {@link StrictJsonNodeComparator}: object properties are hashed in sorted
+ * order, array elements in their given order and numbers by value regardless of their
+ * representation. Trees that match under strict comparison therefore hash the same.
+ * Every value is hashed with its type and length so distinct trees cannot collide by
+ * concatenation. The digest is meant for change detection, not for security.
+ */
+final class CanonicalJsonHasher {
+    private static final int RAW_TEXT_CHUNK_SIZE = 4096;
+
+    private final MessageDigest digest;
+
+    CanonicalJsonHasher() {
+        try {
+            this.digest = MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support MD5
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Hashes a marker describing the shape of the document being hashed (i.e., that
+     * a property is missing) so that different shapes cannot produce the same digest.
+     * @param marker
+     */
+    void putMarker(String marker) {
+        putTag('m');
+        putText(marker);
+    }
+
+    /**
+     * Hashes the canonical form of the given json tree. A null node is hashed as
+     * a missing value.
+     * @param node
+     */
+    void putNode(JsonNode node) {
+        if (node == null) {
+            putTag('-');
+            return;
+        }
+        if (node.isNumber()) {
+            putTag('n');
+            // adding zero folds negative zero into zero since both compare as equal
+            putLong(Double.doubleToLongBits(node.doubleValue() + 0.0));
+            return;
+        }
+        switch (node.getNodeType()) {
+            case OBJECT:
+                List<String> fieldNames = new ArrayList<>(node.size());
+                Iterator<String> itr = node.fieldNames();
+                while (itr.hasNext()) {
+                    fieldNames.add(itr.next());
+                }
+                Collections.sort(fieldNames);
+                putTag('o');
+                putInt(fieldNames.size());
+                for (String fieldName : fieldNames) {
+                    putText(fieldName);
+                    putNode(node.get(fieldName));
+                }
+                break;
+            case ARRAY:
+                putTag('a');
+                putInt(node.size());
+                for (JsonNode element : node) {
+                    putNode(element);
+                }
+                break;
+            case STRING:
+                putTag('s');
+                putText(node.textValue());
+                break;
+            case BOOLEAN:
+                putTag(node.booleanValue() ? 't' : 'f');
+                break;
+            case NULL:
+            case MISSING:
+                putTag('z');
+                break;
+            default:
+                putTag('x');
+                putText(node.toString());
+        }
+    }
+
+    /**
+     * Hashes the given text as is, without parsing it as json, so that only
+     * identical texts hash the same. The characters are hashed in chunks without
+     * copying the whole text.
+     * @param text
+     */
+    void putRawText(String text) {
+        putTag('r');
+        putInt(text.length());
+        byte[] buffer = new byte[RAW_TEXT_CHUNK_SIZE * 2];
+        for (int start = 0; start < text.length(); start += RAW_TEXT_CHUNK_SIZE) {
+            int end = Math.min(start + RAW_TEXT_CHUNK_SIZE, text.length());
+            int length = 0;
+            for (int i = start; i < end; i++) {
+                char c = text.charAt(i);
+                buffer[length++] = (byte) (c >>> 8);
+                buffer[length++] = (byte) c;
+            }
+            digest.update(buffer, 0, length);
+        }
+    }
+
+    /**
+     * Returns the digest of everything hashed so far as a 32 character hex string.
+     * @return String
+     */
+    String toHexString() {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private void putTag(char tag) {
+        digest.update((byte) tag);
+    }
+
+    private void putText(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        putInt(bytes.length);
+        digest.update(bytes);
+    }
+
+    private void putInt(int value) {
+        digest.update((byte) (value >>> 24));
+        digest.update((byte) (value >>> 16));
+        digest.update((byte) (value >>> 8));
+        digest.update((byte) value);
+    }
+
+    private void putLong(long value) {
+        putInt((int) (value >>> 32));
+        putInt((int) value);
+    }
+}
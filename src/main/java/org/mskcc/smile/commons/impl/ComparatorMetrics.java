@@ -0,0 +1,131 @@
+package org.mskcc.smile.commons.impl;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.LongHistogram;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.MeterProvider;
+import java.util.EnumMap;
+import java.util.Map;
+import org.mskcc.smile.commons.enums.ComparisonType;
+
+/**
+ * OpenTelemetry instruments recording the comparisons of the JsonComparatorImpl
+ * by comparison type: the comparison latency, the size of the input jsons, the
+ * number of samples in the target request and the number of matching, mismatching
+ * and failed comparisons. The attributes of every measurement are built once so
+ * recording does not allocate, and with the no-op meter provider every instrument
+ * is a no-op.
+ */
+public class ComparatorMetrics {
+    static final String INSTRUMENTATION_SCOPE_NAME = "org.mskcc.smile.commons";
+    static final ComparatorMetrics NOOP = new ComparatorMetrics(MeterProvider.noop());
+
+    private static final AttributeKey<String> COMPARISON_TYPE_KEY =
+            AttributeKey.stringKey("smile.comparison.type");
+    private static final AttributeKey<String> COMPARISON_OUTCOME_KEY =
+            AttributeKey.stringKey("smile.comparison.outcome");
+
+    private enum Outcome {
+        MATCH,
+        MISMATCH,
+        ERROR
+    }
+
+    private final DoubleHistogram duration;
+    private final LongHistogram inputSize;
+    private final LongHistogram sampleCount;
+    private final LongCounter comparisons;
+    private final Map<ComparisonType, Attributes> typeAttributes = new EnumMap<>(ComparisonType.class);
+    private final Map<ComparisonType, Attributes[]> outcomeAttributes = new EnumMap<>(ComparisonType.class);
+
+    /**
+     * ComparatorMetrics constructor.
+     * @param meterProvider
+     */
+    public ComparatorMetrics(MeterProvider meterProvider) {
+        Meter meter = meterProvider.get(INSTRUMENTATION_SCOPE_NAME);
+        this.duration = meter.histogramBuilder("smile.comparison.duration")
+                .setDescription("Duration of json comparisons")
+                .setUnit("s")
+                .build();
+        this.inputSize = meter.histogramBuilder("smile.comparison.input.size")
+                .setDescription("Combined UTF-8 encoded size of the reference and target jsons")
+                .setUnit("By")
+                .ofLongs()
+                .build();
+        this.sampleCount = meter.histogramBuilder("smile.comparison.sample.count")
+                .setDescription("Number of samples in the target request json")
+                .setUnit("{sample}")
+                .ofLongs()
+                .build();
+        this.comparisons = meter.counterBuilder("smile.comparison.count")
+                .setDescription("Number of json comparisons by outcome")
+                .setUnit("{comparison}")
+                .build();
+        for (ComparisonType comparisonType : ComparisonType.values()) {
+            typeAttributes.put(comparisonType,
+                    Attributes.of(COMPARISON_TYPE_KEY, comparisonType.getValue()));
+            Attributes[] attributes = new Attributes[Outcome.values().length];
+            for (Outcome outcome : Outcome.values()) {
+                attributes[outcome.ordinal()] = Attributes.of(COMPARISON_TYPE_KEY, comparisonType.getValue(),
+                        COMPARISON_OUTCOME_KEY, outcome.name().toLowerCase());
+            }
+            outcomeAttributes.put(comparisonType, attributes);
+        }
+    }
+
+    /**
+     * Records a completed comparison. The input size is the number of UTF-8 bytes of
+     * the inputs, where a negative input size means the size of the inputs is not known
+     * (i.e., json nodes or streams) and is not recorded.
+     * @param comparisonType
+     * @param durationNanos
+     * @param inputBytes
+     * @param consistent
+     */
+    void recordComparison(ComparisonType comparisonType, long durationNanos, long inputBytes,
+            Boolean consistent) {
+        record(comparisonType, durationNanos, inputBytes, consistent ? Outcome.MATCH : Outcome.MISMATCH);
+    }
+
+    void recordError(ComparisonType comparisonType, long durationNanos, long inputBytes) {
+        record(comparisonType, durationNanos, inputBytes, Outcome.ERROR);
+    }
+
+    /**
+     * Returns the number of bytes of the UTF-8 encoding of the json without encoding
+     * it, so that json strings are recorded in the same unit as encoded inputs.
+     * @param json
+     * @return long
+     */
+    static long utf8Length(String json) {
+        long length = json.length();
+        for (int i = 0; i < json.length(); i++) {
+            char c = json.charAt(i);
+            if (c >= 0x800) {
+                // each char of a surrogate pair counts for 2 of the 4 bytes of its code point
+                length += Character.isSurrogate(c) ? 1 : 2;
+            } else if (c >= 0x80) {
+                length++;
+            }
+        }
+        return length;
+    }
+
+    void recordSampleCount(ComparisonType comparisonType, int samples) {
+        sampleCount.record(samples, typeAttributes.get(comparisonType));
+    }
+
+    private void record(ComparisonType comparisonType, long durationNanos, long inputBytes,
+            Outcome outcome) {
+        Attributes attributes = outcomeAttributes.get(comparisonType)[outcome.ordinal()];
+        duration.record(durationNanos / 1e9, attributes);
+        if (inputBytes >= 0) {
+            inputSize.record(inputBytes, attributes);
+        }
+        comparisons.add(1, attributes);
+    }
+}
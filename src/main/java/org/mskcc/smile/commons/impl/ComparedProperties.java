@@ -0,0 +1,164 @@
+package org.mskcc.smile.commons.impl;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.apache.commons.lang3.StringUtils;
+import org.mskcc.smile.commons.ComparisonProfile;
+import org.mskcc.smile.commons.enums.ComparisonType;
+
+/**
+ * The property rules shared by the json and protobuf comparisons: the default ignored
+ * and IGO accepted fields, the standardized names of IGO request and sample properties
+ * and which text values count as empty.
+ */
+final class ComparedProperties {
+    private static final String[] DEFAULT_IGNORED_FIELDS = new String[]{
+        "smileRequestId",
+        "smileSampleId",
+        "smilePatientId",
+        "requestJson",
+        "samples",
+        "importDate",
+        "cmoSampleName",
+        "sampleAliases",
+        "datasource",
+        "patientAliases",
+        "sampleAliases",
+        "genePanel",
+        "additionalProperties",
+        "cmoInfoIgoId",
+        "date"};
+
+    private static final String[] IGO_ACCEPTED_FIELDS = new String[]{
+        //RequestMetadata fields
+        "deliveryDate",
+        "isCmoRequest",
+        "libraryType",
+        "pooledNormals",
+        "genePanel",
+        "igoRequestId",
+        "igoComplete",
+        "igoSampleId",
+        "strand",
+        // SampleMetadata fields
+        "baitSet",
+        "cfDNA2dBarcode",
+        "recipe",
+        "genePanel",
+        "primaryId",
+        "igoId",
+        "barcodeId",
+        "barcodeIndex",
+        "captureConcentrationNm",
+        "captureInputNg",
+        "captureName",
+        "dnaInputNg",
+        "libraryConcentrationNgul",
+        "libraryIgoId",
+        "libraryVolume",
+        "fastqs",
+        "flowCellId",
+        "flowCellLanes",
+        "readLength",
+        "runDate",
+        "runId",
+        "runMode",
+        "IGORecommendation",
+        "comments",
+        "investigatorDecision",
+        "qcReportType",
+        "libraries",
+        "qcReports",
+        "status",
+        "cmoSampleIdFields",
+        "runs"
+    };
+
+    static final Set<String> DEFAULT_IGNORED_FIELDS_SET =
+            Collections.unmodifiableSet(new HashSet<>(Arrays.asList(DEFAULT_IGNORED_FIELDS)));
+    static final Set<String> IGO_ACCEPTED_FIELDS_SET =
+            Collections.unmodifiableSet(new HashSet<>(Arrays.asList(IGO_ACCEPTED_FIELDS)));
+    static final Map<String, String> STD_IGO_REQUEST_JSON_PROPS_MAP =
+            initStandardizedIgoRequestJsonPropsMap();
+    static final Map<String, String> STD_IGO_SAMPLE_JSON_PROPS_MAP =
+            initStandardizedIgoSampleJsonPropsMap();
+
+    private ComparedProperties() {
+    }
+
+    private static Map<String, String> initStandardizedIgoRequestJsonPropsMap() {
+        Map<String, String> map = new HashMap<>();
+        map.put("projectId", "igoProjectId");
+        map.put("requestId", "igoRequestId");
+        map.put("recipe", "genePanel");
+        return Collections.unmodifiableMap(map);
+    }
+
+    private static Map<String, String> initStandardizedIgoSampleJsonPropsMap() {
+        Map<String, String> map = new HashMap<>();
+        map.put("cmoSampleClass", "sampleType");
+        map.put("specimenType", "sampleClass");
+        map.put("oncoTreeCode", "oncotreeCode");
+        map.put("requestId", "igoRequestId");
+        map.put("igoId", "primaryId");
+        return Collections.unmodifiableMap(map);
+    }
+
+    static String[] getDefaultIgnoredFields() {
+        return DEFAULT_IGNORED_FIELDS.clone();
+    }
+
+    static String[] getIgoAcceptedFields() {
+        return IGO_ACCEPTED_FIELDS.clone();
+    }
+
+    static Boolean isNullOrEmptyText(String value) {
+        return StringUtils.isBlank(value) || value.equalsIgnoreCase("null") || value.equalsIgnoreCase("[]");
+    }
+
+    /**
+     * Returns true if the request property is compared under the given profile once
+     * its name is standardized. This lets other representations of requests (i.e.,
+     * protobuf messages) be filtered by the same rules as the request jsons.
+     * @param fieldName
+     * @param profile
+     * @return Boolean
+     */
+    static Boolean isComparedRequestProperty(String fieldName, ComparisonProfile profile) {
+        return isComparedProperty(STD_IGO_REQUEST_JSON_PROPS_MAP.getOrDefault(fieldName, fieldName),
+                profile.getIgnoredFields(), profile.getComparisonType());
+    }
+
+    /**
+     * Returns true if the sample property is compared under the given profile once
+     * its name is standardized.
+     * @param fieldName
+     * @param profile
+     * @return Boolean
+     */
+    static Boolean isComparedSampleProperty(String fieldName, ComparisonProfile profile) {
+        return isComparedProperty(STD_IGO_SAMPLE_JSON_PROPS_MAP.getOrDefault(fieldName, fieldName),
+                profile.getIgnoredFields(), profile.getComparisonType());
+    }
+
+    /**
+     * Returns true if the property of a sample's qcReports, libraries or runs is
+     * compared, nested properties are always filtered with the default ignored fields.
+     * @param fieldName
+     * @param comparisonType
+     * @return Boolean
+     */
+    static Boolean isComparedNestedProperty(String fieldName, ComparisonType comparisonType) {
+        return isComparedProperty(fieldName, DEFAULT_IGNORED_FIELDS_SET, comparisonType);
+    }
+
+    private static Boolean isComparedProperty(String fieldName, Set<String> ignoredFields,
+            ComparisonType comparisonType) {
+        return !ignoredFields.contains(fieldName)
+                && (comparisonType != ComparisonType.IGO || IGO_ACCEPTED_FIELDS_SET.contains(fieldName));
+    }
+}
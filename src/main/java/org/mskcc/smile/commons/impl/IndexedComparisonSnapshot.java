@@ -0,0 +1,32 @@
+package org.mskcc.smile.commons.impl;
+
+import java.util.Map;
+import org.mskcc.smile.commons.ComparisonProfile;
+import org.mskcc.smile.commons.ComparisonSnapshot;
+import org.mskcc.smile.commons.impl.JsonComparatorImpl.IndexedSample;
+
+/**
+ * The comparison snapshot of the JsonComparatorImpl, which keeps the normalized
+ * reference and target samples by primary id. An updated snapshot shares the
+ * normalized samples that did not change.
+ */
+class IndexedComparisonSnapshot extends ComparisonSnapshot {
+    private final Map<String, IndexedSample> referenceSamples;
+    private final Map<String, IndexedSample> targetSamples;
+
+    IndexedComparisonSnapshot(ComparisonProfile profile, Boolean requestConsistent,
+            Map<String, IndexedSample> referenceSamples, Map<String, IndexedSample> targetSamples,
+            Map<String, Boolean> sampleConsistency) {
+        super(profile, requestConsistent, sampleConsistency);
+        this.referenceSamples = referenceSamples;
+        this.targetSamples = targetSamples;
+    }
+
+    Map<String, IndexedSample> getReferenceSamples() {
+        return referenceSamples;
+    }
+
+    Map<String, IndexedSample> getTargetSamples() {
+        return targetSamples;
+    }
+}
@@ -1,243 +1,1241 @@
 package org.mskcc.smile.commons.impl;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import io.opentelemetry.api.metrics.MeterProvider;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import org.apache.commons.lang3.StringUtils;
-import org.json.JSONException;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import org.mskcc.smile.commons.ChangeClassification;
+import org.mskcc.smile.commons.ComparisonPair;
+import org.mskcc.smile.commons.ComparisonProfile;
+import org.mskcc.smile.commons.ComparisonResult;
+import org.mskcc.smile.commons.ComparisonResult.Difference;
+import org.mskcc.smile.commons.ComparisonSnapshot;
 import org.mskcc.smile.commons.JsonComparator;
-import org.skyscreamer.jsonassert.JSONAssert;
-import org.skyscreamer.jsonassert.JSONCompareMode;
+import org.mskcc.smile.commons.enums.ComparisonType;
 import org.springframework.stereotype.Component;
 
 /**
- *
+ * The comparator does not keep any state between comparisons and can be
+ * shared between threads.
  * @author ochoaa
  */
 @Component
 public class JsonComparatorImpl implements JsonComparator {
     private final ObjectMapper mapper = new ObjectMapper();
 
-    public final String[] DEFAULT_IGNORED_FIELDS = new String[]{
-        "smileRequestId",
-        "smileSampleId",
-        "smilePatientId",
-        "requestJson",
-        "samples",
-        "importDate",
-        "cmoSampleName",
-        "sampleAliases",
-        "datasource",
-        "patientAliases",
-        "sampleAliases",
-        "genePanel",
-        "additionalProperties",
-        "cmoInfoIgoId",
-        "date"};
-
-    public final String[] IGO_ACCEPTED_FIELDS = new String[]{
-        //RequestMetadata fields
-        "deliveryDate",
-        "isCmoRequest",
-        "libraryType",
-        "pooledNormals",
-        "genePanel",
-        "igoRequestId",
-        "igoComplete",
-        "igoSampleId",
-        "strand",
-        // SampleMetadata fields
-        "baitSet",
-        "cfDNA2dBarcode",
-        "recipe",
-        "genePanel",
-        "primaryId",
-        "igoId",
-        "barcodeId",
-        "barcodeIndex",
-        "captureConcentrationNm",
-        "captureInputNg",
-        "captureName",
-        "dnaInputNg",
-        "libraryConcentrationNgul",
-        "libraryIgoId",
-        "libraryVolume",
-        "fastqs",
-        "flowCellId",
-        "flowCellLanes",
-        "readLength",
-        "runDate",
-        "runId",
-        "runMode",
-        "IGORecommendation",
-        "comments",
-        "investigatorDecision",
-        "qcReportType",
-        "libraries",
-        "qcReports",
-        "status",
-        "cmoSampleIdFields",
-        "runs"
-    };
+    public final String[] DEFAULT_IGNORED_FIELDS = ComparedProperties.getDefaultIgnoredFields();
+
+    public final String[] IGO_ACCEPTED_FIELDS = ComparedProperties.getIgoAcceptedFields();
 
     public final String[] GENERIC_IGNORED_FIELDS = new String[]{
         "date",
         "samples"
     };
 
-    private final Map<String, String> STD_IGO_REQUEST_JSON_PROPS_MAP =
-            initStandardizedIgoRequestJsonPropsMap();
-    private final Map<String, String> STD_IGO_SAMPLE_JSON_PROPS_MAP =
-            initStandardizedIgoSampleJsonPropsMap();
+    // default profiles are resolved once and shared by all comparisons
+    private final ComparisonProfile NEW_PROFILE =
+            new ComparisonProfile(ComparisonType.NEW, DEFAULT_IGNORED_FIELDS);
+    private final ComparisonProfile IGO_PROFILE =
+            new ComparisonProfile(ComparisonType.IGO, DEFAULT_IGNORED_FIELDS);
+    private final ComparisonProfile DASHBOARD_PROFILE =
+            new ComparisonProfile(ComparisonType.DASHBOARD, DEFAULT_IGNORED_FIELDS);
+    private final ComparisonProfile GENERIC_PROFILE =
+            new ComparisonProfile(ComparisonType.GENERIC, GENERIC_IGNORED_FIELDS);
+
+    private volatile NormalizedRequestCache referenceCache;
+    private volatile ComparatorMetrics metrics = ComparatorMetrics.NOOP;
+
+    private static final JsonPointer SAMPLES_POINTER = JsonPointer.compile("/samples");
+    // libraries and their runs are matched by these properties instead of their array index
+    private static final String[] LIBRARY_KEY_FIELDS = new String[]{"libraryIgoId"};
+    private static final String[] RUN_KEY_FIELDS = new String[]{"runId", "flowCellId"};
+
+    /**
+     * A request sample as received along with its standardized and filtered counterpart.
+     */
+    static class IndexedSample {
+        private final JsonNode unfilteredNode;
+        private final JsonNode filteredNode;
+
+        IndexedSample(JsonNode unfilteredNode, JsonNode filteredNode) {
+            this.unfilteredNode = unfilteredNode;
+            this.filteredNode = filteredNode;
+        }
+    }
+
+    /**
+     * A request json as received along with its standardized and filtered counterpart.
+     * The samples are only standardized and indexed once they are first needed. Samples
+     * without a primaryId or igoId cannot be indexed and are kept by their position in
+     * the samples array instead. Once built, a normalized request is never modified
+     * and can be compared concurrently.
+     */
+    static class NormalizedRequest {
+        private final JsonNode unfilteredNode;
+        private final JsonNode filteredNode;
+        private final ComparisonProfile profile;
+        private Map<String, IndexedSample> samplesMap;
+        private Map<Integer, IndexedSample> unidentifiedSamplesMap;
+
+        NormalizedRequest(JsonNode unfilteredNode, JsonNode filteredNode, ComparisonProfile profile) {
+            this.unfilteredNode = unfilteredNode;
+            this.filteredNode = filteredNode;
+            this.profile = profile;
+        }
+    }
+
+    /**
+     * Sets the cache of normalized reference jsons used by the comparisons of json
+     * strings. Comparing a burst of updates against the same published request then
+     * only standardizes and filters the published request once. No cache is used
+     * by default, setting it to null disables caching.
+     * @param referenceCache
+     */
+    public void setReferenceCache(NormalizedRequestCache referenceCache) {
+        this.referenceCache = referenceCache;
+    }
+
+    public NormalizedRequestCache getReferenceCache() {
+        return referenceCache;
+    }
+
+    /**
+     * Sets the meter provider the comparison metrics are recorded to (see
+     * ComparatorMetrics). Metrics are recorded to the no-op meter provider by
+     * default, setting it to null restores the default.
+     * @param meterProvider
+     */
+    public void setMeterProvider(MeterProvider meterProvider) {
+        this.metrics = (meterProvider == null) ? ComparatorMetrics.NOOP
+                : new ComparatorMetrics(meterProvider);
+    }
+
+    /**
+     * A comparison whose latency and outcome are recorded by measure.
+     */
+    @FunctionalInterface
+    private interface Comparison<T> {
+        T compare() throws Exception;
+    }
+
+    /**
+     * Runs the comparison and records its latency, input size and outcome with the
+     * comparison type of the profile. Only the public comparisons are measured, each
+     * one exactly once. A negative input size is not recorded.
+     * @param profile
+     * @param inputSize
+     * @param comparison
+     * @param verdict
+     * @return T
+     * @throws Exception
+     */
+    private <T> T measure(ComparisonProfile profile, long inputSize, Comparison<T> comparison,
+            Function<T, Boolean> verdict) throws Exception {
+        ComparatorMetrics comparatorMetrics = metrics;
+        long startNanos = System.nanoTime();
+        try {
+            T result = comparison.compare();
+            comparatorMetrics.recordComparison(profile.getComparisonType(), System.nanoTime() - startNanos,
+                    inputSize, verdict.apply(result));
+            return result;
+        } catch (Exception e) {
+            comparatorMetrics.recordError(profile.getComparisonType(), System.nanoTime() - startNanos,
+                    inputSize);
+            throw e;
+        }
+    }
+
+    private Boolean measure(ComparisonProfile profile, long inputSize, Comparison<Boolean> comparison)
+            throws Exception {
+        return measure(profile, inputSize, comparison, Function.identity());
+    }
+
+    private ComparisonResult measureResult(ComparisonProfile profile, long inputSize,
+            Comparison<ComparisonResult> comparison) throws Exception {
+        return measure(profile, inputSize, comparison, ComparisonResult::isConsistent);
+    }
+
+    /**
+     * Returns the number of UTF-8 bytes of the json strings, or -1 when metrics are not
+     * recorded so the strings are not scanned for nothing.
+     * @param referenceJson
+     * @param targetJson
+     * @return long
+     */
+    private long inputSize(String referenceJson, String targetJson) {
+        if (metrics == ComparatorMetrics.NOOP) {
+            return -1;
+        }
+        return ComparatorMetrics.utf8Length(referenceJson) + ComparatorMetrics.utf8Length(targetJson);
+    }
+
+    /**
+     * Returns the default profile of the given comparison type, which ignores the
+     * DEFAULT_IGNORED_FIELDS (or the GENERIC_IGNORED_FIELDS for generic comparisons).
+     * @param comparisonType
+     * @return ComparisonProfile
+     */
+    @Override
+    public ComparisonProfile getComparisonProfile(ComparisonType comparisonType) {
+        switch (comparisonType) {
+            case IGO:
+                return IGO_PROFILE;
+            case DASHBOARD:
+                return DASHBOARD_PROFILE;
+            case GENERIC:
+                return GENERIC_PROFILE;
+            default:
+                return NEW_PROFILE;
+        }
+    }
+
+    /**
+     * Returns the profile of the comparisons that take the comparison type as a String.
+     * These comparisons only ever checked for igo, so as before any comparison type that
+     * is not supported (i.e., a misspelled or upper case type) is compared as new
+     * instead of failing.
+     * @param comparisonType
+     * @param ignoredFields
+     * @return ComparisonProfile
+     */
+    private ComparisonProfile getLegacyComparisonProfile(String comparisonType, String[] ignoredFields) {
+        return new ComparisonProfile(ComparisonType.fromString(comparisonType, ComparisonType.NEW),
+                ignoredFields);
+    }
+
+    @Override
+    public Boolean isConsistentByIgoProperties(String referenceJson, String targetJson) throws Exception {
+        return isConsistent(referenceJson, targetJson, IGO_PROFILE);
+    }
+
+    @Override
+    public Boolean isConsistentByIgoProperties(JsonNode referenceNode, JsonNode targetNode)
+            throws Exception {
+        return isConsistent(referenceNode, targetNode, IGO_PROFILE);
+    }
+
+    @Override
+    public Boolean isConsistentByIgoProperties(JsonParser referenceParser, JsonParser targetParser)
+            throws Exception {
+        return isConsistent(referenceParser, targetParser, IGO_PROFILE);
+    }
+
+    @Override
+    public Boolean isConsistentByIgoProperties(byte[] referenceJson, byte[] targetJson) throws Exception {
+        return isConsistent(referenceJson, targetJson, IGO_PROFILE);
+    }
+
+    @Override
+    public Boolean isConsistent(String referenceJson, String targetJson) throws Exception {
+        return isConsistent(referenceJson, targetJson, NEW_PROFILE);
+    }
+
+    @Override
+    public Boolean isConsistent(JsonNode referenceNode, JsonNode targetNode) throws Exception {
+        return isConsistent(referenceNode, targetNode, NEW_PROFILE);
+    }
+
+    @Override
+    public Boolean isConsistent(JsonParser referenceParser, JsonParser targetParser) throws Exception {
+        return isConsistent(referenceParser, targetParser, NEW_PROFILE);
+    }
+
+    /**
+     * Accepted values of String comparisonType are new, igo, dashboard and generic,
+     * any other value is compared as new (see getLegacyComparisonProfile).
+     * @param referenceJson
+     * @param targetJson
+     * @param ignoredFields
+     * @param comparisonType
+     * @return Boolean
+     * @throws Exception
+     */
+    @Override
+    public Boolean isConsistent(String referenceJson, String targetJson, String[] ignoredFields,
+            String comparisonType) throws Exception {
+        return isConsistent(referenceJson, targetJson,
+                getLegacyComparisonProfile(comparisonType, ignoredFields));
+    }
+
+    /**
+     * Accepted values of String comparisonType are new, igo, dashboard and generic,
+     * any other value is compared as new.
+     * The input nodes are parsed once by the caller and are not modified by the comparison.
+     * @param referenceNode
+     * @param targetNode
+     * @param ignoredFields
+     * @param comparisonType
+     * @return Boolean
+     * @throws Exception
+     */
+    @Override
+    public Boolean isConsistent(JsonNode referenceNode, JsonNode targetNode, String[] ignoredFields,
+            String comparisonType) throws Exception {
+        return isConsistent(referenceNode, targetNode,
+                getLegacyComparisonProfile(comparisonType, ignoredFields));
+    }
+
+    /**
+     * Streaming variant of the request comparison for very large jsons. Each document
+     * is read from its token stream into a pruned tree that skips the properties the
+     * comparison filters out (i.e., ignored fields, null or empty values, aliases),
+     * so the unfiltered documents are never fully materialized. The parsers are
+     * not closed. Accepted values of String comparisonType are new, igo, dashboard
+     * and generic, any other value is compared as new.
+     * @param referenceParser
+     * @param targetParser
+     * @param ignoredFields
+     * @param comparisonType
+     * @return Boolean
+     * @throws Exception
+     */
+    @Override
+    public Boolean isConsistent(JsonParser referenceParser, JsonParser targetParser,
+            String[] ignoredFields, String comparisonType) throws Exception {
+        return isConsistent(referenceParser, targetParser,
+                getLegacyComparisonProfile(comparisonType, ignoredFields));
+    }
+
+    @Override
+    public Boolean isConsistent(String referenceJson, String targetJson, ComparisonProfile profile)
+            throws Exception {
+        return measure(profile, inputSize(referenceJson, targetJson), () -> {
+            if (profile.isGenericComparison()) {
+                return isConsistentJson(mapper.readTree(referenceJson), mapper.readTree(targetJson), profile);
+            }
+            return isConsistentRequestJson(normalizeReferenceJson(referenceJson, profile),
+                    normalizeRequestJson(mapper.readTree(targetJson), profile), null);
+        });
+    }
+
+    /**
+     * Compares the jsons with the given profile. The input nodes are not modified by
+     * the comparison.
+     * @param referenceNode
+     * @param targetNode
+     * @param profile
+     * @return Boolean
+     * @throws Exception
+     */
+    @Override
+    public Boolean isConsistent(JsonNode referenceNode, JsonNode targetNode, ComparisonProfile profile)
+            throws Exception {
+        return measure(profile, -1, () -> isConsistentJson(referenceNode, targetNode, profile));
+    }
+
+    /**
+     * Compares the jsons read from the given parsers with the given profile. Request
+     * comparisons are streamed into pruned trees, generic comparisons read the full
+     * documents. The parsers are not closed.
+     * @param referenceParser
+     * @param targetParser
+     * @param profile
+     * @return Boolean
+     * @throws Exception
+     */
+    @Override
+    public Boolean isConsistent(JsonParser referenceParser, JsonParser targetParser,
+            ComparisonProfile profile) throws Exception {
+        return measure(profile, -1, () -> isConsistentJson(referenceParser, targetParser, profile));
+    }
+
+    @Override
+    public Boolean isConsistent(byte[] referenceJson, byte[] targetJson) throws Exception {
+        return isConsistent(referenceJson, targetJson, NEW_PROFILE);
+    }
+
+    /**
+     * Compares the UTF-8 encoded reference and target jsons. The jsons are parsed
+     * directly from the bytes (i.e., a NATS message payload) without first being
+     * decoded into strings. Unlike the String comparisons the reference cache is not
+     * used since it is keyed by the json string.
+     * @param referenceJson
+     * @param targetJson
+     * @param profile
+     * @return Boolean
+     * @throws Exception
+     */
+    @Override
+    public Boolean isConsistent(byte[] referenceJson, byte[] targetJson, ComparisonProfile profile)
+            throws Exception {
+        return measure(profile, referenceJson.length + targetJson.length, () -> {
+            try (JsonParser referenceParser = mapper.createParser(referenceJson);
+                    JsonParser targetParser = mapper.createParser(targetJson)) {
+                return isConsistentJson(referenceParser, targetParser, profile);
+            }
+        });
+    }
+
+    /**
+     * Compares the UTF-8 encoded reference and target jsons between the position and
+     * the limit of each buffer. The positions of the buffers are left unchanged.
+     * @param referenceJson
+     * @param targetJson
+     * @param profile
+     * @return Boolean
+     * @throws Exception
+     */
+    @Override
+    public Boolean isConsistent(ByteBuffer referenceJson, ByteBuffer targetJson,
+            ComparisonProfile profile) throws Exception {
+        return measure(profile, referenceJson.remaining() + targetJson.remaining(), () -> {
+            try (JsonParser referenceParser = createParser(referenceJson);
+                    JsonParser targetParser = createParser(targetJson)) {
+                return isConsistentJson(referenceParser, targetParser, profile);
+            }
+        });
+    }
+
+    /**
+     * Compares the UTF-8 encoded reference and target jsons read from the given
+     * streams. Both streams are closed once they have been read.
+     * @param referenceJson
+     * @param targetJson
+     * @param profile
+     * @return Boolean
+     * @throws Exception
+     */
+    @Override
+    public Boolean isConsistent(InputStream referenceJson, InputStream targetJson,
+            ComparisonProfile profile) throws Exception {
+        return measure(profile, -1, () -> {
+            try (JsonParser referenceParser = mapper.createParser(referenceJson);
+                    JsonParser targetParser = mapper.createParser(targetJson)) {
+                return isConsistentJson(referenceParser, targetParser, profile);
+            }
+        });
+    }
+
+    private Boolean isConsistentJson(JsonNode referenceNode, JsonNode targetNode, ComparisonProfile profile)
+            throws JsonProcessingException {
+        if (profile.isGenericComparison()) {
+            return isConsistentGenericJson(referenceNode, targetNode, profile, null);
+        }
+        return isConsistentRequestJson(referenceNode, targetNode, profile, null);
+    }
+
+    private Boolean isConsistentJson(JsonParser referenceParser, JsonParser targetParser,
+            ComparisonProfile profile) throws IOException {
+        if (profile.isGenericComparison()) {
+            return isConsistentGenericJson(mapper.readTree(referenceParser),
+                    mapper.readTree(targetParser), profile, null);
+        }
+        return isConsistentRequestJson(referenceParser, targetParser, profile);
+    }
+
+    @Override
+    public Boolean isConsistentGenericComparison(String referenceJson, String targetJson) throws Exception {
+        return isConsistent(referenceJson, targetJson, GENERIC_PROFILE);
+    }
+
+    @Override
+    public Boolean isConsistentGenericComparison(JsonNode referenceNode, JsonNode targetNode)
+            throws Exception {
+        return isConsistent(referenceNode, targetNode, GENERIC_PROFILE);
+    }
+
+    @Override
+    public Boolean isConsistentGenericComparison(byte[] referenceJson, byte[] targetJson)
+            throws Exception {
+        return isConsistent(referenceJson, targetJson, GENERIC_PROFILE);
+    }
+
+    @Override
+    public ComparisonResult compareByIgoProperties(String referenceJson, String targetJson)
+            throws Exception {
+        return compare(referenceJson, targetJson, IGO_PROFILE);
+    }
+
+    @Override
+    public ComparisonResult compare(String referenceJson, String targetJson) throws Exception {
+        return compare(referenceJson, targetJson, NEW_PROFILE);
+    }
+
+    @Override
+    public ComparisonResult compare(JsonNode referenceNode, JsonNode targetNode) throws Exception {
+        return compare(referenceNode, targetNode, NEW_PROFILE);
+    }
+
+    @Override
+    public ComparisonResult compare(String referenceJson, String targetJson, String[] ignoredFields,
+            String comparisonType) throws Exception {
+        return compare(referenceJson, targetJson, getLegacyComparisonProfile(comparisonType, ignoredFields));
+    }
+
+    /**
+     * Same comparison as isConsistent but returns a ComparisonResult that also
+     * reports where the jsons differ. Accepted values of String comparisonType are
+     * new, igo, dashboard and generic, any other value is compared as new.
+     * @param referenceNode
+     * @param targetNode
+     * @param ignoredFields
+     * @param comparisonType
+     * @return ComparisonResult
+     * @throws Exception
+     */
+    @Override
+    public ComparisonResult compare(JsonNode referenceNode, JsonNode targetNode, String[] ignoredFields,
+            String comparisonType) throws Exception {
+        return compare(referenceNode, targetNode, getLegacyComparisonProfile(comparisonType, ignoredFields));
+    }
+
+    @Override
+    public ComparisonResult compare(String referenceJson, String targetJson, ComparisonProfile profile)
+            throws Exception {
+        return measureResult(profile, inputSize(referenceJson, targetJson), () -> {
+            if (profile.isGenericComparison()) {
+                return compareJson(mapper.readTree(referenceJson), mapper.readTree(targetJson), profile);
+            }
+            return compareRequestJson(referenceJson, targetJson, profile);
+        });
+    }
+
+    /**
+     * Same comparison as isConsistent but returns a ComparisonResult that also
+     * reports where the jsons differ.
+     * @param referenceNode
+     * @param targetNode
+     * @param profile
+     * @return ComparisonResult
+     * @throws Exception
+     */
+    @Override
+    public ComparisonResult compare(JsonNode referenceNode, JsonNode targetNode, ComparisonProfile profile)
+            throws Exception {
+        return measureResult(profile, -1, () -> compareJson(referenceNode, targetNode, profile));
+    }
+
+    @Override
+    public ComparisonResult compare(byte[] referenceJson, byte[] targetJson, ComparisonProfile profile)
+            throws Exception {
+        return measureResult(profile, referenceJson.length + targetJson.length,
+                () -> compareJson(mapper.readTree(referenceJson), mapper.readTree(targetJson), profile));
+    }
+
+    @Override
+    public ComparisonResult compare(ByteBuffer referenceJson, ByteBuffer targetJson,
+            ComparisonProfile profile) throws Exception {
+        return measureResult(profile, referenceJson.remaining() + targetJson.remaining(), () -> {
+            try (JsonParser referenceParser = createParser(referenceJson);
+                    JsonParser targetParser = createParser(targetJson)) {
+                JsonNode referenceNode = mapper.readTree(referenceParser);
+                JsonNode targetNode = mapper.readTree(targetParser);
+                return compareJson(referenceNode, targetNode, profile);
+            }
+        });
+    }
+
+    @Override
+    public ComparisonResult compare(InputStream referenceJson, InputStream targetJson,
+            ComparisonProfile profile) throws Exception {
+        return measureResult(profile, -1,
+                () -> compareJson(mapper.readTree(referenceJson), mapper.readTree(targetJson), profile));
+    }
+
+    private ComparisonResult compareRequestJson(String referenceJson, String targetJson,
+            ComparisonProfile profile) throws JsonProcessingException {
+        MismatchLog mismatches = new MismatchLog();
+        Boolean consistent = isConsistentRequestJson(normalizeReferenceJson(referenceJson, profile),
+                normalizeRequestJson(mapper.readTree(targetJson), profile), mismatches);
+        return new ComparisonResult(consistent, mismatches::getDifferences);
+    }
+
+    private ComparisonResult compareJson(JsonNode referenceNode, JsonNode targetNode,
+            ComparisonProfile profile) throws JsonProcessingException {
+        MismatchLog mismatches = new MismatchLog();
+        Boolean consistent = profile.isGenericComparison()
+                ? isConsistentGenericJson(referenceNode, targetNode, profile, mismatches)
+                : isConsistentRequestJson(referenceNode, targetNode, profile, mismatches);
+        return new ComparisonResult(consistent, mismatches::getDifferences);
+    }
+
+    /**
+     * Returns a parser of the bytes between the position and the limit of the buffer.
+     * Heap buffers are parsed in place, direct buffers are read through a duplicate
+     * so that the position of the given buffer is left unchanged.
+     * @param buffer
+     * @return JsonParser
+     * @throws IOException
+     */
+    private JsonParser createParser(ByteBuffer buffer) throws IOException {
+        if (buffer.hasArray()) {
+            return mapper.createParser(buffer.array(), buffer.arrayOffset() + buffer.position(),
+                    buffer.remaining());
+        }
+        return mapper.createParser(new ByteBufferBackedInputStream(buffer.duplicate()));
+    }
+
+    @Override
+    public ComparisonResult compareGeneric(String referenceJson, String targetJson) throws Exception {
+        return compare(referenceJson, targetJson, GENERIC_PROFILE);
+    }
+
+    @Override
+    public ComparisonResult compareGeneric(JsonNode referenceNode, JsonNode targetNode) throws Exception {
+        return compare(referenceNode, targetNode, GENERIC_PROFILE);
+    }
+
+    @Override
+    public ChangeClassification classifyChanges(String referenceJson, String targetJson)
+            throws Exception {
+        return classifyChanges(compare(referenceJson, targetJson, NEW_PROFILE));
+    }
+
+    /**
+     * Compares the jsons once with the default profile and splits the differences
+     * into the changes of IGO accepted properties and the changes of any other
+     * property. Replaces calling both isConsistent and isConsistentByIgoProperties
+     * on the same pair. Added and removed samples are IGO accepted changes reported
+     * by their primary id (or array index if they have none), not as a changed field.
+     * @param referenceNode
+     * @param targetNode
+     * @return ChangeClassification
+     * @throws Exception
+     */
+    @Override
+    public ChangeClassification classifyChanges(JsonNode referenceNode, JsonNode targetNode)
+            throws Exception {
+        return classifyChanges(compare(referenceNode, targetNode, NEW_PROFILE));
+    }
+
+    private ChangeClassification classifyChanges(ComparisonResult result) {
+        List<Difference> igoDifferences = new ArrayList<>();
+        List<Difference> nonIgoDifferences = new ArrayList<>();
+        Set<String> igoChangedFields = new TreeSet<>();
+        Set<String> nonIgoChangedFields = new TreeSet<>();
+        Set<String> addedSampleIds = new TreeSet<>();
+        Set<String> removedSampleIds = new TreeSet<>();
+        for (Difference difference : result.getDifferences()) {
+            JsonPointer path = JsonPointer.compile(difference.getPath());
+            // request samples are addressed by their primary id, which is not a property
+            String fieldName = null;
+            if (path.matchesProperty("samples")) {
+                fieldName = "samples";
+                path = path.tail();
+                // the sample list or a whole sample that was added or removed is an IGO
+                // accepted change of the samples of the request, not of one of its properties
+                if (path.matches() || path.tail().matches()) {
+                    if (!path.matches() && difference.getReferenceValue() == null) {
+                        addedSampleIds.add(path.getMatchingProperty());
+                    } else if (!path.matches() && difference.getTargetValue() == null) {
+                        removedSampleIds.add(path.getMatchingProperty());
+                    }
+                    igoDifferences.add(difference);
+                    continue;
+                }
+                path = path.tail();
+            }
+            Boolean isIgoAccepted = Boolean.TRUE;
+            Boolean isRunProperty = Boolean.FALSE;
+            for (; path != null && !path.matches(); path = path.tail()) {
+                if (path.getMatchingIndex() >= 0) {
+                    continue;
+                }
+                // runs are compared as a whole, including their properties that are not IGO
+                // accepted, and the status keeps the keys of its entries
+                Boolean isStatusEntry = "status".equals(fieldName);
+                fieldName = path.getMatchingProperty();
+                if (!isRunProperty && !isStatusEntry
+                        && !ComparedProperties.IGO_ACCEPTED_FIELDS_SET.contains(fieldName)) {
+                    isIgoAccepted = Boolean.FALSE;
+                }
+                isRunProperty = isRunProperty || fieldName.equals("runs");
+            }
+            (isIgoAccepted ? igoDifferences : nonIgoDifferences).add(difference);
+            if (fieldName != null) {
+                (isIgoAccepted ? igoChangedFields : nonIgoChangedFields).add(fieldName);
+            }
+        }
+        return new ChangeClassification(igoDifferences, nonIgoDifferences, igoChangedFields,
+                nonIgoChangedFields, addedSampleIds, removedSampleIds);
+    }
+
+    @Override
+    public String fingerprint(String json, ComparisonProfile profile) throws Exception {
+        return fingerprint(mapper.readTree(json), profile);
+    }
+
+    /**
+     * Returns a 128-bit fingerprint of the json as a hex string. The fingerprint is
+     * computed from the standardized and filtered json under the given profile, so
+     * property order, sample order and number formatting do not affect it and two
+     * jsons with the same fingerprint are consistent under that profile. Libraries and
+     * their runs are matched by key instead of array index, so their order does not
+     * affect it either.
+     * Different fingerprints do not always mean the jsons are inconsistent since an
+     * empty qcReports, libraries, status or runs in the reference json matches any
+     * target value, so callers should fall back to a full comparison in that case.
+     * Requests with samples that have no primaryId or igoId are rejected with an
+     * IllegalArgumentException since they are never consistent.
+     * @param node
+     * @param profile
+     * @return String
+     * @throws Exception
+     */
+    @Override
+    public String fingerprint(JsonNode node, ComparisonProfile profile) throws Exception {
+        CanonicalJsonHasher hasher = new CanonicalJsonHasher();
+        if (profile.isGenericComparison()) {
+            hasher.putNode(filterGenericJsonNode(copyObjectNode(node), profile.getIgnoredFields()));
+            return hasher.toHexString();
+        }
+        ComparisonType comparisonType = profile.getComparisonType();
+        NormalizedRequest request = normalizeRequestJson(node, profile);
+        hasher.putNode(request.filteredNode);
+        putSampleMetadataFingerprint(hasher, node, comparisonType);
+        if (!jsonHasSamplesField(node)) {
+            hasher.putMarker("no samples");
+            return hasher.toHexString();
+        }
+        // samples are matched by primary id so they are fingerprinted in primary id order
+        Map<String, IndexedSample> samplesMap = new TreeMap<>(getIndexedSamples(request));
+        if (!getUnidentifiedSamples(request).isEmpty()) {
+            throw new IllegalArgumentException("Cannot fingerprint a request with samples that have "
+                    + "no primaryId or igoId, such samples are never consistent: "
+                    + getUnidentifiedSamples(request).keySet());
+        }
+        hasher.putMarker("samples");
+        for (Map.Entry<String, IndexedSample> entry : samplesMap.entrySet()) {
+            hasher.putMarker(entry.getKey());
+            hasher.putNode(entry.getValue().filteredNode);
+            putSampleMetadataFingerprint(hasher, entry.getValue().unfilteredNode, comparisonType);
+        }
+        return hasher.toHexString();
+    }
+
+    /**
+     * Fingerprints the qcReports, libraries and status of the node (and the runs of
+     * each library) in the same form as they are compared by isMatchingJsonByFieldName.
+     * @param hasher
+     * @param node
+     * @param comparisonType
+     * @throws JsonProcessingException
+     */
+    private void putSampleMetadataFingerprint(CanonicalJsonHasher hasher, JsonNode node,
+            ComparisonType comparisonType) throws JsonProcessingException {
+        putFieldFingerprint(hasher, node, "qcReports", comparisonType);
+        JsonNode librariesNode = node.get("libraries");
+        if (librariesNode != null && librariesNode.isArray() && !librariesNode.isEmpty()) {
+            JsonNode filteredLibrariesNode = filterArrayNodeChildrenByList(librariesNode, comparisonType);
+            List<String> libraryFingerprints = new ArrayList<>(librariesNode.size());
+            for (int i = 0; i < librariesNode.size(); i++) {
+                CanonicalJsonHasher libraryHasher = new CanonicalJsonHasher();
+                libraryHasher.putNode(filteredLibrariesNode.get(i));
+                putRunsFingerprint(libraryHasher, librariesNode.get(i), comparisonType);
+                libraryFingerprints.add(libraryHasher.toHexString());
+            }
+            putUnorderedFingerprints(hasher, "libraries", libraryFingerprints);
+        } else {
+            putFieldFingerprint(hasher, node, "libraries", comparisonType);
+        }
+        putFieldFingerprint(hasher, node, "status", comparisonType);
+    }
+
+    private void putRunsFingerprint(CanonicalJsonHasher hasher, JsonNode libraryNode,
+            ComparisonType comparisonType) throws JsonProcessingException {
+        JsonNode runsNode = libraryNode.get("runs");
+        if (runsNode != null && runsNode.isArray() && !runsNode.isEmpty()) {
+            List<String> runFingerprints = new ArrayList<>(runsNode.size());
+            for (JsonNode runNode : runsNode) {
+                CanonicalJsonHasher runHasher = new CanonicalJsonHasher();
+                runHasher.putNode(runNode);
+                runFingerprints.add(runHasher.toHexString());
+            }
+            putUnorderedFingerprints(hasher, "runs", runFingerprints);
+        } else {
+            putFieldFingerprint(hasher, libraryNode, "runs", comparisonType);
+        }
+    }
+
+    private void putUnorderedFingerprints(CanonicalJsonHasher hasher, String fieldName,
+            List<String> fingerprints) {
+        Collections.sort(fingerprints);
+        hasher.putMarker(fieldName + " " + fingerprints.size());
+        for (String fingerprint : fingerprints) {
+            hasher.putMarker(fingerprint);
+        }
+    }
+
+    private void putFieldFingerprint(CanonicalJsonHasher hasher, JsonNode node, String fieldName,
+            ComparisonType comparisonType) throws JsonProcessingException {
+        if (!node.has(fieldName)) {
+            hasher.putMarker("missing " + fieldName);
+        } else if (node.get(fieldName).isEmpty()) {
+            hasher.putMarker("empty " + fieldName);
+        } else {
+            hasher.putNode(filterSampleMetadataJsonNode(fieldName, node, comparisonType));
+        }
+    }
+
+    /**
+     * Compares every pair of the batch with the given profile on virtual threads.
+     * @param pairs
+     * @param profile
+     * @return List
+     */
+    @Override
+    public List<ComparisonResult> compareAll(List<ComparisonPair> pairs, ComparisonProfile profile) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            return compareAll(pairs, profile, executor);
+        }
+    }
+
+    /**
+     * Compares every pair of the batch with the given profile on the given executor.
+     * Results are returned in the same order as the pairs. A pair that fails to be
+     * compared does not affect the rest of the batch and is reported as a failed
+     * ComparisonResult.
+     * @param pairs
+     * @param profile
+     * @param executor
+     * @return List
+     */
+    @Override
+    public List<ComparisonResult> compareAll(List<ComparisonPair> pairs, ComparisonProfile profile,
+            Executor executor) {
+        List<CompletableFuture<ComparisonResult>> futures = new ArrayList<>(pairs.size());
+        for (ComparisonPair pair : pairs) {
+            futures.add(CompletableFuture.supplyAsync(() -> compareBatchPair(pair, profile), executor));
+        }
+        List<ComparisonResult> results = new ArrayList<>(pairs.size());
+        for (CompletableFuture<ComparisonResult> future : futures) {
+            results.add(future.join());
+        }
+        return results;
+    }
+
+    private ComparisonResult compareBatchPair(ComparisonPair pair, ComparisonProfile profile) {
+        try {
+            return compare(pair.getReferenceJson(), pair.getTargetJson(), profile);
+        } catch (Exception e) {
+            return ComparisonResult.failed(e);
+        }
+    }
+
+    /**
+     * Normalizes and compares the reference and target request jsons, keeping the
+     * normalized samples and the verdict of each sample so that later updates of
+     * the target request can be re-compared with updateSnapshot. Snapshots are only
+     * supported for request comparisons, not generic ones. Samples without a
+     * primaryId or igoId make the request inconsistent.
+     * @param referenceJson
+     * @param targetJson
+     * @param profile
+     * @return ComparisonSnapshot
+     * @throws Exception
+     */
+    @Override
+    public ComparisonSnapshot createSnapshot(String referenceJson, String targetJson,
+            ComparisonProfile profile) throws Exception {
+        return createSnapshot(mapper.readTree(referenceJson), mapper.readTree(targetJson), profile);
+    }
+
+    @Override
+    public ComparisonSnapshot createSnapshot(JsonNode referenceNode, JsonNode targetNode,
+            ComparisonProfile profile) throws Exception {
+        if (profile.isGenericComparison()) {
+            throw new IllegalArgumentException("Snapshots are not supported for generic comparisons");
+        }
+        NormalizedRequest referenceRequest = normalizeRequestJson(referenceNode, profile);
+        NormalizedRequest targetRequest = normalizeRequestJson(targetNode, profile);
+        Boolean requestConsistent = isConsistentRequestProperties(referenceRequest, targetRequest, null);
+        // a sample list missing on either side is a mismatch of the request itself
+        if (jsonHasSamplesField(referenceNode) != jsonHasSamplesField(targetNode)) {
+            requestConsistent = Boolean.FALSE;
+        }
+        Map<String, IndexedSample> refSamplesMap = jsonHasSamplesField(referenceNode)
+                ? getIndexedSamples(referenceRequest) : new HashMap<>();
+        Map<String, IndexedSample> tarSamplesMap = jsonHasSamplesField(targetNode)
+                ? getIndexedSamples(targetRequest) : new HashMap<>();
+        // samples without an id are never consistent and cannot be updated by id
+        if ((jsonHasSamplesField(referenceNode) && !getUnidentifiedSamples(referenceRequest).isEmpty())
+                || (jsonHasSamplesField(targetNode) && !getUnidentifiedSamples(targetRequest).isEmpty())) {
+            requestConsistent = Boolean.FALSE;
+        }
+
+        Set<String> sampleIds = new HashSet<>(refSamplesMap.keySet());
+        sampleIds.addAll(tarSamplesMap.keySet());
+        Map<String, Boolean> sampleConsistency = new HashMap<>(sampleIds.size() * 2);
+        for (String sampleId : sampleIds) {
+            sampleConsistency.put(sampleId, isConsistentSample(sampleId, refSamplesMap.get(sampleId),
+                    tarSamplesMap.get(sampleId), profile.getComparisonType(), null));
+        }
+        return new IndexedComparisonSnapshot(profile, requestConsistent, refSamplesMap, tarSamplesMap,
+                sampleConsistency);
+    }
+
+    @Override
+    public ComparisonSnapshot updateSnapshot(ComparisonSnapshot snapshot,
+            Collection<JsonNode> changedTargetSamples) throws Exception {
+        return updateSnapshot(snapshot, changedTargetSamples, Collections.emptySet());
+    }
+
+    @Override
+    public ComparisonSnapshot updateSnapshot(ComparisonSnapshot snapshot,
+            Collection<JsonNode> changedTargetSamples, Collection<String> removedSampleIds)
+            throws Exception {
+        List<Map.Entry<String, JsonNode>> changedSamples = new ArrayList<>(changedTargetSamples.size());
+        for (JsonNode sampleNode : changedTargetSamples) {
+            changedSamples.add(new AbstractMap.SimpleImmutableEntry<>(null, sampleNode));
+        }
+        return updateIndexedSnapshot(snapshot, changedSamples, removedSampleIds);
+    }
+
+    /**
+     * Applies a change set of the target request to the snapshot. The changed (or
+     * added) target samples are keyed by the primary id they had in the target request
+     * of the snapshot, so a sample whose primary id changed replaces the sample with
+     * its previous primary id instead of leaving it in the target request. A new sample
+     * is keyed by its own primary id. The removed samples are dropped from the target
+     * request. Only these samples are
+     * standardized, filtered and compared again, the verdicts of the other samples
+     * are carried over. The given snapshot is not modified. Changed samples without a
+     * primaryId or igoId are rejected with an IllegalArgumentException.
+     * @param snapshot
+     * @param changedTargetSamples
+     * @param removedSampleIds
+     * @return ComparisonSnapshot
+     * @throws Exception
+     */
+    @Override
+    public ComparisonSnapshot updateSnapshot(ComparisonSnapshot snapshot,
+            Map<String, JsonNode> changedTargetSamples, Collection<String> removedSampleIds)
+            throws Exception {
+        return updateIndexedSnapshot(snapshot, changedTargetSamples.entrySet(), removedSampleIds);
+    }
+
+    /**
+     * Applies the changed target samples, keyed by their previous primary id or by
+     * null if it is the same as their primary id, and the removed samples to the snapshot.
+     * @param snapshot
+     * @param changedTargetSamples
+     * @param removedSampleIds
+     * @return ComparisonSnapshot
+     * @throws Exception
+     */
+    private ComparisonSnapshot updateIndexedSnapshot(ComparisonSnapshot snapshot,
+            Collection<Map.Entry<String, JsonNode>> changedTargetSamples,
+            Collection<String> removedSampleIds) throws Exception {
+        if (!(snapshot instanceof IndexedComparisonSnapshot)) {
+            throw new IllegalArgumentException("Snapshot was not created by a JsonComparatorImpl");
+        }
+        IndexedComparisonSnapshot indexedSnapshot = (IndexedComparisonSnapshot) snapshot;
+        ComparisonProfile profile = snapshot.getProfile();
+        Map<String, IndexedSample> refSamplesMap = indexedSnapshot.getReferenceSamples();
+        Map<String, IndexedSample> tarSamplesMap = new HashMap<>(indexedSnapshot.getTargetSamples());
+        Map<String, Boolean> sampleConsistency = new HashMap<>(snapshot.getSampleConsistency());
 
-    private Map<String, String> initStandardizedIgoRequestJsonPropsMap() {
-        Map<String, String> map = new HashMap<>();
-        map.put("projectId", "igoProjectId");
-        map.put("requestId", "igoRequestId");
-        map.put("recipe", "genePanel");
-        return map;
+        Set<String> changedSampleIds = new HashSet<>(removedSampleIds);
+        for (String sampleId : removedSampleIds) {
+            tarSamplesMap.remove(sampleId);
+        }
+        for (Map.Entry<String, JsonNode> entry : changedTargetSamples) {
+            IndexedSample sample = standardizeAndFilterSampleJson(entry.getValue(), profile);
+            String sid = findPrimaryIdFromJsonNode(sample.filteredNode);
+            if (sid == null) {
+                throw new IllegalArgumentException("Changed sample has no primaryId or igoId: "
+                        + entry.getValue());
+            }
+            String previousSampleId = entry.getKey();
+            if (previousSampleId != null && !previousSampleId.equals(sid)) {
+                tarSamplesMap.remove(previousSampleId);
+                changedSampleIds.add(previousSampleId);
+            }
+            tarSamplesMap.put(sid, sample);
+            changedSampleIds.add(sid);
+        }
+        for (String sampleId : changedSampleIds) {
+            IndexedSample refSample = refSamplesMap.get(sampleId);
+            IndexedSample tarSample = tarSamplesMap.get(sampleId);
+            if (refSample == null && tarSample == null) {
+                sampleConsistency.remove(sampleId);
+                continue;
+            }
+            sampleConsistency.put(sampleId, isConsistentSample(sampleId, refSample, tarSample,
+                    profile.getComparisonType(), null));
+        }
+        return new IndexedComparisonSnapshot(profile, snapshot.isRequestConsistent(), refSamplesMap,
+                tarSamplesMap, sampleConsistency);
     }
 
-    private Map<String, String> initStandardizedIgoSampleJsonPropsMap() {
-        Map<String, String> map = new HashMap<>();
-        map.put("cmoSampleClass", "sampleType");
-        map.put("specimenType", "sampleClass");
-        map.put("oncoTreeCode", "oncotreeCode");
-        map.put("requestId", "igoRequestId");
-        map.put("igoId", "primaryId");
-        return map;
+    /**
+     * Compares the reference and target request (or sample) jsons. Mismatches are
+     * recorded to the given log if one is provided, otherwise the comparison returns
+     * as soon as the first difference is found.
+     * @param referenceNode
+     * @param targetNode
+     * @param profile
+     * @param mismatches
+     * @return Boolean
+     * @throws JsonProcessingException
+     */
+    private Boolean isConsistentRequestJson(JsonNode referenceNode, JsonNode targetNode,
+            ComparisonProfile profile, MismatchLog mismatches) throws JsonProcessingException {
+        return isConsistentRequestJson(normalizeRequestJson(referenceNode, profile),
+                normalizeRequestJson(targetNode, profile), mismatches);
     }
 
-    @Override
-    public Boolean isConsistentByIgoProperties(String referenceJson, String targetJson) throws Exception {
-        return isConsistent(referenceJson, targetJson, DEFAULT_IGNORED_FIELDS, "igo");
+    /**
+     * Compares the normalized reference and target request (or sample) jsons. Both
+     * must have been normalized with the same comparison profile. Without a mismatch
+     * log the comparison fails fast: a difference in the request properties returns
+     * before any of the samples are standardized and filtered.
+     * @param referenceRequest
+     * @param targetRequest
+     * @param mismatches
+     * @return Boolean
+     * @throws JsonProcessingException
+     */
+    private Boolean isConsistentRequestJson(NormalizedRequest referenceRequest,
+            NormalizedRequest targetRequest, MismatchLog mismatches) throws JsonProcessingException {
+        JsonNode referenceNode = referenceRequest.unfilteredNode;
+        JsonNode targetNode = targetRequest.unfilteredNode;
+        ComparisonType comparisonType = referenceRequest.profile.getComparisonType();
+        if (jsonHasSamplesField(targetNode)) {
+            metrics.recordSampleCount(comparisonType, targetNode.get("samples").size());
+        }
+        Boolean consistencyCheckStatus = isConsistentRequestProperties(referenceRequest, targetRequest,
+                mismatches);
+        if (!consistencyCheckStatus && mismatches == null) {
+            return Boolean.FALSE;
+        }
+
+        // filter reference and target sample list jsons and compare if applicable
+        if (jsonHasSamplesField(referenceNode) || jsonHasSamplesField(targetNode)) {
+            // a sample list missing on either side is a mismatch
+            if (!jsonHasSamplesField(referenceNode) || !jsonHasSamplesField(targetNode)) {
+                recordMismatch(mismatches, SAMPLES_POINTER,
+                        referenceNode.get("samples"), targetNode.get("samples"));
+                return Boolean.FALSE;
+            }
+            Map<String, IndexedSample> refSamplesMap = getIndexedSamples(referenceRequest);
+            Map<String, IndexedSample> tarSamplesMap = getIndexedSamples(targetRequest);
+            if (!isConsistentUnidentifiedSamples(getUnidentifiedSamples(referenceRequest),
+                    getUnidentifiedSamples(targetRequest), mismatches)) {
+                if (mismatches == null) {
+                    return Boolean.FALSE;
+                }
+                consistencyCheckStatus = Boolean.FALSE;
+            }
+            if (!isConsistentRequestSamples(refSamplesMap, tarSamplesMap, comparisonType, mismatches)) {
+                consistencyCheckStatus = Boolean.FALSE;
+            }
+        }
+        return consistencyCheckStatus;
     }
 
-    @Override
-    public Boolean isConsistent(String referenceJson, String targetJson) throws Exception {
-        return isConsistent(referenceJson, targetJson,  DEFAULT_IGNORED_FIELDS, "new");
+    /**
+     * Streams the reference and target jsons into pruned trees and compares them.
+     * @param referenceParser
+     * @param targetParser
+     * @param profile
+     * @return Boolean
+     * @throws IOException
+     */
+    private Boolean isConsistentRequestJson(JsonParser referenceParser, JsonParser targetParser,
+            ComparisonProfile profile) throws IOException {
+        PrunedRequestJsonReader reader = new PrunedRequestJsonReader(mapper, profile,
+                ComparedProperties.DEFAULT_IGNORED_FIELDS_SET, ComparedProperties.IGO_ACCEPTED_FIELDS_SET,
+                ComparedProperties.STD_IGO_REQUEST_JSON_PROPS_MAP.keySet(),
+                ComparedProperties.STD_IGO_SAMPLE_JSON_PROPS_MAP.keySet());
+        return isConsistentRequestJson(reader.readTree(referenceParser), reader.readTree(targetParser),
+                profile, null);
     }
 
     /**
-     * Accepted values of String comparisonType are new, igo and dashboard
-     * @param referenceJson
-     * @param targetJson
-     * @param ignoredFields
-     * @param comparisonType
+     * Compares the properties of the normalized reference and target request (or
+     * sample) jsons, leaving out the samples of requests.
+     * @param referenceRequest
+     * @param targetRequest
+     * @param mismatches
      * @return Boolean
-     * @throws Exception
+     * @throws JsonProcessingException
      */
-    @Override
-    public Boolean isConsistent(String referenceJson, String targetJson, String[] ignoredFields,
-            String comparisonType) throws Exception {
+    private Boolean isConsistentRequestProperties(NormalizedRequest referenceRequest,
+            NormalizedRequest targetRequest, MismatchLog mismatches) throws JsonProcessingException {
+        JsonNode referenceNode = referenceRequest.unfilteredNode;
+        JsonNode targetNode = targetRequest.unfilteredNode;
         Boolean consistencyCheckStatus = Boolean.TRUE;
 
-        // filter reference and target request jsons and compare
-        String filteredReferenceJson = standardizeAndFilterRequestJson(referenceJson,
-                ignoredFields, comparisonType);
-        String filteredTargetJson = standardizeAndFilterRequestJson(targetJson,
-                ignoredFields, comparisonType);
-        if (!isMatchingJsons(filteredReferenceJson, filteredTargetJson)) {
+        // compare the filtered reference and target request jsons
+        if (!isMatchingJsons(referenceRequest.filteredNode, targetRequest.filteredNode,
+                JsonPointer.empty(), mismatches)) {
+            if (mismatches == null) {
+                return Boolean.FALSE;
+            }
             consistencyCheckStatus = Boolean.FALSE;
         }
 
         // checks qcreports, libraries and status (case where sample metadata is compared directly)
-        if (jsonHasQcAndOrLibrariesAndOrStatusFields(referenceJson)
-                || jsonHasQcAndOrLibrariesAndOrStatusFields(targetJson)) {
-            if (!isConsistentSampleMetadata(referenceJson, targetJson, comparisonType)) {
-                consistencyCheckStatus = Boolean.FALSE;
-            }
-        }
-
-        // filter reference and target sample list jsons and compare if applicable
-        if (jsonHasSamplesField(referenceJson) || jsonHasSamplesField(targetJson)) {
-            String filteredReferenceSamplesJson =
-                    standardizeAndFilterRequestSamplesJson(referenceJson, ignoredFields, comparisonType);
-            String filteredTargetSamplesJson =
-                    standardizeAndFilterRequestSamplesJson(targetJson, ignoredFields, comparisonType);
-
-            if (!isMatchingJsons(filteredReferenceSamplesJson, filteredTargetSamplesJson)) {
+        if (jsonHasQcAndOrLibrariesAndOrStatusFields(referenceNode)
+                || jsonHasQcAndOrLibrariesAndOrStatusFields(targetNode)) {
+            if (!isConsistentSampleMetadata(referenceNode, targetNode,
+                    referenceRequest.profile.getComparisonType(), JsonPointer.empty(), mismatches)) {
                 consistencyCheckStatus = Boolean.FALSE;
             }
-
-            JsonNode refSamplesJsonNode = mapper.readTree(referenceJson).get("samples");
-            ArrayNode refSamplesArrayNode = (ArrayNode) refSamplesJsonNode;
-            Iterator<JsonNode> itrRef = refSamplesArrayNode.elements();
-
-            // Iterating through a list of samples from referenceJson
-            while (itrRef.hasNext()) {
-                JsonNode refSampleNode = itrRef.next();
-                String primaryId = findPrimaryIdFromJsonNode(refSampleNode);
-                if (primaryId != null) {
-                    JsonNode tarSampleNode = findSampleNodeFromSampleArray(targetJson, primaryId);
-                    // Compares status, libraries and qcReports.
-                    // Runs still need to be addressed
-                    if (!isConsistentSampleMetadata(refSampleNode, tarSampleNode, comparisonType)) {
-                        consistencyCheckStatus = Boolean.FALSE;
-                    }
-                }
-            }
         }
         return consistencyCheckStatus;
     }
 
-    @Override
-    public Boolean isConsistentGenericComparison(String referenceJson, String targetJson) throws Exception {
+    private Boolean isConsistentGenericJson(JsonNode referenceNode, JsonNode targetNode,
+            ComparisonProfile profile, MismatchLog mismatches) throws JsonProcessingException {
         Boolean consistencyCheckStatus = Boolean.TRUE;
-        String filteredReferenceJson = filterGenericJson(referenceJson);
-        String filteredTargetJson = filterGenericJson(targetJson);
-        if (!isMatchingJsons(filteredReferenceJson, filteredTargetJson)) {
+        JsonNode filteredReferenceNode = filterGenericJsonNode(copyObjectNode(referenceNode),
+                profile.getIgnoredFields());
+        JsonNode filteredTargetNode = filterGenericJsonNode(copyObjectNode(targetNode),
+                profile.getIgnoredFields());
+        if (!isMatchingJsons(filteredReferenceNode, filteredTargetNode, JsonPointer.empty(), mismatches)) {
             consistencyCheckStatus = Boolean.FALSE;
         }
         return consistencyCheckStatus;
     }
 
-    private Boolean isConsistentSampleMetadata(String referenceJson, String targetJson,
-            String comparisonType) throws JsonProcessingException {
-        return isConsistentSampleMetadata(mapper.readTree(referenceJson),
-                mapper.readTree(targetJson), comparisonType);
+    private Boolean isConsistentSampleMetadata(JsonNode referenceNode, JsonNode targetNode,
+            ComparisonType comparisonType, JsonPointer path, MismatchLog mismatches)
+            throws JsonProcessingException {
+        Boolean consistencyCheckStatus = Boolean.TRUE;
+        for (String fieldName : new String[]{"qcReports", "libraries", "status"}) {
+            if (!isMatchingJsonByFieldName(referenceNode, targetNode, fieldName, comparisonType,
+                    path, mismatches)) {
+                if (mismatches == null) {
+                    return Boolean.FALSE;
+                }
+                consistencyCheckStatus = Boolean.FALSE;
+            }
+        }
+        return consistencyCheckStatus;
     }
 
-    private Boolean isConsistentSampleMetadata(JsonNode referenceNode,
-            JsonNode targetNode, String comparisonType) throws JsonProcessingException {
-        if (!isMatchingJsonByFieldName(referenceNode, targetNode, "qcReports", comparisonType)
-                            || !isMatchingJsonByFieldName(referenceNode, targetNode,
-                                    "libraries", comparisonType)
-                            || !isMatchingJsonByFieldName(referenceNode, targetNode,
-                                            "status", comparisonType)) {
+    /**
+     * Compares the indexed samples of the reference and target requests. Samples are
+     * matched by primary id, so the order of the samples in the request does not matter.
+     * For each matched pair the standardized and filtered sample metadata is compared,
+     * followed by the qcReports, libraries and status of the unfiltered samples.
+     * Without a mismatch log the comparison returns at the first differing sample.
+     * @param refSamplesMap
+     * @param tarSamplesMap
+     * @param comparisonType
+     * @param mismatches
+     * @return Boolean
+     * @throws JsonProcessingException
+     */
+    private Boolean isConsistentRequestSamples(Map<String, IndexedSample> refSamplesMap,
+            Map<String, IndexedSample> tarSamplesMap, ComparisonType comparisonType,
+            MismatchLog mismatches)
+            throws JsonProcessingException {
+        if (refSamplesMap.size() != tarSamplesMap.size() && mismatches == null) {
             return Boolean.FALSE;
         }
-        return Boolean.TRUE;
+        Boolean consistencyCheckStatus = refSamplesMap.size() == tarSamplesMap.size();
+        for (Map.Entry<String, IndexedSample> entry : refSamplesMap.entrySet()) {
+            if (!isConsistentSample(entry.getKey(), entry.getValue(), tarSamplesMap.get(entry.getKey()),
+                    comparisonType, mismatches)) {
+                if (mismatches == null) {
+                    return Boolean.FALSE;
+                }
+                consistencyCheckStatus = Boolean.FALSE;
+            }
+        }
+        // report samples that are only found in the target request
+        if (mismatches != null) {
+            for (Map.Entry<String, IndexedSample> entry : tarSamplesMap.entrySet()) {
+                if (!refSamplesMap.containsKey(entry.getKey())) {
+                    isConsistentSample(entry.getKey(), null, entry.getValue(), comparisonType, mismatches);
+                }
+            }
+        }
+        return consistencyCheckStatus;
     }
 
-    private JsonNode findSampleNodeFromSampleArray(String targetJson, String primaryId)
-            throws JsonMappingException, JsonProcessingException {
-        JsonNode tarSamplesJsonNode = mapper.readTree(targetJson).get("samples");
-        ArrayNode tarSamplesArrayNode = (ArrayNode) tarSamplesJsonNode;
-        Iterator<JsonNode> itrTar = tarSamplesArrayNode.elements();
+    /**
+     * Samples without a primaryId or igoId cannot be matched between the reference
+     * and target requests, so any such sample is a mismatch. It is reported at its
+     * position in the samples array of either request.
+     * @param refSamplesMap
+     * @param tarSamplesMap
+     * @param mismatches
+     * @return Boolean
+     */
+    private Boolean isConsistentUnidentifiedSamples(Map<Integer, IndexedSample> refSamplesMap,
+            Map<Integer, IndexedSample> tarSamplesMap, MismatchLog mismatches) {
+        if (refSamplesMap.isEmpty() && tarSamplesMap.isEmpty()) {
+            return Boolean.TRUE;
+        }
+        Set<Integer> sampleIndexes = new TreeSet<>(refSamplesMap.keySet());
+        sampleIndexes.addAll(tarSamplesMap.keySet());
+        for (Integer sampleIndex : sampleIndexes) {
+            IndexedSample refSample = refSamplesMap.get(sampleIndex);
+            IndexedSample tarSample = tarSamplesMap.get(sampleIndex);
+            recordMismatch(mismatches, SAMPLES_POINTER.appendIndex(sampleIndex),
+                    (refSample == null) ? null : refSample.filteredNode,
+                    (tarSample == null) ? null : tarSample.filteredNode);
+        }
+        return Boolean.FALSE;
+    }
 
-        while (itrTar.hasNext()) {
-            JsonNode sampleNode = itrTar.next();
-            String tarPrimaryId =  findPrimaryIdFromJsonNode(sampleNode);
-            if (primaryId.equals(tarPrimaryId)) {
-                return sampleNode;
-            }
+    /**
+     * Compares the standardized and filtered metadata of the reference and target
+     * samples with the given primary id, followed by their qcReports, libraries and
+     * status. A sample missing from either side is a mismatch.
+     * @param primaryId
+     * @param refSample
+     * @param tarSample
+     * @param comparisonType
+     * @param mismatches
+     * @return Boolean
+     * @throws JsonProcessingException
+     */
+    private Boolean isConsistentSample(String primaryId, IndexedSample refSample, IndexedSample tarSample,
+            ComparisonType comparisonType, MismatchLog mismatches) throws JsonProcessingException {
+        JsonPointer samplePath = SAMPLES_POINTER.appendProperty(primaryId);
+        if (refSample == null || tarSample == null) {
+            recordMismatch(mismatches, samplePath, (refSample == null) ? null : refSample.filteredNode,
+                    (tarSample == null) ? null : tarSample.filteredNode);
+            return Boolean.FALSE;
+        }
+        Boolean consistencyCheckStatus = isMatchingJsons(refSample.filteredNode, tarSample.filteredNode,
+                samplePath, mismatches);
+        if (!consistencyCheckStatus && mismatches == null) {
+            return Boolean.FALSE;
+        }
+        // Compares status, libraries (and their runs) and qcReports.
+        if (!isConsistentSampleMetadata(refSample.unfilteredNode, tarSample.unfilteredNode,
+                comparisonType, samplePath, mismatches)) {
+            consistencyCheckStatus = Boolean.FALSE;
         }
-        return null;
+        return consistencyCheckStatus;
     }
 
     private Boolean isMatchingJsonByFieldName(JsonNode refNode, JsonNode tarNode,
-            String fieldName, String comparisonType) throws JsonProcessingException {
+            String fieldName, ComparisonType comparisonType, JsonPointer path, MismatchLog mismatches)
+            throws JsonProcessingException {
+        JsonPointer fieldPath = path.appendProperty(fieldName);
         // Case 1: target and reference have the field
         if (refNode.has(fieldName) && tarNode.has(fieldName)) {
             // Case 1a: target and reference have an empty field
@@ -247,210 +1245,414 @@ public class JsonComparatorImpl implements JsonComparator {
 
             // Case 1b: target or reference have an empty field
             if (refNode.get(fieldName).isEmpty() || refNode.get(fieldName).isEmpty()) {
+                recordMismatch(mismatches, fieldPath, refNode.get(fieldName), tarNode.get(fieldName));
                 return Boolean.FALSE;
             }
 
-            // Case 1c: filter the ref and target jsons first then compare
-            JsonNode unfilteredRefNode = convertToMapJsonNode(fieldName, refNode);
-            JsonNode unfilteredTarNode = convertToMapJsonNode(fieldName, tarNode);
+            // Case 1c: match library and run arrays by key, regardless of their order
+            if ((fieldName.equals("libraries") || fieldName.equals("runs"))
+                    && refNode.get(fieldName).isArray() && tarNode.get(fieldName).isArray()) {
+                return isMatchingArrayElementsByKey(refNode.get(fieldName), tarNode.get(fieldName),
+                        fieldName, comparisonType, fieldPath, mismatches);
+            }
 
-            JsonNode filteredRefNode = filterJsonNode(
-                    (ObjectNode) unfilteredRefNode, DEFAULT_IGNORED_FIELDS, comparisonType);
-            JsonNode filteredTarNode = filterJsonNode(
-                    (ObjectNode) unfilteredTarNode, DEFAULT_IGNORED_FIELDS, comparisonType);
-            if (!isMatchingJsons(mapper.writeValueAsString(filteredRefNode),
-                    mapper.writeValueAsString(filteredTarNode))) {
-                return Boolean.FALSE;
+            // Case 1d: filter the ref and target jsons first then compare
+            JsonNode filteredRefNode = filterSampleMetadataJsonNode(fieldName, refNode, comparisonType);
+            JsonNode filteredTarNode = filterSampleMetadataJsonNode(fieldName, tarNode, comparisonType);
+            if (StrictJsonNodeComparator.isMatching(filteredRefNode, filteredTarNode)) {
+                return Boolean.TRUE;
+            }
+            // runs are compared as received so their differences are
+            // reported from the unfiltered nodes
+            if (fieldName.equals("runs")) {
+                recordMismatch(mismatches, fieldPath, refNode.get(fieldName), tarNode.get(fieldName));
+            } else {
+                recordMismatch(mismatches, path, filteredRefNode, filteredTarNode);
             }
+            return Boolean.FALSE;
+        }
+        // Case 2: target and reference do not have the field
+        if (!refNode.has(fieldName) && !tarNode.has(fieldName)) {
+            return Boolean.TRUE;
+        }
+        // Case 3: One of them is missing the field
+        recordMismatch(mismatches, fieldPath, refNode.get(fieldName), tarNode.get(fieldName));
+        return Boolean.FALSE;
+    }
+
+    /**
+     * Compares the elements of the reference and target libraries (or runs) arrays as
+     * unordered collections. Libraries are compared by their filtered properties and
+     * runs, runs are compared as received. Elements that do not match are compared to
+     * the target element with the same key (libraryIgoId, or runId and flowCellId) and
+     * only elements whose key has no counterpart are compared in order. Differences are
+     * reported at the index of the element in the reference array, or in the target
+     * array if the element is only found in the target.
+     * @param refArrayNode
+     * @param tarArrayNode
+     * @param fieldName
+     * @param comparisonType
+     * @param fieldPath
+     * @param mismatches
+     * @return Boolean
+     * @throws JsonProcessingException
+     */
+    private Boolean isMatchingArrayElementsByKey(JsonNode refArrayNode, JsonNode tarArrayNode,
+            String fieldName, ComparisonType comparisonType, JsonPointer fieldPath,
+            MismatchLog mismatches) throws JsonProcessingException {
+        if (refArrayNode.size() != tarArrayNode.size() && mismatches == null) {
+            return Boolean.FALSE;
+        }
+        Boolean isLibraries = fieldName.equals("libraries");
+        JsonNode filteredRefArrayNode = isLibraries
+                ? filterArrayNodeChildrenByList(refArrayNode, comparisonType) : refArrayNode;
+        JsonNode filteredTarArrayNode = isLibraries
+                ? filterArrayNodeChildrenByList(tarArrayNode, comparisonType) : tarArrayNode;
+        String[] keyFields = isLibraries ? LIBRARY_KEY_FIELDS : RUN_KEY_FIELDS;
 
-            if (fieldName.equals("libraries")) {
-                ArrayNode librariesRefArrayNode = (ArrayNode) refNode.get(fieldName);
-                Iterator<JsonNode> itrLibRef = librariesRefArrayNode.elements();
+        // index the target elements by key so that each reference element is matched
+        // in constant time, elements sharing a key are matched in order of appearance
+        Map<List<String>, List<Integer>> tarIndexesByKey = new HashMap<>(tarArrayNode.size() * 2);
+        for (int j = 0; j < tarArrayNode.size(); j++) {
+            tarIndexesByKey.computeIfAbsent(getMatchingKey(tarArrayNode.get(j), keyFields),
+                    k -> new ArrayList<>(1)).add(j);
+        }
+        int[] pairedTarIndexes = new int[refArrayNode.size()];
+        boolean[] pairedTarElements = new boolean[tarArrayNode.size()];
+        Arrays.fill(pairedTarIndexes, -1);
+        for (int i = 0; i < refArrayNode.size(); i++) {
+            List<Integer> tarIndexes = tarIndexesByKey.get(getMatchingKey(refArrayNode.get(i), keyFields));
+            if (tarIndexes == null) {
+                continue;
+            }
+            for (Integer j : tarIndexes) {
+                if (!pairedTarElements[j] && isMatchingArrayElements(refArrayNode.get(i),
+                        tarArrayNode.get(j), filteredRefArrayNode.get(i), filteredTarArrayNode.get(j),
+                        isLibraries, comparisonType, fieldPath, null)) {
+                    pairedTarIndexes[i] = j;
+                    pairedTarElements[j] = true;
+                    break;
+                }
+            }
+        }
 
-                ArrayNode librariesTarArrayNode = (ArrayNode) tarNode.get(fieldName);
-                Iterator<JsonNode> itrLibTar = librariesTarArrayNode.elements();
+        // unmatched elements are paired with an unmatched element of the same key so that
+        // their differences are reported against the same library (or run)
+        Boolean consistencyCheckStatus = refArrayNode.size() == tarArrayNode.size();
+        List<Integer> unpairedRefIndexes = new ArrayList<>();
+        for (int i = 0; i < refArrayNode.size(); i++) {
+            if (pairedTarIndexes[i] >= 0) {
+                continue;
+            }
+            if (mismatches == null) {
+                return Boolean.FALSE;
+            }
+            consistencyCheckStatus = Boolean.FALSE;
+            List<String> key = getMatchingKey(refArrayNode.get(i), keyFields);
+            int tarIndex = getUnpairedIndex(tarIndexesByKey.get(key), pairedTarElements);
+            if (tarIndex < 0) {
+                unpairedRefIndexes.add(i);
+                continue;
+            }
+            pairedTarElements[tarIndex] = true;
+            isMatchingArrayElements(refArrayNode.get(i), tarArrayNode.get(tarIndex),
+                    filteredRefArrayNode.get(i), filteredTarArrayNode.get(tarIndex),
+                    isLibraries, comparisonType, fieldPath.appendIndex(i), mismatches);
+        }
 
-                if (librariesRefArrayNode.size() != librariesTarArrayNode.size()) {
-                    return Boolean.FALSE;
+        // elements whose key has no counterpart are paired in order
+        int nextTarIndex = 0;
+        for (int i : unpairedRefIndexes) {
+            while (nextTarIndex < tarArrayNode.size() && pairedTarElements[nextTarIndex]) {
+                nextTarIndex++;
+            }
+            JsonPointer elementPath = fieldPath.appendIndex(i);
+            if (nextTarIndex < tarArrayNode.size()) {
+                pairedTarElements[nextTarIndex] = true;
+                isMatchingArrayElements(refArrayNode.get(i), tarArrayNode.get(nextTarIndex),
+                        filteredRefArrayNode.get(i), filteredTarArrayNode.get(nextTarIndex),
+                        isLibraries, comparisonType, elementPath, mismatches);
+            } else {
+                mismatches.record(elementPath, filteredRefArrayNode.get(i), null);
+            }
+        }
+        if (mismatches != null) {
+            for (int j = 0; j < tarArrayNode.size(); j++) {
+                if (!pairedTarElements[j]) {
+                    mismatches.record(fieldPath.appendIndex(j), null, filteredTarArrayNode.get(j));
                 }
+            }
+        }
+        return consistencyCheckStatus;
+    }
 
-                // Assumption: corresponding library elements from ref and tar are in the same index
-                while (itrLibRef.hasNext() && itrLibTar.hasNext()) {
-                    JsonNode refLibNext = itrLibRef.next();
-                    JsonNode tarLibNext = itrLibTar.next();
+    private Boolean isMatchingArrayElements(JsonNode refElement, JsonNode tarElement,
+            JsonNode filteredRefElement, JsonNode filteredTarElement, Boolean isLibraries,
+            ComparisonType comparisonType, JsonPointer elementPath, MismatchLog mismatches)
+            throws JsonProcessingException {
+        Boolean consistencyCheckStatus = isMatchingJsons(filteredRefElement, filteredTarElement,
+                elementPath, mismatches);
+        if (!consistencyCheckStatus && mismatches == null) {
+            return Boolean.FALSE;
+        }
+        if (isLibraries && !isMatchingJsonByFieldName(refElement, tarElement, "runs", comparisonType,
+                elementPath, mismatches)) {
+            consistencyCheckStatus = Boolean.FALSE;
+        }
+        return consistencyCheckStatus;
+    }
 
-                    if (!isMatchingJsonByFieldName(refLibNext,
-                            tarLibNext, "runs", comparisonType)) {
-                        return Boolean.FALSE;
-                    }
+    private int getUnpairedIndex(List<Integer> indexes, boolean[] pairedElements) {
+        if (indexes != null) {
+            for (Integer index : indexes) {
+                if (!pairedElements[index]) {
+                    return index;
                 }
             }
-            // compare status nodes
-            return Boolean.TRUE;
         }
-        // Case 2: target and reference do not have the field
-        if (!refNode.has(fieldName) && !tarNode.has(fieldName)) {
-            return Boolean.TRUE;
+        return -1;
+    }
+
+    private List<String> getMatchingKey(JsonNode node, String[] keyFields) {
+        String[] key = new String[keyFields.length];
+        for (int i = 0; i < keyFields.length; i++) {
+            JsonNode keyNode = node.get(keyFields[i]);
+            key[i] = (keyNode == null) ? null : keyNode.asText();
         }
-        // Case 3: One of them is missing the field
-        return Boolean.FALSE;
+        return Arrays.asList(key);
     }
 
     /**
-     * Helper function to treat possible array node json comparisons as instances of regular JSONs.
+     * Returns the filtered sample metadata property 'fieldName' of the given node as a
+     * json with that single property, so that qcReports, libraries, status and runs can
+     * be compared as instances of regular JSONs. The children of qcReports, libraries
+     * and status are filtered from the existing tree and their values are shared, not
+     * copied, so the given node is left unchanged. Any other property (i.e., runs) is
+     * compared as received.
      * @param fieldName
      * @param node
+     * @param comparisonType
      * @return JsonNode
      * @throws JsonProcessingException
      */
-    private JsonNode convertToMapJsonNode(String fieldName, JsonNode node) throws JsonProcessingException {
-        Map<String, String> map = new HashMap<>();
-        if (!node.has(fieldName)) {
-            return null;
+    private JsonNode filterSampleMetadataJsonNode(String fieldName, JsonNode node,
+            ComparisonType comparisonType) throws JsonProcessingException {
+        ObjectNode filteredNode = mapper.createObjectNode();
+        JsonNode valueNode = node.get(fieldName);
+        if (valueNode.isNull() || (valueNode.isArray() && valueNode.isEmpty())) {
+            return filteredNode;
+        }
+        switch (fieldName) {
+            case "libraries":
+            case "qcReports":
+                filteredNode.set(fieldName, filterArrayNodeChildrenByList(valueNode, comparisonType));
+                break;
+            case "status":
+                filteredNode.set(fieldName, filterArrayNodeChildrenByMap(valueNode, comparisonType));
+                break;
+            default:
+                if (ComparedProperties.isComparedNestedProperty(fieldName, comparisonType)) {
+                    filteredNode.put(fieldName, valueNode.toString());
+                }
+                break;
         }
-        map.put(fieldName, node.get(fieldName).toString());
-        String convertedMapAsString = mapper.writeValueAsString(map);
-        return mapper.readTree(convertedMapAsString);
+        return filteredNode;
     }
 
     /**
      * Helps find primaryId or igoId from sampleMetadata Node
      * @param sampleNode
-     * @return
+     * @return the primaryId, else the igoId, or null if the sample has neither
      */
     private String findPrimaryIdFromJsonNode(JsonNode sampleNode) {
-        return (sampleNode.get("primaryId") == null)
-                ? sampleNode.get("igoId").toString() : sampleNode.get("primaryId").toString();
+        if (sampleNode.get("primaryId") != null) {
+            return sampleNode.get("primaryId").asText();
+        }
+        return (sampleNode.get("igoId") == null) ? null : sampleNode.get("igoId").asText();
     }
 
     /**
-     * Given an input jsonString and an array of ignoredFields, returns a JSON
-     * with (1) the fields to ignore removed, (2) json fields with null or empty values
-     * removed, and (3) standardize json property names.
-     * @param jsonString
-     * @param ignoredFields
-     * @return String
+     * Standardizes and filters the request json with the given profile.
+     * @param jsonNode
+     * @param profile
+     * @return NormalizedRequest
      * @throws JsonProcessingException
      */
-    private String standardizeAndFilterRequestJson(String jsonString, String[] ignoredFields,
-            String comparisonType) throws JsonProcessingException {
-        JsonNode unfilteredJsonNode = mapper.readTree(jsonString);
-        JsonNode stdJsonNode = standardizeJsonProperties(
-                (ObjectNode) unfilteredJsonNode, STD_IGO_REQUEST_JSON_PROPS_MAP);
-        JsonNode stdFilteredJsonNode = filterJsonNode((ObjectNode) stdJsonNode,
-                ignoredFields, comparisonType);
-        return mapper.writeValueAsString(stdFilteredJsonNode);
+    private NormalizedRequest normalizeRequestJson(JsonNode jsonNode, ComparisonProfile profile)
+            throws JsonProcessingException {
+        return new NormalizedRequest(jsonNode, standardizeAndFilterRequestJson(jsonNode, profile), profile);
     }
 
     /**
-     * Given an input jsonString, returns a JSON with (1) generic fields ignored and (2) null
-     * or empty values removed.
-     * @param jsonString
-     * @return String
+     * Returns the normalized reference request json, from the reference cache if
+     * one is set and the same json was recently normalized with the same profile.
+     * @param referenceJson
+     * @param profile
+     * @return NormalizedRequest
      * @throws JsonProcessingException
      */
-    private String filterGenericJson(String jsonString) throws JsonProcessingException {
-        JsonNode unfilteredJsonNode = mapper.readTree(jsonString);
-        JsonNode filteredJsonNode = filterGenericJsonNode((ObjectNode) unfilteredJsonNode);
-        return mapper.writeValueAsString(filteredJsonNode);
+    private NormalizedRequest normalizeReferenceJson(String referenceJson, ComparisonProfile profile)
+            throws JsonProcessingException {
+        NormalizedRequestCache cache = referenceCache;
+        if (cache == null) {
+            return normalizeRequestJson(mapper.readTree(referenceJson), profile);
+        }
+        NormalizedRequestCache.CacheKey key = NormalizedRequestCache.createKey(profile, referenceJson);
+        NormalizedRequest referenceRequest = cache.get(key);
+        if (referenceRequest == null) {
+            referenceRequest = normalizeRequestJson(mapper.readTree(referenceJson), profile);
+            cache.put(key, referenceRequest);
+        }
+        return referenceRequest;
     }
 
     /**
-     * Given an input jsonString and an array of ignoredFields, returns a JSON
-     * with (1) the fields to ignore removed, (2) json fields with null or empty values
-     * removed, and (3) standardize json property names.
-     * @param jsonString
-     * @param ignoredFields
-     * @return String
+     * Returns the standardized and filtered samples of the request indexed by
+     * primary id. The samples are indexed on first use and kept with the request.
+     * @param request
+     * @return Map
+     * @throws JsonProcessingException
+     */
+    private Map<String, IndexedSample> getIndexedSamples(NormalizedRequest request)
+            throws JsonProcessingException {
+        synchronized (request) {
+            if (request.samplesMap == null) {
+                standardizeAndFilterRequestSamplesJson(request);
+            }
+            return request.samplesMap;
+        }
+    }
+
+    /**
+     * Returns the standardized and filtered samples of the request that have no
+     * primaryId or igoId, indexed by their position in the samples array.
+     * @param request
+     * @return Map
      * @throws JsonProcessingException
      */
-    private String standardizeAndFilterRequestSamplesJson(String jsonString, String[] ignoredFields,
-            String comparisonType) throws JsonProcessingException {
-        if (!jsonHasSamplesField(jsonString)) {
-            return null;
+    private Map<Integer, IndexedSample> getUnidentifiedSamples(NormalizedRequest request)
+            throws JsonProcessingException {
+        synchronized (request) {
+            getIndexedSamples(request);
+            return request.unidentifiedSamplesMap;
         }
-        JsonNode unfilteredJsonNode = mapper.readTree(jsonString);
-        Map<String, JsonNode> unorderedSamplesMap = new HashMap<>();
+    }
+
+    /**
+     * Given an input json node and a comparison profile, returns a copy of the
+     * node with (1) the fields to ignore removed, (2) json fields with null or empty values
+     * removed, and (3) standardize json property names.
+     * @param jsonNode
+     * @param profile
+     * @return JsonNode
+     * @throws JsonProcessingException
+     */
+    private JsonNode standardizeAndFilterRequestJson(JsonNode jsonNode, ComparisonProfile profile)
+            throws JsonProcessingException {
+        JsonNode stdJsonNode = standardizeJsonProperties(
+                copyObjectNode(jsonNode), ComparedProperties.STD_IGO_REQUEST_JSON_PROPS_MAP);
+        return filterJsonNode((ObjectNode) stdJsonNode, profile.getIgnoredFields(),
+                profile.getComparisonType());
+    }
+
+    /**
+     * Given a normalized request, indexes the samples of the request by primary id
+     * where each sample has (1) the fields to ignore removed, (2) json fields with
+     * null or empty values removed, and (3) standardize json property names.
+     * Samples without a primaryId or igoId are indexed by their array position.
+     * @param request
+     * @throws JsonProcessingException
+     */
+    private void standardizeAndFilterRequestSamplesJson(NormalizedRequest request)
+            throws JsonProcessingException {
+        ArrayNode samplesArrayNode = (ArrayNode) request.unfilteredNode.get("samples");
+        Map<String, IndexedSample> samplesMap = new HashMap<>(samplesArrayNode.size() * 2);
+        Map<Integer, IndexedSample> unidentifiedSamplesMap = new HashMap<>();
 
         // iterate through array of sample json nodes and (1) standardize the json
         // props and (2) filter and remove null/empty values
-        ArrayNode samplesArrayNode = (ArrayNode) unfilteredJsonNode.get("samples");
-        Iterator<JsonNode> itr = samplesArrayNode.elements();
-        while (itr.hasNext()) {
-            JsonNode stdSampleNode = standardizeJsonProperties(
-                    (ObjectNode) itr.next(), STD_IGO_SAMPLE_JSON_PROPS_MAP);
-            JsonNode stdFilteredSampleNode = filterJsonNode((ObjectNode) stdSampleNode,
-                    ignoredFields, comparisonType);
-
-            String sid = findPrimaryIdFromJsonNode(stdFilteredSampleNode);
-            unorderedSamplesMap.put(sid, stdFilteredSampleNode);
-        }
-        // order array of sample nodes by their primary id
-        LinkedHashMap<String, JsonNode> orderedSamplesMap = new LinkedHashMap<>();
-        unorderedSamplesMap.entrySet()
-            .stream()
-            .sorted(Map.Entry.comparingByKey())
-            .forEachOrdered(x -> orderedSamplesMap.put(x.getKey(), x.getValue()));
-
-        // create ordered array of request sample json nodes and return as string
-        ArrayNode sortedRequestSamplesArrayNode = mapper.createArrayNode();
-        orderedSamplesMap.entrySet().forEach((entry) -> {
-            sortedRequestSamplesArrayNode.add(entry.getValue());
-        });
-        return mapper.writeValueAsString(sortedRequestSamplesArrayNode);
+        for (int i = 0; i < samplesArrayNode.size(); i++) {
+            IndexedSample sample = standardizeAndFilterSampleJson(samplesArrayNode.get(i), request.profile);
+            String sid = findPrimaryIdFromJsonNode(sample.filteredNode);
+            if (sid == null) {
+                unidentifiedSamplesMap.put(i, sample);
+            } else {
+                samplesMap.put(sid, sample);
+            }
+        }
+        request.unidentifiedSamplesMap = unidentifiedSamplesMap;
+        request.samplesMap = samplesMap;
     }
 
-    private Boolean jsonHasQcAndOrLibrariesAndOrStatusFields(String jsonString)
+    private IndexedSample standardizeAndFilterSampleJson(JsonNode sampleNode, ComparisonProfile profile)
             throws JsonProcessingException {
-        JsonNode jsonNode = mapper.readTree(jsonString);
+        JsonNode stdSampleNode = standardizeJsonProperties(
+                copyObjectNode(sampleNode), ComparedProperties.STD_IGO_SAMPLE_JSON_PROPS_MAP);
+        JsonNode stdFilteredSampleNode = filterJsonNode((ObjectNode) stdSampleNode,
+                profile.getIgnoredFields(), profile.getComparisonType());
+        return new IndexedSample(sampleNode, stdFilteredSampleNode);
+    }
+
+    /**
+     * Returns a shallow copy of the given object node so that properties can be
+     * standardized and filtered without modifying the caller's tree. Child nodes are
+     * shared with the original and are never modified in place.
+     * @param node
+     * @return ObjectNode
+     */
+    private ObjectNode copyObjectNode(JsonNode node) {
+        ObjectNode copy = mapper.createObjectNode();
+        copy.setAll((ObjectNode) node);
+        return copy;
+    }
+
+    private Boolean jsonHasQcAndOrLibrariesAndOrStatusFields(JsonNode jsonNode) {
         return jsonNode.has("libraries") || jsonNode.has("qcReports") || jsonNode.has("status");
     }
 
     /**
      * Helper function to return a Boolean based on presence of 'samples' field in
      * the input JSON.
-     * @param jsonString
+     * @param jsonNode
      * @return Boolean
-     * @throws JsonProcessingException
      */
-    private Boolean jsonHasSamplesField(String jsonString) throws JsonProcessingException {
-        JsonNode jsonNode = mapper.readTree(jsonString);
+    private Boolean jsonHasSamplesField(JsonNode jsonNode) {
         return jsonNode.has("samples");
     }
 
     /**
-     * Returns Boolean based on results of JSONAssert.
-     * @param referenceJson
-     * @param targetJson
+     * Returns Boolean based on a strict structural comparison of the json trees.
+     * Mismatches are recorded to the given log at the provided path if a log is provided.
+     * @param referenceNode
+     * @param targetNode
+     * @param path
+     * @param mismatches
      * @return
      */
-    private Boolean isMatchingJsons(String referenceJson, String targetJson) {
-        if (referenceJson == null ? targetJson == null : referenceJson.equals(targetJson)) {
+    private Boolean isMatchingJsons(JsonNode referenceNode, JsonNode targetNode, JsonPointer path,
+            MismatchLog mismatches) {
+        if (StrictJsonNodeComparator.isMatching(referenceNode, targetNode)) {
             return Boolean.TRUE;
         }
+        recordMismatch(mismatches, path, referenceNode, targetNode);
+        return Boolean.FALSE;
+    }
 
-        try {
-            JSONAssert.assertEquals(referenceJson, targetJson, JSONCompareMode.STRICT);
-        } catch (JSONException e) {
-            return Boolean.FALSE;
-        } catch (AssertionError ae) {
-            System.out.println(ae.getLocalizedMessage());
-            return Boolean.FALSE;
+    private void recordMismatch(MismatchLog mismatches, JsonPointer path, JsonNode referenceNode,
+            JsonNode targetNode) {
+        if (mismatches != null) {
+            mismatches.record(path, referenceNode, targetNode);
         }
-        return Boolean.TRUE;
     }
 
-    private JsonNode filterGenericJsonNode(ObjectNode node) throws JsonProcessingException {
+    private JsonNode filterGenericJsonNode(ObjectNode node, Set<String> ignoredFields)
+            throws JsonProcessingException {
         List<String> fieldsToRemove = new ArrayList<>();
-        fieldsToRemove.addAll(Arrays.asList(GENERIC_IGNORED_FIELDS));
 
         Iterator<String> itr = node.fieldNames();
         while (itr.hasNext()) {
             String field = itr.next();
-            String value = node.get(field).toString();
-
-            if (StringUtils.isBlank(value) || value.equalsIgnoreCase("null")
-                    || value.equalsIgnoreCase("[]")) {
+            if (ignoredFields.contains(field) || isNullOrEmptyGenericValue(node.get(field))) {
                 fieldsToRemove.add(field);
             }
         }
@@ -464,22 +1666,65 @@ public class JsonComparatorImpl implements JsonComparator {
         return node;
     }
 
+    /**
+     * Returns true if the value of a request json property is null or empty. Objects
+     * and arrays have no text value so they always count as empty, text values count
+     * as empty if blank, "null" or "[]". The node type is checked first so that no
+     * value is converted to a string unless it is already text.
+     * @param valueNode
+     * @return Boolean
+     */
+    private Boolean isNullOrEmptyValue(JsonNode valueNode) {
+        switch (valueNode.getNodeType()) {
+            case NULL:
+            case MISSING:
+            case OBJECT:
+            case ARRAY:
+                return Boolean.TRUE;
+            case NUMBER:
+            case BOOLEAN:
+                return Boolean.FALSE;
+            case STRING:
+                return ComparedProperties.isNullOrEmptyText(valueNode.textValue());
+            default:
+                return ComparedProperties.isNullOrEmptyText(valueNode.asText());
+        }
+    }
+
+    /**
+     * Returns true if the value of a generic json property is null or empty. Generic
+     * comparisons test the serialized value, where only nulls and empty arrays read as
+     * empty since text values are quoted.
+     * @param valueNode
+     * @return Boolean
+     */
+    private Boolean isNullOrEmptyGenericValue(JsonNode valueNode) {
+        switch (valueNode.getNodeType()) {
+            case NULL:
+                return Boolean.TRUE;
+            case ARRAY:
+                return valueNode.isEmpty();
+            case STRING:
+            case NUMBER:
+            case BOOLEAN:
+            case OBJECT:
+                return Boolean.FALSE;
+            default:
+                return ComparedProperties.isNullOrEmptyText(valueNode.toString());
+        }
+    }
+
     /**
      * Returns a JsonNode with the given json properties matching 'ignoredFields'
      * removed from the node as well as any properties with null or empty values.
      * @param node
      * @param ignoredFields
+     * @param comparisonType
      * @return JsonNode
      */
-    private JsonNode filterJsonNode(ObjectNode node, String[] ignoredFields,
-            String comparisonType) throws JsonProcessingException {
+    private JsonNode filterJsonNode(ObjectNode node, Set<String> ignoredFields,
+            ComparisonType comparisonType) throws JsonProcessingException {
         List<String> fieldsToRemove = new ArrayList<>();
-        List<String> igoUpdatesRejectedFields = Arrays.asList(IGO_ACCEPTED_FIELDS);
-
-        // if ignored fields is not null then add to list of fields to remove
-        if (ignoredFields != null) {
-            fieldsToRemove.addAll(Arrays.asList(ignoredFields));
-        }
 
         JsonNode modifiedQcReportsNode = null;
         JsonNode modifiedLibrariesNode = null;
@@ -488,26 +1733,31 @@ public class JsonComparatorImpl implements JsonComparator {
         Iterator<String> itr = node.fieldNames();
         while (itr.hasNext()) {
             String field = itr.next();
-            String value = node.get(field).asText();
+            JsonNode valueNode = node.get(field);
 
+            if (ignoredFields.contains(field)) {
+                fieldsToRemove.add(field);
+            }
             // special handling for metadata updates
-            if (comparisonType.equals("igo")
-                    && !igoUpdatesRejectedFields.contains(field)) {
+            if (comparisonType == ComparisonType.IGO
+                    && !ComparedProperties.IGO_ACCEPTED_FIELDS_SET.contains(field)) {
                 fieldsToRemove.add(field);
             }
 
-            if (StringUtils.isBlank(value) || value.equalsIgnoreCase("null")
-                    || value.equalsIgnoreCase("[]")) {
+            if (isNullOrEmptyValue(valueNode)) {
                 fieldsToRemove.add(field);
             } else if (field.equals("libraries")) {
                 // special handling for libraries
-                modifiedLibrariesNode = filterArrayNodeChildrenByList(value, comparisonType);
+                modifiedLibrariesNode = filterArrayNodeChildrenByList(
+                        mapper.readTree(valueNode.asText()), comparisonType);
             } else if (field.equals("qcReports")) {
                 // special handling for qcReports
-                modifiedQcReportsNode = filterArrayNodeChildrenByList(value, comparisonType);
+                modifiedQcReportsNode = filterArrayNodeChildrenByList(
+                        mapper.readTree(valueNode.asText()), comparisonType);
             } else if (field.equals("status")) {
                 // special handling for status
-                modifiedStatusNode = filterArrayNodeChildrenByMap(value, comparisonType);
+                modifiedStatusNode = filterArrayNodeChildrenByMap(
+                        mapper.readTree(valueNode.asText()), comparisonType);
             }
         }
 
@@ -536,47 +1786,59 @@ public class JsonComparatorImpl implements JsonComparator {
     }
 
     /**
-     * Given a parent node as a string, returns a filtered JsonNode.
+     * Given a parent array node, returns a filtered JsonNode.
      * This is special case handling specific to 'libraries' and other
-     * child properties of samples that are actually array nodes
-     * This maps the parentNode to List.class
+     * child properties of samples that are actually array nodes.
+     * Each child is filtered as a shallow copy so the parent node is left unchanged.
      * @param parentNode
+     * @param comparisonType
      * @return JsonNode
      * @throws JsonProcessingException
      */
-    private JsonNode filterArrayNodeChildrenByList(String parentNode, String comparisonType)
+    private JsonNode filterArrayNodeChildrenByList(JsonNode parentNode, ComparisonType comparisonType)
             throws JsonProcessingException {
-        List<Object> filteredParentNode = new ArrayList<>();
-        List<Object> childrenObjects = mapper.readValue(parentNode, List.class);
-        for (Object childObj : childrenObjects) {
-            String childObjString = mapper.writeValueAsString(childObj);
-            JsonNode filteredChildNode = filterJsonNode((ObjectNode)
-                    mapper.readTree(childObjString), DEFAULT_IGNORED_FIELDS, comparisonType);
-            filteredParentNode.add(filteredChildNode);
+        if (!parentNode.isArray()) {
+            return parentNode;
+        }
+        ArrayNode filteredParentNode = mapper.createArrayNode();
+        for (JsonNode childNode : parentNode) {
+            if (childNode.isObject()) {
+                ObjectNode childNodeCopy = mapper.createObjectNode();
+                childNodeCopy.setAll((ObjectNode) childNode);
+                filteredParentNode.add(filterJsonNode(childNodeCopy,
+                        ComparedProperties.DEFAULT_IGNORED_FIELDS_SET, comparisonType));
+            } else {
+                filteredParentNode.add(childNode);
+            }
         }
-        return mapper.readTree(mapper.writeValueAsString(filteredParentNode));
+        return filteredParentNode;
     }
 
     /**
-     * Given a parent node as a string, returns a filtered JsonNode.
+     * Given a parent object node, returns a filtered JsonNode.
      * This is special case handling specific to 'status' and other
-     * child properties of samples that are actually array nodes
-     * This maps the parentNode to Map.class
+     * child properties of samples that are actually object nodes.
+     * Each property is filtered as its own single property node.
      * @param parentNode
+     * @param comparisonType
      * @return JsonNode
      * @throws JsonProcessingException
      */
-    private JsonNode filterArrayNodeChildrenByMap(String parentNode, String comparisonType)
+    private JsonNode filterArrayNodeChildrenByMap(JsonNode parentNode, ComparisonType comparisonType)
             throws JsonProcessingException {
-        Map<String,Object> filteredParentNode = new HashMap<>();
-        Map<String,String> childrenObjects = mapper.readValue(parentNode, Map.class);
-        for (Map.Entry<String, String> childObj : childrenObjects.entrySet()) {
-            String childObjString = mapper.writeValueAsString(childObj);
-            JsonNode filteredChildNode = filterJsonNode((ObjectNode)
-                    mapper.readTree(childObjString), DEFAULT_IGNORED_FIELDS, comparisonType);
-            filteredParentNode.put(childObj.getKey(), filteredChildNode);
-        }
-        return mapper.readTree(mapper.writeValueAsString(filteredParentNode));
+        if (!parentNode.isObject()) {
+            return parentNode;
+        }
+        ObjectNode filteredParentNode = mapper.createObjectNode();
+        Iterator<Map.Entry<String, JsonNode>> itr = parentNode.fields();
+        while (itr.hasNext()) {
+            Map.Entry<String, JsonNode> childEntry = itr.next();
+            ObjectNode childNode = mapper.createObjectNode();
+            childNode.set(childEntry.getKey(), childEntry.getValue());
+            filteredParentNode.set(childEntry.getKey(), filterJsonNode(childNode,
+                    ComparedProperties.DEFAULT_IGNORED_FIELDS_SET, comparisonType));
+        }
+        return filteredParentNode;
     }
 
     /**
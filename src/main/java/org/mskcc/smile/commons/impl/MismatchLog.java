@@ -0,0 +1,48 @@
+package org.mskcc.smile.commons.impl;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.ArrayList;
+import java.util.List;
+import org.mskcc.smile.commons.ComparisonResult.Difference;
+
+/**
+ * Records the pairs of nodes that did not match during a comparison. Recording only
+ * keeps references to the mismatched nodes, the individual property differences are
+ * resolved on demand by {@link #getDifferences()}.
+ */
+class MismatchLog {
+    private final List<JsonPointer> paths = new ArrayList<>();
+    private final List<JsonNode> referenceNodes = new ArrayList<>();
+    private final List<JsonNode> targetNodes = new ArrayList<>();
+
+    void record(JsonPointer path, JsonNode referenceNode, JsonNode targetNode) {
+        paths.add(path);
+        referenceNodes.add(referenceNode);
+        targetNodes.add(targetNode);
+    }
+
+    Boolean isEmpty() {
+        return paths.isEmpty();
+    }
+
+    /**
+     * Resolves the recorded mismatches into the differing properties. A mismatch
+     * without any structural difference (i.e., runs that only differ in property
+     * order) is reported as a whole at its recorded path.
+     * @return List
+     */
+    List<Difference> getDifferences() {
+        List<Difference> differences = new ArrayList<>();
+        for (int i = 0; i < paths.size(); i++) {
+            int count = differences.size();
+            StrictJsonNodeComparator.collectDifferences(paths.get(i), referenceNodes.get(i),
+                    targetNodes.get(i), differences);
+            if (differences.size() == count) {
+                differences.add(new Difference(paths.get(i).toString(), referenceNodes.get(i),
+                        targetNodes.get(i)));
+            }
+        }
+        return differences;
+    }
+}
@@ -0,0 +1,228 @@
+package org.mskcc.smile.commons.impl;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import org.mskcc.smile.commons.ComparisonProfile;
+import org.mskcc.smile.commons.impl.JsonComparatorImpl.NormalizedRequest;
+
+/**
+ * Bounded cache of standardized and filtered reference request jsons. Entries are
+ * keyed by the comparison profile the json was normalized with, the request id and
+ * a 128-bit digest of the json content, so the reference json itself is not kept.
+ * The cache is bounded by the number of entries and by their weight, the total
+ * length of the cached jsons, and the least recently used entries are evicted once
+ * either bound is exceeded. The cache is safe to share between threads.
+ */
+public class NormalizedRequestCache {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final int maximumSize;
+    private final long maximumWeight;
+    private final LinkedHashMap<CacheKey, NormalizedRequest> entries =
+            new LinkedHashMap<>(16, 0.75f, true);
+    private long weight;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    /**
+     * NormalizedRequestCache constructor.
+     * @param maximumSize the maximum number of normalized jsons kept
+     */
+    public NormalizedRequestCache(int maximumSize) {
+        this(maximumSize, Long.MAX_VALUE);
+    }
+
+    /**
+     * NormalizedRequestCache constructor. Jsons longer than the maximum weight are
+     * never cached.
+     * @param maximumSize the maximum number of normalized jsons kept
+     * @param maximumWeight the maximum total length of the normalized jsons kept
+     */
+    public NormalizedRequestCache(int maximumSize, long maximumWeight) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive: " + maximumSize);
+        }
+        if (maximumWeight <= 0) {
+            throw new IllegalArgumentException("Cache weight must be positive: " + maximumWeight);
+        }
+        this.maximumSize = maximumSize;
+        this.maximumWeight = maximumWeight;
+    }
+
+    /**
+     * Returns the key of the given json normalized with the given profile. The json
+     * is only scanned for its top level request id and hashed as text, it is not
+     * parsed into a tree.
+     * @param profile
+     * @param json
+     * @return CacheKey
+     * @throws JsonProcessingException
+     */
+    static CacheKey createKey(ComparisonProfile profile, String json) throws JsonProcessingException {
+        CanonicalJsonHasher hasher = new CanonicalJsonHasher();
+        hasher.putRawText(json);
+        return new CacheKey(profile, readRequestId(json), hasher.toHexString(), json.length());
+    }
+
+    synchronized NormalizedRequest get(CacheKey key) {
+        NormalizedRequest request = entries.get(key);
+        if (request == null) {
+            missCount++;
+        } else {
+            hitCount++;
+        }
+        return request;
+    }
+
+    synchronized void put(CacheKey key, NormalizedRequest request) {
+        if (key.weight > maximumWeight) {
+            return;
+        }
+        if (entries.put(key, request) == null) {
+            weight += key.weight;
+        }
+        // entries are iterated from the least to the most recently used
+        Iterator<CacheKey> itr = entries.keySet().iterator();
+        while (entries.size() > maximumSize || weight > maximumWeight) {
+            CacheKey eldest = itr.next();
+            itr.remove();
+            weight -= eldest.weight;
+            evictionCount++;
+        }
+    }
+
+    /**
+     * Removes the cached entries of the request with the given request id, i.e.,
+     * once a newer version of the request is published.
+     * @param requestId
+     */
+    public synchronized void invalidate(String requestId) {
+        Iterator<CacheKey> itr = entries.keySet().iterator();
+        while (itr.hasNext()) {
+            CacheKey key = itr.next();
+            if (Objects.equals(requestId, key.requestId)) {
+                itr.remove();
+                weight -= key.weight;
+            }
+        }
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getWeight() {
+        return weight;
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Returns the ratio of lookups that were served from the cache.
+     * @return double
+     */
+    public synchronized double getHitRate() {
+        long requestCount = hitCount + missCount;
+        return (requestCount == 0) ? 0.0 : (double) hitCount / requestCount;
+    }
+
+    /**
+     * Removes all cached entries. The statistics are kept.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        weight = 0;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "NormalizedRequestCache{size=" + entries.size() + ", weight=" + weight
+                + ", hitCount=" + hitCount + ", missCount=" + missCount
+                + ", evictionCount=" + evictionCount + "}";
+    }
+
+    /**
+     * Returns the value of the top level requestId or igoRequestId property of the
+     * json, or null if it has none. Nested objects and arrays are skipped unread.
+     * @param json
+     * @return String
+     * @throws JsonProcessingException
+     */
+    private static String readRequestId(String json) throws JsonProcessingException {
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken token = parser.nextToken();
+                if (token.isScalarValue()
+                        && ("requestId".equals(fieldName) || "igoRequestId".equals(fieldName))) {
+                    return parser.getText();
+                }
+                parser.skipChildren();
+            }
+            return null;
+        } catch (JsonProcessingException e) {
+            throw e;
+        } catch (IOException e) {
+            // reading from a string never fails with any other IOException
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static final class CacheKey {
+        private final ComparisonProfile profile;
+        private final String requestId;
+        private final String digest;
+        private final int weight;
+
+        CacheKey(ComparisonProfile profile, String requestId, String digest, int weight) {
+            this.profile = profile;
+            this.requestId = requestId;
+            this.digest = digest;
+            this.weight = weight;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey other = (CacheKey) obj;
+            return digest.equals(other.digest) && weight == other.weight
+                    && Objects.equals(requestId, other.requestId) && profile.equals(other.profile);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(profile, requestId, digest);
+        }
+    }
+}
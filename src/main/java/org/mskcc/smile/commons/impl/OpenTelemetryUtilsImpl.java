@@ -1,20 +1,51 @@
 package org.mskcc.smile.commons.impl;
 
 import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.propagation.TextMapGetter;
+import io.opentelemetry.context.propagation.TextMapPropagator;
 import io.opentelemetry.context.propagation.TextMapSetter;
 import io.opentelemetry.extension.trace.propagation.B3Propagator;
 import jakarta.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
 import org.mskcc.smile.commons.OpenTelemetryUtils;
+import org.mskcc.smile.commons.enums.PropagationFormat;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
 public class OpenTelemetryUtilsImpl implements OpenTelemetryUtils {
 
+    // propagators are immutable and shared by every inject and extract
+    private static final TextMapPropagator W3C_PROPAGATOR = W3CTraceContextPropagator.getInstance();
+    private static final TextMapPropagator B3_SINGLE_PROPAGATOR = B3Propagator.injectingSingleHeader();
+    private static final TextMapPropagator B3_MULTI_PROPAGATOR = B3Propagator.injectingMultiHeaders();
+
+    private static final String W3C_TRACEPARENT_HEADER = "traceparent";
+    private static final String B3_SINGLE_HEADER = "b3";
+    private static final String B3_TRACE_ID_HEADER = "X-B3-TraceId";
+
+    private static final String BATCH_MESSAGE_COUNT_ATTRIBUTE = "messaging.batch.message_count";
+    private static final String BATCH_DROPPED_LINK_COUNT_ATTRIBUTE = "smile.batch.dropped_link_count";
+
+    private volatile TextMapPropagator propagator = B3_MULTI_PROPAGATOR;
+    private volatile int maxBatchSpanLinks = 128;
+
     private static final TextMapGetter<Map<String, String>> getter =
         new TextMapGetter<Map<String, String>>() {
             @Override
@@ -29,19 +60,233 @@ public class OpenTelemetryUtilsImpl implements OpenTelemetryUtils {
             }
         };
 
+    private static final TextMapSetter<Map<String, String>> setter = Map::put;
+
+    /**
+     * Sets the formats the trace metadata is injected in as a comma separated list
+     * of tracecontext (W3C traceparent), b3 (B3 single header) and b3multi (B3
+     * multiple headers), i.e., "tracecontext,b3". Defaults to b3multi. Extraction
+     * does not depend on this setting, every supported format is read.
+     * @param propagationFormats
+     */
+    @Value("${opentelemetry.propagators:b3multi}")
+    public void setPropagationFormats(String propagationFormats) {
+        List<TextMapPropagator> propagators = new ArrayList<>();
+        for (String propagationFormat : propagationFormats.split(",")) {
+            switch (PropagationFormat.fromString(propagationFormat.trim())) {
+                case TRACECONTEXT:
+                    propagators.add(W3C_PROPAGATOR);
+                    break;
+                case B3:
+                    propagators.add(B3_SINGLE_PROPAGATOR);
+                    break;
+                default:
+                    propagators.add(B3_MULTI_PROPAGATOR);
+                    break;
+            }
+        }
+        this.propagator = (propagators.size() == 1) ? propagators.get(0)
+                : TextMapPropagator.composite(propagators);
+    }
+
+    /**
+     * Sets the maximum number of upstream contexts a batch span is linked to.
+     * Defaults to 128, the default span link limit of the OpenTelemetry SDK.
+     * @param maxBatchSpanLinks
+     */
+    @Value("${opentelemetry.batch.span.links.max:128}")
+    public void setMaxBatchSpanLinks(int maxBatchSpanLinks) {
+        if (maxBatchSpanLinks < 0) {
+            throw new IllegalArgumentException("Maximum number of span links cannot be negative: "
+                    + maxBatchSpanLinks);
+        }
+        this.maxBatchSpanLinks = maxBatchSpanLinks;
+    }
+
+    public int getMaxBatchSpanLinks() {
+        return maxBatchSpanLinks;
+    }
+
     @Override
     public Map<String, String> getTraceMetadata(Context context) {
-        B3Propagator b3Propagator = B3Propagator.injectingMultiHeaders();
-        TextMapSetter<Map<String, String>> setter = Map::put;
-        Map<String, String> carrier = new HashMap<>();
-        b3Propagator.inject(context, carrier, setter);
+        Map<String, String> carrier = new HashMap<>(8);
+        propagator.inject(context, carrier, setter);
         return carrier;
     }
 
+    /**
+     * Writes the trace metadata of the context directly into the given carrier
+     * (i.e., the headers of an outgoing message) instead of a new map.
+     * @param context
+     * @param carrier
+     * @param setter
+     */
+    @Override
+    public <C> void injectTraceMetadata(Context context, C carrier, TextMapSetter<C> setter) {
+        propagator.inject(context, carrier, setter);
+    }
+
     @Override
     public Span getSpanFromTraceMetadata(String spanName, Tracer tracer, Map<String, String> traceMetadata) {
-        B3Propagator b3Propagator = B3Propagator.injectingMultiHeaders();
-        Context propContext = b3Propagator.extract(Context.current(), traceMetadata, getter);
+        return getSpanFromTraceMetadata(spanName, tracer, traceMetadata, getter);
+    }
+
+    /**
+     * Starts a span parented to the context read directly from the given carrier
+     * (i.e., the headers of an incoming message) without copying it into a map.
+     * @param spanName
+     * @param tracer
+     * @param carrier
+     * @param getter
+     * @return Span
+     */
+    @Override
+    public <C> Span getSpanFromTraceMetadata(String spanName, Tracer tracer, C carrier,
+            TextMapGetter<C> getter) {
+        Context propContext = extractContext(Context.current(), carrier, getter);
         return tracer.spanBuilder(spanName).setParent(propContext).startSpan();
     }
+
+    @Override
+    public Span getBatchSpanFromTraceMetadata(String spanName, Tracer tracer,
+            List<Map<String, String>> traceMetadataList) {
+        return getBatchSpanFromTraceMetadata(spanName, tracer, traceMetadataList, getter);
+    }
+
+    /**
+     * Starts a single span for a batch of consumed messages, linked to the upstream
+     * context of each message instead of starting one child span per message. The
+     * span is parented to the current context. Messages without trace metadata and
+     * messages from the same upstream span add no link, and at most
+     * maxBatchSpanLinks links are added. The size of the batch is recorded as the
+     * messaging.batch.message_count attribute and, if the links were capped, the
+     * number of distinct upstream contexts left unlinked as the
+     * smile.batch.dropped_link_count attribute.
+     * @param spanName
+     * @param tracer
+     * @param carriers
+     * @param getter
+     * @return Span
+     */
+    @Override
+    public <C> Span getBatchSpanFromTraceMetadata(String spanName, Tracer tracer, List<C> carriers,
+            TextMapGetter<C> getter) {
+        SpanBuilder spanBuilder = tracer.spanBuilder(spanName)
+                .setAttribute(BATCH_MESSAGE_COUNT_ATTRIBUTE, carriers.size());
+        int maxLinks = maxBatchSpanLinks;
+        Set<SpanContext> upstreamContexts = new HashSet<>();
+        for (C carrier : carriers) {
+            SpanContext spanContext = Span.fromContext(extractContext(Context.root(), carrier, getter))
+                    .getSpanContext();
+            // contexts past the cap are still collected to count the dropped links
+            if (spanContext.isValid() && upstreamContexts.add(spanContext)
+                    && upstreamContexts.size() <= maxLinks) {
+                spanBuilder.addLink(spanContext);
+            }
+        }
+        if (upstreamContexts.size() > maxLinks) {
+            spanBuilder.setAttribute(BATCH_DROPPED_LINK_COUNT_ATTRIBUTE,
+                    upstreamContexts.size() - maxLinks);
+        }
+        return spanBuilder.startSpan();
+    }
+
+    /**
+     * Returns an executor that runs each task in the context that was current when
+     * the task was submitted. The context is only captured and restored, no span is
+     * started per task.
+     * @param executor
+     * @return Executor
+     */
+    @Override
+    public Executor wrapExecutor(Executor executor) {
+        return Context.taskWrapping(executor);
+    }
+
+    /**
+     * Returns an executor service that runs each task, including the tasks of
+     * invokeAll and invokeAny, in the context that was current when the task was
+     * submitted. Shutting down the returned executor service shuts down the given one.
+     * @param executorService
+     * @return ExecutorService
+     */
+    @Override
+    public ExecutorService wrapExecutorService(ExecutorService executorService) {
+        return Context.taskWrapping(executorService);
+    }
+
+    /**
+     * Returns a new virtual thread per task executor that runs each task in the
+     * context that was current when the task was submitted.
+     * @return ExecutorService
+     */
+    @Override
+    public ExecutorService newVirtualThreadPerTaskExecutor() {
+        return wrapExecutorService(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    /**
+     * Same as CompletableFuture.supplyAsync but the supplier runs in the current
+     * context on the common fork join pool. Dependent async stages given no executor
+     * also run on the common pool, which does not carry the context, so callers must
+     * pass an executor from wrapExecutor to each of them.
+     * @param supplier
+     * @return CompletableFuture
+     */
+    @Override
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
+        return supplyAsync(supplier, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Same as CompletableFuture.supplyAsync but the supplier runs in the current
+     * context. The future is also completed in that context, so dependent stages
+     * that are run by the completing thread or submitted by it to an executor from
+     * wrapExecutor run in the same context.
+     * @param supplier
+     * @param executor
+     * @return CompletableFuture
+     */
+    @Override
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier, Executor executor) {
+        return CompletableFuture.supplyAsync(supplier, Context.current().wrap(executor));
+    }
+
+    /**
+     * Same as CompletableFuture.runAsync but the runnable runs in the current context
+     * on the common fork join pool. As with supplyAsync, dependent async stages must be
+     * given an executor from wrapExecutor to run in the context.
+     * @param runnable
+     * @return CompletableFuture
+     */
+    @Override
+    public CompletableFuture<Void> runAsync(Runnable runnable) {
+        return runAsync(runnable, ForkJoinPool.commonPool());
+    }
+
+    @Override
+    public CompletableFuture<Void> runAsync(Runnable runnable, Executor executor) {
+        return CompletableFuture.runAsync(runnable, Context.current().wrap(executor));
+    }
+
+    /**
+     * Extracts the trace context with the propagator of the format found in the
+     * carrier, whichever format the metadata is injected in. The W3C traceparent
+     * header is preferred since it is a single header that is cheaper to parse,
+     * otherwise the B3 propagator reads the single or multiple B3 headers.
+     * @param context
+     * @param carrier
+     * @param getter
+     * @return Context
+     */
+    private <C> Context extractContext(Context context, C carrier, TextMapGetter<C> getter) {
+        if (getter.get(carrier, W3C_TRACEPARENT_HEADER) != null) {
+            return W3C_PROPAGATOR.extract(context, carrier, getter);
+        }
+        if (getter.get(carrier, B3_SINGLE_HEADER) != null
+                || getter.get(carrier, B3_TRACE_ID_HEADER) != null) {
+            return B3_MULTI_PROPAGATOR.extract(context, carrier, getter);
+        }
+        return context;
+    }
 }
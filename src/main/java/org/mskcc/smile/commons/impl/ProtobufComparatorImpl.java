@@ -0,0 +1,379 @@
+package org.mskcc.smile.commons.impl;
+
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Message;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import org.mskcc.smile.commons.ComparisonProfile;
+import org.mskcc.smile.commons.JsonComparator;
+import org.mskcc.smile.commons.ProtobufComparator;
+import org.mskcc.smile.commons.enums.ComparisonType;
+import org.mskcc.smile.commons.generated.Igo.RequestWithManifests;
+import org.mskcc.smile.commons.generated.Igo.SampleManifest;
+import org.springframework.stereotype.Component;
+
+/**
+ * Compares IGO protobuf messages field by field with the same ignored and IGO accepted
+ * fields as the JsonComparatorImpl. The fields compared under a profile are resolved
+ * from the message descriptor once per message type, after which comparisons read the
+ * fields by their descriptors instead of looking up json keys.
+ *
+ * <p>As with the request jsons, samples are matched by igoId, libraries by libraryIgoId
+ * and runs by runId and flowCellId regardless of their order, and qcReports are matched
+ * in order. Samples without an igoId cannot be matched and are never consistent.
+ * An empty reference qcReports, libraries or runs field matches any target field, while
+ * a non-empty reference does not match an empty target. Repeated fields have no presence
+ * so an unset field is compared as an empty array.
+ * Only the singular fields of requests, samples, libraries and qcReports are compared
+ * since nested objects and arrays are filtered from the jsons, runs are compared as
+ * received. Proto3 scalars have no presence so an unset field matches a
+ * field set to its default value, and blank or "null" strings match an unset string.
+ * Generic comparisons compare every field that is not ignored as received.
+ */
+@Component
+public class ProtobufComparatorImpl implements ProtobufComparator {
+    private static final String SAMPLES_FIELD = "samples";
+    private static final String QC_REPORTS_FIELD = "qcReports";
+    private static final String LIBRARIES_FIELD = "libraries";
+    private static final String RUNS_FIELD = "runs";
+    private static final Map<String, String[]> KEY_FIELDS = Map.of(
+            SAMPLES_FIELD, new String[]{"igoId"},
+            LIBRARIES_FIELD, new String[]{"libraryIgoId"},
+            RUNS_FIELD, new String[]{"runId", "flowCellId"});
+
+    private final JsonComparator jsonComparator;
+    private final Map<MessageRulesKey, MessageRules> messageRulesCache = new ConcurrentHashMap<>();
+
+    /**
+     * The level of a message within a request, which decides how its fields are
+     * filtered and which of its repeated messages are compared.
+     */
+    private enum MessageLevel {
+        REQUEST,
+        SAMPLE,
+        NESTED
+    }
+
+    /**
+     * ProtobufComparatorImpl constructor. The default comparison profiles are taken
+     * from the given json comparator so both comparators apply the same profiles.
+     * @param jsonComparator
+     */
+    public ProtobufComparatorImpl(JsonComparator jsonComparator) {
+        this.jsonComparator = jsonComparator;
+    }
+
+    @Override
+    public Boolean isConsistentByIgoProperties(RequestWithManifests referenceRequest,
+            RequestWithManifests targetRequest) {
+        return isConsistentByIgoProperties((Message) referenceRequest, targetRequest);
+    }
+
+    @Override
+    public Boolean isConsistentByIgoProperties(SampleManifest referenceSample, SampleManifest targetSample) {
+        return isConsistentByIgoProperties((Message) referenceSample, targetSample);
+    }
+
+    @Override
+    public Boolean isConsistentByIgoProperties(Message referenceMessage, Message targetMessage) {
+        return isConsistent(referenceMessage, targetMessage,
+                jsonComparator.getComparisonProfile(ComparisonType.IGO));
+    }
+
+    @Override
+    public Boolean isConsistent(RequestWithManifests referenceRequest, RequestWithManifests targetRequest) {
+        return isConsistent((Message) referenceRequest, targetRequest);
+    }
+
+    @Override
+    public Boolean isConsistent(SampleManifest referenceSample, SampleManifest targetSample) {
+        return isConsistent((Message) referenceSample, targetSample);
+    }
+
+    @Override
+    public Boolean isConsistent(Message referenceMessage, Message targetMessage) {
+        return isConsistent(referenceMessage, targetMessage,
+                jsonComparator.getComparisonProfile(ComparisonType.NEW));
+    }
+
+    /**
+     * Compares the reference and target messages, which must be of the same type.
+     * A request message is compared like a request json and a sample manifest like
+     * the sample metadata json.
+     * @param referenceMessage
+     * @param targetMessage
+     * @param profile
+     * @return Boolean
+     */
+    @Override
+    public Boolean isConsistent(Message referenceMessage, Message targetMessage,
+            ComparisonProfile profile) {
+        Descriptor descriptor = referenceMessage.getDescriptorForType();
+        if (!descriptor.equals(targetMessage.getDescriptorForType())) {
+            throw new IllegalArgumentException(String.format("Cannot compare %s message to %s message",
+                    descriptor.getFullName(), targetMessage.getDescriptorForType().getFullName()));
+        }
+        return isConsistentMessage(referenceMessage, targetMessage, MessageLevel.REQUEST, profile);
+    }
+
+    private Boolean isConsistentMessage(Message referenceMessage, Message targetMessage,
+            MessageLevel level, ComparisonProfile profile) {
+        MessageRules rules = getMessageRules(referenceMessage.getDescriptorForType(), level, profile);
+        for (FieldDescriptor field : rules.comparedFields) {
+            if (!isMatchingValues(referenceMessage.getField(field), targetMessage.getField(field),
+                    rules.filterEmptyValues)) {
+                return Boolean.FALSE;
+            }
+        }
+        for (FieldDescriptor field : rules.orderedFields) {
+            int size = referenceMessage.getRepeatedFieldCount(field);
+            if (size == 0) {
+                continue;
+            }
+            if (size != targetMessage.getRepeatedFieldCount(field)) {
+                return Boolean.FALSE;
+            }
+            for (int i = 0; i < size; i++) {
+                if (!isConsistentElement(field, (Message) referenceMessage.getRepeatedField(field, i),
+                        (Message) targetMessage.getRepeatedField(field, i), profile)) {
+                    return Boolean.FALSE;
+                }
+            }
+        }
+        for (Map.Entry<FieldDescriptor, FieldDescriptor[]> entry : rules.keyedFields.entrySet()) {
+            if (!isConsistentByKey(referenceMessage, targetMessage, entry.getKey(), entry.getValue(),
+                    profile)) {
+                return Boolean.FALSE;
+            }
+        }
+        return Boolean.TRUE;
+    }
+
+    /**
+     * Matches the elements of the repeated message field by the values of their key
+     * fields. Target elements are indexed by key so each reference element is matched
+     * in constant time, elements sharing a key are matched as a multiset. Empty reference
+     * libraries or runs match any target, the samples of a request must match in number.
+     * @param referenceMessage
+     * @param targetMessage
+     * @param field
+     * @param keyFields
+     * @param profile
+     * @return Boolean
+     */
+    private Boolean isConsistentByKey(Message referenceMessage, Message targetMessage,
+            FieldDescriptor field, FieldDescriptor[] keyFields, ComparisonProfile profile) {
+        int size = referenceMessage.getRepeatedFieldCount(field);
+        if (size == 0 && !SAMPLES_FIELD.equals(field.getName())) {
+            return Boolean.TRUE;
+        }
+        if (size != targetMessage.getRepeatedFieldCount(field)) {
+            return Boolean.FALSE;
+        }
+        Map<List<Object>, List<Message>> tarElementsByKey = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            Message tarElement = (Message) targetMessage.getRepeatedField(field, i);
+            tarElementsByKey.computeIfAbsent(getMatchingKey(tarElement, keyFields),
+                    k -> new ArrayList<>(1)).add(tarElement);
+        }
+        for (int i = 0; i < size; i++) {
+            Message refElement = (Message) referenceMessage.getRepeatedField(field, i);
+            // as with the request jsons, samples without an igoId are never consistent
+            if (SAMPLES_FIELD.equals(field.getName()) && isUnidentifiedSample(refElement, keyFields)) {
+                return Boolean.FALSE;
+            }
+            List<Message> tarElements = tarElementsByKey.get(getMatchingKey(refElement, keyFields));
+            if (tarElements == null || !removeMatchingElement(field, refElement, tarElements, profile)) {
+                return Boolean.FALSE;
+            }
+        }
+        return Boolean.TRUE;
+    }
+
+    private Boolean removeMatchingElement(FieldDescriptor field, Message refElement,
+            List<Message> tarElements, ComparisonProfile profile) {
+        Iterator<Message> itr = tarElements.iterator();
+        while (itr.hasNext()) {
+            if (isConsistentElement(field, refElement, itr.next(), profile)) {
+                itr.remove();
+                return Boolean.TRUE;
+            }
+        }
+        return Boolean.FALSE;
+    }
+
+    private Boolean isConsistentElement(FieldDescriptor field, Message refElement, Message tarElement,
+            ComparisonProfile profile) {
+        switch (field.getName()) {
+            case SAMPLES_FIELD:
+                return isConsistentMessage(refElement, tarElement, MessageLevel.SAMPLE, profile);
+            case RUNS_FIELD:
+                // runs are compared as received
+                return refElement.equals(tarElement);
+            default:
+                return isConsistentMessage(refElement, tarElement, MessageLevel.NESTED, profile);
+        }
+    }
+
+    private Boolean isUnidentifiedSample(Message sample, FieldDescriptor[] keyFields) {
+        Object sampleId = sample.getField(keyFields[0]);
+        return !(sampleId instanceof String) || ComparedProperties.isNullOrEmptyText((String) sampleId);
+    }
+
+    private List<Object> getMatchingKey(Message element, FieldDescriptor[] keyFields) {
+        Object[] key = new Object[keyFields.length];
+        for (int i = 0; i < keyFields.length; i++) {
+            key[i] = element.getField(keyFields[i]);
+        }
+        return Arrays.asList(key);
+    }
+
+    private Boolean isMatchingValues(Object referenceValue, Object targetValue, Boolean filterEmptyValues) {
+        if (filterEmptyValues && referenceValue instanceof String && targetValue instanceof String) {
+            return getFilteredText((String) referenceValue).equals(getFilteredText((String) targetValue));
+        }
+        return referenceValue.equals(targetValue);
+    }
+
+    private String getFilteredText(String value) {
+        return ComparedProperties.isNullOrEmptyText(value) ? "" : value;
+    }
+
+    private MessageRules getMessageRules(Descriptor descriptor, MessageLevel level,
+            ComparisonProfile profile) {
+        return messageRulesCache.computeIfAbsent(new MessageRulesKey(descriptor, level, profile),
+                this::createMessageRules);
+    }
+
+    /**
+     * Resolves the fields of the message type that are compared at the given level
+     * under the profile, applying the filters of the json comparisons to the field names.
+     * @param key
+     * @return MessageRules
+     */
+    private MessageRules createMessageRules(MessageRulesKey key) {
+        ComparisonProfile profile = key.profile;
+        MessageRules rules = new MessageRules(!profile.isGenericComparison());
+        for (FieldDescriptor field : key.descriptor.getFields()) {
+            String fieldName = field.getName();
+            if (profile.isGenericComparison()) {
+                if (!profile.getIgnoredFields().contains(fieldName)) {
+                    rules.comparedFields.add(field);
+                }
+            } else if (field.isRepeated() || field.getJavaType() == FieldDescriptor.JavaType.MESSAGE) {
+                if (isComparedRepeatedMessage(field, key.level)) {
+                    FieldDescriptor[] keyFields = getKeyFields(field);
+                    if (keyFields != null) {
+                        rules.keyedFields.put(field, keyFields);
+                    } else {
+                        rules.orderedFields.add(field);
+                    }
+                }
+            } else if (isComparedField(fieldName, key.level, profile)) {
+                rules.comparedFields.add(field);
+            }
+        }
+        return rules;
+    }
+
+    /**
+     * Returns true for the repeated messages compared at the given level, i.e., the
+     * samples of requests, the qcReports and libraries of samples and the runs of
+     * libraries. The qcReports and libraries of a sample manifest compared on its own
+     * are compared at the request level like the sample metadata jsons.
+     * @param field
+     * @param level
+     * @return Boolean
+     */
+    private Boolean isComparedRepeatedMessage(FieldDescriptor field, MessageLevel level) {
+        if (!field.isRepeated() || field.getJavaType() != FieldDescriptor.JavaType.MESSAGE) {
+            return Boolean.FALSE;
+        }
+        switch (field.getName()) {
+            case SAMPLES_FIELD:
+                return level == MessageLevel.REQUEST;
+            case QC_REPORTS_FIELD:
+            case LIBRARIES_FIELD:
+                return level != MessageLevel.NESTED;
+            case RUNS_FIELD:
+                return level == MessageLevel.NESTED;
+            default:
+                return Boolean.FALSE;
+        }
+    }
+
+    private FieldDescriptor[] getKeyFields(FieldDescriptor field) {
+        String[] keyFieldNames = KEY_FIELDS.get(field.getName());
+        if (keyFieldNames == null) {
+            return null;
+        }
+        FieldDescriptor[] keyFields = new FieldDescriptor[keyFieldNames.length];
+        for (int i = 0; i < keyFieldNames.length; i++) {
+            keyFields[i] = field.getMessageType().findFieldByName(keyFieldNames[i]);
+            if (keyFields[i] == null) {
+                return null;
+            }
+        }
+        return keyFields;
+    }
+
+    private Boolean isComparedField(String fieldName, MessageLevel level, ComparisonProfile profile) {
+        switch (level) {
+            case REQUEST:
+                return ComparedProperties.isComparedRequestProperty(fieldName, profile);
+            case SAMPLE:
+                return ComparedProperties.isComparedSampleProperty(fieldName, profile);
+            default:
+                return ComparedProperties.isComparedNestedProperty(fieldName, profile.getComparisonType());
+        }
+    }
+
+    private static class MessageRules {
+        private final Boolean filterEmptyValues;
+        private final List<FieldDescriptor> comparedFields = new ArrayList<>();
+        private final List<FieldDescriptor> orderedFields = new ArrayList<>();
+        private final Map<FieldDescriptor, FieldDescriptor[]> keyedFields = new LinkedHashMap<>();
+
+        MessageRules(Boolean filterEmptyValues) {
+            this.filterEmptyValues = filterEmptyValues;
+        }
+    }
+
+    private static class MessageRulesKey {
+        private final Descriptor descriptor;
+        private final MessageLevel level;
+        private final ComparisonProfile profile;
+
+        MessageRulesKey(Descriptor descriptor, MessageLevel level, ComparisonProfile profile) {
+            this.descriptor = descriptor;
+            this.level = level;
+            this.profile = profile;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof MessageRulesKey)) {
+                return false;
+            }
+            MessageRulesKey other = (MessageRulesKey) o;
+            return descriptor.equals(other.descriptor) && level == other.level
+                    && profile.equals(other.profile);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(descriptor, level, profile);
+        }
+    }
+}
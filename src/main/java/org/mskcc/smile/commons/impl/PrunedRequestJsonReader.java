@@ -0,0 +1,202 @@
+package org.mskcc.smile.commons.impl;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.util.Set;
+import org.apache.commons.lang3.StringUtils;
+import org.mskcc.smile.commons.ComparisonProfile;
+
+/**
+ * Reads a request or sample json from a token stream into a pruned tree. Properties
+ * that the request comparison would filter out anyway (ignored fields, properties
+ * rejected for IGO comparisons, null or empty values and nested objects or arrays such
+ * as 'cmoSampleIdFields' or 'sampleAliases') are skipped while parsing, so the full
+ * unfiltered document is never held in memory. The 'samples', 'libraries', 'qcReports'
+ * and 'status' structures are kept since the comparison relies on their shape, and
+ * library 'runs' are kept as received since they are compared as a whole.
+ */
+class PrunedRequestJsonReader {
+    private enum Level { REQUEST, SAMPLE, LIBRARY, NESTED }
+
+    private final ObjectMapper mapper;
+    private final JsonNodeFactory nodeFactory = JsonNodeFactory.instance;
+    private final Set<String> ignoredFields;
+    private final Set<String> nestedIgnoredFields;
+    private final Set<String> igoAcceptedFields;
+    private final Set<String> requestRenamedFields;
+    private final Set<String> sampleRenamedFields;
+    private final Boolean isIgoComparison;
+
+    PrunedRequestJsonReader(ObjectMapper mapper, ComparisonProfile profile, Set<String> nestedIgnoredFields,
+            Set<String> igoAcceptedFields, Set<String> requestRenamedFields,
+            Set<String> sampleRenamedFields) {
+        this.mapper = mapper;
+        this.ignoredFields = profile.getIgnoredFields();
+        this.nestedIgnoredFields = nestedIgnoredFields;
+        this.igoAcceptedFields = igoAcceptedFields;
+        this.requestRenamedFields = requestRenamedFields;
+        this.sampleRenamedFields = sampleRenamedFields;
+        this.isIgoComparison = profile.isIgoComparison();
+    }
+
+    /**
+     * Reads the next json value from the parser. The parser is not closed.
+     * @param parser
+     * @return JsonNode
+     * @throws IOException
+     */
+    JsonNode readTree(JsonParser parser) throws IOException {
+        JsonToken token = (parser.currentToken() == null) ? parser.nextToken() : parser.currentToken();
+        if (token != JsonToken.START_OBJECT) {
+            return readVerbatim(parser);
+        }
+        return readObject(parser, Level.REQUEST);
+    }
+
+    private ObjectNode readObject(JsonParser parser, Level level) throws IOException {
+        ObjectNode node = nodeFactory.objectNode();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken valueToken = parser.nextToken();
+            if (isStructuralField(level, field)) {
+                node.set(field, readStructuralValue(parser, level, field));
+            } else if (isRenamedField(level, field)) {
+                // renamed properties overwrite their standardized counterpart so they are
+                // kept, but objects or arrays are reduced to the empty text they filter to
+                if (valueToken.isStructStart()) {
+                    parser.skipChildren();
+                    node.put(field, "");
+                } else {
+                    node.set(field, readScalar(parser));
+                }
+            } else if (valueToken.isStructStart()) {
+                parser.skipChildren();
+            } else if (!isFilteredScalar(level, field, parser)) {
+                node.set(field, readScalar(parser));
+            }
+        }
+        return node;
+    }
+
+    private JsonNode readStructuralValue(JsonParser parser, Level level, String field)
+            throws IOException {
+        JsonToken token = parser.currentToken();
+        if (field.equals("status")) {
+            return (token == JsonToken.START_OBJECT) ? readStatusObject(parser) : readVerbatim(parser);
+        }
+        // runs are compared as they were received
+        if (token != JsonToken.START_ARRAY || field.equals("runs")) {
+            return readVerbatim(parser);
+        }
+        Level elementLevel;
+        switch (field) {
+            case "samples":
+                elementLevel = Level.SAMPLE;
+                break;
+            case "libraries":
+                elementLevel = Level.LIBRARY;
+                break;
+            default:
+                elementLevel = Level.NESTED;
+        }
+        ArrayNode arrayNode = nodeFactory.arrayNode();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() == JsonToken.START_OBJECT) {
+                arrayNode.add(readObject(parser, elementLevel));
+            } else {
+                arrayNode.add(readVerbatim(parser));
+            }
+        }
+        return arrayNode;
+    }
+
+    /**
+     * Every status entry is compared, so all keys are kept and only object or array
+     * values are reduced to the empty text they filter to.
+     */
+    private ObjectNode readStatusObject(JsonParser parser) throws IOException {
+        ObjectNode node = nodeFactory.objectNode();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            if (parser.nextToken().isStructStart()) {
+                parser.skipChildren();
+                node.put(field, "");
+            } else {
+                node.set(field, readScalar(parser));
+            }
+        }
+        return node;
+    }
+
+    private Boolean isStructuralField(Level level, String field) {
+        switch (level) {
+            case REQUEST:
+                return field.equals("samples") || isSampleMetadataField(field);
+            case SAMPLE:
+                return isSampleMetadataField(field);
+            case LIBRARY:
+                return field.equals("runs");
+            default:
+                return Boolean.FALSE;
+        }
+    }
+
+    private Boolean isSampleMetadataField(String field) {
+        return field.equals("libraries") || field.equals("qcReports") || field.equals("status");
+    }
+
+    private Boolean isRenamedField(Level level, String field) {
+        switch (level) {
+            case REQUEST:
+                return requestRenamedFields.contains(field);
+            case SAMPLE:
+                return sampleRenamedFields.contains(field);
+            default:
+                return Boolean.FALSE;
+        }
+    }
+
+    private Boolean isFilteredScalar(Level level, String field, JsonParser parser) throws IOException {
+        Set<String> levelIgnoredFields = (level == Level.REQUEST || level == Level.SAMPLE)
+                ? ignoredFields : nestedIgnoredFields;
+        if (levelIgnoredFields.contains(field)
+                || (isIgoComparison && !igoAcceptedFields.contains(field))) {
+            return Boolean.TRUE;
+        }
+        switch (parser.currentToken()) {
+            case VALUE_NULL:
+                return Boolean.TRUE;
+            case VALUE_STRING:
+                String value = parser.getText();
+                return StringUtils.isBlank(value) || value.equalsIgnoreCase("null")
+                        || value.equalsIgnoreCase("[]");
+            default:
+                return Boolean.FALSE;
+        }
+    }
+
+    private JsonNode readVerbatim(JsonParser parser) throws IOException {
+        return mapper.readTree(parser);
+    }
+
+    private JsonNode readScalar(JsonParser parser) throws IOException {
+        switch (parser.currentToken()) {
+            case VALUE_STRING:
+                return nodeFactory.textNode(parser.getText());
+            case VALUE_TRUE:
+                return nodeFactory.booleanNode(true);
+            case VALUE_FALSE:
+                return nodeFactory.booleanNode(false);
+            case VALUE_NULL:
+                return nodeFactory.nullNode();
+            default:
+                return readVerbatim(parser);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package org.mskcc.smile.commons.impl;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import org.mskcc.smile.commons.ComparisonResult.Difference;
+
+/**
+ * Structural comparison of Jackson json trees following the same rules as
+ * JSONAssert's STRICT compare mode: objects must have exactly the same set of
+ * fields, arrays must have the same elements in the same order and numbers are
+ * compared by value regardless of their representation (i.e., 1 and 1.0 match).
+ * The comparison stops at the first difference found.
+ */
+final class StrictJsonNodeComparator {
+
+    private StrictJsonNodeComparator() {}
+
+    /**
+     * Returns true if the given json trees are equal under strict comparison rules.
+     * Two null nodes are considered a match.
+     * @param referenceNode
+     * @param targetNode
+     * @return boolean
+     */
+    static boolean isMatching(JsonNode referenceNode, JsonNode targetNode) {
+        if (referenceNode == targetNode) {
+            return true;
+        }
+        if (referenceNode == null || targetNode == null) {
+            return false;
+        }
+        if (referenceNode.isNumber() && targetNode.isNumber()) {
+            return referenceNode.doubleValue() == targetNode.doubleValue();
+        }
+        if (referenceNode.getNodeType() != targetNode.getNodeType()) {
+            return false;
+        }
+        switch (referenceNode.getNodeType()) {
+            case OBJECT:
+                return isMatchingObjects(referenceNode, targetNode);
+            case ARRAY:
+                return isMatchingArrays(referenceNode, targetNode);
+            default:
+                return referenceNode.equals(targetNode);
+        }
+    }
+
+    private static boolean isMatchingObjects(JsonNode referenceNode, JsonNode targetNode) {
+        if (referenceNode.size() != targetNode.size()) {
+            return false;
+        }
+        Iterator<Map.Entry<String, JsonNode>> itr = referenceNode.fields();
+        while (itr.hasNext()) {
+            Map.Entry<String, JsonNode> field = itr.next();
+            JsonNode targetValue = targetNode.get(field.getKey());
+            if (targetValue == null || !isMatching(field.getValue(), targetValue)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isMatchingArrays(JsonNode referenceNode, JsonNode targetNode) {
+        if (referenceNode.size() != targetNode.size()) {
+            return false;
+        }
+        for (int i = 0; i < referenceNode.size(); i++) {
+            if (!isMatching(referenceNode.get(i), targetNode.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Appends the differences between the given json trees to the list of differences.
+     * Objects and arrays are descended into so that each difference is reported at the
+     * deepest differing property. A missing property is reported with a null value.
+     * @param path
+     * @param referenceNode
+     * @param targetNode
+     * @param differences
+     */
+    static void collectDifferences(JsonPointer path, JsonNode referenceNode, JsonNode targetNode,
+            List<Difference> differences) {
+        if (isMatching(referenceNode, targetNode)) {
+            return;
+        }
+        if (referenceNode != null && targetNode != null
+                && referenceNode.isObject() && targetNode.isObject()) {
+            Iterator<Map.Entry<String, JsonNode>> itr = referenceNode.fields();
+            while (itr.hasNext()) {
+                Map.Entry<String, JsonNode> field = itr.next();
+                collectDifferences(path.appendProperty(field.getKey()), field.getValue(),
+                        targetNode.get(field.getKey()), differences);
+            }
+            Iterator<Map.Entry<String, JsonNode>> targetItr = targetNode.fields();
+            while (targetItr.hasNext()) {
+                Map.Entry<String, JsonNode> field = targetItr.next();
+                if (!referenceNode.has(field.getKey())) {
+                    differences.add(new Difference(path.appendProperty(field.getKey()).toString(),
+                            null, field.getValue()));
+                }
+            }
+        } else if (referenceNode != null && targetNode != null
+                && referenceNode.isArray() && targetNode.isArray()) {
+            int size = Math.max(referenceNode.size(), targetNode.size());
+            for (int i = 0; i < size; i++) {
+                collectDifferences(path.appendIndex(i), referenceNode.get(i), targetNode.get(i),
+                        differences);
+            }
+        } else {
+            differences.add(new Difference(path.toString(), referenceNode, targetNode));
+        }
+    }
+}
@@ -0,0 +1,486 @@
+package org.mskcc.smile.commons.impl;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import org.mskcc.smile.commons.ChangeClassification;
+import org.mskcc.smile.commons.ComparisonPair;
+import org.mskcc.smile.commons.ComparisonProfile;
+import org.mskcc.smile.commons.ComparisonResult;
+import org.mskcc.smile.commons.ComparisonSnapshot;
+import org.mskcc.smile.commons.JsonComparator;
+import org.mskcc.smile.commons.enums.ComparisonType;
+
+/**
+ * Decorates a JsonComparator so that every comparison runs in its own span, a child
+ * of the current span, with the comparison type, the number of samples in the target
+ * request, the combined size of the inputs and the outcome as attributes. The
+ * attributes are only computed for spans that are recorded, so unsampled traces only
+ * pay for starting and ending a non-recording span. The sample count is only known
+ * for json node inputs and the size for string and byte inputs.
+ * The decorator is opt-in, i.e.:
+ * <pre>
+ * &#64;Bean
+ * &#64;Primary
+ * public JsonComparator tracingJsonComparator(JsonComparatorImpl jsonComparator, Tracer tracer) {
+ *     return new TracingJsonComparator(jsonComparator, tracer);
+ * }
+ * </pre>
+ */
+public class TracingJsonComparator implements JsonComparator {
+    private static final AttributeKey<String> COMPARISON_TYPE_KEY =
+            AttributeKey.stringKey("smile.comparison.type");
+    private static final AttributeKey<String> COMPARISON_OUTCOME_KEY =
+            AttributeKey.stringKey("smile.comparison.outcome");
+    private static final AttributeKey<Long> SAMPLE_COUNT_KEY =
+            AttributeKey.longKey("smile.comparison.sample.count");
+    private static final AttributeKey<Long> INPUT_SIZE_KEY =
+            AttributeKey.longKey("smile.comparison.input.size");
+    private static final AttributeKey<Long> PAIR_COUNT_KEY =
+            AttributeKey.longKey("smile.comparison.pair.count");
+
+    private static final String IS_CONSISTENT_SPAN_NAME = "JsonComparator.isConsistent";
+    private static final String COMPARE_SPAN_NAME = "JsonComparator.compare";
+    private static final String COMPARE_ALL_SPAN_NAME = "JsonComparator.compareAll";
+    private static final String CLASSIFY_CHANGES_SPAN_NAME = "JsonComparator.classifyChanges";
+    private static final String FINGERPRINT_SPAN_NAME = "JsonComparator.fingerprint";
+    private static final String CREATE_SNAPSHOT_SPAN_NAME = "JsonComparator.createSnapshot";
+    private static final String UPDATE_SNAPSHOT_SPAN_NAME = "JsonComparator.updateSnapshot";
+
+    private static final String NEW = ComparisonType.NEW.getValue();
+    private static final String IGO = ComparisonType.IGO.getValue();
+    private static final String GENERIC = ComparisonType.GENERIC.getValue();
+
+    private final JsonComparator delegate;
+    private final Tracer tracer;
+
+    /**
+     * TracingJsonComparator constructor.
+     * @param delegate the comparator that runs the comparisons
+     * @param tracer
+     */
+    public TracingJsonComparator(JsonComparator delegate, Tracer tracer) {
+        this.delegate = delegate;
+        this.tracer = tracer;
+    }
+
+    /**
+     * A call to the decorated comparator.
+     */
+    @FunctionalInterface
+    private interface Call<T> {
+        T call() throws Exception;
+    }
+
+    /**
+     * Runs the call in a new span. The attributes are only computed if the span is
+     * recorded, and a call that fails is recorded as an error of the span.
+     * @param spanName
+     * @param comparisonType
+     * @param targetNode the target json node if known, to count its samples
+     * @param inputSize the combined UTF-8 encoded size of the inputs, or null if not known
+     * @param call
+     * @param verdict resolves the consistency verdict of the result, or null if it has none
+     * @return T
+     * @throws Exception
+     */
+    private <T> T trace(String spanName, String comparisonType, JsonNode targetNode, LongSupplier inputSize,
+            Call<T> call, Function<T, Boolean> verdict) throws Exception {
+        Span span = tracer.spanBuilder(spanName).startSpan();
+        try (Scope scope = span.makeCurrent()) {
+            if (span.isRecording()) {
+                span.setAttribute(COMPARISON_TYPE_KEY, comparisonType);
+                if (inputSize != null) {
+                    span.setAttribute(INPUT_SIZE_KEY, inputSize.getAsLong());
+                }
+                if (targetNode != null && targetNode.has("samples")) {
+                    span.setAttribute(SAMPLE_COUNT_KEY, (long) targetNode.get("samples").size());
+                }
+            }
+            T result = call.call();
+            if (verdict != null && span.isRecording()) {
+                span.setAttribute(COMPARISON_OUTCOME_KEY, verdict.apply(result) ? "match" : "mismatch");
+            }
+            return result;
+        } catch (Exception e) {
+            span.recordException(e);
+            span.setStatus(StatusCode.ERROR);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    private Boolean traceIsConsistent(String comparisonType, JsonNode targetNode, LongSupplier inputSize,
+            Call<Boolean> call) throws Exception {
+        return trace(IS_CONSISTENT_SPAN_NAME, comparisonType, targetNode, inputSize, call,
+                Function.identity());
+    }
+
+    private ComparisonResult traceCompare(String comparisonType, JsonNode targetNode, LongSupplier inputSize,
+            Call<ComparisonResult> call) throws Exception {
+        return trace(COMPARE_SPAN_NAME, comparisonType, targetNode, inputSize, call,
+                ComparisonResult::isConsistent);
+    }
+
+    /**
+     * Returns the comparison type that the comparisons taking the comparison type as
+     * a String compare with, where unsupported types are compared as new.
+     * @param comparisonType
+     * @return String
+     */
+    private static String getLegacyComparisonType(String comparisonType) {
+        return ComparisonType.fromString(comparisonType, ComparisonType.NEW).getValue();
+    }
+
+    private static long sizeOf(String referenceJson, String targetJson) {
+        return ComparatorMetrics.utf8Length(referenceJson) + ComparatorMetrics.utf8Length(targetJson);
+    }
+
+    @Override
+    public Boolean isConsistentByIgoProperties(String referenceJson, String targetJson) throws Exception {
+        return traceIsConsistent(IGO, null, () -> sizeOf(referenceJson, targetJson),
+                () -> delegate.isConsistentByIgoProperties(referenceJson, targetJson));
+    }
+
+    @Override
+    public Boolean isConsistentByIgoProperties(JsonNode referenceNode, JsonNode targetNode)
+            throws Exception {
+        return traceIsConsistent(IGO, targetNode, null,
+                () -> delegate.isConsistentByIgoProperties(referenceNode, targetNode));
+    }
+
+    @Override
+    public Boolean isConsistentByIgoProperties(JsonParser referenceParser, JsonParser targetParser)
+            throws Exception {
+        return traceIsConsistent(IGO, null, null,
+                () -> delegate.isConsistentByIgoProperties(referenceParser, targetParser));
+    }
+
+    @Override
+    public Boolean isConsistentByIgoProperties(byte[] referenceJson, byte[] targetJson) throws Exception {
+        return traceIsConsistent(IGO, null, () -> (long) referenceJson.length + targetJson.length,
+                () -> delegate.isConsistentByIgoProperties(referenceJson, targetJson));
+    }
+
+    @Override
+    public Boolean isConsistent(String referenceJson, String targetJson) throws Exception {
+        return traceIsConsistent(NEW, null, () -> sizeOf(referenceJson, targetJson),
+                () -> delegate.isConsistent(referenceJson, targetJson));
+    }
+
+    @Override
+    public Boolean isConsistent(JsonNode referenceNode, JsonNode targetNode) throws Exception {
+        return traceIsConsistent(NEW, targetNode, null,
+                () -> delegate.isConsistent(referenceNode, targetNode));
+    }
+
+    @Override
+    public Boolean isConsistent(JsonParser referenceParser, JsonParser targetParser) throws Exception {
+        return traceIsConsistent(NEW, null, null, () -> delegate.isConsistent(referenceParser, targetParser));
+    }
+
+    @Override
+    public Boolean isConsistent(String referenceJson, String targetJson, String[] ignoredFields,
+            String comparisonType) throws Exception {
+        return traceIsConsistent(getLegacyComparisonType(comparisonType), null,
+                () -> sizeOf(referenceJson, targetJson),
+                () -> delegate.isConsistent(referenceJson, targetJson, ignoredFields, comparisonType));
+    }
+
+    @Override
+    public Boolean isConsistent(JsonNode referenceNode, JsonNode targetNode, String[] ignoredFields,
+            String comparisonType) throws Exception {
+        return traceIsConsistent(getLegacyComparisonType(comparisonType), targetNode, null,
+                () -> delegate.isConsistent(referenceNode, targetNode, ignoredFields, comparisonType));
+    }
+
+    @Override
+    public Boolean isConsistent(JsonParser referenceParser, JsonParser targetParser,
+            String[] ignoredFields, String comparisonType) throws Exception {
+        return traceIsConsistent(getLegacyComparisonType(comparisonType), null, null,
+                () -> delegate.isConsistent(referenceParser, targetParser, ignoredFields, comparisonType));
+    }
+
+    @Override
+    public Boolean isConsistent(String referenceJson, String targetJson, ComparisonProfile profile)
+            throws Exception {
+        return traceIsConsistent(profile.getComparisonType().getValue(), null,
+                () -> sizeOf(referenceJson, targetJson),
+                () -> delegate.isConsistent(referenceJson, targetJson, profile));
+    }
+
+    @Override
+    public Boolean isConsistent(JsonNode referenceNode, JsonNode targetNode, ComparisonProfile profile)
+            throws Exception {
+        return traceIsConsistent(profile.getComparisonType().getValue(), targetNode, null,
+                () -> delegate.isConsistent(referenceNode, targetNode, profile));
+    }
+
+    @Override
+    public Boolean isConsistent(JsonParser referenceParser, JsonParser targetParser,
+            ComparisonProfile profile) throws Exception {
+        return traceIsConsistent(profile.getComparisonType().getValue(), null, null,
+                () -> delegate.isConsistent(referenceParser, targetParser, profile));
+    }
+
+    @Override
+    public Boolean isConsistent(byte[] referenceJson, byte[] targetJson) throws Exception {
+        return traceIsConsistent(NEW, null, () -> (long) referenceJson.length + targetJson.length,
+                () -> delegate.isConsistent(referenceJson, targetJson));
+    }
+
+    @Override
+    public Boolean isConsistent(byte[] referenceJson, byte[] targetJson, ComparisonProfile profile)
+            throws Exception {
+        return traceIsConsistent(profile.getComparisonType().getValue(), null,
+                () -> (long) referenceJson.length + targetJson.length,
+                () -> delegate.isConsistent(referenceJson, targetJson, profile));
+    }
+
+    @Override
+    public Boolean isConsistent(ByteBuffer referenceJson, ByteBuffer targetJson, ComparisonProfile profile)
+            throws Exception {
+        return traceIsConsistent(profile.getComparisonType().getValue(), null,
+                () -> (long) referenceJson.remaining() + targetJson.remaining(),
+                () -> delegate.isConsistent(referenceJson, targetJson, profile));
+    }
+
+    @Override
+    public Boolean isConsistent(InputStream referenceJson, InputStream targetJson, ComparisonProfile profile)
+            throws Exception {
+        return traceIsConsistent(profile.getComparisonType().getValue(), null, null,
+                () -> delegate.isConsistent(referenceJson, targetJson, profile));
+    }
+
+    @Override
+    public Boolean isConsistentGenericComparison(String referenceJson, String targetJson) throws Exception {
+        return traceIsConsistent(GENERIC, null, () -> sizeOf(referenceJson, targetJson),
+                () -> delegate.isConsistentGenericComparison(referenceJson, targetJson));
+    }
+
+    @Override
+    public Boolean isConsistentGenericComparison(JsonNode referenceNode, JsonNode targetNode)
+            throws Exception {
+        return traceIsConsistent(GENERIC, targetNode, null,
+                () -> delegate.isConsistentGenericComparison(referenceNode, targetNode));
+    }
+
+    @Override
+    public Boolean isConsistentGenericComparison(byte[] referenceJson, byte[] targetJson) throws Exception {
+        return traceIsConsistent(GENERIC, null, () -> (long) referenceJson.length + targetJson.length,
+                () -> delegate.isConsistentGenericComparison(referenceJson, targetJson));
+    }
+
+    @Override
+    public ComparisonResult compareByIgoProperties(String referenceJson, String targetJson)
+            throws Exception {
+        return traceCompare(IGO, null, () -> sizeOf(referenceJson, targetJson),
+                () -> delegate.compareByIgoProperties(referenceJson, targetJson));
+    }
+
+    @Override
+    public ComparisonResult compare(String referenceJson, String targetJson) throws Exception {
+        return traceCompare(NEW, null, () -> sizeOf(referenceJson, targetJson),
+                () -> delegate.compare(referenceJson, targetJson));
+    }
+
+    @Override
+    public ComparisonResult compare(JsonNode referenceNode, JsonNode targetNode) throws Exception {
+        return traceCompare(NEW, targetNode, null, () -> delegate.compare(referenceNode, targetNode));
+    }
+
+    @Override
+    public ComparisonResult compare(String referenceJson, String targetJson, String[] ignoredFields,
+            String comparisonType) throws Exception {
+        return traceCompare(getLegacyComparisonType(comparisonType), null,
+                () -> sizeOf(referenceJson, targetJson),
+                () -> delegate.compare(referenceJson, targetJson, ignoredFields, comparisonType));
+    }
+
+    @Override
+    public ComparisonResult compare(JsonNode referenceNode, JsonNode targetNode, String[] ignoredFields,
+            String comparisonType) throws Exception {
+        return traceCompare(getLegacyComparisonType(comparisonType), targetNode, null,
+                () -> delegate.compare(referenceNode, targetNode, ignoredFields, comparisonType));
+    }
+
+    @Override
+    public ComparisonResult compare(String referenceJson, String targetJson, ComparisonProfile profile)
+            throws Exception {
+        return traceCompare(profile.getComparisonType().getValue(), null,
+                () -> sizeOf(referenceJson, targetJson),
+                () -> delegate.compare(referenceJson, targetJson, profile));
+    }
+
+    @Override
+    public ComparisonResult compare(JsonNode referenceNode, JsonNode targetNode, ComparisonProfile profile)
+            throws Exception {
+        return traceCompare(profile.getComparisonType().getValue(), targetNode, null,
+                () -> delegate.compare(referenceNode, targetNode, profile));
+    }
+
+    @Override
+    public ComparisonResult compare(byte[] referenceJson, byte[] targetJson, ComparisonProfile profile)
+            throws Exception {
+        return traceCompare(profile.getComparisonType().getValue(), null,
+                () -> (long) referenceJson.length + targetJson.length,
+                () -> delegate.compare(referenceJson, targetJson, profile));
+    }
+
+    @Override
+    public ComparisonResult compare(ByteBuffer referenceJson, ByteBuffer targetJson,
+            ComparisonProfile profile) throws Exception {
+        return traceCompare(profile.getComparisonType().getValue(), null,
+                () -> (long) referenceJson.remaining() + targetJson.remaining(),
+                () -> delegate.compare(referenceJson, targetJson, profile));
+    }
+
+    @Override
+    public ComparisonResult compare(InputStream referenceJson, InputStream targetJson,
+            ComparisonProfile profile) throws Exception {
+        return traceCompare(profile.getComparisonType().getValue(), null, null,
+                () -> delegate.compare(referenceJson, targetJson, profile));
+    }
+
+    @Override
+    public ComparisonResult compareGeneric(String referenceJson, String targetJson) throws Exception {
+        return traceCompare(GENERIC, null, () -> sizeOf(referenceJson, targetJson),
+                () -> delegate.compareGeneric(referenceJson, targetJson));
+    }
+
+    @Override
+    public ComparisonResult compareGeneric(JsonNode referenceNode, JsonNode targetNode) throws Exception {
+        return traceCompare(GENERIC, targetNode, null,
+                () -> delegate.compareGeneric(referenceNode, targetNode));
+    }
+
+    @Override
+    public ComparisonProfile getComparisonProfile(ComparisonType comparisonType) {
+        return delegate.getComparisonProfile(comparisonType);
+    }
+
+    @Override
+    public ChangeClassification classifyChanges(String referenceJson, String targetJson)
+            throws Exception {
+        return trace(CLASSIFY_CHANGES_SPAN_NAME, NEW, null, () -> sizeOf(referenceJson, targetJson),
+                () -> delegate.classifyChanges(referenceJson, targetJson),
+                ChangeClassification::isConsistent);
+    }
+
+    @Override
+    public ChangeClassification classifyChanges(JsonNode referenceNode, JsonNode targetNode)
+            throws Exception {
+        return trace(CLASSIFY_CHANGES_SPAN_NAME, NEW, targetNode, null,
+                () -> delegate.classifyChanges(referenceNode, targetNode),
+                ChangeClassification::isConsistent);
+    }
+
+    @Override
+    public String fingerprint(String json, ComparisonProfile profile) throws Exception {
+        return trace(FINGERPRINT_SPAN_NAME, profile.getComparisonType().getValue(), null,
+                () -> ComparatorMetrics.utf8Length(json),
+                () -> delegate.fingerprint(json, profile), null);
+    }
+
+    @Override
+    public String fingerprint(JsonNode node, ComparisonProfile profile) throws Exception {
+        return trace(FINGERPRINT_SPAN_NAME, profile.getComparisonType().getValue(), node, null,
+                () -> delegate.fingerprint(node, profile), null);
+    }
+
+    /**
+     * Compares the batch in a single span with the number of pairs as an attribute.
+     * The pairs are compared by the decorated comparator, without a span per pair.
+     * @param pairs
+     * @param profile
+     * @return List
+     */
+    @Override
+    public List<ComparisonResult> compareAll(List<ComparisonPair> pairs, ComparisonProfile profile) {
+        return traceCompareAll(pairs, profile, () -> delegate.compareAll(pairs, profile));
+    }
+
+    @Override
+    public List<ComparisonResult> compareAll(List<ComparisonPair> pairs, ComparisonProfile profile,
+            Executor executor) {
+        return traceCompareAll(pairs, profile, () -> delegate.compareAll(pairs, profile, executor));
+    }
+
+    private List<ComparisonResult> traceCompareAll(List<ComparisonPair> pairs, ComparisonProfile profile,
+            Supplier<List<ComparisonResult>> call) {
+        Span span = tracer.spanBuilder(COMPARE_ALL_SPAN_NAME).startSpan();
+        try (Scope scope = span.makeCurrent()) {
+            if (span.isRecording()) {
+                span.setAttribute(COMPARISON_TYPE_KEY, profile.getComparisonType().getValue());
+                span.setAttribute(PAIR_COUNT_KEY, (long) pairs.size());
+            }
+            return call.get();
+        } catch (RuntimeException e) {
+            span.recordException(e);
+            span.setStatus(StatusCode.ERROR);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    @Override
+    public ComparisonSnapshot createSnapshot(String referenceJson, String targetJson,
+            ComparisonProfile profile) throws Exception {
+        return trace(CREATE_SNAPSHOT_SPAN_NAME, profile.getComparisonType().getValue(), null,
+                () -> sizeOf(referenceJson, targetJson),
+                () -> delegate.createSnapshot(referenceJson, targetJson, profile),
+                ComparisonSnapshot::isConsistent);
+    }
+
+    @Override
+    public ComparisonSnapshot createSnapshot(JsonNode referenceNode, JsonNode targetNode,
+            ComparisonProfile profile) throws Exception {
+        return trace(CREATE_SNAPSHOT_SPAN_NAME, profile.getComparisonType().getValue(), targetNode, null,
+                () -> delegate.createSnapshot(referenceNode, targetNode, profile),
+                ComparisonSnapshot::isConsistent);
+    }
+
+    @Override
+    public ComparisonSnapshot updateSnapshot(ComparisonSnapshot snapshot,
+            Collection<JsonNode> changedTargetSamples) throws Exception {
+        return traceUpdateSnapshot(snapshot,
+                () -> delegate.updateSnapshot(snapshot, changedTargetSamples));
+    }
+
+    @Override
+    public ComparisonSnapshot updateSnapshot(ComparisonSnapshot snapshot,
+            Collection<JsonNode> changedTargetSamples, Collection<String> removedSampleIds)
+            throws Exception {
+        return traceUpdateSnapshot(snapshot,
+                () -> delegate.updateSnapshot(snapshot, changedTargetSamples, removedSampleIds));
+    }
+
+    @Override
+    public ComparisonSnapshot updateSnapshot(ComparisonSnapshot snapshot,
+            Map<String, JsonNode> changedTargetSamples, Collection<String> removedSampleIds)
+            throws Exception {
+        return traceUpdateSnapshot(snapshot,
+                () -> delegate.updateSnapshot(snapshot, changedTargetSamples, removedSampleIds));
+    }
+
+    private ComparisonSnapshot traceUpdateSnapshot(ComparisonSnapshot snapshot,
+            Call<ComparisonSnapshot> call) throws Exception {
+        return trace(UPDATE_SNAPSHOT_SPAN_NAME, snapshot.getProfile().getComparisonType().getValue(),
+                null, null, call, ComparisonSnapshot::isConsistent);
+    }
+}
@@ -1,10 +1,47 @@
 package org.mskcc.smile.commons;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.api.trace.TracerProvider;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.HistogramPointData;
+import io.opentelemetry.sdk.metrics.data.LongPointData;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.data.PointData;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mskcc.smile.commons.config.MockDataConfig;
+import org.mskcc.smile.commons.enums.ComparisonType;
+import org.mskcc.smile.commons.impl.JsonComparatorImpl;
+import org.mskcc.smile.commons.impl.NormalizedRequestCache;
+import org.mskcc.smile.commons.impl.TracingJsonComparator;
 import org.mskcc.smile.commons.model.MockJsonTestData;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -308,6 +345,909 @@ public class JsonComparatorTest {
         Assertions.assertFalse(isConsistent);
     }
 
+    /**
+     * Tests that the JsonNode overloads return the same results as the String overloads
+     * and that the parsed input trees are not modified by the comparison.
+     * @throws Exception
+     */
+    @Test
+    public void testJsonNodeComparisonLeavesInputsUnmodified() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        MockJsonTestData incomingRequest =
+                mockedJsonDataMap.get("mockIncomingRequest1JsonDataWith2T2N");
+        MockJsonTestData publishedRequest =
+                mockedJsonDataMap.get("mockPublishedRequest1JsonDataWith2T2N");
+        JsonNode referenceNode = mapper.readTree(incomingRequest.getJsonString());
+        JsonNode targetNode = mapper.readTree(publishedRequest.getJsonString());
+        JsonNode referenceNodeCopy = referenceNode.deepCopy();
+        JsonNode targetNodeCopy = targetNode.deepCopy();
+
+        Assertions.assertTrue(jsonComparator.isConsistent(referenceNode, targetNode));
+        Assertions.assertEquals(jsonComparator.isConsistentByIgoProperties(
+                incomingRequest.getJsonString(), publishedRequest.getJsonString()),
+                jsonComparator.isConsistentByIgoProperties(referenceNode, targetNode));
+        Assertions.assertEquals(referenceNodeCopy, referenceNode);
+        Assertions.assertEquals(targetNodeCopy, targetNode);
+    }
+
+    /**
+     * Tests strict comparison rules: numbers match by value, array order matters
+     * and unexpected fields are reported as differences.
+     * @throws Exception
+     */
+    @Test
+    public void testStrictComparisonRules() throws Exception {
+        String referenceJson = "{\"cohortId\":\"CCS_1\",\"count\":1,\"samples\":[],\"ids\":[\"a\",\"b\"]}";
+        Assertions.assertTrue(jsonComparator.isConsistentGenericComparison(referenceJson,
+                "{\"cohortId\":\"CCS_1\",\"count\":1.0,\"ids\":[\"a\",\"b\"]}"));
+        Assertions.assertFalse(jsonComparator.isConsistentGenericComparison(referenceJson,
+                "{\"cohortId\":\"CCS_1\",\"count\":1,\"ids\":[\"b\",\"a\"]}"));
+        Assertions.assertFalse(jsonComparator.isConsistentGenericComparison(referenceJson,
+                "{\"cohortId\":\"CCS_1\",\"count\":1,\"ids\":[\"a\",\"b\"],\"type\":\"x\"}"));
+        Assertions.assertFalse(jsonComparator.isConsistentGenericComparison(referenceJson,
+                "{\"cohortId\":\"CCS_1\",\"count\":\"1\",\"ids\":[\"a\",\"b\"]}"));
+    }
+
+    /**
+     * Tests that samples are matched by primary id regardless of their order in the request.
+     * @throws Exception
+     */
+    @Test
+    public void testRequestSamplesMatchedByPrimaryId() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        MockJsonTestData incomingRequest =
+                mockedJsonDataMap.get("mockIncomingRequest1JsonDataWith2T2N");
+        MockJsonTestData publishedRequest =
+                mockedJsonDataMap.get("mockPublishedRequest1JsonDataWith2T2N");
+        JsonNode targetNode = mapper.readTree(publishedRequest.getJsonString());
+        ArrayNode targetSamples = (ArrayNode) targetNode.get("samples");
+        targetSamples.add(targetSamples.remove(0));
+        Assertions.assertTrue(jsonComparator.isConsistent(
+                mapper.readTree(incomingRequest.getJsonString()), targetNode));
+
+        targetSamples.remove(0);
+        Assertions.assertFalse(jsonComparator.isConsistent(
+                mapper.readTree(incomingRequest.getJsonString()), targetNode));
+    }
+
+    /**
+     * Tests that the streaming comparison returns the same results as the tree-based comparison.
+     * @throws Exception
+     */
+    @Test
+    public void testStreamingComparisonMatchesTreeComparison() throws Exception {
+        JsonFactory jsonFactory = new JsonFactory();
+        String[][] jsonDataIdPairs = new String[][]{
+            {"mockIncomingRequest1JsonDataWith2T2N", "mockPublishedRequest1JsonDataWith2T2N"},
+            {"mockIncomingRequest1JsonDataWith2T2N", "mockPublishedRequest1JsonNullValues"},
+            {"mockPublishedRequest1JsonDataWith2T2N", "mockRequest1SamplesMissingFastQs"},
+            {"mockPublishedRequest1JsonDataWithLibUpdates", "mockPublishedRequest1JsonDataWith2T2N"},
+            {"mockIncomingRequest1JsonWithSampleStatus", "mockPublishingRequest1JsonInvalidSampleStatus"},
+            {"samplePreUpdate", "sampleMixedUpdates"}};
+        for (String[] pair : jsonDataIdPairs) {
+            String referenceJson = mockedJsonDataMap.get(pair[0]).getJsonString();
+            String targetJson = mockedJsonDataMap.get(pair[1]).getJsonString();
+            Assertions.assertEquals(jsonComparator.isConsistent(referenceJson, targetJson),
+                    jsonComparator.isConsistent(jsonFactory.createParser(referenceJson),
+                            jsonFactory.createParser(targetJson)));
+            Assertions.assertEquals(jsonComparator.isConsistentByIgoProperties(referenceJson, targetJson),
+                    jsonComparator.isConsistentByIgoProperties(jsonFactory.createParser(referenceJson),
+                            jsonFactory.createParser(targetJson)));
+        }
+    }
+
+    /**
+     * Tests that the comparison result reports the differing properties as JSON Pointers.
+     * @throws Exception
+     */
+    @Test
+    public void testComparisonResultDifferences() throws Exception {
+        MockJsonTestData referenceRequest =
+                mockedJsonDataMap.get("mockPublishedRequest1JsonDataWithLibUpdates");
+        MockJsonTestData targetRequest =
+                mockedJsonDataMap.get("mockPublishedRequest1JsonDataWith2T2N");
+        ComparisonResult result = jsonComparator.compare(
+                referenceRequest.getJsonString(), targetRequest.getJsonString());
+        Assertions.assertFalse(result.isConsistent());
+
+        Map<String, ComparisonResult.Difference> differences = new HashMap<>();
+        for (ComparisonResult.Difference difference : result.getDifferences()) {
+            differences.put(difference.getPath(), difference);
+        }
+        ComparisonResult.Difference runIdDifference =
+                differences.get("/samples/MOCKREQUEST1_B_2/libraries/0/runs/0/runId");
+        Assertions.assertNotNull(runIdDifference);
+        Assertions.assertEquals("NEW_RUNID_0123", runIdDifference.getReferenceValue().asText());
+        Assertions.assertEquals("RUNID_0123", runIdDifference.getTargetValue().asText());
+        Assertions.assertTrue(differences.containsKey("/samples/MOCKREQUEST1_B_4/libraries/0/libraryVolume"));
+
+        MockJsonTestData incomingRequest =
+                mockedJsonDataMap.get("mockIncomingRequest1JsonDataWith2T2N");
+        ComparisonResult consistentResult = jsonComparator.compare(
+                incomingRequest.getJsonString(), targetRequest.getJsonString());
+        Assertions.assertTrue(consistentResult.isConsistent());
+        Assertions.assertTrue(consistentResult.getDifferences().isEmpty());
+    }
+
+    /**
+     * Tests that batch comparisons return results in input order and that a pair
+     * which cannot be compared does not affect the rest of the batch.
+     * @throws Exception
+     */
+    @Test
+    public void testCompareAllBatchComparison() throws Exception {
+        List<ComparisonPair> pairs = new ArrayList<>();
+        List<Boolean> expectedResults = new ArrayList<>();
+        for (Map.Entry<String, String> entry : requestJsonDataIdMap.entrySet()) {
+            String incomingJson = mockedJsonDataMap.get(entry.getKey()).getJsonString();
+            String publishedJson = mockedJsonDataMap.get(entry.getValue()).getJsonString();
+            pairs.add(new ComparisonPair(incomingJson, publishedJson));
+            expectedResults.add(jsonComparator.isConsistent(incomingJson, publishedJson,
+                    new String[]{}, "new"));
+        }
+        pairs.add(new ComparisonPair("{\"requestId\":", "{\"requestId\":\"mockRequestId\"}"));
+
+        List<ComparisonResult> results = jsonComparator.compareAll(pairs,
+                new ComparisonProfile("new", new String[]{}));
+        Assertions.assertEquals(pairs.size(), results.size());
+        for (int i = 0; i < expectedResults.size(); i++) {
+            Assertions.assertFalse(results.get(i).hasError());
+            Assertions.assertEquals(expectedResults.get(i), results.get(i).isConsistent());
+        }
+        ComparisonResult failedResult = results.get(results.size() - 1);
+        Assertions.assertTrue(failedResult.hasError());
+        Assertions.assertFalse(failedResult.isConsistent());
+    }
+
+    /**
+     * Tests that precompiled comparison profiles behave like the equivalent
+     * string based comparisons.
+     * @throws Exception
+     */
+    @Test
+    public void testComparisonProfiles() throws Exception {
+        MockJsonTestData referenceRequest =
+                mockedJsonDataMap.get("mockPublishedRequest1JsonDataWithLibUpdates");
+        MockJsonTestData targetRequest =
+                mockedJsonDataMap.get("mockPublishedRequest1JsonDataWith2T2N");
+        for (ComparisonType comparisonType : ComparisonType.values()) {
+            ComparisonProfile profile = jsonComparator.getComparisonProfile(comparisonType);
+            Assertions.assertEquals(comparisonType, profile.getComparisonType());
+            // generic comparisons ignore the request samples where the updates are
+            Assertions.assertEquals(comparisonType == ComparisonType.GENERIC,
+                    jsonComparator.isConsistent(referenceRequest.getJsonString(),
+                            targetRequest.getJsonString(), profile));
+        }
+        Assertions.assertEquals(
+                jsonComparator.isConsistentByIgoProperties(referenceRequest.getJsonString(),
+                        targetRequest.getJsonString()),
+                jsonComparator.isConsistent(referenceRequest.getJsonString(), targetRequest.getJsonString(),
+                        jsonComparator.getComparisonProfile(ComparisonType.IGO)));
+
+        String referenceJson = "{\"requestId\":\"mockRequestId\",\"investigatorName\":\"A\"}";
+        String targetJson = "{\"requestId\":\"mockRequestId\",\"investigatorName\":\"B\"}";
+        Assertions.assertFalse(jsonComparator.isConsistent(referenceJson, targetJson,
+                new ComparisonProfile(ComparisonType.NEW, new String[]{})));
+        Assertions.assertTrue(jsonComparator.isConsistent(referenceJson, targetJson,
+                new ComparisonProfile(ComparisonType.NEW, new String[]{"investigatorName"})));
+        Assertions.assertThrows(RuntimeException.class,
+                () -> new ComparisonProfile("unknown", new String[]{}));
+
+        // the String comparison type overloads compare unsupported types as new and
+        // generic as a generic comparison, which ignores the request samples
+        String[] ignoredFields = new String[]{};
+        for (String comparisonType : new String[]{"unknown", "IGO", null}) {
+            Assertions.assertFalse(jsonComparator.isConsistent(referenceJson, targetJson, ignoredFields,
+                    comparisonType));
+            Assertions.assertTrue(jsonComparator.isConsistent(referenceJson, targetJson,
+                    new String[]{"investigatorName"}, comparisonType));
+        }
+        ObjectMapper mapper = new ObjectMapper();
+        String publishedJson = referenceRequest.getJsonString();
+        String updatedJson = targetRequest.getJsonString();
+        String[] genericIgnoredFields = new String[]{"date", "samples"};
+        Assertions.assertTrue(jsonComparator.isConsistent(publishedJson, updatedJson,
+                genericIgnoredFields, "generic"));
+        Assertions.assertTrue(jsonComparator.isConsistent(mapper.readTree(publishedJson),
+                mapper.readTree(updatedJson), genericIgnoredFields, "generic"));
+        Assertions.assertTrue(jsonComparator.compare(publishedJson, updatedJson,
+                genericIgnoredFields, "generic").isConsistent());
+        Assertions.assertFalse(jsonComparator.isConsistent(publishedJson, updatedJson,
+                genericIgnoredFields, "unknown"));
+    }
+
+    /**
+     * Tests that request fingerprints do not depend on property or sample order and
+     * that requests with the same fingerprint are consistent. The reverse does not
+     * hold since an empty qcReports, libraries, status or runs in the reference
+     * request matches any target value.
+     * @throws Exception
+     */
+    @Test
+    public void testRequestFingerprints() throws Exception {
+        ComparisonProfile profile = jsonComparator.getComparisonProfile(ComparisonType.NEW);
+        ObjectMapper mapper = new ObjectMapper();
+        for (Map.Entry<String, String> entry : requestJsonDataIdMap.entrySet()) {
+            String incomingJson = mockedJsonDataMap.get(entry.getKey()).getJsonString();
+            String publishedJson = mockedJsonDataMap.get(entry.getValue()).getJsonString();
+            if (jsonComparator.fingerprint(incomingJson, profile)
+                    .equals(jsonComparator.fingerprint(publishedJson, profile))) {
+                Assertions.assertTrue(jsonComparator.isConsistent(incomingJson, publishedJson));
+            }
+        }
+
+        JsonNode incomingNode = mapper.readTree(
+                mockedJsonDataMap.get("mockIncomingRequest1JsonDataWith2T2N").getJsonString());
+        ObjectNode emptyLibrariesNode = incomingNode.deepCopy();
+        ((ObjectNode) emptyLibrariesNode.get("samples").get(0)).putArray("libraries");
+        Assertions.assertFalse(incomingNode.get("samples").get(0).get("libraries").isEmpty());
+        Assertions.assertTrue(jsonComparator.isConsistent(emptyLibrariesNode, incomingNode));
+        Assertions.assertNotEquals(jsonComparator.fingerprint(emptyLibrariesNode, profile),
+                jsonComparator.fingerprint(incomingNode, profile));
+
+        String referenceJson = mockedJsonDataMap.get("mockPublishedRequest1JsonDataWith2T2N").getJsonString();
+        JsonNode reorderedNode = mapper.readTree(referenceJson);
+        ArrayNode samples = (ArrayNode) reorderedNode.get("samples");
+        samples.add(samples.remove(0));
+        Assertions.assertEquals(32, jsonComparator.fingerprint(referenceJson, profile).length());
+        Assertions.assertEquals(jsonComparator.fingerprint(referenceJson, profile),
+                jsonComparator.fingerprint(reorderedNode, profile));
+
+        String updatedJson =
+                mockedJsonDataMap.get("mockPublishedRequest1JsonDataWithLibUpdates").getJsonString();
+        Assertions.assertNotEquals(jsonComparator.fingerprint(referenceJson, profile),
+                jsonComparator.fingerprint(updatedJson, profile));
+        String numericJson = "{\"requestId\":\"mockRequestId\",\"libraryVolume\":1}";
+        String reformattedJson = "{\"libraryVolume\":1.0,\"requestId\":\"mockRequestId\"}";
+        Assertions.assertEquals(jsonComparator.fingerprint(numericJson, profile),
+                jsonComparator.fingerprint(reformattedJson, profile));
+    }
+
+    /**
+     * Tests that comparisons against a cached reference request give the same
+     * results as uncached comparisons and that the cache is bounded.
+     * @throws Exception
+     */
+    @Test
+    public void testReferenceRequestCache() throws Exception {
+        JsonComparatorImpl cachingComparator = new JsonComparatorImpl();
+        NormalizedRequestCache cache = new NormalizedRequestCache(2);
+        cachingComparator.setReferenceCache(cache);
+
+        String publishedJson = mockedJsonDataMap.get("mockPublishedRequest1JsonDataWith2T2N").getJsonString();
+        String[] targetIds = new String[]{"mockIncomingRequest1JsonDataWith2T2N",
+            "mockPublishedRequest1JsonDataWithLibUpdates", "mockPublishedRequest1JsonDataWith2T2N"};
+        for (String targetId : targetIds) {
+            String targetJson = mockedJsonDataMap.get(targetId).getJsonString();
+            Assertions.assertEquals(jsonComparator.isConsistent(publishedJson, targetJson),
+                    cachingComparator.isConsistent(publishedJson, targetJson));
+            Assertions.assertEquals(jsonComparator.isConsistentByIgoProperties(publishedJson, targetJson),
+                    cachingComparator.isConsistentByIgoProperties(publishedJson, targetJson));
+        }
+        Assertions.assertEquals(2, cache.getMissCount());
+        Assertions.assertEquals(4, cache.getHitCount());
+
+        for (String requestId : requestJsonDataIdMap.values()) {
+            String referenceJson = mockedJsonDataMap.get(requestId).getJsonString();
+            Assertions.assertTrue(cachingComparator.isConsistent(referenceJson, referenceJson));
+        }
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertTrue(cache.getEvictionCount() > 0);
+
+        // entries are invalidated by request id and their weight is released
+        cache.clear();
+        Assertions.assertEquals(0, cache.getWeight());
+        Assertions.assertTrue(cachingComparator.isConsistent(publishedJson, publishedJson));
+        Assertions.assertEquals(publishedJson.length(), cache.getWeight());
+        cache.invalidate("MOCKREQUEST1_B");
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertEquals(0, cache.getWeight());
+
+        // the least recently used entries are evicted once the weight is exceeded and
+        // jsons heavier than the maximum weight are not cached
+        String libUpdatesJson = mockedJsonDataMap.get("mockPublishedRequest1JsonDataWithLibUpdates")
+                .getJsonString();
+        NormalizedRequestCache weightedCache = new NormalizedRequestCache(10,
+                Math.max(publishedJson.length(), libUpdatesJson.length()) + 1);
+        cachingComparator.setReferenceCache(weightedCache);
+        Assertions.assertTrue(cachingComparator.isConsistent(publishedJson, publishedJson));
+        Assertions.assertEquals(jsonComparator.isConsistent(libUpdatesJson, publishedJson),
+                cachingComparator.isConsistent(libUpdatesJson, publishedJson));
+        Assertions.assertEquals(1, weightedCache.size());
+        Assertions.assertEquals(1, weightedCache.getEvictionCount());
+        Assertions.assertEquals(libUpdatesJson.length(), weightedCache.getWeight());
+
+        NormalizedRequestCache smallCache = new NormalizedRequestCache(10, 1);
+        cachingComparator.setReferenceCache(smallCache);
+        Assertions.assertTrue(cachingComparator.isConsistent(publishedJson, publishedJson));
+        Assertions.assertEquals(0, smallCache.size());
+    }
+
+    /**
+     * Tests that properties with null or empty values are filtered from the request
+     * and generic comparisons without changing which values count as empty.
+     * @throws Exception
+     */
+    @Test
+    public void testNullOrEmptyPropertyFiltering() throws Exception {
+        String targetJson = "{\"requestId\":\"mockRequestId\"}";
+        String emptyValuesJson = "{\"requestId\":\"mockRequestId\",\"investigatorName\":\"null\","
+                + "\"dataAnalystName\":\"  \",\"labHeadName\":null,\"piEmail\":\"[]\","
+                + "\"projectManagerName\":[],\"qcAccessEmails\":{}}";
+        Assertions.assertTrue(jsonComparator.isConsistent(emptyValuesJson, targetJson));
+        Assertions.assertTrue(jsonComparator.isConsistent(targetJson, emptyValuesJson));
+        Assertions.assertFalse(jsonComparator.isConsistent(
+                "{\"requestId\":\"mockRequestId\",\"isCmoRequest\":false}", targetJson));
+        Assertions.assertFalse(jsonComparator.isConsistent(
+                "{\"requestId\":\"mockRequestId\",\"deliveryDate\":0}", targetJson));
+
+        // generic comparisons only filter nulls and empty arrays
+        Assertions.assertTrue(jsonComparator.isConsistentGenericComparison(
+                "{\"requestId\":\"mockRequestId\",\"labHeadName\":null,\"qcAccessEmails\":[]}",
+                targetJson));
+        Assertions.assertFalse(jsonComparator.isConsistentGenericComparison(
+                "{\"requestId\":\"mockRequestId\",\"investigatorName\":\"null\"}", targetJson));
+        Assertions.assertFalse(jsonComparator.isConsistentGenericComparison(
+                "{\"requestId\":\"mockRequestId\",\"qcAccessEmails\":{}}", targetJson));
+    }
+
+    /**
+     * Tests that the sample qcReports, libraries and status are filtered without
+     * modifying the compared jsons and that an unexpected libraries value is reported
+     * as inconsistent.
+     * @throws Exception
+     */
+    @Test
+    public void testSampleMetadataFilteringLeavesJsonsUnchanged() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode referenceNode = mapper.readTree(
+                mockedJsonDataMap.get("mockIncomingRequest1JsonDataWith2T2N").getJsonString());
+        JsonNode targetNode = referenceNode.deepCopy();
+        JsonNode referenceNodeCopy = referenceNode.deepCopy();
+
+        Assertions.assertTrue(jsonComparator.isConsistent(referenceNode, targetNode));
+        Assertions.assertTrue(jsonComparator.isConsistentByIgoProperties(referenceNode, targetNode));
+        Assertions.assertEquals(referenceNodeCopy, referenceNode);
+        Assertions.assertEquals(referenceNodeCopy, targetNode);
+
+        ((ObjectNode) targetNode.get("samples").get(0)).putObject("libraries")
+                .put("libraryIgoId", "MOCKREQUEST1_B_1_1_1_1");
+        Assertions.assertFalse(jsonComparator.isConsistent(referenceNode, targetNode));
+        Assertions.assertFalse(jsonComparator.compare(referenceNode, targetNode).isConsistent());
+    }
+
+    /**
+     * Tests that libraries and runs are matched by key regardless of their order.
+     * @throws Exception
+     */
+    @Test
+    public void testLibrariesAndRunsMatchedByKey() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode referenceNode = mapper.readTree(
+                mockedJsonDataMap.get("mockIncomingRequest1JsonDataWith2T2N").getJsonString());
+        ArrayNode librariesNode = (ArrayNode) referenceNode.get("samples").get(0).get("libraries");
+        ObjectNode libraryNode = ((ObjectNode) librariesNode.get(0)).deepCopy();
+        libraryNode.put("libraryIgoId", "MOCKREQUEST1_B_1_1_1_2");
+        ObjectNode runNode = ((ObjectNode) libraryNode.get("runs").get(0)).deepCopy();
+        runNode.put("flowCellId", "X5KL2KKAZ");
+        ((ArrayNode) libraryNode.get("runs")).add(runNode);
+        librariesNode.add(libraryNode);
+
+        // reverse the order of the libraries and of the runs of the new library
+        JsonNode targetNode = referenceNode.deepCopy();
+        ArrayNode targetLibrariesNode = (ArrayNode) targetNode.get("samples").get(0).get("libraries");
+        targetLibrariesNode.insert(0, targetLibrariesNode.remove(1));
+        ArrayNode targetRunsNode = (ArrayNode) targetLibrariesNode.get(0).get("runs");
+        targetRunsNode.insert(0, targetRunsNode.remove(1));
+
+        Assertions.assertTrue(jsonComparator.isConsistent(referenceNode, targetNode));
+        Assertions.assertTrue(jsonComparator.isConsistentByIgoProperties(referenceNode, targetNode));
+        ComparisonProfile profile = jsonComparator.getComparisonProfile(ComparisonType.NEW);
+        Assertions.assertEquals(jsonComparator.fingerprint(referenceNode, profile),
+                jsonComparator.fingerprint(targetNode, profile));
+
+        ((ObjectNode) targetRunsNode.get(0)).put("runMode", "NovaSeq");
+        ComparisonResult result = jsonComparator.compare(referenceNode, targetNode);
+        Assertions.assertFalse(result.isConsistent());
+        Assertions.assertEquals(1, result.getDifferences().size());
+        Assertions.assertEquals("/samples/MOCKREQUEST1_B_1/libraries/1/runs/1/runMode",
+                result.getDifferences().get(0).getPath());
+    }
+
+    /**
+     * Tests that libraries that are both reordered and changed are compared with the
+     * library of the same libraryIgoId, so that only the changed property is reported
+     * and a change to a property that is not IGO accepted is not classified as one.
+     * @throws Exception
+     */
+    @Test
+    public void testReorderedAndChangedLibrariesMatchedByKey() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode referenceNode = mapper.readTree(
+                mockedJsonDataMap.get("mockIncomingRequest1JsonDataWith2T2N").getJsonString());
+        ArrayNode librariesNode = (ArrayNode) referenceNode.get("samples").get(0).get("libraries");
+        for (int i = 2; i <= 3; i++) {
+            ObjectNode libraryNode = ((ObjectNode) librariesNode.get(0)).deepCopy();
+            libraryNode.put("libraryIgoId", "MOCKREQUEST1_B_1_1_1_" + i);
+            librariesNode.add(libraryNode);
+        }
+        for (JsonNode libraryNode : librariesNode) {
+            ((ObjectNode) libraryNode).put("sequencingPool", "POOL_1");
+        }
+
+        // reverse the order of the libraries and change the last two of the reference
+        JsonNode targetNode = referenceNode.deepCopy();
+        ArrayNode targetLibrariesNode = (ArrayNode) targetNode.get("samples").get(0).get("libraries");
+        targetLibrariesNode.insert(0, targetLibrariesNode.remove(2));
+        targetLibrariesNode.insert(1, targetLibrariesNode.remove(2));
+        ((ObjectNode) targetLibrariesNode.get(0)).put("sequencingPool", "POOL_2");
+        ((ObjectNode) targetLibrariesNode.get(1)).put("sequencingPool", "POOL_2");
+
+        ComparisonResult result = jsonComparator.compare(referenceNode, targetNode);
+        Assertions.assertFalse(result.isConsistent());
+        List<String> paths = new ArrayList<>();
+        for (ComparisonResult.Difference difference : result.getDifferences()) {
+            paths.add(difference.getPath());
+        }
+        Collections.sort(paths);
+        Assertions.assertEquals(List.of("/samples/MOCKREQUEST1_B_1/libraries/1/sequencingPool",
+                "/samples/MOCKREQUEST1_B_1/libraries/2/sequencingPool"), paths);
+        Assertions.assertTrue(jsonComparator.isConsistentByIgoProperties(referenceNode, targetNode));
+        ChangeClassification classification = jsonComparator.classifyChanges(referenceNode, targetNode);
+        Assertions.assertFalse(classification.hasIgoChanges());
+        Assertions.assertTrue(classification.hasNonIgoChanges());
+    }
+
+    /**
+     * Tests that a difference in the request properties is reported by isConsistent
+     * and compare alike, and that samples without a primaryId or igoId are reported
+     * as differences at their position in the samples array.
+     * @throws Exception
+     */
+    @Test
+    public void testFailFastOnRequestPropertyDifference() throws Exception {
+        String samplesJson = "\"samples\":[{\"baitSet\":\"mockBaitSet\"}]";
+        String referenceJson = "{\"requestId\":\"mockRequestId\"," + samplesJson + "}";
+        String targetJson = "{\"requestId\":\"differentRequestId\"," + samplesJson + "}";
+        Assertions.assertFalse(jsonComparator.isConsistent(referenceJson, targetJson));
+        Assertions.assertFalse(jsonComparator.isConsistentByIgoProperties(referenceJson, targetJson));
+        ComparisonResult result = jsonComparator.compare(referenceJson, targetJson);
+        Assertions.assertFalse(result.isConsistent());
+        List<String> paths = new ArrayList<>();
+        for (ComparisonResult.Difference difference : result.getDifferences()) {
+            paths.add(difference.getPath());
+        }
+        Assertions.assertEquals(List.of("/igoRequestId", "/samples/0"), paths);
+
+        // samples without an id never match, even between identical requests
+        Assertions.assertFalse(jsonComparator.isConsistent(referenceJson, referenceJson));
+        result = jsonComparator.compare(referenceJson, referenceJson);
+        Assertions.assertFalse(result.isConsistent());
+        Assertions.assertEquals(1, result.getDifferences().size());
+        Assertions.assertEquals("/samples/0", result.getDifferences().get(0).getPath());
+        ComparisonProfile profile = jsonComparator.getComparisonProfile(ComparisonType.NEW);
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> jsonComparator.fingerprint(referenceJson, profile));
+    }
+
+    /**
+     * Tests that the comparisons of UTF-8 encoded jsons match the String comparisons.
+     * @throws Exception
+     */
+    @Test
+    public void testUtf8EncodedJsonComparisons() throws Exception {
+        ComparisonProfile profile = jsonComparator.getComparisonProfile(ComparisonType.IGO);
+        for (Map.Entry<String, String> entry : requestJsonDataIdMap.entrySet()) {
+            String referenceJson = mockedJsonDataMap.get(entry.getValue()).getJsonString();
+            String targetJson = mockedJsonDataMap.get(entry.getKey()).getJsonString();
+            byte[] referenceBytes = referenceJson.getBytes(StandardCharsets.UTF_8);
+            byte[] targetBytes = targetJson.getBytes(StandardCharsets.UTF_8);
+
+            Boolean isConsistent = jsonComparator.isConsistent(referenceJson, targetJson);
+            Assertions.assertEquals(isConsistent, jsonComparator.isConsistent(referenceBytes, targetBytes));
+            Assertions.assertEquals(jsonComparator.isConsistentByIgoProperties(referenceJson, targetJson),
+                    jsonComparator.isConsistentByIgoProperties(referenceBytes, targetBytes));
+
+            ByteBuffer referenceBuffer = ByteBuffer.allocateDirect(referenceBytes.length).put(referenceBytes);
+            referenceBuffer.flip();
+            ByteBuffer targetBuffer = ByteBuffer.wrap(new byte[targetBytes.length + 2], 1, targetBytes.length)
+                    .slice().put(targetBytes);
+            targetBuffer.flip();
+            Assertions.assertEquals(jsonComparator.isConsistent(referenceJson, targetJson, profile),
+                    jsonComparator.isConsistent(referenceBuffer, targetBuffer, profile));
+            Assertions.assertEquals(0, referenceBuffer.position());
+            Assertions.assertEquals(isConsistent, jsonComparator.compare(
+                    new ByteArrayInputStream(referenceBytes), new ByteArrayInputStream(targetBytes),
+                    jsonComparator.getComparisonProfile(ComparisonType.NEW)).isConsistent());
+        }
+    }
+
+    /**
+     * Tests that updating a comparison snapshot with changed samples gives the same
+     * verdict as comparing the whole updated request.
+     * @throws Exception
+     */
+    @Test
+    public void testSnapshotUpdatedWithChangedSamples() throws Exception {
+        JsonComparatorImpl snapshotComparator = new JsonComparatorImpl();
+        ComparisonProfile profile = snapshotComparator.getComparisonProfile(ComparisonType.NEW);
+        for (Map.Entry<String, String> entry : requestJsonDataIdMap.entrySet()) {
+            String referenceJson = mockedJsonDataMap.get(entry.getValue()).getJsonString();
+            String targetJson = mockedJsonDataMap.get(entry.getKey()).getJsonString();
+            Assertions.assertEquals(jsonComparator.isConsistent(referenceJson, targetJson),
+                    snapshotComparator.createSnapshot(referenceJson, targetJson, profile).isConsistent());
+        }
+
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode publishedNode = mapper.readTree(
+                mockedJsonDataMap.get("mockPublishedRequest1JsonDataWith2T2N").getJsonString());
+        ComparisonSnapshot snapshot = snapshotComparator.createSnapshot(publishedNode, publishedNode,
+                profile);
+        Assertions.assertTrue(snapshot.isConsistent());
+        Assertions.assertEquals(4, snapshot.getSampleConsistency().size());
+
+        JsonNode sampleNode = publishedNode.get("samples").get(0);
+        ObjectNode changedSampleNode = sampleNode.deepCopy();
+        changedSampleNode.put("sex", "M");
+        ComparisonSnapshot updatedSnapshot = snapshotComparator.updateSnapshot(snapshot,
+                List.of(changedSampleNode));
+        Assertions.assertFalse(updatedSnapshot.isConsistent());
+        Assertions.assertTrue(updatedSnapshot.isRequestConsistent());
+        Assertions.assertEquals(List.of("MOCKREQUEST1_B_1"), updatedSnapshot.getInconsistentSampleIds());
+        Assertions.assertTrue(snapshot.isConsistent());
+
+        ObjectNode updatedNode = publishedNode.deepCopy();
+        ((ArrayNode) updatedNode.get("samples")).set(0, changedSampleNode);
+        Assertions.assertEquals(jsonComparator.isConsistent(publishedNode, updatedNode),
+                updatedSnapshot.isConsistent());
+
+        Assertions.assertTrue(snapshotComparator.updateSnapshot(updatedSnapshot,
+                List.of(sampleNode)).isConsistent());
+        Assertions.assertFalse(snapshotComparator.updateSnapshot(snapshot,
+                List.of(), List.of("MOCKREQUEST1_B_1")).isConsistent());
+    }
+
+    /**
+     * Tests that a changed sample keyed by its previous primary id replaces that sample,
+     * so the previous primary id is no longer in the snapshot once neither request has it.
+     * @throws Exception
+     */
+    @Test
+    public void testSnapshotUpdatedWithChangedPrimaryId() throws Exception {
+        ComparisonProfile profile = jsonComparator.getComparisonProfile(ComparisonType.NEW);
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode publishedNode = mapper.readTree(
+                mockedJsonDataMap.get("mockPublishedRequest1JsonDataWith2T2N").getJsonString());
+        JsonNode sampleNode = publishedNode.get("samples").get(0);
+        ObjectNode renamedSampleNode = sampleNode.deepCopy();
+        renamedSampleNode.put("primaryId", "MOCKREQUEST1_B_9");
+        ObjectNode renamedNode = publishedNode.deepCopy();
+        ((ArrayNode) renamedNode.get("samples")).set(0, renamedSampleNode);
+
+        ComparisonSnapshot snapshot = jsonComparator.createSnapshot(publishedNode, renamedNode, profile);
+        Assertions.assertFalse(snapshot.isConsistent());
+        Assertions.assertEquals(List.of("MOCKREQUEST1_B_1", "MOCKREQUEST1_B_9"),
+                snapshot.getInconsistentSampleIds());
+
+        ComparisonSnapshot updatedSnapshot = jsonComparator.updateSnapshot(snapshot,
+                Map.of("MOCKREQUEST1_B_9", sampleNode), Collections.emptySet());
+        Assertions.assertTrue(updatedSnapshot.isConsistent());
+        Assertions.assertFalse(updatedSnapshot.getSampleConsistency().containsKey("MOCKREQUEST1_B_9"));
+        Assertions.assertEquals(4, updatedSnapshot.getSampleConsistency().size());
+        Assertions.assertEquals(jsonComparator.isConsistent(publishedNode, publishedNode),
+                updatedSnapshot.isConsistent());
+
+        ComparisonSnapshot renamedSnapshot = jsonComparator.updateSnapshot(updatedSnapshot,
+                Map.of("MOCKREQUEST1_B_1", renamedSampleNode), Collections.emptySet());
+        Assertions.assertEquals(snapshot.getSampleConsistency(), renamedSnapshot.getSampleConsistency());
+    }
+
+    /**
+     * Tests that classifying the changes of a pair gives the same verdicts as comparing
+     * the pair by all properties and by IGO properties.
+     * @throws Exception
+     */
+    @Test
+    public void testClassifyIgoAndNonIgoChanges() throws Exception {
+        String refSampleJson = mockedJsonDataMap.get("samplePreUpdate").getJsonString();
+        String[] targetIds = new String[]{"sampleLimsUpdatesOnly", "sampleNonLimsUpdates",
+            "sampleMixedUpdates", "samplePreUpdate"};
+        for (String targetId : targetIds) {
+            String targetJson = mockedJsonDataMap.get(targetId).getJsonString();
+            ChangeClassification classification = jsonComparator.classifyChanges(refSampleJson,
+                    targetJson);
+            Assertions.assertEquals(jsonComparator.isConsistent(refSampleJson, targetJson),
+                    classification.isConsistent());
+            Assertions.assertEquals(!jsonComparator.isConsistentByIgoProperties(refSampleJson, targetJson),
+                    classification.hasIgoChanges());
+            Assertions.assertEquals(classification.hasNonIgoChanges(),
+                    !classification.getNonIgoChangedFields().isEmpty());
+        }
+
+        ChangeClassification mixedUpdates = jsonComparator.classifyChanges(refSampleJson,
+                mockedJsonDataMap.get("sampleMixedUpdates").getJsonString());
+        Assertions.assertFalse(mixedUpdates.hasIgoChanges());
+        Assertions.assertTrue(mixedUpdates.hasNonIgoChanges());
+        for (String requestId : requestJsonDataIdMap.values()) {
+            String referenceJson = mockedJsonDataMap.get(requestId).getJsonString();
+            Assertions.assertTrue(
+                    jsonComparator.classifyChanges(referenceJson, referenceJson).isConsistent());
+        }
+    }
+
+    /**
+     * Tests that samples added to or removed from a request are classified as IGO
+     * accepted changes reported by their primary id, not as a changed field.
+     * @throws Exception
+     */
+    @Test
+    public void testClassifyAddedAndRemovedSamples() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode referenceNode = mapper.readTree(
+                mockedJsonDataMap.get("mockIncomingRequest1JsonDataWith2T2N").getJsonString());
+        ObjectNode targetNode = referenceNode.deepCopy();
+        ArrayNode targetSamplesNode = (ArrayNode) targetNode.get("samples");
+        targetSamplesNode.remove(0);
+        ObjectNode addedSampleNode = targetSamplesNode.get(0).deepCopy();
+        addedSampleNode.put("igoId", "MOCKREQUEST1_B_9");
+        targetSamplesNode.add(addedSampleNode);
+
+        ChangeClassification classification = jsonComparator.classifyChanges(referenceNode, targetNode);
+        Assertions.assertFalse(classification.isConsistent());
+        Assertions.assertTrue(classification.hasIgoChanges());
+        Assertions.assertFalse(classification.hasNonIgoChanges());
+        Assertions.assertEquals(!jsonComparator.isConsistentByIgoProperties(referenceNode, targetNode),
+                classification.hasIgoChanges());
+        Assertions.assertEquals(Set.of("MOCKREQUEST1_B_9"), classification.getAddedSampleIds());
+        Assertions.assertEquals(Set.of("MOCKREQUEST1_B_1"), classification.getRemovedSampleIds());
+        Assertions.assertTrue(classification.getIgoChangedFields().isEmpty());
+        Assertions.assertEquals(2, classification.getIgoDifferences().size());
+
+        ObjectNode noSamplesNode = referenceNode.deepCopy();
+        noSamplesNode.remove("samples");
+        classification = jsonComparator.classifyChanges(referenceNode, noSamplesNode);
+        Assertions.assertTrue(classification.hasIgoChanges());
+        Assertions.assertTrue(classification.getIgoChangedFields().isEmpty());
+        Assertions.assertTrue(classification.getRemovedSampleIds().isEmpty());
+    }
+
+    /**
+     * Tests that recording comparison metrics does not change the verdicts and that
+     * comparisons that fail are still reported to the caller.
+     * @throws Exception
+     */
+    @Test
+    public void testComparisonMetricsLeaveVerdictsUnchanged() throws Exception {
+        JsonComparatorImpl measuredComparator = new JsonComparatorImpl();
+        measuredComparator.setMeterProvider(MeterProvider.noop());
+        for (Map.Entry<String, String> entry : requestJsonDataIdMap.entrySet()) {
+            String referenceJson = mockedJsonDataMap.get(entry.getValue()).getJsonString();
+            String targetJson = mockedJsonDataMap.get(entry.getKey()).getJsonString();
+            Assertions.assertEquals(jsonComparator.isConsistent(referenceJson, targetJson),
+                    measuredComparator.isConsistent(referenceJson, targetJson));
+            Assertions.assertEquals(jsonComparator.compareByIgoProperties(referenceJson, targetJson)
+                    .isConsistent(), measuredComparator.compareByIgoProperties(referenceJson, targetJson)
+                    .isConsistent());
+            Assertions.assertEquals(jsonComparator.isConsistentGenericComparison(referenceJson, targetJson),
+                    measuredComparator.isConsistentGenericComparison(
+                            referenceJson.getBytes(StandardCharsets.UTF_8),
+                            targetJson.getBytes(StandardCharsets.UTF_8)));
+        }
+        Assertions.assertThrows(Exception.class, () -> measuredComparator.isConsistent("{", "{}"));
+        measuredComparator.setMeterProvider(null);
+        Assertions.assertTrue(measuredComparator.isConsistent("{}", "{}"));
+    }
+
+    /**
+     * Tests the recorded duration, input size, sample count and outcome count of
+     * comparisons by comparison type and outcome, including comparisons that fail.
+     * @throws Exception
+     */
+    @Test
+    public void testComparisonMetricsRecordedValues() throws Exception {
+        InMemoryMetricReader metricReader = InMemoryMetricReader.create();
+        JsonComparatorImpl measuredComparator = new JsonComparatorImpl();
+        measuredComparator.setMeterProvider(SdkMeterProvider.builder()
+                .registerMetricReader(metricReader).build());
+
+        String requestJson = mockedJsonDataMap.get("mockIncomingRequest1JsonDataWith2T2N").getJsonString();
+        long requestSize = requestJson.getBytes(StandardCharsets.UTF_8).length;
+        int sampleCount = new ObjectMapper().readTree(requestJson).get("samples").size();
+        Assertions.assertTrue(measuredComparator.isConsistent(requestJson, requestJson));
+        Assertions.assertTrue(measuredComparator.isConsistent(requestJson, requestJson));
+        String referenceJson = "{\"baitSet\":\"café\"}";
+        String targetJson = "{\"baitSet\":\"漢😀\"}";
+        Assertions.assertFalse(measuredComparator.isConsistentGenericComparison(referenceJson, targetJson));
+        byte[] referenceBytes = referenceJson.getBytes(StandardCharsets.UTF_8);
+        Assertions.assertFalse(measuredComparator.compare(referenceBytes, new byte[]{'{', '}'},
+                measuredComparator.getComparisonProfile(ComparisonType.IGO)).isConsistent());
+        Assertions.assertThrows(Exception.class, () -> measuredComparator.isConsistent("{", "{}"));
+
+        Collection<MetricData> metrics = metricReader.collectAllMetrics();
+        Attributes newMatch = getComparisonAttributes("new", "match");
+        Assertions.assertEquals(2, getCount(metrics, newMatch));
+        HistogramPointData duration = getHistogramPoint(metrics, "smile.comparison.duration", newMatch);
+        Assertions.assertEquals(2, duration.getCount());
+        Assertions.assertTrue(duration.getSum() > 0);
+        HistogramPointData inputSize = getHistogramPoint(metrics, "smile.comparison.input.size", newMatch);
+        Assertions.assertEquals(2, inputSize.getCount());
+        Assertions.assertEquals(4 * requestSize, (long) inputSize.getSum());
+        HistogramPointData samples = getHistogramPoint(metrics, "smile.comparison.sample.count",
+                Attributes.of(AttributeKey.stringKey("smile.comparison.type"), "new"));
+        Assertions.assertEquals(2, samples.getCount());
+        Assertions.assertEquals(2 * sampleCount, (long) samples.getSum());
+
+        Attributes genericMismatch = getComparisonAttributes("generic", "mismatch");
+        Assertions.assertEquals(1, getCount(metrics, genericMismatch));
+        long genericSize = referenceBytes.length + targetJson.getBytes(StandardCharsets.UTF_8).length;
+        Assertions.assertEquals(genericSize,
+                (long) getHistogramPoint(metrics, "smile.comparison.input.size", genericMismatch).getSum());
+        Attributes igoMismatch = getComparisonAttributes("igo", "mismatch");
+        Assertions.assertEquals(1, getCount(metrics, igoMismatch));
+        Assertions.assertEquals(referenceBytes.length + 2,
+                (long) getHistogramPoint(metrics, "smile.comparison.input.size", igoMismatch).getSum());
+
+        Attributes newError = getComparisonAttributes("new", "error");
+        Assertions.assertEquals(1, getCount(metrics, newError));
+        Assertions.assertEquals(1,
+                getHistogramPoint(metrics, "smile.comparison.duration", newError).getCount());
+        Assertions.assertEquals(3,
+                (long) getHistogramPoint(metrics, "smile.comparison.input.size", newError).getSum());
+        Assertions.assertNull(findPoint(metrics, "smile.comparison.count", getComparisonAttributes("new",
+                "mismatch")));
+    }
+
+    /**
+     * Tests that the tracing decorator returns the results of the decorated comparator.
+     * @throws Exception
+     */
+    @Test
+    public void testTracingComparatorDelegatesComparisons() throws Exception {
+        JsonComparator tracingComparator = new TracingJsonComparator(jsonComparator,
+                TracerProvider.noop().get("org.mskcc.smile.commons"));
+        ComparisonProfile profile = jsonComparator.getComparisonProfile(ComparisonType.IGO);
+        ObjectMapper mapper = new ObjectMapper();
+        for (Map.Entry<String, String> entry : requestJsonDataIdMap.entrySet()) {
+            String referenceJson = mockedJsonDataMap.get(entry.getValue()).getJsonString();
+            String targetJson = mockedJsonDataMap.get(entry.getKey()).getJsonString();
+            Assertions.assertEquals(jsonComparator.isConsistent(referenceJson, targetJson),
+                    tracingComparator.isConsistent(referenceJson, targetJson));
+            Assertions.assertEquals(jsonComparator.compare(referenceJson, targetJson, profile).isConsistent(),
+                    tracingComparator.compare(mapper.readTree(referenceJson), mapper.readTree(targetJson),
+                            profile).isConsistent());
+            Assertions.assertEquals(jsonComparator.fingerprint(targetJson, profile),
+                    tracingComparator.fingerprint(targetJson, profile));
+            ComparisonSnapshot snapshot = tracingComparator.createSnapshot(referenceJson, targetJson,
+                    profile);
+            Assertions.assertEquals(jsonComparator.createSnapshot(referenceJson, targetJson, profile)
+                    .getSampleConsistency(), snapshot.getSampleConsistency());
+            Assertions.assertEquals(snapshot.getSampleConsistency(),
+                    tracingComparator.updateSnapshot(snapshot, List.of()).getSampleConsistency());
+        }
+        Assertions.assertThrows(Exception.class, () -> tracingComparator.isConsistent("{", "{}"));
+    }
+
+    private Attributes getComparisonAttributes(String comparisonType, String outcome) {
+        return Attributes.of(AttributeKey.stringKey("smile.comparison.type"), comparisonType,
+                AttributeKey.stringKey("smile.comparison.outcome"), outcome);
+    }
+
+    private PointData findPoint(Collection<MetricData> metrics, String name, Attributes attributes) {
+        for (MetricData metric : metrics) {
+            if (!metric.getName().equals(name)) {
+                continue;
+            }
+            for (PointData point : metric.getData().getPoints()) {
+                if (point.getAttributes().equals(attributes)) {
+                    return point;
+                }
+            }
+        }
+        return null;
+    }
+
+    private HistogramPointData getHistogramPoint(Collection<MetricData> metrics, String name,
+            Attributes attributes) {
+        PointData point = findPoint(metrics, name, attributes);
+        Assertions.assertNotNull(point, name + " " + attributes);
+        return (HistogramPointData) point;
+    }
+
+    private long getCount(Collection<MetricData> metrics, Attributes attributes) {
+        PointData point = findPoint(metrics, "smile.comparison.count", attributes);
+        Assertions.assertNotNull(point, attributes.toString());
+        return ((LongPointData) point).getValue();
+    }
+
+    /**
+     * Tests the span name and attributes of traced comparisons, that attributes are
+     * only computed for sampled spans and that failed comparisons are recorded as
+     * errors of their spans.
+     * @throws Exception
+     */
+    @Test
+    public void testTracingComparatorSpans() throws Exception {
+        InMemorySpanExporter spanExporter = InMemorySpanExporter.create();
+        Tracer sampledTracer = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(spanExporter))
+                .build().get("org.mskcc.smile.commons");
+        JsonComparator tracingComparator = new TracingJsonComparator(jsonComparator, sampledTracer);
+        AttributeKey<String> typeKey = AttributeKey.stringKey("smile.comparison.type");
+        AttributeKey<String> outcomeKey = AttributeKey.stringKey("smile.comparison.outcome");
+        AttributeKey<Long> inputSizeKey = AttributeKey.longKey("smile.comparison.input.size");
+        AttributeKey<Long> sampleCountKey = AttributeKey.longKey("smile.comparison.sample.count");
+
+        String requestJson = mockedJsonDataMap.get("mockIncomingRequest1JsonDataWith2T2N").getJsonString();
+        long requestSize = requestJson.getBytes(StandardCharsets.UTF_8).length;
+        Assertions.assertTrue(tracingComparator.isConsistent(requestJson, requestJson));
+        SpanData span = getOnlySpan(spanExporter);
+        Assertions.assertEquals("JsonComparator.isConsistent", span.getName());
+        Assertions.assertEquals("new", span.getAttributes().get(typeKey));
+        Assertions.assertEquals("match", span.getAttributes().get(outcomeKey));
+        Assertions.assertEquals(2 * requestSize, span.getAttributes().get(inputSizeKey));
+        Assertions.assertNull(span.getAttributes().get(sampleCountKey));
+
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode requestNode = mapper.readTree(requestJson);
+        ObjectNode updatedNode = requestNode.deepCopy();
+        ((ObjectNode) updatedNode.get("samples").get(0)).put("baitSet", "UPDATED_BAIT_SET");
+        Assertions.assertFalse(tracingComparator.compare(requestNode, updatedNode,
+                jsonComparator.getComparisonProfile(ComparisonType.IGO)).isConsistent());
+        span = getOnlySpan(spanExporter);
+        Assertions.assertEquals("JsonComparator.compare", span.getName());
+        Assertions.assertEquals("igo", span.getAttributes().get(typeKey));
+        Assertions.assertEquals("mismatch", span.getAttributes().get(outcomeKey));
+        Assertions.assertEquals((long) requestNode.get("samples").size(),
+                span.getAttributes().get(sampleCountKey));
+        Assertions.assertNull(span.getAttributes().get(inputSizeKey));
+
+        Assertions.assertThrows(Exception.class, () -> tracingComparator.isConsistent("{", "{}"));
+        span = getOnlySpan(spanExporter);
+        Assertions.assertEquals(StatusCode.ERROR, span.getStatus().getStatusCode());
+        Assertions.assertNull(span.getAttributes().get(outcomeKey));
+        Assertions.assertEquals(1, span.getEvents().size());
+        EventData exceptionEvent = span.getEvents().get(0);
+        Assertions.assertEquals("exception", exceptionEvent.getName());
+        Assertions.assertNotNull(
+                exceptionEvent.getAttributes().get(AttributeKey.stringKey("exception.type")));
+
+        // the target node is only inspected for its samples when the span is recorded
+        AtomicInteger samplesLookups = new AtomicInteger();
+        ObjectNode countingNode = new ObjectNode(JsonNodeFactory.instance) {
+            @Override
+            public boolean has(String fieldName) {
+                if (fieldName.equals("samples")) {
+                    samplesLookups.incrementAndGet();
+                }
+                return super.has(fieldName);
+            }
+        };
+        countingNode.setAll((ObjectNode) requestNode);
+        Assertions.assertTrue(jsonComparator.isConsistent(requestNode, countingNode));
+        int untracedLookups = samplesLookups.getAndSet(0);
+        Tracer unsampledTracer = SdkTracerProvider.builder()
+                .setSampler(Sampler.alwaysOff())
+                .addSpanProcessor(SimpleSpanProcessor.create(spanExporter))
+                .build().get("org.mskcc.smile.commons");
+        JsonComparator unsampledComparator = new TracingJsonComparator(jsonComparator, unsampledTracer);
+        Assertions.assertTrue(unsampledComparator.isConsistent(requestNode, countingNode));
+        Assertions.assertEquals(untracedLookups, samplesLookups.getAndSet(0));
+        Assertions.assertTrue(spanExporter.getFinishedSpanItems().isEmpty());
+        Assertions.assertThrows(Exception.class, () -> unsampledComparator.isConsistent("{", "{}"));
+        Assertions.assertTrue(spanExporter.getFinishedSpanItems().isEmpty());
+        Assertions.assertTrue(tracingComparator.isConsistent(requestNode, countingNode));
+        Assertions.assertEquals(untracedLookups + 1, samplesLookups.get());
+        Assertions.assertEquals((long) requestNode.get("samples").size(),
+                getOnlySpan(spanExporter).getAttributes().get(sampleCountKey));
+    }
+
+    private SpanData getOnlySpan(InMemorySpanExporter spanExporter) {
+        List<SpanData> spans = spanExporter.getFinishedSpanItems();
+        Assertions.assertEquals(1, spans.size());
+        spanExporter.reset();
+        return spans.get(0);
+    }
+
     private String getErrorMessage(Map<String, String> errorsMap) {
         StringBuilder builder = new StringBuilder();
         builder.append("\nConsistencyCheckerUtil failures summary:\n");
@@ -0,0 +1,290 @@
+package org.mskcc.smile.commons;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mskcc.smile.commons.impl.OpenTelemetryUtilsImpl;
+
+/**
+ * Tests the trace context propagation of the OpenTelemetryUtils.
+ */
+public class OpenTelemetryUtilsTest {
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final String SPAN_ID = "00f067aa0ba902b7";
+
+    private final Tracer tracer = SdkTracerProvider.builder().build().get("org.mskcc.smile.commons");
+
+    /**
+     * Tests that the trace metadata is injected in the headers of each configured
+     * format, and only in those.
+     */
+    @Test
+    public void testInjectConfiguredFormats() {
+        OpenTelemetryUtilsImpl openTelemetryUtils = new OpenTelemetryUtilsImpl();
+        Context context = getUpstreamContext();
+
+        Map<String, String> b3MultiMetadata = openTelemetryUtils.getTraceMetadata(context);
+        Assertions.assertEquals(TRACE_ID, b3MultiMetadata.get("X-B3-TraceId"));
+        Assertions.assertEquals(SPAN_ID, b3MultiMetadata.get("X-B3-SpanId"));
+        Assertions.assertEquals("1", b3MultiMetadata.get("X-B3-Sampled"));
+        Assertions.assertFalse(b3MultiMetadata.containsKey("traceparent"));
+        Assertions.assertFalse(b3MultiMetadata.containsKey("b3"));
+
+        openTelemetryUtils.setPropagationFormats("tracecontext");
+        Map<String, String> w3cMetadata = openTelemetryUtils.getTraceMetadata(context);
+        Assertions.assertEquals(Map.of("traceparent", "00-" + TRACE_ID + "-" + SPAN_ID + "-01"), w3cMetadata);
+
+        openTelemetryUtils.setPropagationFormats("b3");
+        Map<String, String> b3Metadata = openTelemetryUtils.getTraceMetadata(context);
+        Assertions.assertEquals(Map.of("b3", TRACE_ID + "-" + SPAN_ID + "-1"), b3Metadata);
+
+        openTelemetryUtils.setPropagationFormats("tracecontext, b3");
+        Map<String, String> compositeMetadata = new HashMap<>();
+        openTelemetryUtils.injectTraceMetadata(context, compositeMetadata, Map::put);
+        Assertions.assertEquals(w3cMetadata.get("traceparent"), compositeMetadata.get("traceparent"));
+        Assertions.assertEquals(b3Metadata.get("b3"), compositeMetadata.get("b3"));
+        Assertions.assertFalse(compositeMetadata.containsKey("X-B3-TraceId"));
+    }
+
+    /**
+     * Tests that spans are parented to the upstream context read from carriers of each
+     * format, whichever format the trace metadata is injected in, and that carriers
+     * without trace metadata start a new trace.
+     */
+    @Test
+    public void testExtractEveryFormat() {
+        OpenTelemetryUtilsImpl openTelemetryUtils = new OpenTelemetryUtilsImpl();
+        openTelemetryUtils.setPropagationFormats("tracecontext");
+        Map<String, Map<String, String>> carriers = new HashMap<>();
+        carriers.put("tracecontext", Map.of("traceparent", "00-" + TRACE_ID + "-" + SPAN_ID + "-01"));
+        carriers.put("b3", Map.of("b3", TRACE_ID + "-" + SPAN_ID + "-1"));
+        carriers.put("b3multi", Map.of("X-B3-TraceId", TRACE_ID, "X-B3-SpanId", SPAN_ID,
+                "X-B3-Sampled", "1"));
+        for (Map.Entry<String, Map<String, String>> entry : carriers.entrySet()) {
+            Span span = openTelemetryUtils.getSpanFromTraceMetadata("consume", tracer, entry.getValue());
+            SpanContext parentSpanContext = ((ReadableSpan) span).getParentSpanContext();
+            Assertions.assertTrue(parentSpanContext.isRemote(), entry.getKey());
+            Assertions.assertEquals(TRACE_ID, parentSpanContext.getTraceId(), entry.getKey());
+            Assertions.assertEquals(SPAN_ID, parentSpanContext.getSpanId(), entry.getKey());
+            Assertions.assertEquals(TRACE_ID, span.getSpanContext().getTraceId(), entry.getKey());
+            span.end();
+        }
+
+        Span span = openTelemetryUtils.getSpanFromTraceMetadata("consume", tracer, Map.of());
+        Assertions.assertFalse(((ReadableSpan) span).getParentSpanContext().isValid());
+        Assertions.assertNotEquals(TRACE_ID, span.getSpanContext().getTraceId());
+        span.end();
+    }
+
+    /**
+     * Tests that an unknown format name is rejected and leaves the configured formats
+     * unchanged.
+     */
+    @Test
+    public void testUnknownPropagationFormat() {
+        OpenTelemetryUtilsImpl openTelemetryUtils = new OpenTelemetryUtilsImpl();
+        openTelemetryUtils.setPropagationFormats("tracecontext");
+        Assertions.assertThrows(RuntimeException.class,
+                () -> openTelemetryUtils.setPropagationFormats("b3,jaeger"));
+        Assertions.assertEquals(Map.of("traceparent", "00-" + TRACE_ID + "-" + SPAN_ID + "-01"),
+                openTelemetryUtils.getTraceMetadata(getUpstreamContext()));
+    }
+
+    /**
+     * Tests that a batch span is linked once to each distinct upstream context, that
+     * the links are capped at the maximum number of links and that the number of
+     * contexts left unlinked is recorded only when the links are capped.
+     */
+    @Test
+    public void testBatchSpanLinks() {
+        List<Map<String, String>> traceMetadataList = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            String spanId = String.format("%016x", i);
+            traceMetadataList.add(Map.of("traceparent", "00-" + TRACE_ID + "-" + spanId + "-01"));
+            traceMetadataList.add(Map.of("X-B3-TraceId", TRACE_ID, "X-B3-SpanId", spanId,
+                    "X-B3-Sampled", "1"));
+        }
+        traceMetadataList.add(Map.of());
+        traceMetadataList.add(Map.of("traceparent", "invalid"));
+
+        OpenTelemetryUtilsImpl openTelemetryUtils = new OpenTelemetryUtilsImpl();
+        SpanData spanData = getBatchSpanData(openTelemetryUtils, traceMetadataList);
+        Assertions.assertEquals(3, spanData.getLinks().size());
+        Assertions.assertEquals(3, spanData.getTotalRecordedLinks());
+        List<String> linkedSpanIds = new ArrayList<>();
+        for (LinkData link : spanData.getLinks()) {
+            Assertions.assertEquals(TRACE_ID, link.getSpanContext().getTraceId());
+            linkedSpanIds.add(link.getSpanContext().getSpanId());
+        }
+        Assertions.assertEquals(List.of("0000000000000001", "0000000000000002", "0000000000000003"),
+                linkedSpanIds);
+        Assertions.assertEquals(8L, spanData.getAttributes()
+                .get(AttributeKey.longKey("messaging.batch.message_count")));
+        Assertions.assertNull(spanData.getAttributes()
+                .get(AttributeKey.longKey("smile.batch.dropped_link_count")));
+
+        openTelemetryUtils.setMaxBatchSpanLinks(2);
+        spanData = getBatchSpanData(openTelemetryUtils, traceMetadataList);
+        Assertions.assertEquals(2, spanData.getLinks().size());
+        Assertions.assertEquals("0000000000000002", spanData.getLinks().get(1).getSpanContext().getSpanId());
+        Assertions.assertEquals(1L, spanData.getAttributes()
+                .get(AttributeKey.longKey("smile.batch.dropped_link_count")));
+
+        openTelemetryUtils.setMaxBatchSpanLinks(0);
+        spanData = getBatchSpanData(openTelemetryUtils, traceMetadataList);
+        Assertions.assertTrue(spanData.getLinks().isEmpty());
+        Assertions.assertEquals(3L, spanData.getAttributes()
+                .get(AttributeKey.longKey("smile.batch.dropped_link_count")));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> openTelemetryUtils.setMaxBatchSpanLinks(-1));
+    }
+
+    /**
+     * Tests that tasks submitted to wrapped executors run in the context that was
+     * current when they were submitted, and that tasks of unwrapped executors do not.
+     * @throws Exception
+     */
+    @Test
+    public void testContextCarriedIntoExecutorTasks() throws Exception {
+        OpenTelemetryUtilsImpl openTelemetryUtils = new OpenTelemetryUtilsImpl();
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try (ExecutorService virtualThreadExecutor = openTelemetryUtils.newVirtualThreadPerTaskExecutor()) {
+            Executor wrappedExecutor = openTelemetryUtils.wrapExecutor(executorService);
+            ExecutorService wrappedExecutorService = openTelemetryUtils.wrapExecutorService(executorService);
+            Span span = tracer.spanBuilder("produce").startSpan();
+            AtomicReference<Span> executorSpan = new AtomicReference<>();
+            Callable<Span> currentSpan = Span::current;
+            Future<Span> executorServiceSpan;
+            List<Future<Span>> invokedSpans;
+            Future<Span> virtualThreadSpan;
+            Future<Span> unwrappedSpan;
+            try (Scope scope = span.makeCurrent()) {
+                wrappedExecutor.execute(() -> executorSpan.set(Span.current()));
+                executorServiceSpan = wrappedExecutorService.submit(currentSpan);
+                invokedSpans = wrappedExecutorService.invokeAll(List.of(currentSpan, currentSpan));
+                virtualThreadSpan = virtualThreadExecutor.submit(currentSpan);
+                unwrappedSpan = executorService.submit(currentSpan);
+            }
+            Assertions.assertEquals(span, executorServiceSpan.get());
+            Assertions.assertEquals(span, executorSpan.get());
+            for (Future<Span> invokedSpan : invokedSpans) {
+                Assertions.assertEquals(span, invokedSpan.get());
+            }
+            Assertions.assertEquals(span, virtualThreadSpan.get());
+            Assertions.assertFalse(unwrappedSpan.get().getSpanContext().isValid());
+            Assertions.assertFalse(wrappedExecutorService.submit(currentSpan).get()
+                    .getSpanContext().isValid());
+            span.end();
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * Tests that the stages of supplyAsync and runAsync run in the context that was
+     * current when they were created, as do dependent stages run by wrapped executors.
+     * @throws Exception
+     */
+    @Test
+    public void testContextCarriedIntoCompletableFutureStages() throws Exception {
+        OpenTelemetryUtilsImpl openTelemetryUtils = new OpenTelemetryUtilsImpl();
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Executor wrappedExecutor = openTelemetryUtils.wrapExecutor(executorService);
+            Span span = tracer.spanBuilder("produce").startSpan();
+            AtomicReference<Span> runSpan = new AtomicReference<>();
+            CompletableFuture<Span> suppliedSpan;
+            CompletableFuture<Void> ranSpan;
+            CompletableFuture<Span> dependentSpan;
+            CompletableFuture<Span> completingThreadSpan;
+            CompletableFuture<Span> unwrappedSpan;
+            try (Scope scope = span.makeCurrent()) {
+                suppliedSpan = openTelemetryUtils.supplyAsync(Span::current, executorService);
+                ranSpan = openTelemetryUtils.runAsync(() -> runSpan.set(Span.current()), executorService);
+                dependentSpan = openTelemetryUtils.supplyAsync(() -> "sample", executorService)
+                        .thenApplyAsync(sample -> Span.current(), wrappedExecutor);
+                completingThreadSpan = openTelemetryUtils.supplyAsync(() -> "sample", executorService)
+                        .thenApply(sample -> Span.current());
+                unwrappedSpan = CompletableFuture.supplyAsync(Span::current, executorService);
+            }
+            Assertions.assertEquals(span, suppliedSpan.get());
+            ranSpan.get();
+            Assertions.assertEquals(span, runSpan.get());
+            Assertions.assertEquals(span, dependentSpan.get());
+            Assertions.assertEquals(span, completingThreadSpan.get());
+            Assertions.assertFalse(unwrappedSpan.get().getSpanContext().isValid());
+            span.end();
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * Tests that supplyAsync and runAsync without an executor run in the current context
+     * on the common pool, and that their dependent async stages only do so when given a
+     * wrapped executor.
+     * @throws Exception
+     */
+    @Test
+    public void testContextCarriedIntoCommonPoolStages() throws Exception {
+        OpenTelemetryUtilsImpl openTelemetryUtils = new OpenTelemetryUtilsImpl();
+        Executor wrappedCommonPool = openTelemetryUtils.wrapExecutor(ForkJoinPool.commonPool());
+        Span span = tracer.spanBuilder("produce").startSpan();
+        AtomicReference<Span> runSpan = new AtomicReference<>();
+        CompletableFuture<Span> suppliedSpan;
+        CompletableFuture<Void> ranSpan;
+        CompletableFuture<Span> dependentSpan;
+        CompletableFuture<Span> unwrappedDependentSpan;
+        try (Scope scope = span.makeCurrent()) {
+            suppliedSpan = openTelemetryUtils.supplyAsync(Span::current);
+            ranSpan = openTelemetryUtils.runAsync(() -> runSpan.set(Span.current()));
+            dependentSpan = openTelemetryUtils.supplyAsync(() -> "sample")
+                    .thenApplyAsync(sample -> Span.current(), wrappedCommonPool);
+            unwrappedDependentSpan = openTelemetryUtils.supplyAsync(() -> "sample")
+                    .thenApplyAsync(sample -> Span.current());
+        }
+        Assertions.assertEquals(span, suppliedSpan.get());
+        ranSpan.get();
+        Assertions.assertEquals(span, runSpan.get());
+        Assertions.assertEquals(span, dependentSpan.get());
+        Assertions.assertFalse(unwrappedDependentSpan.get().getSpanContext().isValid());
+        span.end();
+    }
+
+    private SpanData getBatchSpanData(OpenTelemetryUtilsImpl openTelemetryUtils,
+            List<Map<String, String>> traceMetadataList) {
+        Span span = openTelemetryUtils.getBatchSpanFromTraceMetadata("consumeBatch", tracer,
+                traceMetadataList);
+        span.end();
+        return ((ReadableSpan) span).toSpanData();
+    }
+
+    private Context getUpstreamContext() {
+        SpanContext spanContext = SpanContext.createFromRemoteParent(TRACE_ID, SPAN_ID,
+                TraceFlags.getSampled(), TraceState.getDefault());
+        return Context.root().with(Span.wrap(spanContext));
+    }
+}
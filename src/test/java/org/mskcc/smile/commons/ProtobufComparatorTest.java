@@ -0,0 +1,280 @@
+package org.mskcc.smile.commons;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Message;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mskcc.smile.commons.config.MockDataConfig;
+import org.mskcc.smile.commons.enums.ComparisonType;
+import org.mskcc.smile.commons.generated.Igo.RequestWithManifests;
+import org.mskcc.smile.commons.generated.Igo.SampleManifest;
+import org.mskcc.smile.commons.model.MockJsonTestData;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Tests that the protobuf comparisons of the IGO messages built from the mocked
+ * request and sample jsons agree with the json comparisons of the same jsons.
+ */
+@SpringBootTest(classes = MockDataConfig.class)
+public class ProtobufComparatorTest {
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Autowired
+    private JsonComparator jsonComparator;
+
+    @Autowired
+    private ProtobufComparator protobufComparator;
+
+    @Autowired
+    private Map<String, MockJsonTestData> mockedJsonDataMap;
+
+    /**
+     * Tests that every pair of incoming request messages is reported consistent by
+     * the protobuf comparator exactly when the request jsons are consistent.
+     * @throws Exception
+     */
+    @Test
+    public void testRequestMessagesMatchJsonComparisons() throws Exception {
+        List<JsonNode> requestNodes = getMockedJsonNodes("incoming_requests/",
+                RequestWithManifests.getDescriptor());
+        Assertions.assertFalse(requestNodes.isEmpty());
+        Integer consistentPairCount = 0;
+        Integer inconsistentPairCount = 0;
+        for (JsonNode referenceNode : requestNodes) {
+            RequestWithManifests referenceRequest =
+                    (RequestWithManifests) toMessage(referenceNode, RequestWithManifests.newBuilder());
+            for (JsonNode targetNode : requestNodes) {
+                RequestWithManifests targetRequest =
+                        (RequestWithManifests) toMessage(targetNode, RequestWithManifests.newBuilder());
+                Boolean isConsistent = jsonComparator.isConsistent(referenceNode, targetNode);
+                Assertions.assertEquals(isConsistent,
+                        protobufComparator.isConsistent(referenceRequest, targetRequest));
+                Assertions.assertEquals(jsonComparator.isConsistentByIgoProperties(referenceNode, targetNode),
+                        protobufComparator.isConsistentByIgoProperties(referenceRequest, targetRequest));
+                if (isConsistent) {
+                    consistentPairCount++;
+                } else {
+                    inconsistentPairCount++;
+                }
+            }
+        }
+        Assertions.assertTrue(consistentPairCount > 0);
+        Assertions.assertTrue(inconsistentPairCount > 0);
+    }
+
+    /**
+     * Tests that the comparisons of the LIMS update handling sample manifests agree
+     * with the json comparisons: samples with updates to properties that are not IGO
+     * accepted are only inconsistent under the default comparison.
+     * @throws Exception
+     */
+    @Test
+    public void testSampleManifestMessagesMatchJsonComparisons() throws Exception {
+        JsonNode preUpdateNode = getMockedJsonNode("samplePreUpdate", SampleManifest.getDescriptor());
+        SampleManifest preUpdateSample =
+                (SampleManifest) toMessage(preUpdateNode, SampleManifest.newBuilder());
+        for (String sampleId : new String[]{"samplePreUpdate", "sampleLimsUpdatesOnly",
+            "sampleNonLimsUpdates", "sampleMixedUpdates"}) {
+            JsonNode sampleNode = getMockedJsonNode(sampleId, SampleManifest.getDescriptor());
+            SampleManifest sample = (SampleManifest) toMessage(sampleNode, SampleManifest.newBuilder());
+            Assertions.assertEquals(jsonComparator.isConsistent(preUpdateNode, sampleNode),
+                    protobufComparator.isConsistent(preUpdateSample, sample), sampleId);
+            Assertions.assertEquals(jsonComparator.isConsistentByIgoProperties(preUpdateNode, sampleNode),
+                    protobufComparator.isConsistentByIgoProperties(preUpdateSample, sample), sampleId);
+        }
+        Assertions.assertTrue(protobufComparator.isConsistent(preUpdateSample, preUpdateSample));
+
+        JsonNode nonLimsUpdatesNode = getMockedJsonNode("sampleNonLimsUpdates",
+                SampleManifest.getDescriptor());
+        SampleManifest nonLimsUpdatesSample =
+                (SampleManifest) toMessage(nonLimsUpdatesNode, SampleManifest.newBuilder());
+        Assertions.assertFalse(protobufComparator.isConsistent(preUpdateSample, nonLimsUpdatesSample));
+        Assertions.assertTrue(protobufComparator.isConsistentByIgoProperties(preUpdateSample,
+                nonLimsUpdatesSample));
+    }
+
+    /**
+     * Tests that sample level changes are found regardless of the order of the samples
+     * and that changes to properties that are not IGO accepted are only reported by
+     * the default comparison.
+     * @throws Exception
+     */
+    @Test
+    public void testRequestMessageSampleUpdates() throws Exception {
+        JsonNode requestNode = getMockedJsonNode("mockIncomingRequest1JsonDataWith2T2N",
+                RequestWithManifests.getDescriptor());
+        RequestWithManifests request =
+                (RequestWithManifests) toMessage(requestNode, RequestWithManifests.newBuilder());
+        Assertions.assertTrue(request.getSamplesCount() > 1);
+
+        RequestWithManifests.Builder reorderedRequest = request.toBuilder().clearSamples();
+        for (int i = request.getSamplesCount() - 1; i >= 0; i--) {
+            reorderedRequest.addSamples(request.getSamples(i));
+        }
+        Assertions.assertTrue(protobufComparator.isConsistent(request, reorderedRequest.build()));
+
+        int lastIndex = request.getSamplesCount() - 1;
+        SampleManifest lastSample = request.getSamples(lastIndex);
+        RequestWithManifests baitSetUpdate = request.toBuilder().setSamples(lastIndex,
+                lastSample.toBuilder().setBaitSet(lastSample.getBaitSet() + "_UPDATED")).build();
+        Assertions.assertFalse(protobufComparator.isConsistent(request, baitSetUpdate));
+        Assertions.assertFalse(protobufComparator.isConsistentByIgoProperties(request, baitSetUpdate));
+
+        RequestWithManifests nonIgoUpdate = request.toBuilder().setSamples(lastIndex,
+                lastSample.toBuilder().setTumorOrNormal(lastSample.getTumorOrNormal() + "_UPDATED")).build();
+        Assertions.assertFalse(protobufComparator.isConsistent(request, nonIgoUpdate));
+        Assertions.assertTrue(protobufComparator.isConsistentByIgoProperties(request, nonIgoUpdate));
+
+        ComparisonProfile genericProfile = jsonComparator.getComparisonProfile(ComparisonType.GENERIC);
+        Assertions.assertTrue(protobufComparator.isConsistent(request, nonIgoUpdate, genericProfile));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> protobufComparator.isConsistent(request, lastSample));
+    }
+
+    /**
+     * Tests that an empty reference qcReports, libraries or runs field matches any target
+     * field as in the json comparisons, while an empty target field does not match a
+     * non-empty reference.
+     * @throws Exception
+     */
+    @Test
+    public void testEmptyRepeatedFieldsMatchJsonComparisons() throws Exception {
+        JsonNode requestNode = getMockedJsonNode("mockIncomingRequest1JsonDataWith2T2N",
+                RequestWithManifests.getDescriptor());
+        ObjectNode qcReportsNode = requestNode.deepCopy();
+        ((ObjectNode) qcReportsNode.get("samples").get(0)).putArray("qcReports")
+                .addObject().put("comments", "new-qc");
+        ObjectNode emptyLibrariesNode = requestNode.deepCopy();
+        ((ObjectNode) emptyLibrariesNode.get("samples").get(0)).putArray("libraries");
+        ObjectNode emptyRunsNode = requestNode.deepCopy();
+        ((ObjectNode) emptyRunsNode.get("samples").get(0).get("libraries").get(0)).putArray("runs");
+
+        JsonNode[][] emptyAndFilledNodes = new JsonNode[][]{{requestNode, qcReportsNode},
+            {emptyLibrariesNode, requestNode}, {emptyRunsNode, requestNode}};
+        for (JsonNode[] nodes : emptyAndFilledNodes) {
+            RequestWithManifests emptyRequest =
+                    (RequestWithManifests) toMessage(nodes[0], RequestWithManifests.newBuilder());
+            RequestWithManifests filledRequest =
+                    (RequestWithManifests) toMessage(nodes[1], RequestWithManifests.newBuilder());
+            Assertions.assertTrue(jsonComparator.isConsistent(nodes[0], nodes[1]));
+            Assertions.assertTrue(protobufComparator.isConsistent(emptyRequest, filledRequest));
+            Assertions.assertTrue(protobufComparator.isConsistentByIgoProperties(emptyRequest,
+                    filledRequest));
+            Assertions.assertFalse(jsonComparator.isConsistent(nodes[1], nodes[0]));
+            Assertions.assertFalse(protobufComparator.isConsistent(filledRequest, emptyRequest));
+            Assertions.assertFalse(protobufComparator.isConsistentByIgoProperties(filledRequest,
+                    emptyRequest));
+        }
+
+        JsonNode sampleNode = getMockedJsonNode("samplePreUpdate", SampleManifest.getDescriptor());
+        ObjectNode emptySampleNode = sampleNode.deepCopy();
+        emptySampleNode.putArray("libraries");
+        SampleManifest sample = (SampleManifest) toMessage(sampleNode, SampleManifest.newBuilder());
+        SampleManifest emptySample = (SampleManifest) toMessage(emptySampleNode, SampleManifest.newBuilder());
+        Assertions.assertEquals(jsonComparator.isConsistent(emptySampleNode, sampleNode),
+                protobufComparator.isConsistent(emptySample, sample));
+        Assertions.assertEquals(jsonComparator.isConsistent(sampleNode, emptySampleNode),
+                protobufComparator.isConsistent(sample, emptySample));
+        Assertions.assertTrue(protobufComparator.isConsistent(emptySample, sample));
+        Assertions.assertFalse(protobufComparator.isConsistent(sample, emptySample));
+    }
+
+    private List<JsonNode> getMockedJsonNodes(String directory, Descriptor descriptor) throws Exception {
+        List<JsonNode> nodes = new ArrayList<>();
+        for (MockJsonTestData mockData : mockedJsonDataMap.values()) {
+            if (mockData.getFilepath().startsWith(directory)) {
+                nodes.add(pruneJsonNode(mapper.readTree(mockData.getJsonString()), descriptor));
+            }
+        }
+        return nodes;
+    }
+
+    private JsonNode getMockedJsonNode(String identifier, Descriptor descriptor) throws Exception {
+        return pruneJsonNode(mapper.readTree(mockedJsonDataMap.get(identifier).getJsonString()), descriptor);
+    }
+
+    /**
+     * Returns a copy of the json node with only the properties that are fields of the
+     * message type, so that the json and protobuf comparisons see the same values.
+     * @param node
+     * @param descriptor
+     * @return JsonNode
+     */
+    private JsonNode pruneJsonNode(JsonNode node, Descriptor descriptor) {
+        ObjectNode prunedNode = mapper.createObjectNode();
+        Iterator<Map.Entry<String, JsonNode>> itr = node.fields();
+        while (itr.hasNext()) {
+            Map.Entry<String, JsonNode> entry = itr.next();
+            FieldDescriptor field = descriptor.findFieldByName(entry.getKey());
+            JsonNode value = entry.getValue();
+            if (field == null) {
+                continue;
+            }
+            if (field.getJavaType() != FieldDescriptor.JavaType.MESSAGE) {
+                prunedNode.set(entry.getKey(), value);
+            } else if (field.isRepeated() && value.isArray()) {
+                ArrayNode prunedArray = prunedNode.putArray(entry.getKey());
+                for (JsonNode element : value) {
+                    prunedArray.add(pruneJsonNode(element, field.getMessageType()));
+                }
+            } else if (value.isObject()) {
+                prunedNode.set(entry.getKey(), pruneJsonNode(value, field.getMessageType()));
+            }
+        }
+        return prunedNode;
+    }
+
+    /**
+     * Builds a message from the pruned json node by setting each field from the
+     * property of the same name. Null values leave the field unset.
+     * @param node
+     * @param builder
+     * @return Message
+     */
+    private Message toMessage(JsonNode node, Message.Builder builder) {
+        Iterator<Map.Entry<String, JsonNode>> itr = node.fields();
+        while (itr.hasNext()) {
+            Map.Entry<String, JsonNode> entry = itr.next();
+            FieldDescriptor field = builder.getDescriptorForType().findFieldByName(entry.getKey());
+            JsonNode value = entry.getValue();
+            if (value.isNull()) {
+                continue;
+            }
+            if (field.isRepeated()) {
+                for (JsonNode element : value) {
+                    builder.addRepeatedField(field, toFieldValue(element, field, builder));
+                }
+            } else {
+                builder.setField(field, toFieldValue(value, field, builder));
+            }
+        }
+        return builder.build();
+    }
+
+    private Object toFieldValue(JsonNode value, FieldDescriptor field, Message.Builder builder) {
+        switch (field.getJavaType()) {
+            case MESSAGE:
+                return toMessage(value, builder.newBuilderForField(field));
+            case BOOLEAN:
+                return value.asBoolean();
+            case INT:
+                return value.asInt();
+            case LONG:
+                return value.asLong();
+            case FLOAT:
+                return (float) value.asDouble();
+            default:
+                return value.asText();
+        }
+    }
+}